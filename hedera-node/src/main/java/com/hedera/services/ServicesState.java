@@ -28,6 +28,8 @@ import com.hedera.services.exceptions.ContextNotFoundException;
 import com.hedera.services.legacy.stream.RecordStream;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -40,7 +42,6 @@ import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
-import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.blob.BinaryObjectStore;
 import com.swirlds.common.AddressBook;
@@ -85,7 +86,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	static final int RELEASE_090_VERSION = 3;
 	static final int RELEASE_0100_VERSION = 4;
 	static final int RELEASE_0110_VERSION = 5;
-	static final int MERKLE_VERSION = RELEASE_0110_VERSION;
+	static final int RELEASE_0120_VERSION = 6;
+	static final int MERKLE_VERSION = RELEASE_0120_VERSION;
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x8e300b0dfdafbb1aL;
 
 	static final String UNSUPPORTED_VERSION_MSG_TPL = "Argument 'version=%d' is invalid!";
@@ -114,6 +116,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		static final int SCHEDULE_TXS = 8;
 		static final int RECORD_STREAM_RUNNING_HASH = 9;
 		static final int NUM_0110_CHILDREN = 10;
+		static final int CONTRACT_STORAGE = 10;
+		static final int NUM_0120_CHILDREN = 11;
 	}
 
 	ServicesContext ctx;
@@ -122,7 +126,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	}
 
 	public ServicesState(List<MerkleNode> children) {
-		super(ChildIndices.NUM_0110_CHILDREN);
+		super(ChildIndices.NUM_0120_CHILDREN);
 		addDeserializedChildren(children, MERKLE_VERSION);
 	}
 
@@ -149,6 +153,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public int getMinimumChildCount(int version) {
 		switch (version) {
+			case RELEASE_0120_VERSION:
+				return ChildIndices.NUM_0120_CHILDREN;
 			case RELEASE_0110_VERSION:
 				return ChildIndices.NUM_0110_CHILDREN;
 			case RELEASE_0100_VERSION:
@@ -191,6 +197,10 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 			setChild(ChildIndices.RECORD_STREAM_RUNNING_HASH, initialRecordsRunningHashLeaf);
 			log.info("Created RecordsRunningHashLeaf after <=0.11.0 state restoration");
 		}
+		if (contractStorage() == null) {
+			setChild(ChildIndices.CONTRACT_STORAGE, new FCMap<>());
+			log.info("Created slot-keyed contract storage FCMap after <=0.11.0 state restoration");
+		}
 	}
 
 	@Override
@@ -231,6 +241,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 			setChild(ChildIndices.DISK_FS,
 					new MerkleDiskFs(diskFsBaseDirPath, asLiteralString(ctx.nodeAccount())));
 			setChild(ChildIndices.SCHEDULE_TXS, new FCMap<>());
+			setChild(ChildIndices.CONTRACT_STORAGE, new FCMap<>());
 		} else {
 			log.info("Init called on Services node {} WITH Merkle saved state", nodeId);
 
@@ -242,7 +253,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 			restoredDiskFs.setFsBaseDir(diskFsBaseDirPath);
 			restoredDiskFs.setFsNodeScopedDir(asLiteralString(ctx.nodeAccount()));
 			if (!skipDiskFsHashCheck) {
-				restoredDiskFs.checkHashesAgainstDiskContents();
+				restoredDiskFs.checkHashesAgainstDiskContentsInBackground();
 			}
 		}
 
@@ -275,16 +286,13 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	}
 
 	private void initializeContext(final ServicesContext ctx) {
-		/* Set the primitive state in the context and signal the managing stores (if
-		 * they are already constructed) to rebuild their auxiliary views of the state.
+		/* Set the primitive state in the context and rebuild all auxiliary views of it
+		 * in a single pass over each map---the existence indices of any already-constructed
+		 * managing stores, and the recent transaction history derived from the payer records
+		 * (used both for purging expired records and classifying duplicate transactions).
 		 * All the initialization that follows will be a function of the primitive state. */
 		ctx.update(this);
-		ctx.rebuildBackingStoresIfPresent();
-
-		/* Use any payer records stored in state to rebuild the recent transaction
-		 * history. This history has two main uses: Purging expired records, and
-		 * classifying duplicate transactions. */
-		ctx.recordsHistorian().reviewExistingRecords();
+		ctx.rehydrateViewsOfState();
 		if (!blobStoreSupplier.get().isInitializing()) {
 			ctx.systemFilesManager().loadAllSystemFiles();
 		}
@@ -311,7 +319,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public void expandSignatures(Transaction platformTxn) {
 		try {
-			var accessor = new PlatformTxnAccessor(platformTxn);
+			var accessor = ctx.txnAccessorCache().accessorFor(platformTxn);
 			expandIn(accessor, ctx.lookupRetryingKeyOrder(), DEFAULT_SIG_BYTES);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("expandSignatures called with non-gRPC txn!", e);
@@ -338,7 +346,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 				tokenAssociations().copy(),
 				diskFs().copy(),
 				scheduleTxs().copy(),
-				runningHashLeaf().copy()
+				runningHashLeaf().copy(),
+				contractStorage().copy()
 		));
 	}
 
@@ -360,6 +369,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 						"  TokenAssociations :: %s\n" +
 						"  DiskFs            :: %s\n" +
 						"  ScheduledTxs      :: %s\n" +
+						"  ContractStorage   :: %s\n" +
 						"  NetworkContext    :: %s\n" +
 						"  AddressBook       :: %s\n" +
 						"  RecordsRunningHashLeaf:: %s\n" +
@@ -372,6 +382,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 				tokenAssociations().getHash(),
 				diskFs().getHash(),
 				scheduleTxs().getHash(),
+				contractStorage().getHash(),
 				networkCtx().getHash(),
 				addressBook().getHash(),
 				runningHashLeaf().getHash(),
@@ -402,6 +413,10 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		return getChild(ChildIndices.SCHEDULE_TXS);
 	}
 
+	public FCMap<MerkleContractSlotKey, MerkleContractSlot> contractStorage() {
+		return getChild(ChildIndices.CONTRACT_STORAGE);
+	}
+
 	public MerkleNetworkContext networkCtx() {
 		return getChild(ChildIndices.NETWORK_CTX);
 	}
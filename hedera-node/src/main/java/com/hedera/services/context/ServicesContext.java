@@ -67,6 +67,8 @@ import com.hedera.services.grpc.controllers.ScheduleController;
 import com.hedera.services.queries.contract.GetContractRecordsAnswer;
 import com.hedera.services.queries.schedule.GetScheduleInfoAnswer;
 import com.hedera.services.queries.schedule.ScheduleAnswers;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.grpc.controllers.TokenController;
 import com.hedera.services.keys.LegacyEd25519KeyReader;
@@ -81,8 +83,10 @@ import com.hedera.services.queries.contract.GetContractInfoAnswer;
 import com.hedera.services.queries.token.GetTokenInfoAnswer;
 import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.exports.SignedStateBalancesExporter;
@@ -97,6 +101,7 @@ import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.contracts.persistence.BlobStoragePersistence;
 import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.ContractSlotStorageMap;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.FeeExemptions;
@@ -144,6 +149,7 @@ import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.grpc.GrpcServerManager;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -190,12 +196,16 @@ import com.hedera.services.records.RecordCacheFactory;
 import com.hedera.services.records.TxnAwareRecordsHistorian;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.sourcing.DefaultSigBytesProvider;
+import com.hedera.services.sigs.verification.BatchingSyncVerifier;
 import com.hedera.services.sigs.verification.PrecheckKeyReqs;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.exports.AccountsExporter;
+import com.hedera.services.state.exports.AsyncBalancesExporter;
 import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.state.initialization.HfsSystemFilesManager;
+import com.hedera.services.state.initialization.RebuildableView;
+import com.hedera.services.state.initialization.StateRehydration;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
 import com.hedera.services.state.initialization.SystemFilesManager;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -211,6 +221,7 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.state.validation.LedgerValidator;
 import com.hedera.services.stats.CounterFactory;
+import com.hedera.services.stats.HandleLatencies;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.stats.HapiOpSpeedometers;
 import com.hedera.services.stats.MiscRunningAvgs;
@@ -274,14 +285,15 @@ import com.hedera.services.txns.validation.BasicPrecheck;
 import com.hedera.services.txns.validation.ContextOptionValidator;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityIdUtils;
+import com.hedera.services.utils.JvmSystemExits;
 import com.hedera.services.utils.MiscUtils;
 import com.hedera.services.utils.Pause;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.services.utils.SleepingPause;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.fee.CryptoFeeBuilder;
 import com.hederahashgraph.fee.FileFeeBuilder;
 import com.hederahashgraph.fee.SmartContractFeeBuilder;
@@ -306,11 +318,12 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -319,7 +332,6 @@ import java.util.function.Supplier;
 import static com.hedera.services.context.ServicesNodeType.STAKED_NODE;
 import static com.hedera.services.context.ServicesNodeType.ZERO_STAKE_NODE;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
 import static com.hedera.services.files.interceptors.ConfigListUtils.uncheckedParse;
 import static com.hedera.services.files.interceptors.PureRatesValidation.isNormalIntradayChange;
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
@@ -411,12 +423,13 @@ public class ServicesContext {
 	private FileAnswers fileAnswers;
 	private MetaAnswers metaAnswers;
 	private RecordCache recordCache;
-	private TokenStore tokenStore;
-	private ScheduleStore scheduleStore;
+	private HederaTokenStore tokenStore;
+	private HederaScheduleStore scheduleStore;
 	private TokenAnswers tokenAnswers;
 	private ScheduleAnswers scheduleAnswers;
 	private HederaLedger ledger;
 	private SyncVerifier syncVerifier;
+	private SyncVerifier precheckSyncVerifier;
 	private IssEventInfo issEventInfo;
 	private ProcessLogic logic;
 	private QueryFeeCheck queryFeeCheck;
@@ -441,6 +454,8 @@ public class ServicesContext {
 	private ScheduleController scheduleGrpc;
 	private MiscRunningAvgs runningAvgs;
 	private MiscSpeedometers speedometers;
+	private PlatformTxnAccessorCache txnAccessorCache;
+	private RecentlyCreatedAccounts recentCreations;
 	private ServicesNodeType nodeType;
 	private SystemOpPolicies systemOpPolicies;
 	private CryptoController cryptoGrpc;
@@ -456,6 +471,8 @@ public class ServicesContext {
 	private NetworkController networkGrpc;
 	private GrpcServerManager grpc;
 	private TxnResponseHelper txnResponseHelper;
+	private PrecheckExecutor txnPrecheckExecutor;
+	private PrecheckExecutor queryPrecheckExecutor;
 	private TransactionContext txnCtx;
 	private BlobStorageSource bytecodeDb;
 	private TransactionHandler txns;
@@ -476,6 +493,7 @@ public class ServicesContext {
 	private TxnFeeChargingPolicy txnChargingPolicy;
 	private TxnAwareRatesManager exchangeRatesManager;
 	private ServicesStatsManager statsManager;
+	private HandleLatencies handleLatencies;
 	private LedgerAccountsSource accountSource;
 	private FCMapBackingAccounts backingAccounts;
 	private TransitionLogicLookup transitionLogic;
@@ -494,11 +512,12 @@ public class ServicesContext {
 	private ValidatingCallbackInterceptor apiPermissionsReloading;
 	private ValidatingCallbackInterceptor applicationPropertiesReloading;
 	private Supplier<ServicesRepositoryRoot> newPureRepo;
-	private Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private TxnIdTable<TxnIdRecentHistory> txnHistories;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleTopic>> queryableTopics;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleToken>> queryableTokens;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleAccount>> queryableAccounts;
 	private AtomicReference<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> queryableStorage;
+	private AtomicReference<FCMap<MerkleContractSlotKey, MerkleContractSlot>> queryableContractStorage;
 	private AtomicReference<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> queryableTokenAssociations;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleSchedule>> queryableSchedules;
 
@@ -533,18 +552,37 @@ public class ServicesContext {
 		queryableAccounts().set(accounts());
 		queryableTopics().set(topics());
 		queryableStorage().set(storage());
+		queryableContractStorage().set(contractStorage());
 		queryableTokens().set(tokens());
 		queryableTokenAssociations().set(tokenAssociations());
 		queryableSchedules().set(schedules());
 	}
 
-	public void rebuildBackingStoresIfPresent() {
+	public void rehydrateViewsOfState() {
+		List<RebuildableView<MerkleEntityId, MerkleAccount>> accountViews = new ArrayList<>();
+		accountViews.add(expiries());
+		if (backingAccounts != null) {
+			accountViews.add(backingAccounts);
+		}
+		List<RebuildableView<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenRelViews = new ArrayList<>();
 		if (backingTokenRels != null) {
-			backingTokenRels.rebuildFromSources();
+			tokenRelViews.add(backingTokenRels);
 		}
-		if (backingAccounts != null) {
-			backingAccounts.rebuildFromSources();
+		List<RebuildableView<MerkleEntityId, MerkleToken>> tokenViews = new ArrayList<>();
+		if (tokenStore != null) {
+			tokenViews.add(tokenStore);
 		}
+		List<RebuildableView<MerkleEntityId, MerkleSchedule>> scheduleViews = new ArrayList<>();
+		if (scheduleStore != null) {
+			scheduleViews.add(scheduleStore);
+		}
+
+		new StateRehydration()
+				.of("accounts", accounts()::forEach, accountViews)
+				.of("token associations", tokenAssociations()::forEach, tokenRelViews)
+				.of("tokens", tokens()::forEach, tokenViews)
+				.of("schedules", schedules()::forEach, scheduleViews)
+				.runOn(ForkJoinPool.commonPool());
 	}
 
 	public HapiOpCounters opCounters() {
@@ -571,6 +609,25 @@ public class ServicesContext {
 		return speedometers;
 	}
 
+	public PlatformTxnAccessorCache txnAccessorCache() {
+		if (txnAccessorCache == null) {
+			txnAccessorCache = new PlatformTxnAccessorCache(
+					nodeLocalProperties().txnAccessorCacheMaxSize(),
+					runningAvgs(),
+					opCounters());
+		}
+		return txnAccessorCache;
+	}
+
+	public RecentlyCreatedAccounts recentCreations() {
+		if (recentCreations == null) {
+			recentCreations = new RecentlyCreatedAccounts(
+					nodeLocalProperties().recentCreationsCacheMaxSize(),
+					nodeLocalProperties().recentCreationsCacheTtlSecs());
+		}
+		return recentCreations;
+	}
+
 	public SemanticVersions semVers() {
 		if (semVers == null) {
 			semVers = new SemanticVersions();
@@ -591,11 +648,20 @@ public class ServicesContext {
 					runningAvgs(),
 					speedometers(),
 					opSpeedometers,
+					handleLatencies(),
 					nodeLocalProperties());
 		}
 		return statsManager;
 	}
 
+	public HandleLatencies handleLatencies() {
+		if (handleLatencies == null) {
+			handleLatencies = new HandleLatencies(new CounterFactory() {
+			}, MiscUtils::baseStatNameOf);
+		}
+		return handleLatencies;
+	}
+
 	public CurrentPlatformStatus platformStatus() {
 		if (platformStatus == null) {
 			platformStatus = new ContextPlatformStatus();
@@ -631,6 +697,7 @@ public class ServicesContext {
 					() -> queryableTopics().get(),
 					() -> queryableAccounts().get(),
 					() -> queryableStorage().get(),
+					() -> queryableContractStorage().get(),
 					() -> queryableTokenAssociations().get(),
 					this::diskFs,
 					properties());
@@ -645,6 +712,7 @@ public class ServicesContext {
 					this::topics,
 					this::accounts,
 					this::storage,
+					this::contractStorage,
 					this::tokenAssociations,
 					this::diskFs,
 					properties());
@@ -675,11 +743,23 @@ public class ServicesContext {
 
 	public TxnResponseHelper txnResponseHelper() {
 		if (txnResponseHelper == null) {
-			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters());
+			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters(), txnPrecheckExecutor());
 		}
 		return txnResponseHelper;
 	}
 
+	public PrecheckExecutor txnPrecheckExecutor() {
+		if (txnPrecheckExecutor == null) {
+			txnPrecheckExecutor = new PrecheckExecutor(
+					"Txn",
+					nodeLocalProperties().precheckTxnThreads(),
+					nodeLocalProperties().precheckTxnQueueSize(),
+					runningAvgs()::recordTxnPrecheckQueueDepth,
+					runningAvgs()::recordTxnPrecheckWaitMs);
+		}
+		return txnPrecheckExecutor;
+	}
+
 	public TransactionThrottling txnThrottling() {
 		if (txnThrottling == null) {
 			txnThrottling = new TransactionThrottling(bucketThrottling());
@@ -721,11 +801,23 @@ public class ServicesContext {
 
 	public QueryResponseHelper queryResponseHelper() {
 		if (queryResponseHelper == null) {
-			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters());
+			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters(), queryPrecheckExecutor());
 		}
 		return queryResponseHelper;
 	}
 
+	public PrecheckExecutor queryPrecheckExecutor() {
+		if (queryPrecheckExecutor == null) {
+			queryPrecheckExecutor = new PrecheckExecutor(
+					"Query",
+					nodeLocalProperties().precheckQueryThreads(),
+					nodeLocalProperties().precheckQueryQueueSize(),
+					runningAvgs()::recordQueryPrecheckQueueDepth,
+					runningAvgs()::recordQueryPrecheckWaitMs);
+		}
+		return queryPrecheckExecutor;
+	}
+
 	public FileAnswers fileAnswers() {
 		if (fileAnswers == null) {
 			fileAnswers = new FileAnswers(
@@ -964,6 +1056,7 @@ public class ServicesContext {
 					this::topics,
 					REF_LOOKUP_FACTORY.apply(tokenStore()),
 					SCHEDULE_REF_LOOKUP_FACTORY.apply(scheduleStore()),
+					recentCreations(),
 					runningAvgs(),
 					speedometers());
 			lookupRetryingKeyOrder = keyOrderWith(lookups);
@@ -989,7 +1082,7 @@ public class ServicesContext {
 
 	public StoragePersistence storagePersistence() {
 		if (storagePersistence == null) {
-			storagePersistence = new BlobStoragePersistence(storageMapFrom(blobStore()));
+			storagePersistence = new BlobStoragePersistence(new ContractSlotStorageMap(this::contractStorage));
 		}
 		return storagePersistence;
 	}
@@ -1001,11 +1094,30 @@ public class ServicesContext {
 		return syncVerifier;
 	}
 
+	public SyncVerifier precheckSyncVerifier() {
+		if (precheckSyncVerifier == null) {
+			var props = nodeLocalProperties();
+			if (props.precheckSigBatchSize() > 1) {
+				precheckSyncVerifier = new BatchingSyncVerifier(
+						props.precheckSigBatchSize(),
+						props.precheckSigMaxBatchLingerMicros(),
+						props.precheckSigMaxBatchWaitMs(),
+						props.precheckSigVerifierThreads(),
+						syncVerifier(),
+						runningAvgs());
+			} else {
+				precheckSyncVerifier = syncVerifier();
+			}
+		}
+		return precheckSyncVerifier;
+	}
+
 	public PrecheckVerifier precheckVerifier() {
 		if (precheckVerifier == null) {
 			Predicate<TransactionBody> isQueryPayment = queryPaymentTestFor(nodeAccount());
 			PrecheckKeyReqs reqs = new PrecheckKeyReqs(keyOrder(), lookupRetryingKeyOrder(), isQueryPayment);
-			precheckVerifier = new PrecheckVerifier(syncVerifier(), reqs, DefaultSigBytesProvider.DEFAULT_SIG_BYTES);
+			precheckVerifier = new PrecheckVerifier(
+					precheckSyncVerifier(), reqs, DefaultSigBytesProvider.DEFAULT_SIG_BYTES);
 		}
 		return precheckVerifier;
 	}
@@ -1016,10 +1128,13 @@ public class ServicesContext {
 
 	public BalancesExporter balancesExporter() {
 		if (balancesExporter == null) {
-			balancesExporter = new SignedStateBalancesExporter(
-					properties(),
-					platform()::sign,
-					globalDynamicProperties());
+			balancesExporter = new AsyncBalancesExporter(
+					new SignedStateBalancesExporter(
+							properties(),
+							platform()::sign,
+							globalDynamicProperties()),
+					new JvmSystemExits(),
+					runningAvgs());
 		}
 		return balancesExporter;
 	}
@@ -1105,7 +1220,8 @@ public class ServicesContext {
 		Map<HederaFunctionality, List<TransitionLogic>> transitionsMap = Map.ofEntries(
 				/* Crypto */
 				entry(CryptoCreate,
-						List.of(new CryptoCreateTransitionLogic(ledger(), validator(), txnCtx()))),
+						List.of(new CryptoCreateTransitionLogic(
+								ledger(), validator(), txnCtx(), recentCreations()))),
 				entry(CryptoUpdate,
 						List.of(new CryptoUpdateTransitionLogic(ledger(), validator(), txnCtx()))),
 				entry(CryptoDelete,
@@ -1124,7 +1240,12 @@ public class ServicesContext {
 				/* Contract */
 				entry(ContractCreate,
 						List.of(new ContractCreateTransitionLogic(
-								hfs(), contracts()::createContract, this::seqNo, validator(), txnCtx()))),
+								hfs(),
+								contracts()::createContract,
+								this::seqNo,
+								validator(),
+								txnCtx(),
+								recentCreations()))),
 				entry(ContractUpdate,
 						List.of(new ContractUpdateTransitionLogic(
 								contracts()::updateContract, validator(), txnCtx(), this::accounts))),
@@ -1218,9 +1339,9 @@ public class ServicesContext {
 		return txnCtx;
 	}
 
-	public Map<TransactionID, TxnIdRecentHistory> txnHistories() {
+	public TxnIdTable<TxnIdRecentHistory> txnHistories() {
 		if (txnHistories == null) {
-			txnHistories = new ConcurrentHashMap<>();
+			txnHistories = new TxnIdTable<>();
 		}
 		return txnHistories;
 	}
@@ -1310,7 +1431,7 @@ public class ServicesContext {
 
 	public ScheduleStore scheduleStore() {
 		if (scheduleStore == null) {
-			scheduleStore = new HederaScheduleStore(ids(), this::schedules);
+			scheduleStore = new HederaScheduleStore(ids(), globalDynamicProperties(), this::schedules);
 		}
 		return scheduleStore;
 	}
@@ -1635,7 +1756,7 @@ public class ServicesContext {
 
 	public BlobStorageSource bytecodeDb() {
 		if (bytecodeDb == null) {
-			bytecodeDb = new BlobStorageSource(bytecodeMapFrom(blobStore()));
+			bytecodeDb = new BlobStorageSource(bytecodeMapFrom(this::storage));
 		}
 		return bytecodeDb;
 	}
@@ -1693,6 +1814,13 @@ public class ServicesContext {
 		return queryableStorage;
 	}
 
+	public AtomicReference<FCMap<MerkleContractSlotKey, MerkleContractSlot>> queryableContractStorage() {
+		if (queryableContractStorage == null) {
+			queryableContractStorage = new AtomicReference<>(contractStorage());
+		}
+		return queryableContractStorage;
+	}
+
 	public AtomicReference<FCMap<MerkleEntityId, MerkleAccount>> queryableAccounts() {
 		if (queryableAccounts == null) {
 			queryableAccounts = new AtomicReference<>(accounts());
@@ -1816,6 +1944,10 @@ public class ServicesContext {
 		return state.storage();
 	}
 
+	public FCMap<MerkleContractSlotKey, MerkleContractSlot> contractStorage() {
+		return state.contractStorage();
+	}
+
 	public FCMap<MerkleEntityId, MerkleToken> tokens() {
 		return state.tokens();
 	}
@@ -1889,4 +2021,16 @@ public class ServicesContext {
 	void setBackingAccounts(FCMapBackingAccounts backingAccounts) {
 		this.backingAccounts = backingAccounts;
 	}
+
+	void setTokenStore(HederaTokenStore tokenStore) {
+		this.tokenStore = tokenStore;
+	}
+
+	void setScheduleStore(HederaScheduleStore scheduleStore) {
+		this.scheduleStore = scheduleStore;
+	}
+
+	void setExpiries(ExpiryManager expiries) {
+		this.expiries = expiries;
+	}
 }
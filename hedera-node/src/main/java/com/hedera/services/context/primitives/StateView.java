@@ -22,6 +22,9 @@ package com.hedera.services.context.primitives;
 
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
+import com.hedera.services.contracts.sources.ContractSlotStorageMap;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleToken;
@@ -101,6 +104,11 @@ public class StateView {
 	public static final Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> EMPTY_STORAGE_SUPPLIER =
 			() -> EMPTY_STORAGE;
 
+	public static final FCMap<MerkleContractSlotKey, MerkleContractSlot> EMPTY_CONTRACT_STORAGE =
+			new FCMap<>();
+	public static final Supplier<FCMap<MerkleContractSlotKey, MerkleContractSlot>> EMPTY_CONTRACT_STORAGE_SUPPLIER =
+			() -> EMPTY_CONTRACT_STORAGE;
+
 	public static final FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> EMPTY_TOKEN_ASSOCIATIONS =
 			new FCMap<>();
 	public static final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> EMPTY_TOKEN_ASSOCS_SUPPLIER =
@@ -112,6 +120,7 @@ public class StateView {
 			null, null);
 
 	Map<byte[], byte[]> contractStorage;
+	Map<byte[], byte[]> slotKeyedContractStorage;
 	Map<byte[], byte[]> contractBytecode;
 	Map<FileID, byte[]> fileContents;
 	Map<FileID, JFileInfo> fileAttrs;
@@ -150,6 +159,27 @@ public class StateView {
 			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
 			Supplier<MerkleDiskFs> diskFs,
 			PropertySource properties
+	) {
+		this(
+				tokenStore,
+				topics,
+				accounts,
+				storage,
+				EMPTY_CONTRACT_STORAGE_SUPPLIER,
+				tokenAssociations,
+				diskFs,
+				properties);
+	}
+
+	public StateView(
+			TokenStore tokenStore,
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage,
+			Supplier<FCMap<MerkleContractSlotKey, MerkleContractSlot>> contractStorageSlots,
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
+			Supplier<MerkleDiskFs> diskFs,
+			PropertySource properties
 	) {
 		this.topics = topics;
 		this.accounts = accounts;
@@ -160,8 +190,9 @@ public class StateView {
 
 		fileContents = DataMapFactory.dataMapFrom(blobStore);
 		fileAttrs = MetadataMapFactory.metaMapFrom(blobStore);
-		contractStorage = AddressKeyedMapFactory.storageMapFrom(blobStore);
-		contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
+		contractStorage = unmodifiableMap(AddressKeyedMapFactory.storageMapFrom(storage));
+		slotKeyedContractStorage = unmodifiableMap(new ContractSlotStorageMap(contractStorageSlots));
+		contractBytecode = unmodifiableMap(AddressKeyedMapFactory.bytecodeMapFrom(storage));
 		this.properties = properties;
 		this.diskFs = diskFs;
 	}
@@ -208,7 +239,10 @@ public class StateView {
 	}
 
 	public Optional<byte[]> storageOf(ContractID id) {
-		return Optional.ofNullable(contractStorage.get(asSolidityAddress(id)));
+		var address = asSolidityAddress(id);
+		/* After migration to slot-keyed storage, no contract has storage in the legacy blobs */
+		return Optional.ofNullable(slotKeyedContractStorage.get(address))
+				.or(() -> Optional.ofNullable(contractStorage.get(address)));
 	}
 
 	public Optional<MerkleToken> tokenWith(TokenID id) {
@@ -184,6 +184,7 @@ public class BootstrapProperties implements PropertySource {
 	);
 
 	static final Set<String> GLOBAL_DYNAMIC_PROPS = Set.of(
+			"balances.exportBinaryFile",
 			"balances.exportDir.path",
 			"balances.exportEnabled",
 			"balances.exportPeriodSecs",
@@ -215,7 +216,14 @@ public class BootstrapProperties implements PropertySource {
 	);
 
 	static final Set<String> NODE_PROPS = Set.of(
+			"cache.recentCreations.maxSize",
+			"cache.recentCreations.ttlSecs",
+			"cache.txnAccessors.maxSize",
 			"grpc.port",
+			"grpc.precheck.queryQueueSize",
+			"grpc.precheck.queryThreads",
+			"grpc.precheck.txnQueueSize",
+			"grpc.precheck.txnThreads",
 			"grpc.tlsPort",
 			"hedera.profiles.active",
 			"hedera.recordStream.isEnabled",
@@ -224,6 +232,11 @@ public class BootstrapProperties implements PropertySource {
 			"hedera.recordStream.queueCapacity",
 			"precheck.account.maxLookupRetries",
 			"precheck.account.lookupRetryBackoffIncrementMs",
+			"precheck.sigs.batchSize",
+			"precheck.sigs.maxBatchLingerMicros",
+			"precheck.sigs.maxBatchWaitMs",
+			"precheck.sigs.verifierThreads",
+			"stats.handleLatencies.logIntervalSecs",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
 			"stats.runningAvgHalfLifeSecs",
 			"stats.speedometerHalfLifeSecs"
@@ -251,6 +264,7 @@ public class BootstrapProperties implements PropertySource {
 			entry("balances.exportPeriodSecs", AS_INT),
 			entry("balances.nodeBalanceWarningThreshold", AS_LONG),
 			entry("cache.records.ttl", AS_INT),
+			entry("cache.txnAccessors.maxSize", AS_INT),
 			entry("balances.exportTokenBalances", AS_BOOLEAN),
 			entry("files.addressBook", AS_LONG),
 			entry("files.networkProperties", AS_LONG),
@@ -305,6 +319,18 @@ public class BootstrapProperties implements PropertySource {
 			entry("rates.intradayChangeLimitPercent", AS_INT),
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", AS_LONG),
 			entry("stats.runningAvgHalfLifeSecs", AS_DOUBLE),
-			entry("stats.speedometerHalfLifeSecs", AS_DOUBLE)
+			entry("stats.speedometerHalfLifeSecs", AS_DOUBLE),
+			entry("grpc.precheck.queryQueueSize", AS_INT),
+			entry("grpc.precheck.queryThreads", AS_INT),
+			entry("grpc.precheck.txnQueueSize", AS_INT),
+			entry("grpc.precheck.txnThreads", AS_INT),
+			entry("precheck.sigs.batchSize", AS_INT),
+			entry("precheck.sigs.maxBatchLingerMicros", AS_INT),
+			entry("precheck.sigs.verifierThreads", AS_INT),
+			entry("precheck.sigs.maxBatchWaitMs", AS_INT),
+			entry("cache.recentCreations.maxSize", AS_INT),
+			entry("cache.recentCreations.ttlSecs", AS_INT),
+			entry("stats.handleLatencies.logIntervalSecs", AS_INT),
+			entry("balances.exportBinaryFile", AS_BOOLEAN)
 	);
 }
@@ -41,6 +41,7 @@ public class GlobalDynamicProperties {
 	private boolean shouldKeepRecordsInState;
 	private boolean shouldExportBalances;
 	private boolean shouldExportTokenBalances;
+	private boolean shouldExportBinaryBalances;
 	private AccountID fundingAccount;
 	private int maxTransfersLen;
 	private int maxTokenTransfersLen;
@@ -86,6 +87,7 @@ public class GlobalDynamicProperties {
 		nodeBalanceWarningThreshold = properties.getLongProperty("balances.nodeBalanceWarningThreshold");
 		pathToBalancesExportDir = properties.getStringProperty("balances.exportDir.path");
 		shouldExportTokenBalances = properties.getBooleanProperty("balances.exportTokenBalances");
+		shouldExportBinaryBalances = properties.getBooleanProperty("balances.exportBinaryFile");
 		maxTransfersLen = properties.getIntProperty("ledger.transfers.maxLen");
 		maxTokenTransfersLen = properties.getIntProperty("ledger.tokenTransfers.maxLen");
 		maxMemoUtf8Bytes = properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes");
@@ -161,6 +163,10 @@ public class GlobalDynamicProperties {
 		return shouldExportTokenBalances;
 	}
 
+	public boolean shouldExportBinaryBalances() {
+		return shouldExportBinaryBalances;
+	}
+
 	public int maxTransferListSize() {
 		return maxTransfersLen;
 	}
@@ -35,6 +35,18 @@ public class NodeLocalProperties {
 	private long recordLogPeriod;
 	private boolean recordStreamEnabled;
 	private int recordStreamQueueCapacity;
+	private int txnAccessorCacheMaxSize;
+	private int precheckTxnThreads;
+	private int precheckTxnQueueSize;
+	private int precheckQueryThreads;
+	private int precheckQueryQueueSize;
+	private int precheckSigBatchSize;
+	private int precheckSigMaxBatchLingerMicros;
+	private int precheckSigMaxBatchWaitMs;
+	private int precheckSigVerifierThreads;
+	private int recentCreationsCacheMaxSize;
+	private int recentCreationsCacheTtlSecs;
+	private int statsHandleLatenciesLogIntervalSecs;
 
 	public NodeLocalProperties(PropertySource properties) {
 		this.properties = properties;
@@ -55,6 +67,18 @@ public class NodeLocalProperties {
 		recordLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
 		recordStreamEnabled = properties.getBooleanProperty("hedera.recordStream.isEnabled");
 		recordStreamQueueCapacity = properties.getIntProperty("hedera.recordStream.queueCapacity");
+		txnAccessorCacheMaxSize = properties.getIntProperty("cache.txnAccessors.maxSize");
+		precheckTxnThreads = properties.getIntProperty("grpc.precheck.txnThreads");
+		precheckTxnQueueSize = properties.getIntProperty("grpc.precheck.txnQueueSize");
+		precheckQueryThreads = properties.getIntProperty("grpc.precheck.queryThreads");
+		precheckQueryQueueSize = properties.getIntProperty("grpc.precheck.queryQueueSize");
+		precheckSigBatchSize = properties.getIntProperty("precheck.sigs.batchSize");
+		precheckSigMaxBatchLingerMicros = properties.getIntProperty("precheck.sigs.maxBatchLingerMicros");
+		precheckSigMaxBatchWaitMs = properties.getIntProperty("precheck.sigs.maxBatchWaitMs");
+		precheckSigVerifierThreads = properties.getIntProperty("precheck.sigs.verifierThreads");
+		recentCreationsCacheMaxSize = properties.getIntProperty("cache.recentCreations.maxSize");
+		recentCreationsCacheTtlSecs = properties.getIntProperty("cache.recentCreations.ttlSecs");
+		statsHandleLatenciesLogIntervalSecs = properties.getIntProperty("stats.handleLatencies.logIntervalSecs");
 	}
 
 	public int port() {
@@ -104,4 +128,52 @@ public class NodeLocalProperties {
 	public int recordStreamQueueCapacity() {
 		return recordStreamQueueCapacity;
 	}
+
+	public int txnAccessorCacheMaxSize() {
+		return txnAccessorCacheMaxSize;
+	}
+
+	public int precheckTxnThreads() {
+		return precheckTxnThreads;
+	}
+
+	public int precheckTxnQueueSize() {
+		return precheckTxnQueueSize;
+	}
+
+	public int precheckQueryThreads() {
+		return precheckQueryThreads;
+	}
+
+	public int precheckQueryQueueSize() {
+		return precheckQueryQueueSize;
+	}
+
+	public int precheckSigBatchSize() {
+		return precheckSigBatchSize;
+	}
+
+	public int precheckSigMaxBatchLingerMicros() {
+		return precheckSigMaxBatchLingerMicros;
+	}
+
+	public int precheckSigMaxBatchWaitMs() {
+		return precheckSigMaxBatchWaitMs;
+	}
+
+	public int precheckSigVerifierThreads() {
+		return precheckSigVerifierThreads;
+	}
+
+	public int recentCreationsCacheMaxSize() {
+		return recentCreationsCacheMaxSize;
+	}
+
+	public int recentCreationsCacheTtlSecs() {
+		return recentCreationsCacheTtlSecs;
+	}
+
+	public int statsHandleLatenciesLogIntervalSecs() {
+		return statsHandleLatenciesLogIntervalSecs;
+	}
 }
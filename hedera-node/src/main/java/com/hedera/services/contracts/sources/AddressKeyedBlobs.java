@@ -0,0 +1,181 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.AbstractMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.addressOfLegacyPath;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.legacyPathOf;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.numOf;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.realmOf;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * A map from Solidity addresses to the contract blobs of a single kind (bytecode or storage),
+ * which reads the (realm, num) of each address directly from its bytes and builds the legacy
+ * blob path without any intermediate {@code String}-keyed view or {@code String.format} call.
+ *
+ * The blobs themselves remain at their legacy paths, so this map is fully compatible with
+ * any {@code String}-keyed view of the same {@link FCMap}. To avoid building a path and a
+ * {@link MerkleBlobMeta} on every access, the lookup keys of recently used (realm, num) pairs
+ * are kept in a small direct-mapped cache; a collision just rebuilds the key.
+ *
+ * As with the {@code String}-keyed views, {@link #size()} and {@link #clear()} apply to the
+ * whole underlying store, while {@link #entrySet()} only includes blobs of this kind.
+ */
+public class AddressKeyedBlobs extends AbstractMap<byte[], byte[]> {
+	static final int KEY_CACHE_SLOTS = 1024;
+
+	private final char kindMarker;
+	private final CachedKey[] keyCache = new CachedKey[KEY_CACHE_SLOTS];
+	private final Function<byte[], MerkleOptionalBlob> blobFactory;
+	private final Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> pathedBlobs;
+
+	public AddressKeyedBlobs(
+			char kindMarker,
+			Function<byte[], MerkleOptionalBlob> blobFactory,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> pathedBlobs
+	) {
+		this.kindMarker = kindMarker;
+		this.blobFactory = blobFactory;
+		this.pathedBlobs = pathedBlobs;
+	}
+
+	private static class CachedKey {
+		private final long realm;
+		private final long num;
+		private final MerkleBlobMeta meta;
+
+		CachedKey(long realm, long num, MerkleBlobMeta meta) {
+			this.realm = realm;
+			this.num = num;
+			this.meta = meta;
+		}
+	}
+
+	private MerkleBlobMeta at(Object address) {
+		var bytes = (byte[]) address;
+		long realm = realmOf(bytes);
+		long num = numOf(bytes);
+
+		int slot = (int) ((num ^ (realm * 31)) & (KEY_CACHE_SLOTS - 1));
+		var cached = keyCache[slot];
+		if (cached != null && cached.num == num && cached.realm == realm) {
+			return cached.meta;
+		}
+		var meta = new MerkleBlobMeta(legacyPathOf(realm, num, kindMarker));
+		keyCache[slot] = new CachedKey(realm, num, meta);
+		return meta;
+	}
+
+	@Override
+	public byte[] get(Object address) {
+		return Optional.ofNullable(pathedBlobs.get().get(at(address)))
+				.map(MerkleOptionalBlob::getData)
+				.orElse(null);
+	}
+
+	@Override
+	public boolean containsKey(Object address) {
+		return pathedBlobs.get().containsKey(at(address));
+	}
+
+	/**
+	 * Replaces the blob for the given address with the given contents.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the contents of the previous blob.
+	 *
+	 * @param address
+	 * 		the address of the contract
+	 * @param value
+	 * 		the contents to be set
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] put(byte[] address, byte[] value) {
+		var blobs = pathedBlobs.get();
+		var meta = at(address);
+		/* Cached lookup keys are shared, so only ever insert a copy into the tree. */
+		if (blobs.containsKey(meta)) {
+			var blob = blobs.getForModify(meta);
+			blob.modify(value);
+			blobs.put(meta.copy(), blob);
+		} else {
+			blobs.put(meta.copy(), blobFactory.apply(value));
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the blob for the given address.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the contents of the removed blob.
+	 *
+	 * @param address
+	 * 		the address of the contract
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] remove(Object address) {
+		pathedBlobs.get().remove(at(address));
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		pathedBlobs.get().clear();
+	}
+
+	@Override
+	public int size() {
+		return pathedBlobs.get().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return pathedBlobs.get().isEmpty();
+	}
+
+	@Override
+	public Set<Entry<byte[], byte[]>> entrySet() {
+		return pathedBlobs.get().entrySet()
+				.stream()
+				.<Entry<byte[], byte[]>>map(entry -> {
+					var address = addressOfLegacyPath(entry.getKey().getPath(), kindMarker);
+					return (address == null)
+							? null
+							: new SimpleEntry<>(address, entry.getValue().getData());
+				})
+				.filter(Objects::nonNull)
+				.collect(toSet());
+	}
+}
@@ -21,62 +21,159 @@ package com.hedera.services.contracts.sources;
  */
 
 import com.hedera.services.files.store.BytesStoreAdapter;
-import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
-import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
-import static java.lang.Long.parseLong;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.fcmap.FCMap;
+
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
+
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
 
 public class AddressKeyedMapFactory {
-	static final String LEGACY_BYTECODE_PATH_TEMPLATE = "/%d/s%d";
-	static final Pattern LEGACY_BYTECODE_PATH_PATTERN = Pattern.compile("/(\\d+)/s(\\d+)");
-	static final String LEGACY_STORAGE_PATH_TEMPLATE = "/%d/d%d";
-	static final Pattern LEGACY_STORAGE_PATH_PATTERN = Pattern.compile("/(\\d+)/d(\\d+)");
+	static final char LEGACY_BYTECODE_PATH_MARKER = 's';
+	static final char LEGACY_STORAGE_PATH_MARKER = 'd';
+
+	private static final int REALM_OFFSET = 4;
+	private static final int NUM_OFFSET = 12;
 
 	public static Map<byte[], byte[]> bytecodeMapFrom(Map<String, byte[]> store) {
-		var storageMap = new BytesStoreAdapter<>(
-				byte[].class,
-				Function.identity(),
-				Function.identity(),
-				toAddressMapping(LEGACY_BYTECODE_PATH_PATTERN),
-				toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE),
-				store);
-		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_BYTECODE_PATH_PATTERN));
-		return storageMap;
+		return addressKeyedViewOf(store, LEGACY_BYTECODE_PATH_MARKER);
+	}
+
+	public static Map<byte[], byte[]> bytecodeMapFrom(Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> blobs) {
+		return new AddressKeyedBlobs(LEGACY_BYTECODE_PATH_MARKER, MerkleOptionalBlob::new, blobs);
 	}
 
 	public static Map<byte[], byte[]> storageMapFrom(Map<String, byte[]> store) {
+		return addressKeyedViewOf(store, LEGACY_STORAGE_PATH_MARKER);
+	}
+
+	public static Map<byte[], byte[]> storageMapFrom(Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> blobs) {
+		return new AddressKeyedBlobs(LEGACY_STORAGE_PATH_MARKER, MerkleOptionalBlob::new, blobs);
+	}
+
+	public static boolean isLegacyStoragePath(String path) {
+		return addressOfLegacyPath(path, LEGACY_STORAGE_PATH_MARKER) != null;
+	}
+
+	public static byte[] addressOfLegacyStoragePath(String path) {
+		return addressOfLegacyPath(path, LEGACY_STORAGE_PATH_MARKER);
+	}
+
+	private static Map<byte[], byte[]> addressKeyedViewOf(Map<String, byte[]> store, char kindMarker) {
 		var storageMap = new BytesStoreAdapter<>(
 				byte[].class,
 				Function.identity(),
 				Function.identity(),
-				toAddressMapping(LEGACY_STORAGE_PATH_PATTERN),
-				toKeyMapping(LEGACY_STORAGE_PATH_TEMPLATE),
+				toAddressMapping(kindMarker),
+				toKeyMapping(kindMarker),
 				store);
-		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_STORAGE_PATH_PATTERN));
+		storageMap.setDelegateEntryFilter(toRelevancyPredicate(kindMarker));
 		return storageMap;
 	}
 
-	static Predicate<String> toRelevancyPredicate(final Pattern legacyPathPattern) {
-		return key -> legacyPathPattern.matcher(key).matches();
+	static Predicate<String> toRelevancyPredicate(char kindMarker) {
+		return key -> addressOfLegacyPath(key, kindMarker) != null;
+	}
+
+	static Function<byte[], String> toKeyMapping(char kindMarker) {
+		return address -> legacyPathOf(address, kindMarker);
+	}
+
+	static Function<String, byte[]> toAddressMapping(char kindMarker) {
+		return key -> Objects.requireNonNull(addressOfLegacyPath(key, kindMarker));
+	}
+
+	/**
+	 * Returns the legacy {@code /<realm>/<kind><num>} path of the given kind of blob for the
+	 * contract with the given Solidity address.
+	 *
+	 * @param address
+	 * 		the Solidity address of the contract
+	 * @param kindMarker
+	 * 		the character identifying the kind of blob
+	 * @return the legacy path of the blob
+	 */
+	static String legacyPathOf(byte[] address, char kindMarker) {
+		return legacyPathOf(realmOf(address), numOf(address), kindMarker);
+	}
+
+	static String legacyPathOf(long realm, long num, char kindMarker) {
+		return "/" + realm + "/" + kindMarker + num;
 	}
 
-	static Function<byte[], String> toKeyMapping(final String legacyPathTemplate) {
-		return address -> {
-			var id = accountParsedFromSolidityAddress(address);
-			return String.format(legacyPathTemplate, id.getRealmNum(), id.getAccountNum());
-		};
+	static long realmOf(byte[] address) {
+		return longAt(address, REALM_OFFSET);
 	}
 
-	static Function<String, byte[]> toAddressMapping(final Pattern legacyPathPattern) {
-		return key -> {
-			var matcher = legacyPathPattern.matcher(key);
-			var flag = matcher.matches();
-			assert flag;
+	static long numOf(byte[] address) {
+		return longAt(address, NUM_OFFSET);
+	}
+
+	/**
+	 * Parses the Solidity address of the contract owning the blob at the given path, if the
+	 * path is a legacy {@code /<realm>/<kind><num>} path for the given kind of blob.
+	 *
+	 * @param path
+	 * 		the path to parse
+	 * @param kindMarker
+	 * 		the character identifying the kind of blob
+	 * @return the Solidity address of the owning contract, or {@code null} if the path does not match
+	 */
+	static byte[] addressOfLegacyPath(String path, char kindMarker) {
+		int n = path.length();
+		if (n == 0 || path.charAt(0) != '/') {
+			return null;
+		}
+		int realmEnd = endOfDigits(path, 1);
+		int numStart = realmEnd + 2;
+		if (realmEnd == 1 || numStart >= n
+				|| path.charAt(realmEnd) != '/' || path.charAt(realmEnd + 1) != kindMarker
+				|| endOfDigits(path, numStart) != n) {
+			return null;
+		}
+		long realm = digitsAt(path, 1, realmEnd);
+		long num = digitsAt(path, numStart, n);
+		if (realm < 0 || num < 0) {
+			return null;
+		}
+		return asSolidityAddress(0, realm, num);
+	}
+
+	private static int endOfDigits(String s, int from) {
+		int i = from, n = s.length();
+		while (i < n && isAsciiDigit(s.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/* Returns -1 if the digits do not fit in a long, since no legacy path can have such a realm or num. */
+	private static long digitsAt(String s, int from, int to) {
+		long v = 0;
+		for (int i = from; i < to; i++) {
+			int d = s.charAt(i) - '0';
+			if (v > (Long.MAX_VALUE - d) / 10) {
+				return -1;
+			}
+			v = v * 10 + d;
+		}
+		return v;
+	}
 
-			return asSolidityAddress(0, parseLong(matcher.group(1)), parseLong(matcher.group(2)));
-		};
+	private static long longAt(byte[] bytes, int offset) {
+		long v = 0;
+		for (int i = offset, end = offset + Long.BYTES; i < end; i++) {
+			v = (v << 8) | (bytes[i] & 0xFF);
+		}
+		return v;
 	}
 }
@@ -0,0 +1,220 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.SLOT_BYTES;
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.indexKeyFor;
+import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Adapts an {@code FCMap} of {@link MerkleContractSlot}s to the map from a contract's
+ * Solidity address to its serialized storage that {@code ServicesRepositoryRoot} expects.
+ *
+ * That serialized storage is the ascending (unsigned) sequence of the contract's
+ * non-null slots, each a 32-byte key followed by its 32-byte value. Here each slot
+ * is its own leaf, keyed by the contract's full id and the slot key; and the
+ * contract's index leaf lists the keys of all its slots.
+ *
+ * Since {@code ServicesRepositoryRoot} only ever persists a contract's <i>entire</i>
+ * storage, a put must still read every slot of the new storage to find the dirty
+ * ones. But it only replaces (and so only re-hashes) the leaves of slots whose value
+ * changed, and the index leaf only when a slot is added or cleared.
+ */
+public class ContractSlotStorageMap extends AbstractMap<byte[], byte[]> {
+	private static final int PAIR_BYTES = 2 * SLOT_BYTES;
+
+	private final Supplier<FCMap<MerkleContractSlotKey, MerkleContractSlot>> slots;
+
+	public ContractSlotStorageMap(Supplier<FCMap<MerkleContractSlotKey, MerkleContractSlot>> slots) {
+		this.slots = slots;
+	}
+
+	@Override
+	public boolean containsKey(Object address) {
+		return slots.get().containsKey(indexKeyOf((byte[]) address));
+	}
+
+	@Override
+	public byte[] get(Object address) {
+		return storageOf(slots.get(), indexKeyOf((byte[]) address));
+	}
+
+	/**
+	 * Replaces the storage of the contract at the given address.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the previous storage of the contract.
+	 *
+	 * @param address
+	 * 		the Solidity address of the contract
+	 * @param storage
+	 * 		the new serialized storage of the contract
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] put(byte[] address, byte[] storage) {
+		if (storage.length % PAIR_BYTES != 0) {
+			throw new IllegalArgumentException(
+					String.format("Storage of %d bytes is not a sequence of slots!", storage.length));
+		}
+
+		var curSlots = slots.get();
+		var indexKey = indexKeyOf(address);
+		var index = curSlots.get(indexKey);
+		byte[] oldKeys = (index == null) ? new byte[0] : index.getData();
+
+		boolean keysChanged = false;
+		int i = 0, oldLen = oldKeys.length;
+		int j = 0, newLen = storage.length;
+		while (i < oldLen || j < newLen) {
+			int cmp = (i == oldLen)
+					? 1
+					: (j == newLen) ? -1 : Arrays.compareUnsigned(
+							oldKeys, i, i + SLOT_BYTES,
+							storage, j, j + SLOT_BYTES);
+			if (cmp < 0) {
+				curSlots.remove(slotKey(indexKey, oldKeys, i));
+				keysChanged = true;
+				i += SLOT_BYTES;
+			} else if (cmp > 0) {
+				curSlots.put(slotKey(indexKey, storage, j), new MerkleContractSlot(valueAt(storage, j)));
+				keysChanged = true;
+				j += PAIR_BYTES;
+			} else {
+				var key = slotKey(indexKey, storage, j);
+				if (!curSlots.get(key).hasSameData(storage, j + SLOT_BYTES, SLOT_BYTES)) {
+					var mutableSlot = curSlots.getForModify(key);
+					mutableSlot.setData(valueAt(storage, j));
+					curSlots.replace(key, mutableSlot);
+				}
+				i += SLOT_BYTES;
+				j += PAIR_BYTES;
+			}
+		}
+
+		if (index == null) {
+			curSlots.put(indexKey, new MerkleContractSlot(keysOf(storage)));
+		} else if (keysChanged) {
+			var mutableIndex = curSlots.getForModify(indexKey);
+			mutableIndex.setData(keysOf(storage));
+			curSlots.replace(indexKey, mutableIndex);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the storage of the contract at the given address.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the removed storage.
+	 *
+	 * @param address
+	 * 		the Solidity address of the contract
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] remove(Object address) {
+		var curSlots = slots.get();
+		var indexKey = indexKeyOf((byte[]) address);
+		var index = curSlots.get(indexKey);
+		if (index != null) {
+			var keys = index.getData();
+			for (int i = 0; i < keys.length; i += SLOT_BYTES) {
+				curSlots.remove(slotKey(indexKey, keys, i));
+			}
+			curSlots.remove(indexKey);
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		slots.get().clear();
+	}
+
+	@Override
+	public int size() {
+		return (int) slots.get().keySet().stream().filter(MerkleContractSlotKey::isIndex).count();
+	}
+
+	@Override
+	public Set<Entry<byte[], byte[]>> entrySet() {
+		var curSlots = slots.get();
+		return curSlots.keySet()
+				.stream()
+				.filter(MerkleContractSlotKey::isIndex)
+				.map(key -> new SimpleEntry<>(
+						asSolidityAddress((int) key.getShard(), key.getRealm(), key.getNum()),
+						storageOf(curSlots, key)))
+				.collect(toSet());
+	}
+
+	private byte[] storageOf(FCMap<MerkleContractSlotKey, MerkleContractSlot> curSlots, MerkleContractSlotKey indexKey) {
+		var index = curSlots.get(indexKey);
+		if (index == null) {
+			return null;
+		}
+		var keys = index.getData();
+		var storage = new byte[2 * keys.length];
+		for (int i = 0, j = 0; i < keys.length; i += SLOT_BYTES, j += PAIR_BYTES) {
+			System.arraycopy(keys, i, storage, j, SLOT_BYTES);
+			var value = curSlots.get(slotKey(indexKey, keys, i)).getData();
+			System.arraycopy(value, 0, storage, j + SLOT_BYTES, SLOT_BYTES);
+		}
+		return storage;
+	}
+
+	private MerkleContractSlotKey indexKeyOf(byte[] address) {
+		var id = accountParsedFromSolidityAddress(address);
+		return indexKeyFor(id.getShardNum(), id.getRealmNum(), id.getAccountNum());
+	}
+
+	private MerkleContractSlotKey slotKey(MerkleContractSlotKey indexKey, byte[] source, int offset) {
+		return new MerkleContractSlotKey(
+				indexKey.getShard(),
+				indexKey.getRealm(),
+				indexKey.getNum(),
+				Arrays.copyOfRange(source, offset, offset + SLOT_BYTES));
+	}
+
+	private byte[] valueAt(byte[] storage, int pairOffset) {
+		return Arrays.copyOfRange(storage, pairOffset + SLOT_BYTES, pairOffset + PAIR_BYTES);
+	}
+
+	private byte[] keysOf(byte[] storage) {
+		var keys = new byte[storage.length / 2];
+		for (int i = 0, j = 0; j < storage.length; i += SLOT_BYTES, j += PAIR_BYTES) {
+			System.arraycopy(storage, j, keys, i, SLOT_BYTES);
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,335 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.FileID;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hedera.services.files.DataMapFactory.toKeyString;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Adapts a blob store to a map from a {@link FileID} to its contents, keeping
+ * any file larger than a single chunk as a sequence of fixed-size chunks plus a
+ * manifest of their SHA-384 hashes.
+ *
+ * A file that fits in one chunk is stored exactly as before, as a single blob at
+ * its legacy {@code /<realm>/f<num>} path. A larger file keeps its first chunk at
+ * that path, its {@code i}-th chunk at {@code /<realm>/f<num>/<i>}, and its
+ * manifest (chunk size, total length, and chunk hashes) at {@code /<realm>/m<num>}.
+ * So {@link ChunkedDataMap#append(FileID, byte[])} only rewrites the tail chunk,
+ * any new chunks, and the manifest; rather than the whole file. And
+ * {@link ChunkedDataMap#put(FileID, byte[])} only rewrites chunks whose hashes
+ * have changed.
+ *
+ * For compatibility with the legacy data map, {@code size()}, {@code isEmpty()},
+ * and {@code clear()} refer to the entire underlying blob store.
+ */
+public class ChunkedDataMap extends AbstractMap<FileID, byte[]> {
+	public static final int CHUNK_BYTES = 16 * 1024;
+
+	static final int HASH_BYTES = 48;
+	static final String DIGEST_ALGORITHM = "SHA-384";
+	static final String MANIFEST_PATH_TEMPLATE = "/%d/m%d";
+
+	private final int chunkBytes;
+	private final Map<String, byte[]> blobs;
+
+	public ChunkedDataMap(Map<String, byte[]> blobs) {
+		this(CHUNK_BYTES, blobs);
+	}
+
+	ChunkedDataMap(int chunkBytes, Map<String, byte[]> blobs) {
+		this.chunkBytes = chunkBytes;
+		this.blobs = blobs;
+	}
+
+	@Override
+	public boolean containsKey(Object fid) {
+		return blobs.containsKey(toKeyString((FileID) fid));
+	}
+
+	@Override
+	public byte[] get(Object key) {
+		var fid = (FileID) key;
+		var dataPath = toKeyString(fid);
+		var manifest = manifestOf(fid);
+		if (manifest == null) {
+			return blobs.get(dataPath);
+		}
+
+		var contents = new byte[Math.toIntExact(manifest.length)];
+		for (int i = 0, n = manifest.numChunks(); i < n; i++) {
+			var chunk = blobs.get(chunkPath(dataPath, i));
+			System.arraycopy(chunk, 0, contents, i * manifest.chunkBytes, chunk.length);
+		}
+		return contents;
+	}
+
+	/**
+	 * Returns the length of the given file's contents, reading at most one chunk.
+	 *
+	 * @param fid the file of interest
+	 * @return its length in bytes, or zero if it has no contents
+	 */
+	public long sizeOf(FileID fid) {
+		var manifest = manifestOf(fid);
+		if (manifest != null) {
+			return manifest.length;
+		}
+		var contents = blobs.get(toKeyString(fid));
+		return (contents == null) ? 0 : contents.length;
+	}
+
+	/**
+	 * Replaces the contents of the given file.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the previous contents of the file.
+	 *
+	 * @param fid
+	 * 		the file to update
+	 * @param contents
+	 * 		its new contents
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] put(FileID fid, byte[] contents) {
+		var dataPath = toKeyString(fid);
+		var manifestPath = manifestPath(fid);
+		var prior = manifestOf(fid);
+		if (contents.length <= chunkBytes) {
+			blobs.put(dataPath, contents);
+			if (prior != null) {
+				removeChunks(dataPath, 1, prior.numChunks());
+				blobs.remove(manifestPath);
+			}
+			return null;
+		}
+
+		var digest = newDigest();
+		int n = numChunks(contents.length, chunkBytes);
+		var hashes = new byte[n * HASH_BYTES];
+		for (int i = 0; i < n; i++) {
+			int from = i * chunkBytes;
+			int len = Math.min(chunkBytes, contents.length - from);
+			digest.update(contents, from, len);
+			digestInto(digest, hashes, i);
+			if (prior == null || !prior.hasSameChunk(i, chunkBytes, hashes)) {
+				blobs.put(chunkPath(dataPath, i), Arrays.copyOfRange(contents, from, from + len));
+			}
+		}
+		if (prior != null) {
+			removeChunks(dataPath, n, prior.numChunks());
+		}
+		blobs.put(manifestPath, new Manifest(chunkBytes, contents.length, hashes).toBytes());
+		return null;
+	}
+
+	/**
+	 * Appends the given bytes to the contents of the given file, rewriting only its
+	 * tail chunk, any new chunks, and its manifest.
+	 *
+	 * @param fid
+	 * 		the file to extend
+	 * @param moreContents
+	 * 		the bytes to append
+	 */
+	public void append(FileID fid, byte[] moreContents) {
+		var manifest = manifestOf(fid);
+		if (manifest == null) {
+			/* Without a manifest, the contents are in a single blob (normally no larger than a chunk) */
+			var contents = blobs.get(toKeyString(fid));
+			if (contents == null) {
+				put(fid, moreContents);
+				return;
+			}
+			var newContents = Arrays.copyOf(contents, contents.length + moreContents.length);
+			System.arraycopy(moreContents, 0, newContents, contents.length, moreContents.length);
+			put(fid, newContents);
+			return;
+		}
+
+		var dataPath = toKeyString(fid);
+		int cb = manifest.chunkBytes;
+		int n = manifest.numChunks();
+		int tailLen = (int) (manifest.length - (long) (n - 1) * cb);
+		long newLength = manifest.length + moreContents.length;
+		int newN = numChunks(newLength, cb);
+		var hashes = Arrays.copyOf(manifest.hashes, newN * HASH_BYTES);
+
+		var digest = newDigest();
+		int consumed = 0;
+		for (int i = n - 1; i < newN; i++) {
+			int have = (i == n - 1) ? tailLen : 0;
+			int take = Math.min(cb - have, moreContents.length - consumed);
+			if (take == 0) {
+				continue;
+			}
+			var chunk = new byte[have + take];
+			if (have > 0) {
+				System.arraycopy(blobs.get(chunkPath(dataPath, i)), 0, chunk, 0, have);
+			}
+			System.arraycopy(moreContents, consumed, chunk, have, take);
+			consumed += take;
+			digest.update(chunk);
+			digestInto(digest, hashes, i);
+			blobs.put(chunkPath(dataPath, i), chunk);
+		}
+		blobs.put(manifestPath(fid), new Manifest(cb, newLength, hashes).toBytes());
+	}
+
+	/**
+	 * Removes the contents of the given file.
+	 *
+	 * <B>NOTE:</B> This method breaks the standard {@code Map} contract,
+	 * and does not return the removed contents.
+	 *
+	 * @param key
+	 * 		the file whose contents should be removed
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] remove(Object key) {
+		var fid = (FileID) key;
+		var dataPath = toKeyString(fid);
+		var manifest = manifestOf(fid);
+		if (manifest != null) {
+			removeChunks(dataPath, 1, manifest.numChunks());
+			blobs.remove(manifestPath(fid));
+		}
+		blobs.remove(dataPath);
+		return null;
+	}
+
+	@Override
+	public int size() {
+		return blobs.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return blobs.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		blobs.clear();
+	}
+
+	@Override
+	public Set<Entry<FileID, byte[]>> entrySet() {
+		return blobs.keySet()
+				.stream()
+				.filter(DataMapFactory::isDataPath)
+				.map(DataMapFactory::toFid)
+				.map(fid -> new SimpleEntry<>(fid, get(fid)))
+				.collect(toSet());
+	}
+
+	private Manifest manifestOf(FileID fid) {
+		var bytes = blobs.get(manifestPath(fid));
+		return (bytes == null) ? null : Manifest.from(bytes);
+	}
+
+	private void removeChunks(String dataPath, int from, int to) {
+		for (int i = from; i < to; i++) {
+			blobs.remove(chunkPath(dataPath, i));
+		}
+	}
+
+	static String chunkPath(String dataPath, int i) {
+		return (i == 0) ? dataPath : (dataPath + "/" + i);
+	}
+
+	static String manifestPath(FileID fid) {
+		return String.format(MANIFEST_PATH_TEMPLATE, fid.getRealmNum(), fid.getFileNum());
+	}
+
+	static int numChunks(long length, int chunkBytes) {
+		return Math.toIntExact((length + chunkBytes - 1) / chunkBytes);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	}
+
+	private static void digestInto(MessageDigest digest, byte[] hashes, int i) {
+		try {
+			digest.digest(hashes, i * HASH_BYTES, HASH_BYTES);
+		} catch (DigestException impossible) {
+			throw new IllegalStateException(impossible);
+		}
+	}
+
+	static final class Manifest {
+		final int chunkBytes;
+		final long length;
+		final byte[] hashes;
+
+		Manifest(int chunkBytes, long length, byte[] hashes) {
+			this.chunkBytes = chunkBytes;
+			this.length = length;
+			this.hashes = hashes;
+		}
+
+		static Manifest from(byte[] bytes) {
+			var buffer = ByteBuffer.wrap(bytes);
+			int chunkBytes = buffer.getInt();
+			long length = buffer.getLong();
+			var hashes = new byte[buffer.remaining()];
+			buffer.get(hashes);
+			return new Manifest(chunkBytes, length, hashes);
+		}
+
+		byte[] toBytes() {
+			return ByteBuffer.allocate(Integer.BYTES + Long.BYTES + hashes.length)
+					.putInt(chunkBytes)
+					.putLong(length)
+					.put(hashes)
+					.array();
+		}
+
+		int numChunks() {
+			return hashes.length / HASH_BYTES;
+		}
+
+		boolean hasSameChunk(int i, int chunkBytes, byte[] otherHashes) {
+			if (this.chunkBytes != chunkBytes || i >= numChunks()) {
+				return false;
+			}
+			int from = i * HASH_BYTES;
+			return Arrays.equals(hashes, from, from + HASH_BYTES, otherHashes, from, from + HASH_BYTES);
+		}
+	}
+}
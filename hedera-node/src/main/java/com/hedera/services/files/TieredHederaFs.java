@@ -50,13 +50,17 @@ import static java.util.stream.Collectors.toList;
 /**
  * A {@link HederaFs} that stores the contents and metadata of its files in
  * separate injected {@link Map}s.
+ *
+ * Unless an interceptor needs to judge the complete new contents of a file,
+ * an append to a file stored in the {@link ChunkedDataMap} only touches the
+ * file's tail chunk (and its manifest), not its entire contents.
  */
 public class TieredHederaFs implements HederaFs {
 	public static final Logger log = LogManager.getLogger(TieredHederaFs.class);
 
 	private final EntityIdSource ids;
 	private final Supplier<Instant> now;
-	private final Map<FileID, byte[]> data;
+	private final ChunkedDataMap data;
 	private final Map<FileID, JFileInfo> metadata;
 	private final GlobalDynamicProperties properties;
 
@@ -85,7 +89,7 @@ public class TieredHederaFs implements HederaFs {
 			EntityIdSource ids,
 			GlobalDynamicProperties properties,
 			Supplier<Instant> now,
-			Map<FileID, byte[]> data,
+			ChunkedDataMap data,
 			Map<FileID, JFileInfo> metadata,
 			Supplier<MerkleDiskFs> diskFs
 	) {
@@ -117,7 +121,7 @@ public class TieredHederaFs implements HederaFs {
 	@Override
 	public FileID create(byte[] contents, JFileInfo attr, AccountID sponsor) {
 		assertValid(attr);
-		assertWithinSizeLimits(contents);
+		assertWithinSizeLimits(contents.length);
 
 		var fid = ids.newFileId(sponsor);
 		data.put(fid, contents);
@@ -168,7 +172,7 @@ public class TieredHederaFs implements HederaFs {
 	public UpdateResult overwrite(FileID id, byte[] newContents) {
 		assertUsable(id);
 		if (!isOnDisk(id)) {
-			assertWithinSizeLimits(newContents);
+			assertWithinSizeLimits(newContents.length);
 		}
 
 		return uncheckedUpdate(id, newContents);
@@ -178,27 +182,38 @@ public class TieredHederaFs implements HederaFs {
 	public UpdateResult append(FileID id, byte[] moreContents) {
 		assertUsable(id);
 
-		byte[] contents;
-
-		boolean isDiskBased = isOnDisk(id);
-		if (isDiskBased) {
-			contents = diskFs.get().contentsOf(id);
-		} else {
-			contents = data.get(id);
+		if (isOnDisk(id)) {
+			var disk = diskFs.get();
+			if (!interceptorsFor(id).isEmpty()) {
+				var newContents = ArrayUtils.addAll(disk.contentsOf(id), moreContents);
+				logAppend(id, moreContents.length, newContents.length);
+				return uncheckedUpdate(id, newContents);
+			}
+			logAppend(id, moreContents.length, disk.sizeOf(id) + moreContents.length);
+			disk.append(id, moreContents);
+			return new SimpleUpdateResult(false, true, SUCCESS);
 		}
-		var newContents = ArrayUtils.addAll(contents, moreContents);
-		String idStr = EntityIdUtils.readableId(id);
-		log.debug(
-				"Appending {} bytes to {} :: new file will have {} bytes.",
-				moreContents.length,
-				idStr,
-				newContents.length);
-
-		if (!isDiskBased) {
-			assertWithinSizeLimits(newContents);
+
+		long newSize = data.sizeOf(id) + moreContents.length;
+		logAppend(id, moreContents.length, newSize);
+		assertWithinSizeLimits(newSize);
+
+		if (!interceptorsFor(id).isEmpty()) {
+			/* Interceptors judge (and react to) the complete new contents of a file */
+			return uncheckedUpdate(id, ArrayUtils.addAll(data.get(id), moreContents));
 		}
+		data.append(id, moreContents);
+		return new SimpleUpdateResult(false, true, SUCCESS);
+	}
 
-		return uncheckedUpdate(id, newContents);
+	private void logAppend(FileID id, int numAppended, long newSize) {
+		if (log.isDebugEnabled()) {
+			log.debug(
+					"Appending {} bytes to {} :: new file will have {} bytes.",
+					numAppended,
+					EntityIdUtils.readableId(id),
+					newSize);
+		}
 	}
 
 	@Override
@@ -328,8 +343,8 @@ public class TieredHederaFs implements HederaFs {
 		}
 	}
 
-	private void assertWithinSizeLimits(byte[] data) {
-		if (data.length > properties.maxFileSizeKb() * BYTES_PER_KB) {
+	private void assertWithinSizeLimits(long size) {
+		if (size > (long) properties.maxFileSizeKb() * BYTES_PER_KB) {
 			throwIllegal(OVERSIZE_CONTENTS);
 		}
 	}
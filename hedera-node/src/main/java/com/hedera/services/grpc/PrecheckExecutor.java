@@ -0,0 +1,105 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A bounded pool on which the gRPC controllers run their prechecks, so that
+ * signature verification, state lookups, and fee calculations never block
+ * a Netty event loop.
+ *
+ * When the pool is configured with no threads, tasks simply run on the
+ * calling thread (the legacy behavior).
+ */
+public class PrecheckExecutor {
+	static final String THREAD_NAME_TPL = "%sPrecheckThread%d";
+
+	private final IntConsumer queueDepthObserver;
+	private final DoubleConsumer queueWaitMsObserver;
+	private final ThreadPoolExecutor pool;
+
+	public PrecheckExecutor(
+			String kind,
+			int numThreads,
+			int queueCapacity,
+			IntConsumer queueDepthObserver,
+			DoubleConsumer queueWaitMsObserver
+	) {
+		this.queueDepthObserver = queueDepthObserver;
+		this.queueWaitMsObserver = queueWaitMsObserver;
+
+		if (numThreads > 0) {
+			var nextId = new AtomicInteger();
+			pool = new ThreadPoolExecutor(
+					numThreads,
+					numThreads,
+					0L,
+					TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+					task -> {
+						var thread = new Thread(task, String.format(THREAD_NAME_TPL, kind, nextId.getAndIncrement()));
+						thread.setDaemon(true);
+						return thread;
+					});
+		} else {
+			pool = null;
+		}
+	}
+
+	/**
+	 * Runs the given task on the precheck pool, or reports it cannot be
+	 * accepted because the pool's queue is full.
+	 *
+	 * @param task the precheck to run
+	 * @return whether the task was accepted
+	 */
+	public boolean tryExecute(Runnable task) {
+		if (pool == null) {
+			task.run();
+			return true;
+		}
+
+		queueDepthObserver.accept(pool.getQueue().size());
+		long enqueuedAt = System.nanoTime();
+		try {
+			pool.execute(() -> {
+				queueWaitMsObserver.accept((System.nanoTime() - enqueuedAt) / 1_000_000.0);
+				task.run();
+			});
+			return true;
+		} catch (RejectedExecutionException busy) {
+			return false;
+		}
+	}
+
+	public void shutdown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+}
@@ -20,7 +20,6 @@ package com.hedera.services.keys;
  * ‍
  */
 
-import com.google.protobuf.ByteString;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.order.SigningOrderResultFactory;
@@ -34,15 +33,13 @@ import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
 import static com.swirlds.common.crypto.VerificationStatus.*;
-import static java.util.Arrays.copyOfRange;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * Provides a static method to determine if a Hedera key is <i>active</i> relative to
@@ -145,17 +142,71 @@ public class HederaKeyActivation {
 			BiPredicate<JKey, TransactionSignature> tests,
 			KeyActivationCharacteristics characteristics
 	) {
-		if (!key.hasKeyList() && !key.hasThresholdKey()) {
+		if (isSimple(key)) {
 			return tests.test(key, sigsFn.apply(key.getEd25519()));
-		} else {
-			List<JKey> children = key.hasKeyList()
-					? key.getKeyList().getKeysList()
-					: key.getThresholdKey().getKeys().getKeysList();
-			int M = key.hasKeyList()
-					? characteristics.sigsNeededForList((JKeyList)key)
-					: characteristics.sigsNeededForThreshold((JThresholdKey)key);
-			return children.stream().mapToInt(child -> isActive(child, sigsFn, tests) ? 1 : 0).sum() >= M;
 		}
+
+		/* Walk the key tree depth-first with an explicit stack, abandoning each list or
+		 * threshold key as soon as its verdict is known. As with the recursive definition,
+		 * only the top-level key uses the given activation characteristics. */
+		var frames = FRAMES.get();
+		int base = frames.top;
+		try {
+			frames.push(childrenOf(key), sigsNeeded(key, characteristics));
+			while (true) {
+				int f = frames.top - 1;
+				var children = frames.children[f];
+				int next = frames.next[f];
+				int satisfied = frames.satisfied[f];
+				int needed = frames.needed[f];
+
+				boolean verdict;
+				if (satisfied >= needed) {
+					verdict = true;
+				} else if (satisfied + (children.size() - next) < needed) {
+					verdict = false;
+				} else {
+					var child = children.get(next);
+					frames.next[f] = next + 1;
+					if (isSimple(child)) {
+						if (tests.test(child, sigsFn.apply(child.getEd25519()))) {
+							frames.satisfied[f]++;
+						}
+					} else {
+						frames.push(childrenOf(child), sigsNeeded(child, DEFAULT_ACTIVATION_CHARACTERISTICS));
+					}
+					continue;
+				}
+
+				frames.pop();
+				if (frames.top == base) {
+					return verdict;
+				}
+				if (verdict) {
+					frames.satisfied[frames.top - 1]++;
+				}
+			}
+		} finally {
+			while (frames.top > base) {
+				frames.pop();
+			}
+		}
+	}
+
+	private static boolean isSimple(JKey key) {
+		return !key.hasKeyList() && !key.hasThresholdKey();
+	}
+
+	private static List<JKey> childrenOf(JKey key) {
+		return key.hasKeyList()
+				? key.getKeyList().getKeysList()
+				: key.getThresholdKey().getKeys().getKeysList();
+	}
+
+	private static int sigsNeeded(JKey key, KeyActivationCharacteristics characteristics) {
+		return key.hasKeyList()
+				? characteristics.sigsNeededForList((JKeyList)key)
+				: characteristics.sigsNeededForThreshold((JThresholdKey)key);
 	}
 
 	/**
@@ -165,11 +216,40 @@ public class HederaKeyActivation {
 	 * @return a supplier that produces the backing list sigs by public key.
 	 */
 	public static Function<byte[], TransactionSignature> pkToSigMapFrom(List<TransactionSignature> sigs) {
-		final Map<ByteString, TransactionSignature> pkSigs = sigs
-				.stream()
-				.collect(toMap(s -> ByteString.copyFrom(s.getExpandedPublicKeyDirect()), s -> s, (a, b) -> a));
+		return new PubKeyToSigIndex(sigs);
+	}
+
+	/* Per-thread stack of the list and threshold keys being evaluated */
+	private static final ThreadLocal<ActivationFrames> FRAMES = ThreadLocal.withInitial(ActivationFrames::new);
+
+	private static class ActivationFrames {
+		private static final int INITIAL_DEPTH = 16;
 
-		return ed25519 -> pkSigs.getOrDefault(ByteString.copyFrom(ed25519), INVALID_SIG);
+		private int top = 0;
+		@SuppressWarnings("unchecked")
+		private List<JKey>[] children = new List[INITIAL_DEPTH];
+		private int[] next = new int[INITIAL_DEPTH];
+		private int[] satisfied = new int[INITIAL_DEPTH];
+		private int[] needed = new int[INITIAL_DEPTH];
+
+		private void push(List<JKey> keys, int sigsNeeded) {
+			if (top == children.length) {
+				int depth = 2 * top;
+				children = Arrays.copyOf(children, depth);
+				next = Arrays.copyOf(next, depth);
+				satisfied = Arrays.copyOf(satisfied, depth);
+				needed = Arrays.copyOf(needed, depth);
+			}
+			children[top] = keys;
+			next[top] = 0;
+			satisfied[top] = 0;
+			needed[top] = sigsNeeded;
+			top++;
+		}
+
+		private void pop() {
+			children[--top] = null;
+		}
 	}
 
 	private static class InvalidSignature extends TransactionSignature {
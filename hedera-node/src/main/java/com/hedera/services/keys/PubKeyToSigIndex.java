@@ -0,0 +1,76 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.TransactionSignature;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_SIG;
+
+/**
+ * An open-addressing map from the expanded public keys of a list of platform
+ * signatures to the signatures themselves. The keys are the signatures' own
+ * public key arrays; so neither building the index nor looking up a key copies
+ * any bytes.
+ *
+ * If the list has more than one signature for the same public key, the first
+ * one wins. Looking up a key with no signature gives {@link HederaKeyActivation#INVALID_SIG}.
+ */
+public class PubKeyToSigIndex implements Function<byte[], TransactionSignature> {
+	private final int mask;
+	private final byte[][] pubKeys;
+	private final TransactionSignature[] sigs;
+
+	public PubKeyToSigIndex(List<TransactionSignature> platformSigs) {
+		int capacity = Integer.highestOneBit(Math.max(2, platformSigs.size()) * 2 - 1) << 1;
+		mask = capacity - 1;
+		pubKeys = new byte[capacity][];
+		sigs = new TransactionSignature[capacity];
+
+		for (var sig : platformSigs) {
+			var pubKey = sig.getExpandedPublicKeyDirect();
+			int slot = slotFor(pubKey);
+			if (pubKeys[slot] == null) {
+				pubKeys[slot] = pubKey;
+				sigs[slot] = sig;
+			}
+		}
+	}
+
+	@Override
+	public TransactionSignature apply(byte[] pubKey) {
+		int slot = slotFor(pubKey);
+		return (pubKeys[slot] == null) ? INVALID_SIG : sigs[slot];
+	}
+
+	/* Returns the slot holding the given key, or the empty slot where it belongs */
+	private int slotFor(byte[] pubKey) {
+		int h = Arrays.hashCode(pubKey);
+		int slot = (h ^ (h >>> 16)) & mask;
+		while (pubKeys[slot] != null && !Arrays.equals(pubKeys[slot], pubKey)) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+}
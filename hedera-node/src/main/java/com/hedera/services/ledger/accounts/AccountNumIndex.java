@@ -0,0 +1,262 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact index of the ids of existing accounts, with O(1) {@code contains},
+ * {@code add}, and {@code remove}.
+ *
+ * Since account numbers are allocated densely within each (shard, realm), the numbers
+ * in each realm are kept in a bitmap; the (in practice unused) numbers above
+ * {@link Integer#MAX_VALUE} fall back to a set of boxed longs. Ten million accounts
+ * thus take a little over a megabyte, instead of the hundreds of megabytes of a
+ * {@code HashSet<AccountID>}.
+ */
+public class AccountNumIndex {
+	private int size = 0;
+	private final Map<Realm, RealmNums> realms = new HashMap<>();
+
+	/* Nearly every account is in the same realm, so remember the last one used. Since each
+	RealmNums carries its own (shard, realm), the memo is a single reference and can never
+	pair one realm's coordinates with another realm's numbers. */
+	private volatile RealmNums lastNums = null;
+
+	public boolean contains(AccountID id) {
+		return contains(id.getShardNum(), id.getRealmNum(), id.getAccountNum());
+	}
+
+	public boolean contains(long shard, long realm, long num) {
+		var nums = numsIn(shard, realm);
+		return nums != null && nums.contains(num);
+	}
+
+	public void add(AccountID id) {
+		add(id.getShardNum(), id.getRealmNum(), id.getAccountNum());
+	}
+
+	public void add(long shard, long realm, long num) {
+		var nums = numsIn(shard, realm);
+		if (nums == null) {
+			var key = new Realm(shard, realm);
+			nums = new RealmNums(key);
+			realms.put(key, nums);
+		}
+		if (nums.add(num)) {
+			size++;
+		}
+	}
+
+	public void remove(AccountID id) {
+		var nums = numsIn(id.getShardNum(), id.getRealmNum());
+		if (nums != null && nums.remove(id.getAccountNum())) {
+			size--;
+		}
+	}
+
+	public void clear() {
+		realms.clear();
+		lastNums = null;
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private RealmNums numsIn(long shard, long realm) {
+		var last = lastNums;
+		if (last != null && last.realm.shard == shard && last.realm.realm == realm) {
+			return last;
+		}
+		var nums = realms.get(new Realm(shard, realm));
+		if (nums != null) {
+			lastNums = nums;
+		}
+		return nums;
+	}
+
+	/**
+	 * Returns a read-only {@code Set<AccountID>} view of this index, whose
+	 * {@code AccountID}s are only built as the view is iterated.
+	 *
+	 * @return a view of the indexed ids
+	 */
+	public Set<AccountID> asIdSet() {
+		return new IdSetView();
+	}
+
+	private class IdSetView extends AbstractSet<AccountID> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return (o instanceof AccountID) && AccountNumIndex.this.contains((AccountID) o);
+		}
+
+		@Override
+		public Iterator<AccountID> iterator() {
+			List<Iterator<AccountID>> perRealm = new ArrayList<>();
+			realms.values().forEach(nums -> perRealm.add(nums.ids()));
+			return new Iterator<>() {
+				private int i = 0;
+
+				@Override
+				public boolean hasNext() {
+					while (i < perRealm.size() && !perRealm.get(i).hasNext()) {
+						i++;
+					}
+					return i < perRealm.size();
+				}
+
+				@Override
+				public AccountID next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return perRealm.get(i).next();
+				}
+			};
+		}
+	}
+
+	private static class RealmNums {
+		private final Realm realm;
+		private final BitSet small = new BitSet();
+		private Set<Long> large;
+
+		RealmNums(Realm realm) {
+			this.realm = realm;
+		}
+
+		boolean contains(long num) {
+			if (isSmall(num)) {
+				return small.get((int) num);
+			}
+			return large != null && large.contains(num);
+		}
+
+		boolean add(long num) {
+			if (isSmall(num)) {
+				if (small.get((int) num)) {
+					return false;
+				}
+				small.set((int) num);
+				return true;
+			}
+			if (large == null) {
+				large = new HashSet<>();
+			}
+			return large.add(num);
+		}
+
+		boolean remove(long num) {
+			if (isSmall(num)) {
+				if (!small.get((int) num)) {
+					return false;
+				}
+				small.clear((int) num);
+				return true;
+			}
+			return large != null && large.remove(num);
+		}
+
+		Iterator<AccountID> ids() {
+			var largeNums = (large == null) ? null : large.iterator();
+			return new Iterator<>() {
+				private int next = small.nextSetBit(0);
+
+				@Override
+				public boolean hasNext() {
+					return next >= 0 || (largeNums != null && largeNums.hasNext());
+				}
+
+				@Override
+				public AccountID next() {
+					long num;
+					if (next >= 0) {
+						num = next;
+						next = small.nextSetBit(next + 1);
+					} else if (largeNums != null) {
+						num = largeNums.next();
+					} else {
+						throw new NoSuchElementException();
+					}
+					return realm.idWith(num);
+				}
+			};
+		}
+
+		private static boolean isSmall(long num) {
+			return num >= 0 && num < Integer.MAX_VALUE;
+		}
+	}
+
+	private static class Realm {
+		private final long shard;
+		private final long realm;
+
+		Realm(long shard, long realm) {
+			this.shard = shard;
+			this.realm = realm;
+		}
+
+		AccountID idWith(long num) {
+			return AccountID.newBuilder()
+					.setShardNum(shard)
+					.setRealmNum(realm)
+					.setAccountNum(num)
+					.build();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || Realm.class != o.getClass()) {
+				return false;
+			}
+			var that = (Realm) o;
+			return this.shard == that.shard && this.realm == that.realm;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Long.hashCode(shard) + Long.hashCode(realm);
+		}
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.ledger.accounts;
  * ‍
  */
 
+import com.hedera.services.state.initialization.RebuildableView;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -47,7 +48,9 @@ import org.apache.commons.lang3.tuple.Pair;
  *
  * @author Michael Tinker
  */
-public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> {
+public class BackingTokenRels implements
+		BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus>,
+		RebuildableView<MerkleEntityAssociation, MerkleTokenRelStatus> {
 	public static final Comparator<Pair<AccountID, TokenID>> REL_CMP =
 			Comparator.<Pair<AccountID, TokenID>, AccountID>comparing(Pair::getLeft, ACCOUNT_ID_COMPARATOR)
 					.thenComparing(Pair::getRight, TOKEN_ID_COMPARATOR);
@@ -66,12 +69,22 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 
 	@Override
 	public void rebuildFromSources() {
-		existingRels.clear();
+		beginRebuild();
 		delegate.get().keySet().stream()
 				.map(MerkleEntityAssociation::asAccountTokenRel)
 				.forEach(existingRels::add);
 	}
 
+	@Override
+	public void beginRebuild() {
+		existingRels.clear();
+	}
+
+	@Override
+	public void rebuildWith(MerkleEntityAssociation association, MerkleTokenRelStatus status) {
+		existingRels.add(association.asAccountTokenRel());
+	}
+
 	@Override
 	public void flushMutableRefs() {
 		cache.entrySet().stream()
@@ -22,12 +22,12 @@ package com.hedera.services.ledger.accounts;
 
 import com.hedera.services.ledger.HederaLedger;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hedera.services.state.initialization.RebuildableView;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -35,8 +35,10 @@ import java.util.function.Supplier;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 
-public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccount> {
-	Set<AccountID> existingAccounts = new HashSet<>();
+public class FCMapBackingAccounts implements
+		BackingStore<AccountID, MerkleAccount>,
+		RebuildableView<MerkleEntityId, MerkleAccount> {
+	AccountNumIndex existingAccounts = new AccountNumIndex();
 	Map<AccountID, MerkleAccount> cache = new HashMap<>();
 
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate;
@@ -48,10 +50,22 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 
 	@Override
 	public void rebuildFromSources() {
+		beginRebuild();
+		delegate.get().keySet().forEach(this::index);
+	}
+
+	@Override
+	public void beginRebuild() {
 		existingAccounts.clear();
-		delegate.get().keySet().stream()
-				.map(MerkleEntityId::toAccountId)
-				.forEach(existingAccounts::add);
+	}
+
+	@Override
+	public void rebuildWith(MerkleEntityId id, MerkleAccount account) {
+		index(id);
+	}
+
+	private void index(MerkleEntityId id) {
+		existingAccounts.add(id.getShard(), id.getRealm(), id.getNum());
 	}
 
 	@Override
@@ -94,7 +108,7 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 
 	@Override
 	public Set<AccountID> idSet() {
-		return existingAccounts;
+		return existingAccounts.asIdSet();
 	}
 
 	@Override
@@ -35,42 +35,74 @@ import org.apache.commons.lang3.SerializationUtils;
  */
 public class JKeySerializer {
   private static final long LEGACY_VERSION = 1;
-  private static final long BPACK_VERSION = 2;
+  public static final long BPACK_VERSION = 2;
+  /** the version, object type, and content length that prefix every serialized key */
+  public static final int HEADER_BYTES = 3 * Long.BYTES;
 
   private JKeySerializer() {}
 
   public static byte[] serialize(Object rootObject) throws IOException {
-    return byteStream(buffer -> {
-      buffer.writeLong(BPACK_VERSION);
-
-      JObjectType objectType = JObjectType.JKey;
-
-      if (rootObject instanceof JKeyList) {
-        objectType = JObjectType.JKeyList;
-      } else if (rootObject instanceof JThresholdKey) {
-        objectType = JObjectType.JThresholdKey;
-      } else if (rootObject instanceof JEd25519Key) {
-        objectType = JObjectType.JEd25519Key;
-      } else if (rootObject instanceof JECDSA_384Key) {
-        objectType = JObjectType.JECDSA_384Key;
-      } else if (rootObject instanceof JRSA_3072Key) {
-        objectType = JObjectType.JRSA_3072Key;
-      } else if (rootObject instanceof JContractIDKey) {
-        objectType = JObjectType.JContractIDKey;
-      }
+    return byteStream(buffer -> write(buffer, rootObject));
+  }
+
+  /**
+   * Writes the given key to the stream in a single pass, computing the length prefix of
+   * each (possibly nested) key up front rather than buffering its content.
+   */
+  private static void write(DataOutputStream buffer, Object rootObject) throws IOException {
+    buffer.writeLong(BPACK_VERSION);
+
+    JObjectType objectType = typeOf(rootObject);
+    buffer.writeLong(objectType.longValue());
+    buffer.writeLong(packedLength(objectType, rootObject));
+
+    pack(buffer, objectType, rootObject);
+  }
 
-      final JObjectType finalObjectType = objectType;
-      buffer.writeLong(objectType.longValue());
+  private static JObjectType typeOf(Object rootObject) {
+    JObjectType objectType = JObjectType.JKey;
+
+    if (rootObject instanceof JKeyList) {
+      objectType = JObjectType.JKeyList;
+    } else if (rootObject instanceof JThresholdKey) {
+      objectType = JObjectType.JThresholdKey;
+    } else if (rootObject instanceof JEd25519Key) {
+      objectType = JObjectType.JEd25519Key;
+    } else if (rootObject instanceof JECDSA_384Key) {
+      objectType = JObjectType.JECDSA_384Key;
+    } else if (rootObject instanceof JRSA_3072Key) {
+      objectType = JObjectType.JRSA_3072Key;
+    } else if (rootObject instanceof JContractIDKey) {
+      objectType = JObjectType.JContractIDKey;
+    }
 
-      byte[] content = byteStream(os -> pack(os, finalObjectType, rootObject));
-      int length = (content != null) ? content.length : 0;
+    return objectType;
+  }
 
-      buffer.writeLong(length);
+  private static long serializedLength(Object object) {
+    return HEADER_BYTES + packedLength(typeOf(object), object);
+  }
 
-      if (length > 0) {
-        buffer.write(content);
+  private static long packedLength(JObjectType type, Object object) {
+    if (JObjectType.JEd25519Key.equals(type) || JObjectType.JECDSA_384Key.equals(type)) {
+      JKey jKey = (JKey)object;
+      return ((jKey.hasEd25519Key()) ? jKey.getEd25519() : jKey.getECDSA384()).length;
+    } else if (JObjectType.JThresholdKey.equals(type)) {
+      return Integer.BYTES + serializedLength(((JThresholdKey) object).getKeys());
+    } else if (JObjectType.JKeyList.equals(type)) {
+      long length = Integer.BYTES;
+      for (JKey key : ((JKeyList) object).getKeysList()) {
+        length += serializedLength(key);
       }
-    });
+      return length;
+    } else if (JObjectType.JRSA_3072Key.equals(type)) {
+      return ((JKey) object).getRSA3072().length;
+    } else if (JObjectType.JContractIDKey.equals(type)) {
+      return 3L * Long.BYTES;
+    } else {
+      throw new IllegalStateException(
+          "Unknown type was encountered while writing to the output stream");
+    }
   }
 
   public static <T> T deserialize(DataInputStream stream) throws IOException {
@@ -100,7 +132,7 @@ public class JKeySerializer {
     } else if (JObjectType.JThresholdKey.equals(type)) {
       JThresholdKey key = (JThresholdKey) object;
       stream.writeInt(key.getThreshold());
-      stream.write(serialize(key.getKeys()));
+      write(stream, key.getKeys());
     } else if (JObjectType.JKeyList.equals(type)) {
       JKeyList list = (JKeyList) object;
       List<JKey> keys = list.getKeysList();
@@ -109,7 +141,7 @@ public class JKeySerializer {
 
       if (keys.size() > 0) {
         for (JKey key : keys) {
-          stream.write(serialize(key));
+          write(stream, key);
         }
       }
     } else if (JObjectType.JRSA_3072Key.equals(type)) {
@@ -201,13 +201,21 @@ public class TransactionHandler {
   public ResponseCodeEnum nodePaymentValidity(Transaction signedTxn, long queryFee) {
     try {
       var txn = com.hedera.services.legacy.proto.utils.CommonUtils.extractTransactionBody(signedTxn);
-      var transfers = txn.getCryptoTransfer().getTransfers().getAccountAmountsList();
-      return queryFeeCheck.nodePaymentValidity(transfers, queryFee, txn.getNodeAccountID());
+      return nodePaymentValidity(txn, queryFee);
     } catch (Exception ignore) {
       return INVALID_TRANSACTION_BODY;
     }
   }
 
+  public ResponseCodeEnum nodePaymentValidity(SignedTxnAccessor accessor, long queryFee) {
+    return nodePaymentValidity(accessor.getTxn(), queryFee);
+  }
+
+  private ResponseCodeEnum nodePaymentValidity(TransactionBody txn, long queryFee) {
+    var transfers = txn.getCryptoTransfer().getTransfers().getAccountAmountsList();
+    return queryFeeCheck.nodePaymentValidity(transfers, queryFee, txn.getNodeAccountID());
+  }
+
   public boolean isAccountExist(AccountID acctId) {
     MerkleEntityId merkleEntityId = new MerkleEntityId(acctId.getShardNum(), acctId.getRealmNum(), acctId.getAccountNum());
     return accounts.get().get(merkleEntityId) != null;
@@ -314,44 +322,84 @@ public class TransactionHandler {
     return OK;
   }
 
+  /**
+   * Runs all precheck stages on a gRPC transaction that has not yet been parsed.
+   * Prefer {@link TransactionHandler#validateTransactionPreConsensus(SignedTxnAccessor, boolean)}
+   * when the caller already holds an accessor, so the transaction is parsed and hashed only once.
+   *
+   * @param transaction the gRPC transaction to validate
+   * @param isQueryPayment whether the transaction is a query payment
+   * @return the validity of the transaction, with the required fee if insufficient
+   */
   public TxnValidityAndFeeReq validateTransactionPreConsensus(Transaction transaction, boolean isQueryPayment) {
-    ResponseCodeEnum returnCode = validateTransactionContents(transaction);
+    ResponseCodeEnum returnCode = validateTransactionEnvelope(transaction, transaction.getSerializedSize());
+    if (OK != returnCode) {
+      return new TxnValidityAndFeeReq(returnCode);
+    }
+
+    SignedTxnAccessor accessor;
+    try {
+      accessor = new SignedTxnAccessor(transaction);
+    } catch (InvalidProtocolBufferException e1) {
+      return new TxnValidityAndFeeReq(INVALID_TRANSACTION_BODY);
+    }
+    return validateParsedTransaction(accessor, isQueryPayment);
+  }
+
+  /**
+   * Runs all precheck stages on a gRPC transaction using the body, hash, and function
+   * already materialized in the given accessor; no stage re-parses the transaction.
+   *
+   * @param accessor the accessor of the gRPC transaction to validate
+   * @param isQueryPayment whether the transaction is a query payment
+   * @return the validity of the transaction, with the required fee if insufficient
+   */
+  public TxnValidityAndFeeReq validateTransactionPreConsensus(SignedTxnAccessor accessor, boolean isQueryPayment) {
+    ResponseCodeEnum returnCode = validateTransactionEnvelope(
+            accessor.getSignedTxn(),
+            accessor.getSignedTxnBytes().length);
     if (OK != returnCode) {
       return new TxnValidityAndFeeReq(returnCode);
     }
+    return validateParsedTransaction(accessor, isQueryPayment);
+  }
+
+  private ResponseCodeEnum validateTransactionEnvelope(Transaction transaction, int serializedSize) {
+    ResponseCodeEnum returnCode = validateTransactionContents(transaction);
+    if (OK != returnCode) {
+      return returnCode;
+    }
 
     if (platformStatus.get() != ACTIVE) {
-      return new TxnValidityAndFeeReq(ResponseCodeEnum.PLATFORM_NOT_ACTIVE);
+      return ResponseCodeEnum.PLATFORM_NOT_ACTIVE;
     }
 
-    if (!TransactionValidationUtils.validateTxSize(transaction)) {
+    if (!TransactionValidationUtils.validateTxSize(serializedSize)) {
       if (log.isDebugEnabled()) {
         log.debug("Size of the transaction exceeds transactionMaxBytes: "
             + Platform.getTransactionMaxBytes());
       }
-      return new TxnValidityAndFeeReq(ResponseCodeEnum.TRANSACTION_OVERSIZE);
+      return ResponseCodeEnum.TRANSACTION_OVERSIZE;
     }
 
     if (!TransactionValidationUtils.validateTxDepth(transaction)) {
       log.debug("Request transaction has too many layers.");
-      return new TxnValidityAndFeeReq(ResponseCodeEnum.TRANSACTION_TOO_MANY_LAYERS);
+      return ResponseCodeEnum.TRANSACTION_TOO_MANY_LAYERS;
     }
 
+    return OK;
+  }
+
+  private TxnValidityAndFeeReq validateParsedTransaction(SignedTxnAccessor accessor, boolean isQueryPayment) {
+    ResponseCodeEnum returnCode = OK;
     long feeRequired = 0L;
-    SignedTxnAccessor accessor = null;
-    TransactionBody txn = TransactionBody.getDefaultInstance();
-    try {
-      accessor = new SignedTxnAccessor(transaction);
-      txn = accessor.getTxn();
-    } catch (InvalidProtocolBufferException e1) {
-      returnCode = INVALID_TRANSACTION_BODY;
-    }
+    TransactionBody txn = accessor.getTxn();
 
-    if (returnCode == OK && !TransactionValidationUtils.validateTxBodyDepth(txn)) {
+    if (!TransactionValidationUtils.validateTxBodyDepth(txn)) {
       return new TxnValidityAndFeeReq(ResponseCodeEnum.TRANSACTION_TOO_MANY_LAYERS);
     }
 
-    if (returnCode == OK && !(isQueryPayment && txn.hasCryptoTransfer())) {
+    if (!(isQueryPayment && txn.hasCryptoTransfer())) {
       returnCode = validateApiPermission(txn);
     }
 
@@ -380,7 +428,7 @@ public class TransactionHandler {
 
     if (returnCode == OK) {
       try {
-        if (!verifySignature(transaction)) {
+        if (!precheckVerifier.hasNecessarySignatures(accessor)) {
           returnCode = ResponseCodeEnum.INVALID_SIGNATURE;
         }
       } catch (KeySignatureTypeMismatchException e) {
@@ -463,10 +511,13 @@ public class TransactionHandler {
 
   public boolean verifySignature(Transaction signedTxn) throws Exception {
     try {
-      SignedTxnAccessor accessor = new SignedTxnAccessor(signedTxn);
-      return precheckVerifier.hasNecessarySignatures(accessor);
+      return verifySignature(new SignedTxnAccessor(signedTxn));
     } catch (InvalidProtocolBufferException ignore) {
       return false;
     }
   }
+
+  public boolean verifySignature(SignedTxnAccessor accessor) throws Exception {
+    return precheckVerifier.hasNecessarySignatures(accessor);
+  }
 }
@@ -80,6 +80,8 @@ public class NettyServerManager {
 					.maxConnectionIdle(maxConnectionIdle, TimeUnit.SECONDS)
 					.maxConcurrentCallsPerConnection(maxConcurrentCalls)
 					.permitKeepAliveTime(keepAliveTime, TimeUnit.SECONDS)
+					/* Cheap call dispatch stays on the event loop; the controllers hand
+					 * their prechecks off to the bounded PrecheckExecutor pools. */
 					.directExecutor()
 					.channelType(EpollServerSocketChannel.class)
 					.bossEventLoopGroup(new EpollEventLoopGroup())
@@ -50,6 +50,11 @@ import static com.hedera.services.legacy.crypto.SignatureStatusCode.SUCCESS_VERI
 import static com.hedera.services.sigs.HederaToPlatformSigOps.rationalizeIn;
 import static com.hedera.services.sigs.Rationalization.IN_HANDLE_SUMMARY_FACTORY;
 import static com.hedera.services.sigs.sourcing.DefaultSigBytesProvider.DEFAULT_SIG_BYTES;
+import static com.hedera.services.stats.HandleStage.CHARGING;
+import static com.hedera.services.stats.HandleStage.DUPLICATE_CLASSIFICATION;
+import static com.hedera.services.stats.HandleStage.FEE_COMPUTATION;
+import static com.hedera.services.stats.HandleStage.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandleStage.TRANSITION_LOGIC;
 import static com.hedera.services.txns.diligence.DuplicateClassification.BELIEVED_UNIQUE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.DUPLICATE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.NODE_DUPLICATE;
@@ -100,7 +105,7 @@ public class AwareProcessLogic implements ProcessLogic {
 	@Override
 	public void incorporateConsensusTxn(Transaction platformTxn, Instant consensusTime, long submittingMember) {
 		try {
-			PlatformTxnAccessor accessor = new PlatformTxnAccessor(platformTxn);
+			PlatformTxnAccessor accessor = ctx.txnAccessorCache().consumedAccessorFor(platformTxn);
 			if (!txnSanityChecks(accessor, consensusTime, submittingMember)) {
 				return;
 			}
@@ -154,7 +159,12 @@ public class AwareProcessLogic implements ProcessLogic {
 
 	private void addRecordToStream() {
 		var finalRecord = ctx.recordsHistorian().lastCreatedRecord().get();
-		addForStreaming(ctx.txnCtx().accessor().getSignedTxn(), finalRecord, ctx.txnCtx().consensusTime());
+		var accessor = ctx.txnCtx().accessor();
+		addForStreaming(
+				accessor.getSignedTxn(),
+				accessor.getSignedTxnBytes(),
+				finalRecord,
+				ctx.txnCtx().consensusTime());
 	}
 
 	private void doProcess(PlatformTxnAccessor accessor, Instant consensusTime) {
@@ -162,6 +172,7 @@ public class AwareProcessLogic implements ProcessLogic {
 		updateMidnightRatesIfAppropriateAt(consensusTime);
 		ctx.updateConsensusTimeOfLastHandledTxn(consensusTime);
 		ctx.recordsHistorian().purgeExpiredRecords();
+		ctx.scheduleStore().expireSchedulesAt(consensusTime.getEpochSecond());
 
 		if (ctx.issEventInfo().status() == ONGOING_ISS) {
 			var resetPeriod = ctx.properties().getIntProperty("iss.reset.periodSecs");
@@ -171,29 +182,40 @@ public class AwareProcessLogic implements ProcessLogic {
 			}
 		}
 
+		var latencies = ctx.handleLatencies();
+		var function = accessor.getFunction();
+
+		long stageStart = System.nanoTime();
 		final SignatureStatus sigStatus = rationalizeWithPreConsensusSigs(accessor);
 		if (hasActivePayerSig(accessor)) {
 			ctx.txnCtx().payerSigIsKnownActive();
 		}
+		stageStart = latencies.recordSince(stageStart, function, SIG_RATIONALIZATION);
 
 		FeeObject fee = ctx.fees().computeFee(accessor, ctx.txnCtx().activePayerKey(), ctx.currentView());
+		stageStart = latencies.recordSince(stageStart, function, FEE_COMPUTATION);
 
 		var recentHistory = ctx.txnHistories().get(accessor.getTxnId());
 		var duplicity = (recentHistory == null)
 				? BELIEVED_UNIQUE
 				: recentHistory.currentDuplicityFor(ctx.txnCtx().submittingSwirldsMember());
-		if (nodeIgnoredDueDiligence(duplicity)) {
+		var isIgnoredDueDiligence = nodeIgnoredDueDiligence(duplicity);
+		stageStart = latencies.recordSince(stageStart, function, DUPLICATE_CLASSIFICATION);
+		if (isIgnoredDueDiligence) {
 			ctx.txnChargingPolicy().applyForIgnoredDueDiligence(ctx.charging(), fee);
+			latencies.recordSince(stageStart, function, CHARGING);
 			return;
 		}
 
 		if (duplicity == DUPLICATE) {
 			ctx.txnChargingPolicy().applyForDuplicate(ctx.charging(), fee);
+			latencies.recordSince(stageStart, function, CHARGING);
 			ctx.txnCtx().setStatus(DUPLICATE_TRANSACTION);
 			return;
 		}
 
 		var chargingOutcome = ctx.txnChargingPolicy().apply(ctx.charging(), fee);
+		stageStart = latencies.recordSince(stageStart, function, CHARGING);
 		if (chargingOutcome != OK) {
 			ctx.txnCtx().setStatus(chargingOutcome);
 			return;
@@ -229,6 +251,7 @@ public class AwareProcessLogic implements ProcessLogic {
 			return;
 		}
 		logic.doStateTransition();
+		latencies.recordSince(stageStart, function, TRANSITION_LOGIC);
 
 		ctx.opCounters().countHandled(accessor.getFunction());
 	}
@@ -331,10 +354,12 @@ public class AwareProcessLogic implements ProcessLogic {
 
 	void addForStreaming(
 			com.hederahashgraph.api.proto.java.Transaction grpcTransaction,
+			byte[] grpcTransactionBytes,
 			TransactionRecord transactionRecord,
 			Instant consensusTimeStamp
 	) {
-		final RecordStreamObject recordStreamObject = new RecordStreamObject(transactionRecord, grpcTransaction, consensusTimeStamp);
+		final RecordStreamObject recordStreamObject = new RecordStreamObject(
+				transactionRecord, grpcTransaction, grpcTransactionBytes, consensusTimeStamp);
 		// update runningHash instance in the leaf of ServicesState
 		// the Hash in the runningHash instance will be calculated and set by the runningHashCalculator in the RecordStreamManager
 		ctx.updateRecordRunningHash(recordStreamObject.getRunningHash());
@@ -65,7 +65,11 @@ public class TransactionValidationUtils {
 	}
 
 	public static boolean validateTxSize(Transaction transaction) {
-		return transaction.toByteArray().length <= Platform.getTransactionMaxBytes();
+		return validateTxSize(transaction.getSerializedSize());
+	}
+
+	public static boolean validateTxSize(int serializedSize) {
+		return serializedSize <= Platform.getTransactionMaxBytes();
 	}
 
 	public static boolean validateQueryHeader(QueryHeader queryHeader, boolean hasPayment) {
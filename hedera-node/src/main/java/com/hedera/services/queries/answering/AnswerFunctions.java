@@ -39,11 +39,13 @@ import java.util.Optional;
 public class AnswerFunctions {
 	public static final Logger log = LogManager.getLogger(AnswerFunctions.class);
 
+	PayerRecordsIndex payerRecords = new PayerRecordsIndex();
+
 	public List<TransactionRecord> accountRecords(StateView view, Query query) {
 		CryptoGetAccountRecordsQuery op = query.getCryptoGetAccountRecords();
 		MerkleEntityId key = MerkleEntityId.fromAccountId(op.getAccountID());
 		MerkleAccount account = view.accounts().get(key);
-		return ExpirableTxnRecord.allToGrpc(account.recordList());
+		return ExpirableTxnRecord.allToGrpc(account.records());
 	}
 
 	public Optional<TransactionRecord> txnRecord(RecordCache recordCache, StateView view, Query query) {
@@ -56,11 +58,7 @@ public class AnswerFunctions {
 				AccountID id = txnId.getAccountID();
 				MerkleAccount account = view.accounts().get(MerkleEntityId.fromAccountId(id));
 				TxnId searchableId = TxnId.fromGrpc(txnId);
-				return account.recordList()
-						.stream()
-						.filter(r -> r.getTxnId().equals(searchableId))
-						.findAny()
-						.map(ExpirableTxnRecord::asGrpc);
+				return payerRecords.find(account.records(), searchableId).map(ExpirableTxnRecord::asGrpc);
 			} catch (Exception ignore) {
 				return Optional.empty();
 			}
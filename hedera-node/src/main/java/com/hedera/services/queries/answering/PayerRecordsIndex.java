@@ -0,0 +1,79 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.swirlds.fcqueue.FCQueue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds records in a payer's record queue by {@link TxnId}. For a large queue that
+ * is immutable (that is, from a signed state), builds a {@code TxnId}-to-record index
+ * once and reuses it for every later query against the same queue; small or mutable
+ * queues are just scanned.
+ *
+ * The indices are weakly keyed by queue identity, so an index goes away with the
+ * signed state that held its queue.
+ */
+public class PayerRecordsIndex {
+	static final int MIN_INDEXED_RECORDS = 32;
+	static final long MAX_INDEXED_QUEUES = 1_024L;
+
+	Cache<FCQueue<ExpirableTxnRecord>, Map<TxnId, ExpirableTxnRecord>> indices = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumSize(MAX_INDEXED_QUEUES)
+			.build();
+
+	public Optional<ExpirableTxnRecord> find(FCQueue<ExpirableTxnRecord> records, TxnId txnId) {
+		if (records.size() < MIN_INDEXED_RECORDS || !records.isImmutable()) {
+			return scan(records, txnId);
+		}
+		var index = indices.getIfPresent(records);
+		if (index == null) {
+			index = indexOf(records);
+			indices.put(records, index);
+		}
+		return Optional.ofNullable(index.get(txnId));
+	}
+
+	private Optional<ExpirableTxnRecord> scan(FCQueue<ExpirableTxnRecord> records, TxnId txnId) {
+		for (ExpirableTxnRecord record : records) {
+			if (txnId.equals(record.getTxnId())) {
+				return Optional.of(record);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Map<TxnId, ExpirableTxnRecord> indexOf(FCQueue<ExpirableTxnRecord> records) {
+		Map<TxnId, ExpirableTxnRecord> index = new HashMap<>(2 * records.size());
+		for (ExpirableTxnRecord record : records) {
+			index.putIfAbsent(record.getTxnId(), record);
+		}
+		return index;
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
@@ -33,6 +34,7 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
 import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -42,13 +44,16 @@ public class QueryResponseHelper {
 
 	private final AnswerFlow answerFlow;
 	private final HapiOpCounters opCounters;
+	private final PrecheckExecutor precheckExecutor;
 
 	public QueryResponseHelper(
 			AnswerFlow answerFlow,
-			HapiOpCounters opCounters
+			HapiOpCounters opCounters,
+			PrecheckExecutor precheckExecutor
 	) {
 		this.opCounters = opCounters;
 		this.answerFlow = answerFlow;
+		this.precheckExecutor = precheckExecutor;
 	}
 
 	public void answer(
@@ -75,9 +80,22 @@ public class QueryResponseHelper {
 		if (log.isDebugEnabled()) {
 			log.debug(ALL_QUERIES_MARKER, "Received query: {}", query);
 		}
-		Response response;
 		incReceivedCount.run();
 
+		if (!precheckExecutor.tryExecute(() -> answerAndRespond(query, observer, answer, incAnsweredCount))) {
+			observer.onNext(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L));
+			observer.onCompleted();
+		}
+	}
+
+	private void answerAndRespond(
+			Query query,
+			StreamObserver<Response> observer,
+			AnswerService answer,
+			Runnable incAnsweredCount
+	) {
+		Response response;
+
 		try {
 			response = answerFlow.satisfyUsing(answer, query);
 		} catch (Exception surprising) {
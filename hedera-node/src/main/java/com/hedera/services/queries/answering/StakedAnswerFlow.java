@@ -134,10 +134,10 @@ public class StakedAnswerFlow implements AnswerFlow {
 	private ResponseCodeEnum validatePayment(long requiredPayment, SignedTxnAccessor accessor) {
 		if (requiredPayment > 0) {
 			ResponseCodeEnum validity =
-					legacyHandler.validateTransactionPreConsensus(accessor.getSignedTxn(), true)
+					legacyHandler.validateTransactionPreConsensus(accessor, true)
 							.getValidity();
 			if (validity == OK) {
-				validity = legacyHandler.nodePaymentValidity(accessor.getSignedTxn(), requiredPayment);
+				validity = legacyHandler.nodePaymentValidity(accessor, requiredPayment);
 			}
 			return validity;
 		} else {
@@ -20,7 +20,6 @@ package com.hedera.services.records;
  * ‍
  */
 
-import com.google.common.cache.Cache;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
 import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
@@ -35,7 +34,6 @@ import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static com.hedera.services.utils.MiscUtils.asTimestamp;
@@ -48,18 +46,16 @@ public class RecordCache {
 			.setStatus(UNKNOWN)
 			.build();
 
-	public static final Boolean MARKER = Boolean.TRUE;
-
 	private ServicesContext ctx;
-	private Cache<TransactionID, Boolean> timedReceiptCache;
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private TimedTxnIdSet timedReceiptCache;
+	private TxnIdTable<TxnIdRecentHistory> histories;
 
 	MonotonicFullQueueExpiries<TransactionID> recordExpiries = new MonotonicFullQueueExpiries<>();
 
 	public RecordCache(
 			ServicesContext ctx,
-			Cache<TransactionID, Boolean> timedReceiptCache,
-			Map<TransactionID, TxnIdRecentHistory> histories
+			TimedTxnIdSet timedReceiptCache,
+			TxnIdTable<TxnIdRecentHistory> histories
 	) {
 		this.ctx = ctx;
 		this.histories = histories;
@@ -67,7 +63,7 @@ public class RecordCache {
 	}
 
 	public void addPreConsensus(TransactionID txnId) {
-		timedReceiptCache.put(txnId, Boolean.TRUE);
+		timedReceiptCache.add(txnId);
 	}
 
 	public void setPostConsensus(
@@ -75,7 +71,7 @@ public class RecordCache {
 			ResponseCodeEnum status,
 			ExpirableTxnRecord record
 	) {
-		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+		var recentHistory = histories.computeIfAbsent(txnId, TxnIdRecentHistory::new);
 		recentHistory.observe(record, status);
 	}
 
@@ -98,19 +94,19 @@ public class RecordCache {
 				grpc,
 				consensusTimestamp.getEpochSecond(),
 				submittingMember);
-		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+		var recentHistory = histories.computeIfAbsent(txnId, TxnIdRecentHistory::new);
 		recentHistory.observe(record, FAIL_INVALID);
 	}
 
 	public boolean isReceiptPresent(TransactionID txnId) {
-		return histories.containsKey(txnId) || timedReceiptCache.getIfPresent(txnId) == MARKER;
+		return histories.containsKey(txnId) || timedReceiptCache.contains(txnId);
 	}
 
 	public TransactionReceipt getPriorityReceipt(TransactionID txnId) {
 		var recentHistory = histories.get(txnId);
 		return recentHistory != null
 				? receiptFrom(recentHistory)
-				: (timedReceiptCache.getIfPresent(txnId) == MARKER ? UNKNOWN_RECEIPT : null);
+				: (timedReceiptCache.contains(txnId) ? UNKNOWN_RECEIPT : null);
 	}
 
 	public List<TransactionRecord> getDuplicateRecords(TransactionID txnId) {
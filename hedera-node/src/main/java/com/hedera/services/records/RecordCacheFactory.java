@@ -20,15 +20,10 @@ package com.hedera.services.records;
  * ‍
  */
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.hedera.services.context.properties.PropertySource;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Minimal helper to construct a {@link RecordCache} based on the TTL
  * configured in the Hedera Services properties.
@@ -44,13 +39,10 @@ public class RecordCacheFactory {
 		this.properties = properties;
 	}
 
-	public Cache<TransactionID, Boolean> getRecordCache() {
+	public TimedTxnIdSet getRecordCache() {
 		int ttl = properties.getIntProperty("cache.records.ttl");
 
 		log.info("Constructing the node-local txn id cache with ttl={}s", ttl);
-		return CacheBuilder
-				.newBuilder()
-				.expireAfterWrite(ttl, TimeUnit.SECONDS)
-				.build();
+		return new TimedTxnIdSet(ttl);
 	}
 }
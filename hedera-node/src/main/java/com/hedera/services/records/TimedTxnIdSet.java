@@ -0,0 +1,132 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.TransactionID;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A set of transaction ids that forgets each id no sooner than a given TTL after it
+ * was added, using a ring of {@link TxnIdTable} generations that each cover a fixed
+ * span of wall-clock seconds. Ids are added to the newest generation; and when a
+ * generation ages out, it is cleared and reused as the newest, so eviction never
+ * touches individual ids.
+ *
+ * With {@code G} generations each spanning {@code ceil(ttl / (G - 1))} seconds, an
+ * id is remembered for at least {@code ttl} and less than {@code ttl + span} seconds.
+ *
+ * Adds and lookups share a read lock and otherwise only contend on the segment locks
+ * of the generation tables; the write lock is taken just to rotate generations, which
+ * happens at most once per span.
+ */
+public class TimedTxnIdSet {
+	static final int NUM_GENERATIONS = 4;
+	private static final Boolean MEMBER = Boolean.TRUE;
+
+	private final long span;
+	private final LongSupplier clock;
+	private final TxnIdTable<Boolean>[] generations;
+
+	private final ReadWriteLock rotation = new ReentrantReadWriteLock();
+
+	int newest = 0;
+	volatile long newestStart;
+
+	public TimedTxnIdSet(int ttl) {
+		this(ttl, () -> System.currentTimeMillis() / 1_000L);
+	}
+
+	@SuppressWarnings("unchecked")
+	TimedTxnIdSet(int ttl, LongSupplier clock) {
+		if (ttl <= 0) {
+			throw new IllegalArgumentException(String.format("TTL %d is not positive", ttl));
+		}
+		this.clock = clock;
+		this.span = (ttl + NUM_GENERATIONS - 2) / (NUM_GENERATIONS - 1);
+		generations = new TxnIdTable[NUM_GENERATIONS];
+		for (int i = 0; i < NUM_GENERATIONS; i++) {
+			generations[i] = new TxnIdTable<>();
+		}
+		newestStart = clock.getAsLong();
+	}
+
+	public void add(TransactionID txnId) {
+		ageOutIfDue(clock.getAsLong());
+		var lock = rotation.readLock();
+		lock.lock();
+		try {
+			generations[newest].put(txnId, MEMBER);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean contains(TransactionID txnId) {
+		ageOutIfDue(clock.getAsLong());
+		var lock = rotation.readLock();
+		lock.lock();
+		try {
+			for (TxnIdTable<Boolean> generation : generations) {
+				if (generation.containsKey(txnId)) {
+					return true;
+				}
+			}
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	long span() {
+		return span;
+	}
+
+	private void ageOutIfDue(long now) {
+		if (now - newestStart < span) {
+			return;
+		}
+		var lock = rotation.writeLock();
+		lock.lock();
+		try {
+			ageOutAt(now);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void ageOutAt(long now) {
+		if (now - newestStart >= NUM_GENERATIONS * span) {
+			for (TxnIdTable<Boolean> generation : generations) {
+				generation.clear();
+			}
+			newestStart = now;
+			return;
+		}
+		while (now - newestStart >= span) {
+			newest = (newest + 1) % NUM_GENERATIONS;
+			generations[newest].clear();
+			newestStart += span;
+		}
+	}
+}
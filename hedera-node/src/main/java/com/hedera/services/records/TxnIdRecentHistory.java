@@ -31,7 +31,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.EnumSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -127,30 +126,26 @@ public class TxnIdRecentHistory {
 
 	private void addClassifiable(ExpirableTxnRecord record) {
 		if (classifiableRecords == null) {
-			classifiableRecords = new LinkedList<>();
+			classifiableRecords = new ArrayList<>(1);
 		}
-		int i = 0;
 		long submittingMember = record.getSubmittingMember();
-		var iter = classifiableRecords.listIterator();
 		boolean isNodeDuplicate = false;
-		while (i < numDuplicates) {
-			if (submittingMember == iter.next().getSubmittingMember()) {
+		for (int i = 0; i < numDuplicates; i++) {
+			if (submittingMember == classifiableRecords.get(i).getSubmittingMember()) {
 				isNodeDuplicate = true;
 				break;
 			}
-			i++;
 		}
 		if (isNodeDuplicate) {
 			classifiableRecords.add(record);
 		} else {
-			numDuplicates++;
-			iter.add(record);
+			classifiableRecords.add(numDuplicates++, record);
 		}
 	}
 
 	private void addUnclassifiable(ExpirableTxnRecord record) {
 		if (unclassifiableRecords == null) {
-			unclassifiableRecords = new LinkedList<>();
+			unclassifiableRecords = new ArrayList<>(1);
 		}
 		unclassifiableRecords.add(record);
 	}
@@ -168,9 +163,8 @@ public class TxnIdRecentHistory {
 		if (numDuplicates == 0) {
 			return BELIEVED_UNIQUE;
 		}
-		var iter = classifiableRecords.listIterator();
 		for (int i = 0; i < numDuplicates; i++) {
-			if (iter.next().getSubmittingMember() == submittingMember) {
+			if (classifiableRecords.get(i).getSubmittingMember() == submittingMember) {
 				return NODE_DUPLICATE;
 			}
 		}
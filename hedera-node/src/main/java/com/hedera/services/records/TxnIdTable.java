@@ -0,0 +1,394 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hederahashgraph.api.proto.java.TransactionID;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An open-addressing hash table keyed by transaction ids, where each id is stored
+ * as a fixed-width run of primitives (the payer's shard, realm, and number; and the
+ * seconds and nanos of the valid start) rather than as a {@link TransactionID}.
+ * So a lookup (whether by {@link TransactionID} or by {@link TxnId}) allocates
+ * nothing, and an entry costs a few dozen bytes plus its value.
+ *
+ * This table is written by the {@code handleTransaction} thread but read by query
+ * threads, so it is split by hash into up to {@link #MAX_SEGMENTS} independently
+ * locked segments; each segment uses linear probing with backward-shift deletion, so
+ * there are no tombstones. Only the whole-table operations ({@code size}, {@code clear},
+ * and {@code forEachValue}) visit every segment, and they are not atomic across segments.
+ *
+ * @param <V> the type of value in the table; {@code null} values are not permitted
+ */
+public class TxnIdTable<V> {
+	static final int KEY_WIDTH = 4;
+	static final int MAX_SEGMENTS = 16;
+	static final int MIN_SEGMENT_CAPACITY = 64;
+	static final int DEFAULT_INITIAL_CAPACITY = 1 << 10;
+
+	private static final int SHARD = 0;
+	private static final int REALM = 1;
+	private static final int NUM = 2;
+	private static final int SECONDS = 3;
+	/* Segments are chosen by high bits of the hash, slots within a segment by low bits. */
+	private static final int SEGMENT_SHIFT = 24;
+
+	private final Segment<V>[] segments;
+
+	public TxnIdTable() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@SuppressWarnings("unchecked")
+	public TxnIdTable(int initialCapacity) {
+		int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+		int numSegments = Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY));
+		segments = new Segment[numSegments];
+		for (int i = 0; i < numSegments; i++) {
+			segments[i] = new Segment<>(capacity / numSegments);
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	public boolean isEmpty() {
+		for (Segment<V> segment : segments) {
+			if (segment.size() > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean containsKey(TransactionID txnId) {
+		return get(txnId) != null;
+	}
+
+	public V get(TransactionID txnId) {
+		var payer = txnId.getAccountID();
+		var validStart = txnId.getTransactionValidStart();
+		return get(
+				payer.getShardNum(), payer.getRealmNum(), payer.getAccountNum(),
+				validStart.getSeconds(), validStart.getNanos());
+	}
+
+	public V get(TxnId txnId) {
+		var payer = txnId.getPayerAccount();
+		var validStart = txnId.getValidStart();
+		return get(payer.shard(), payer.realm(), payer.num(), validStart.getSeconds(), validStart.getNanos());
+	}
+
+	public V put(TransactionID txnId, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Null values are not permitted!");
+		}
+		var payer = txnId.getAccountID();
+		var validStart = txnId.getTransactionValidStart();
+		long shard = payer.getShardNum(), realm = payer.getRealmNum(), num = payer.getAccountNum();
+		long seconds = validStart.getSeconds();
+		int nanos = validStart.getNanos();
+		int h = hash(shard, realm, num, seconds, nanos);
+		return segmentFor(h).put(h, shard, realm, num, seconds, nanos, value);
+	}
+
+	public V computeIfAbsent(TransactionID txnId, Supplier<V> factory) {
+		var payer = txnId.getAccountID();
+		var validStart = txnId.getTransactionValidStart();
+		return computeIfAbsent(
+				payer.getShardNum(), payer.getRealmNum(), payer.getAccountNum(),
+				validStart.getSeconds(), validStart.getNanos(),
+				factory);
+	}
+
+	public V computeIfAbsent(TxnId txnId, Supplier<V> factory) {
+		var payer = txnId.getPayerAccount();
+		var validStart = txnId.getValidStart();
+		return computeIfAbsent(
+				payer.shard(), payer.realm(), payer.num(),
+				validStart.getSeconds(), validStart.getNanos(),
+				factory);
+	}
+
+	public V remove(TransactionID txnId) {
+		var payer = txnId.getAccountID();
+		var validStart = txnId.getTransactionValidStart();
+		return remove(
+				payer.getShardNum(), payer.getRealmNum(), payer.getAccountNum(),
+				validStart.getSeconds(), validStart.getNanos());
+	}
+
+	public V remove(TxnId txnId) {
+		var payer = txnId.getPayerAccount();
+		var validStart = txnId.getValidStart();
+		return remove(payer.shard(), payer.realm(), payer.num(), validStart.getSeconds(), validStart.getNanos());
+	}
+
+	public void clear() {
+		for (Segment<V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	public void forEachValue(Consumer<? super V> action) {
+		for (Segment<V> segment : segments) {
+			segment.forEachValue(action);
+		}
+	}
+
+	int capacity() {
+		int capacity = 0;
+		for (Segment<V> segment : segments) {
+			capacity += segment.capacity();
+		}
+		return capacity;
+	}
+
+	int numSegments() {
+		return segments.length;
+	}
+
+	private V get(long shard, long realm, long num, long seconds, int nanos) {
+		int h = hash(shard, realm, num, seconds, nanos);
+		return segmentFor(h).get(h, shard, realm, num, seconds, nanos);
+	}
+
+	private V computeIfAbsent(long shard, long realm, long num, long seconds, int nanos, Supplier<V> factory) {
+		int h = hash(shard, realm, num, seconds, nanos);
+		return segmentFor(h).computeIfAbsent(h, shard, realm, num, seconds, nanos, factory);
+	}
+
+	private V remove(long shard, long realm, long num, long seconds, int nanos) {
+		int h = hash(shard, realm, num, seconds, nanos);
+		return segmentFor(h).remove(h, shard, realm, num, seconds, nanos);
+	}
+
+	private Segment<V> segmentFor(int h) {
+		return segments[(h >>> SEGMENT_SHIFT) & (segments.length - 1)];
+	}
+
+	private static class Segment<V> {
+		int size = 0;
+		long[] keys;
+		int[] nanos;
+		Object[] values;
+
+		Segment(int capacity) {
+			allocate(capacity);
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		synchronized int capacity() {
+			return values.length;
+		}
+
+		synchronized V get(int h, long shard, long realm, long num, long seconds, int validStartNanos) {
+			return valueAt(find(h, shard, realm, num, seconds, validStartNanos));
+		}
+
+		synchronized V put(int h, long shard, long realm, long num, long seconds, int validStartNanos, V value) {
+			int i = find(h, shard, realm, num, seconds, validStartNanos);
+			if (i >= 0) {
+				var prior = valueAt(i);
+				values[i] = value;
+				return prior;
+			}
+			insert(-(i + 1), h, shard, realm, num, seconds, validStartNanos, value);
+			return null;
+		}
+
+		synchronized V computeIfAbsent(
+				int h,
+				long shard,
+				long realm,
+				long num,
+				long seconds,
+				int validStartNanos,
+				Supplier<V> factory
+		) {
+			int i = find(h, shard, realm, num, seconds, validStartNanos);
+			if (i >= 0) {
+				return valueAt(i);
+			}
+			var value = factory.get();
+			if (value == null) {
+				throw new IllegalArgumentException("Null values are not permitted!");
+			}
+			insert(-(i + 1), h, shard, realm, num, seconds, validStartNanos, value);
+			return value;
+		}
+
+		synchronized V remove(int h, long shard, long realm, long num, long seconds, int validStartNanos) {
+			int i = find(h, shard, realm, num, seconds, validStartNanos);
+			if (i < 0) {
+				return null;
+			}
+			var prior = valueAt(i);
+			deleteAt(i);
+			return prior;
+		}
+
+		synchronized void clear() {
+			Arrays.fill(values, null);
+			size = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized void forEachValue(Consumer<? super V> action) {
+			for (Object value : values) {
+				if (value != null) {
+					action.accept((V) value);
+				}
+			}
+		}
+
+		private void insert(
+				int i,
+				int h,
+				long shard,
+				long realm,
+				long num,
+				long seconds,
+				int validStartNanos,
+				V value
+		) {
+			if (2 * (size + 1) > values.length) {
+				resize(2 * values.length);
+				i = -(find(h, shard, realm, num, seconds, validStartNanos) + 1);
+			}
+			int base = i * KEY_WIDTH;
+			keys[base + SHARD] = shard;
+			keys[base + REALM] = realm;
+			keys[base + NUM] = num;
+			keys[base + SECONDS] = seconds;
+			nanos[i] = validStartNanos;
+			values[i] = value;
+			size++;
+		}
+
+		/**
+		 * Returns the slot of the given key if present; or, if absent, {@code -(s + 1)}
+		 * where {@code s} is the empty slot at which it would be inserted.
+		 */
+		private int find(int h, long shard, long realm, long num, long seconds, int validStartNanos) {
+			int mask = values.length - 1;
+			int i = h & mask;
+			while (values[i] != null) {
+				int base = i * KEY_WIDTH;
+				if (keys[base + NUM] == num
+						&& keys[base + SECONDS] == seconds
+						&& nanos[i] == validStartNanos
+						&& keys[base + REALM] == realm
+						&& keys[base + SHARD] == shard) {
+					return i;
+				}
+				i = (i + 1) & mask;
+			}
+			return -(i + 1);
+		}
+
+		private void deleteAt(int i) {
+			int mask = values.length - 1;
+			values[i] = null;
+			size--;
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (values[j] == null) {
+					return;
+				}
+				int home = hashAt(j) & mask;
+				boolean homeInGap = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+				if (!homeInGap) {
+					System.arraycopy(keys, j * KEY_WIDTH, keys, i * KEY_WIDTH, KEY_WIDTH);
+					nanos[i] = nanos[j];
+					values[i] = values[j];
+					values[j] = null;
+					i = j;
+				}
+			}
+		}
+
+		private void resize(int newCapacity) {
+			long[] oldKeys = keys;
+			int[] oldNanos = nanos;
+			Object[] oldValues = values;
+			allocate(newCapacity);
+			int mask = newCapacity - 1;
+			for (int j = 0; j < oldValues.length; j++) {
+				if (oldValues[j] != null) {
+					int base = j * KEY_WIDTH;
+					int i = hash(oldKeys[base + SHARD], oldKeys[base + REALM], oldKeys[base + NUM],
+							oldKeys[base + SECONDS], oldNanos[j]) & mask;
+					while (values[i] != null) {
+						i = (i + 1) & mask;
+					}
+					System.arraycopy(oldKeys, base, keys, i * KEY_WIDTH, KEY_WIDTH);
+					nanos[i] = oldNanos[j];
+					values[i] = oldValues[j];
+				}
+			}
+		}
+
+		private void allocate(int capacity) {
+			keys = new long[capacity * KEY_WIDTH];
+			nanos = new int[capacity];
+			values = new Object[capacity];
+		}
+
+		private int hashAt(int i) {
+			int base = i * KEY_WIDTH;
+			return hash(keys[base + SHARD], keys[base + REALM], keys[base + NUM], keys[base + SECONDS], nanos[i]);
+		}
+
+		@SuppressWarnings("unchecked")
+		private V valueAt(int i) {
+			return (i < 0) ? null : (V) values[i];
+		}
+	}
+
+	static int hash(long shard, long realm, long num, long seconds, int nanos) {
+		long h = num;
+		h = 31 * h + seconds;
+		h = 31 * h + nanos;
+		h = 31 * h + realm;
+		h = 31 * h + shard;
+		/* The MurmurHash3 64-bit finalizer, so that ids with consecutive valid starts spread out. */
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+}
@@ -30,6 +30,7 @@ import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hedera.services.legacy.crypto.SignatureStatus;
@@ -192,7 +193,7 @@ public class HederaToPlatformSigOps {
 		}
 
 		private SignatureStatus expand(
-				Function<Transaction, PubKeyToSigBytes> sigsFn,
+				Function<SignedTxnAccessor, PubKeyToSigBytes> sigsFn,
 				BiFunction<TransactionBody, SigStatusOrderResultFactory, SigningOrderResult<SignatureStatus>> keysFn
 		) {
 			var orderResult = keysFn.apply(txnAccessor.getTxn(), PRE_HANDLE_SUMMARY_FACTORY);
@@ -201,7 +202,7 @@ public class HederaToPlatformSigOps {
 			}
 
 			var creationResult = createEd25519PlatformSigsFrom(
-					orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor.getSignedTxn()), sigFactory);
+					orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor), sigFactory);
 			if (!creationResult.hasFailed()) {
 				txnAccessor.getPlatformTxn().addAll(creationResult.getPlatformSigs().toArray(new TransactionSignature[0]));
 			}
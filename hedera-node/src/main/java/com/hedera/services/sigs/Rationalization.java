@@ -29,8 +29,8 @@ import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytesProvider;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.crypto.SignatureStatusCode;
@@ -129,7 +129,7 @@ public class Rationalization {
 
     private SignatureStatus expandIn(
             List<TransactionSignature> target,
-            Function<Transaction, PubKeyToSigBytes> sigsFn,
+            Function<SignedTxnAccessor, PubKeyToSigBytes> sigsFn,
             BiFunction<TransactionBody, SigStatusOrderResultFactory, SigningOrderResult<SignatureStatus>> keysFn
     ) {
         SigningOrderResult<SignatureStatus> orderResult =
@@ -138,7 +138,7 @@ public class Rationalization {
             return orderResult.getErrorReport();
         }
         PlatformSigsCreationResult creationResult = createEd25519PlatformSigsFrom(
-                orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor.getSignedTxn()), sigFactory);
+                orderResult.getOrderedKeys(), sigsFn.apply(txnAccessor), sigFactory);
         if (creationResult.hasFailed()) {
             return creationResult.asSignatureStatus(true, txnAccessor.getTxnId());
         }
@@ -31,6 +31,7 @@ import com.hedera.services.sigs.metadata.lookups.DefaultFCMapContractLookup;
 import com.hedera.services.sigs.metadata.lookups.DefaultFCMapTopicLookup;
 import com.hedera.services.sigs.metadata.lookups.FileSigMetaLookup;
 import com.hedera.services.sigs.metadata.lookups.HfsSigMetaLookup;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.sigs.metadata.lookups.RetryingFCMapAccountLookup;
 import com.hedera.services.sigs.metadata.lookups.SafeLookupResult;
 import com.hedera.services.sigs.metadata.lookups.TopicSigMetaLookup;
@@ -136,10 +137,12 @@ public class DelegatingSigMetadataLookup implements SigMetadataLookup {
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			Function<TokenID, SafeLookupResult<TokenSigningMetadata>> tokenLookup,
 			Function<ScheduleID, SafeLookupResult<ScheduleSigningMetadata>> scheduleLookup,
+			RecentlyCreatedAccounts recentCreations,
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers
 	) {
-		var accountLookup = new RetryingFCMapAccountLookup(pause, properties, accounts, runningAvgs, speedometers);
+		var accountLookup = new RetryingFCMapAccountLookup(
+				pause, properties, accounts, recentCreations, runningAvgs, speedometers);
 		return new DelegatingSigMetadataLookup(
 				new HfsSigMetaLookup(hfs),
 				accountLookup,
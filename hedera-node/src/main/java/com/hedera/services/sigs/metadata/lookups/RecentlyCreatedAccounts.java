@@ -0,0 +1,102 @@
+package com.hedera.services.sigs.metadata.lookups;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.metadata.AccountSigningMetadata;
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, concurrent side-cache of the signing metadata for accounts (and contracts)
+ * created at consensus in {@code handleTransaction}, but whose creation may not yet be
+ * visible in the {@code FCMap} that {@code expandSignatures} reads from.
+ *
+ * Without this cache, a txn that references an entity created earlier in the same
+ * round forces {@link RetryingFCMapAccountLookup} to sleep on a platform pre-handle
+ * thread until the new entity is visible. Since the cache is only consulted during
+ * signature <i>expansion</i>, a stale entry can never change a consensus outcome;
+ * at worst it means signatures are re-verified synchronously at handle time.
+ *
+ * Creations are first staged by the {@code handleTransaction} thread, and only become
+ * visible to lookups once the ledger commits the creating txn; so an entity whose
+ * creation is rolled back is never resolved from this cache.
+ */
+public class RecentlyCreatedAccounts {
+	private final Cache<AccountID, AccountSigningMetadata> created;
+	/* Only touched by the handleTransaction thread */
+	private final Map<AccountID, AccountSigningMetadata> pending = new HashMap<>();
+
+	public RecentlyCreatedAccounts(long maxSize, long ttlSecs) {
+		this.created = CacheBuilder.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttlSecs, TimeUnit.SECONDS)
+				.build();
+	}
+
+	/**
+	 * Stages the signing metadata of a newly created account, to become visible
+	 * once the creating txn is committed.
+	 *
+	 * @param id the id of the created account
+	 * @param key the key of the created account
+	 * @param receiverSigRequired whether the created account requires a signature to receive
+	 */
+	public void track(AccountID id, JKey key, boolean receiverSigRequired) {
+		pending.put(id, new AccountSigningMetadata(key, receiverSigRequired));
+	}
+
+	/**
+	 * Makes all creations staged since the last commit or rollback visible to lookups.
+	 */
+	public void commitPending() {
+		if (!pending.isEmpty()) {
+			created.putAll(pending);
+			pending.clear();
+		}
+	}
+
+	/**
+	 * Discards all creations staged since the last commit or rollback.
+	 */
+	public void rollbackPending() {
+		pending.clear();
+	}
+
+	/**
+	 * Returns the signing metadata of the given account, if it was recently created.
+	 *
+	 * @param id the account of interest
+	 * @return its signing metadata, or null if it was not recently created
+	 */
+	public AccountSigningMetadata lookup(AccountID id) {
+		return created.getIfPresent(id);
+	}
+
+	long size() {
+		return created.size();
+	}
+}
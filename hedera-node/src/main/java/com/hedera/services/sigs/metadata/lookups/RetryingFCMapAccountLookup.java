@@ -43,6 +43,10 @@ import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_ACCOUNT;
  * with {@code Pause} invocations that increase by {@code retryWaitIncrementMs} between
  * each failed lookup.
  *
+ * After every failed lookup (including the first, before pausing at all), consults any
+ * {@link RecentlyCreatedAccounts} for an account created at consensus whose creation
+ * is not yet visible in the accounts {@code FCMap}.
+ *
  * @author Nathan Klick
  * @author Michael Tinker
  */
@@ -56,6 +60,7 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 	private final Pause pause;
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
+	private final RecentlyCreatedAccounts recentCreations;
 
 	private Optional<NodeLocalProperties> properties;
 
@@ -69,6 +74,7 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 	) {
 		super(accounts);
 		this.pause = pause;
+		this.recentCreations = null;
 		this.properties = Optional.empty();
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
@@ -80,11 +86,13 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 			Pause pause,
 			NodeLocalProperties properties,
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			RecentlyCreatedAccounts recentCreations,
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers
 	) {
 		super(accounts);
 		this.pause = pause;
+		this.recentCreations = recentCreations;
 		this.properties = Optional.of(properties);
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
@@ -108,6 +116,9 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		if (meta != null) {
 			return new SafeLookupResult<>(meta);
 		}
+		if ((meta = recentlyCreated(id)) != null) {
+			return new SafeLookupResult<>(meta);
+		}
 
 		do {
 			int retryNo = maxRetries - retriesRemaining + 1;
@@ -115,6 +126,9 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 				return SafeLookupResult.failure(MISSING_ACCOUNT);
 			}
 			meta = superLookup(id);
+			if (meta == null) {
+				meta = recentlyCreated(id);
+			}
 			if (meta != null) {
 				if (isInstrumented()) {
 					updateStats(retryNo, msElapsedSince(lookupStart));
@@ -130,6 +144,17 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		return SafeLookupResult.failure(MISSING_ACCOUNT);
 	}
 
+	private AccountSigningMetadata recentlyCreated(AccountID id) {
+		if (recentCreations == null) {
+			return null;
+		}
+		var meta = recentCreations.lookup(id);
+		if (meta != null && isInstrumented()) {
+			speedometers.cycleRecentCreationLookupHits();
+		}
+		return meta;
+	}
+
 	private boolean isInstrumented() {
 		return runningAvgs != null && speedometers != null;
 	}
@@ -20,6 +20,7 @@ package com.hedera.services.sigs.sourcing;
  * ‍
  */
 
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.Transaction;
 
 /**
@@ -44,4 +45,14 @@ public enum DefaultSigBytesProvider implements PubKeyToSigBytesProvider {
 	public PubKeyToSigBytes allPartiesSigBytesFor(Transaction signedTxn) {
 		return PubKeyToSigBytes.forAllParties(signedTxn);
 	}
+
+	@Override
+	public PubKeyToSigBytes payerSigBytesFor(SignedTxnAccessor accessor) {
+		return accessor.getPkToSigsFn();
+	}
+
+	@Override
+	public PubKeyToSigBytes otherPartiesSigBytesFor(SignedTxnAccessor accessor) {
+		return accessor.getPkToSigsFn();
+	}
 }
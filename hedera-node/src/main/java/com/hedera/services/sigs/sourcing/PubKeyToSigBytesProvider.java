@@ -20,6 +20,7 @@ package com.hedera.services.sigs.sourcing;
  * ‍
  */
 
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.Transaction;
 
 /**
@@ -55,4 +56,29 @@ public interface PubKeyToSigBytesProvider {
 	 * @return a source of the signatures for entities in all roles.
 	 */
 	PubKeyToSigBytes allPartiesSigBytesFor(Transaction signedTxn);
+
+	/**
+	 * Get a {@link PubKeyToSigBytes} providing the cryptographic signatures
+	 * for the payer of the transaction behind a given accessor. Implementations
+	 * may reuse any signature source already built for the accessor.
+	 *
+	 * @param accessor the accessor to the txn of interest.
+	 * @return a source of the payer signatures.
+	 */
+	default PubKeyToSigBytes payerSigBytesFor(SignedTxnAccessor accessor) {
+		return payerSigBytesFor(accessor.getSignedTxn());
+	}
+
+	/**
+	 * Get a {@link PubKeyToSigBytes} providing the cryptographic signatures
+	 * for entities involved in a non-payer role in the transaction behind a
+	 * given accessor. Implementations may reuse any signature source already
+	 * built for the accessor.
+	 *
+	 * @param accessor the accessor to the txn of interest.
+	 * @return a source of the signatures for entities in non-payer roles.
+	 */
+	default PubKeyToSigBytes otherPartiesSigBytesFor(SignedTxnAccessor accessor) {
+		return otherPartiesSigBytesFor(accessor.getSignedTxn());
+	}
 }
@@ -24,9 +24,9 @@ import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hedera.services.legacy.exception.KeyPrefixMismatchException;
+
 import java.util.Arrays;
-import java.util.List;
-import static java.util.stream.Collectors.toList;
+import java.util.Comparator;
 
 /**
  * A source of cryptographic signatures backed by a {@link SignatureMap} instance.
@@ -40,27 +40,98 @@ import static java.util.stream.Collectors.toList;
  * possible for a Hedera key to be active even if some number of its constituent
  * simple keys lack a valid signature.
  *
+ * <p>The prefixes in the backing map are indexed once on construction, grouped by
+ * length and sorted (unsigned) within each group. So a lookup is a binary search per
+ * distinct prefix length&mdash;in practice, one or two&mdash;and allocates nothing
+ * but the returned signature.
+ *
  * @author Michael Tinker
  */
 public class SigMapPubKeyToSigBytes implements PubKeyToSigBytes {
-	private final SignatureMap sigMap;
 	private static final byte[] EMPTY_SIG = {};
+	private static final Comparator<byte[]> PREFIX_ORDER = Comparator
+			.<byte[]>comparingInt(prefix -> prefix.length)
+			.thenComparing(Arrays::compareUnsigned);
+
+	private final SignatureMap sigMap;
+	/* Prefixes sorted by length, then by unsigned byte value */
+	private final byte[][] prefixes;
+	/* The index in the sig map of the pair with each sorted prefix */
+	private final int[] pairIndices;
+	/* Whether the sorted prefix at each index appears more than once in the sig map */
+	private final boolean[] repeated;
+	/* The distinct prefix lengths, ascending; and the index of the first prefix with each length */
+	private final int[] lengths;
+	private final int[] lengthStarts;
 
 	SigMapPubKeyToSigBytes(SignatureMap sigMap) {
 		this.sigMap = sigMap;
+
+		int n = sigMap.getSigPairCount();
+		Integer[] order = new Integer[n];
+		byte[][] unsorted = new byte[n][];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+			unsorted[i] = sigMap.getSigPair(i).getPubKeyPrefix().toByteArray();
+		}
+		Arrays.sort(order, (a, b) -> PREFIX_ORDER.compare(unsorted[a], unsorted[b]));
+
+		prefixes = new byte[n][];
+		pairIndices = new int[n];
+		repeated = new boolean[n];
+		int numLengths = 0;
+		int[] allLengths = new int[n];
+		int[] allLengthStarts = new int[n + 1];
+		for (int i = 0; i < n; i++) {
+			pairIndices[i] = order[i];
+			prefixes[i] = unsorted[order[i]];
+			if (i == 0 || prefixes[i].length != prefixes[i - 1].length) {
+				allLengths[numLengths] = prefixes[i].length;
+				allLengthStarts[numLengths++] = i;
+			} else if (Arrays.equals(prefixes[i], prefixes[i - 1])) {
+				repeated[i] = repeated[i - 1] = true;
+			}
+		}
+		allLengthStarts[numLengths] = n;
+		lengths = Arrays.copyOf(allLengths, numLengths);
+		lengthStarts = Arrays.copyOf(allLengthStarts, numLengths + 1);
 	}
 
 	@Override
 	public byte[] sigBytesFor(byte[] pubKey) throws KeyPrefixMismatchException {
-		List<byte[]> matchingSigs = sigMap.getSigPairList()
-				.stream()
-				.filter(sp -> beginsWith(pubKey, sp.getPubKeyPrefix().toByteArray()))
-				.map(this::sigBytesFor)
-				.collect(toList());
-		if (matchingSigs.size() > 1) {
-			throw new KeyPrefixMismatchException("Source signature map is ambiguous for given public key!");
+		int numLengths = lengths.length;
+		if (numLengths > 0 && lengths[numLengths - 1] > pubKey.length) {
+			/* Preserve the (unchecked) failure of a prefix-by-prefix comparison in this case */
+			throw new IllegalArgumentException("Source signature map has a prefix longer than the given public key!");
+		}
+
+		int match = -1;
+		for (int i = 0; i < numLengths; i++) {
+			int found = indexOfPrefix(pubKey, lengths[i], lengthStarts[i], lengthStarts[i + 1]);
+			if (found >= 0) {
+				if (match >= 0 || repeated[found]) {
+					throw new KeyPrefixMismatchException("Source signature map is ambiguous for given public key!");
+				}
+				match = found;
+			}
+		}
+		return (match < 0) ? EMPTY_SIG : sigBytesFor(sigMap.getSigPair(pairIndices[match]));
+	}
+
+	private int indexOfPrefix(byte[] pubKey, int len, int from, int to) {
+		int lo = from, hi = to - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = Arrays.compareUnsigned(prefixes[mid], 0, len, pubKey, 0, len);
+			if (cmp < 0) {
+				lo = mid + 1;
+			} else if (cmp > 0) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
 		}
-		return matchingSigs.isEmpty() ? EMPTY_SIG : matchingSigs.get(0);
+		return -1;
 	}
 
 	private byte[] sigBytesFor(SignaturePair sp) {
@@ -72,9 +143,4 @@ public class SigMapPubKeyToSigBytes implements PubKeyToSigBytes {
 			return sp.getEd25519().toByteArray();
 		}
 	}
-
-	private boolean beginsWith(byte[] pubKey, byte[] prefix) {
-		int n = prefix.length;
-		return Arrays.equals(prefix, 0, n, pubKey, 0, n);
-	}
 }
@@ -0,0 +1,204 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link SyncVerifier} that gathers the signatures from concurrent callers into
+ * micro-batches, and verifies each batch with a single call to a delegate verifier
+ * on a small worker pool. Each caller still blocks until its own signatures have
+ * been verified, so this is a drop-in replacement for the delegate.
+ *
+ * A batch is dispatched as soon as it holds at least {@code batchSize} signatures,
+ * or the queue of waiting callers drains while a worker is idle, or its first
+ * request has lingered for {@code maxLingerMicros}, whichever comes first. (So
+ * callers only linger when every worker is already busy with an earlier batch.)
+ *
+ * A caller whose batch is not verified within {@code maxWaitMs} falls back to
+ * verifying its own signatures directly with the delegate.
+ */
+public class BatchingSyncVerifier implements SyncVerifier {
+	private static final Logger log = LogManager.getLogger(BatchingSyncVerifier.class);
+
+	static final String DISPATCH_THREAD_NAME = "PrecheckSigBatchDispatch";
+	static final String WORKER_THREAD_NAME_TPL = "PrecheckSigBatchVerifier%d";
+
+	private final int batchSize;
+	private final int numWorkers;
+	private final long maxWaitMs;
+	private final long maxLingerNanos;
+	private final SyncVerifier delegate;
+	private final MiscRunningAvgs runningAvgs;
+	private final AtomicInteger busyWorkers = new AtomicInteger();
+	private final ExecutorService workers;
+	private final BlockingQueue<PendingVerification> pending = new LinkedBlockingQueue<>();
+
+	public BatchingSyncVerifier(
+			int batchSize,
+			int maxLingerMicros,
+			int maxWaitMs,
+			int numWorkers,
+			SyncVerifier delegate,
+			MiscRunningAvgs runningAvgs
+	) {
+		this.batchSize = batchSize;
+		this.numWorkers = Math.max(1, numWorkers);
+		this.maxWaitMs = maxWaitMs;
+		this.maxLingerNanos = MICROSECONDS.toNanos(maxLingerMicros);
+		this.delegate = delegate;
+		this.runningAvgs = runningAvgs;
+
+		var nextWorkerId = new AtomicInteger();
+		workers = Executors.newFixedThreadPool(this.numWorkers, task -> daemon(
+				task, String.format(WORKER_THREAD_NAME_TPL, nextWorkerId.getAndIncrement())));
+		daemon(this::dispatchLoop, DISPATCH_THREAD_NAME).start();
+	}
+
+	@Override
+	public void verifySync(List<TransactionSignature> unknownSigs) {
+		if (unknownSigs.isEmpty()) {
+			return;
+		}
+		var verification = new PendingVerification(unknownSigs);
+		pending.add(verification);
+		try {
+			verification.done.get(maxWaitMs, MILLISECONDS);
+		} catch (ExecutionException ee) {
+			throw new CompletionException(ee.getCause());
+		} catch (TimeoutException te) {
+			log.warn("Precheck sig batch not verified within {}ms, verifying {} sigs directly",
+					maxWaitMs, unknownSigs.size());
+			delegate.verifySync(unknownSigs);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			delegate.verifySync(unknownSigs);
+		}
+	}
+
+	private void dispatchLoop() {
+		while (true) {
+			List<PendingVerification> batch = new ArrayList<>();
+			try {
+				dispatchNextBatch(batch);
+			} catch (InterruptedException ie) {
+				log.warn("Precheck sig batch dispatch interrupted, no more batches will be verified!");
+				failAll(batch, ie);
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Throwable t) {
+				log.error("Unable to dispatch a batch of {} precheck sig verifications", batch.size(), t);
+				failAll(batch, t);
+			}
+		}
+	}
+
+	void dispatchNextBatch(List<PendingVerification> batch) throws InterruptedException {
+		var first = pending.take();
+		batch.add(first);
+		int numSigs = first.sigs.size();
+
+		long deadline = first.enqueuedAt + maxLingerNanos;
+		while (numSigs < batchSize) {
+			var next = pending.poll();
+			if (next == null) {
+				if (busyWorkers.get() < numWorkers) {
+					break;
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || (next = pending.poll(remaining, NANOSECONDS)) == null) {
+					break;
+				}
+			}
+			batch.add(next);
+			numSigs += next.sigs.size();
+		}
+
+		long dispatchedAt = System.nanoTime();
+		runningAvgs.recordPrecheckSigBatchFill(Math.min(1.0, (double) numSigs / batchSize));
+		for (var verification : batch) {
+			runningAvgs.recordPrecheckSigBatchLingerMs((dispatchedAt - verification.enqueuedAt) / 1_000_000.0);
+		}
+
+		int totalSigs = numSigs;
+		busyWorkers.incrementAndGet();
+		try {
+			workers.execute(() -> verify(batch, totalSigs));
+		} catch (Throwable t) {
+			busyWorkers.decrementAndGet();
+			throw t;
+		}
+	}
+
+	private void verify(List<PendingVerification> batch, int numSigs) {
+		try {
+			List<TransactionSignature> allSigs = new ArrayList<>(numSigs);
+			for (var verification : batch) {
+				allSigs.addAll(verification.sigs);
+			}
+			delegate.verifySync(allSigs);
+			batch.forEach(verification -> verification.done.complete(null));
+		} catch (Throwable t) {
+			failAll(batch, t);
+		} finally {
+			busyWorkers.decrementAndGet();
+		}
+	}
+
+	private static void failAll(List<PendingVerification> batch, Throwable cause) {
+		batch.forEach(verification -> verification.done.completeExceptionally(cause));
+	}
+
+	private static Thread daemon(Runnable task, String name) {
+		var thread = new Thread(task, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	private static class PendingVerification {
+		private final long enqueuedAt = System.nanoTime();
+		private final List<TransactionSignature> sigs;
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		private PendingVerification(List<TransactionSignature> sigs) {
+			this.sigs = sigs;
+		}
+	}
+}
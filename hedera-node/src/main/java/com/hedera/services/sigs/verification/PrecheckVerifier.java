@@ -46,7 +46,8 @@ import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
  *    <li>CryptoTransfer transactions identified as query payments must
  *    have valid signatures for all referenced accounts.</li>
  * </ul>
- * Note that this component verifies cryptographic signatures synchronously.
+ * Note that this component verifies cryptographic signatures synchronously,
+ * though its {@link SyncVerifier} may batch them with those of concurrent prechecks.
  *
  * @author Michael Tinker
  */
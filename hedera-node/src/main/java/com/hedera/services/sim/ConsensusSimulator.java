@@ -0,0 +1,669 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.ServicesContext;
+import com.hedera.services.context.properties.ScreenedNodeFileProps;
+import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.exceptions.NegativeAccountBalanceException;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.stats.HandleStage;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.FileCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.KeyList;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.swirlds.common.Address;
+import com.swirlds.common.AddressBook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
+import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTopicId;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Drives a single in-process Services node through a stream of pre-signed
+ * transactions, to measure the sustained throughput of the consensus handle
+ * path without the noise (or the cost of setting up) a real network.
+ *
+ * The simulator initializes a genesis {@link ServicesState} against a
+ * {@link StandInPlatform}, runs the same start-up steps as
+ * {@link com.hedera.services.ServicesMain} (minus Netty, stats registration,
+ * and record stream files), and seeds the state with accounts, tokens, and
+ * topics it holds the keys to. It then creates a contract through the handle
+ * path, and generates a weighted {@link TxnMix} of crypto transfers, token
+ * transfers, HCS submissions, and contract calls.
+ *
+ * Like the platform, it calls {@code expandSignatures} and verifies the expanded
+ * signatures with the platform {@link com.swirlds.common.crypto.Cryptography} before
+ * consensus, outside the timed loop; and then hands each
+ * transaction to {@code handleTransaction} with a synthetic, strictly increasing
+ * consensus time. It reports the sustained TPS over the measured (post-warmup)
+ * transactions, the GC activity and handle-thread allocation while handling them,
+ * and the latency of handling each type of transaction; the per-stage latencies
+ * from {@link com.hedera.services.stats.HandleLatencies} are reported over all
+ * types, and logged per type. The report itself goes to the log when the run ends.
+ *
+ * Like a local node, the simulator needs PostgreSQL for the blob store (see
+ * {@code docs/postgresql-setup-guide.md}), and must run with {@code hedera-node}
+ * as its working directory, so it finds the genesis key in {@code data/onboard}.
+ * All sizes are system properties; for example, after {@code mvn install},
+ * <pre>
+ * java -Dsim.numTxns=500000 -Dsim.mix=CRYPTO_TRANSFER=1 \
+ *     -cp 'data/lib/*:data/apps/HederaNode.jar' com.hedera.services.sim.ConsensusSimulator
+ * </pre>
+ */
+public class ConsensusSimulator {
+	private static final Logger log = LogManager.getLogger(ConsensusSimulator.class);
+
+	public static final long NODE_ID = 0L;
+	public static final AccountID NODE_ACCOUNT = AccountID.newBuilder().setAccountNum(3L).build();
+
+	static final long INITIAL_BALANCE = 1_000_000_000_000L;
+	static final long INITIAL_TOKEN_BALANCE = 1_000_000_000L;
+	static final long ENTITY_LIFETIME_SECS = 90L * 86_400L;
+	static final long MAX_FEE = 1_000_000_000L;
+	static final long CONTRACT_CREATE_GAS = 250_000L;
+	static final long CONTRACT_CALL_GAS = 100_000L;
+	static final int MESSAGE_SIZE = 100;
+	/* Hex-encoded init code of a contract with set(uint256) and get() functions, as in test resource simpleStorage.bin */
+	static final String SIMPLE_STORAGE_BYTECODE =
+			"6060604052341561000f57600080fd5b60bb8061001d6000396000f30060606040526004361060485763ffffffff7c01" +
+			"0000000000000000000000000000000000000000000000000000000060003504166360fe47b18114604d5780636d4ce6" +
+			"3c146062575b600080fd5b3415605757600080fd5b60606004356084565b005b3415606c57600080fd5b60726089565b" +
+			"60405190815260200160405180910390f35b600055565b600054905600a165627a7a7230582072a5864a3117a6e2b498" +
+			"14ad58ad464948107c84f5ec0db02b91e0f26a4a0fcc0029";
+	static final byte[] SET_SELECTOR = { (byte) 0x60, (byte) 0xfe, (byte) 0x47, (byte) 0xb1 };
+	static final Duration VALID_DURATION = Duration.newBuilder().setSeconds(120L).build();
+	static final Duration CONTRACT_AUTO_RENEW = Duration.newBuilder().setSeconds(7_776_000L).build();
+
+	private static final double NANOS_PER_MICRO = 1_000.0;
+	private static final double NANOS_PER_SEC = 1_000_000_000.0;
+	/* The same quantiles HandleLatencies reports, in the same order */
+	private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+	private static final String[] QUANTILE_NAMES = { "p50", "p99", "p99.9" };
+
+	private final int numAccounts;
+	private final int numTokens;
+	private final int numTopics;
+	private final int numWarmupTxns;
+	private final int numTxns;
+	private final long consensusNanosPerTxn;
+	private final TxnMix mix;
+	private final SplittableRandom random;
+	private final AddressBook addressBook = singleNodeAddressBook();
+	private final StandInPlatform standIn = new StandInPlatform(NODE_ID, addressBook);
+
+	private final List<SimAccount> accounts = new ArrayList<>();
+	private final List<TokenID> tokens = new ArrayList<>();
+	private final List<TopicID> topics = new ArrayList<>();
+
+	private ServicesState state;
+	private ServicesContext ctx;
+	private ContractID contract;
+	private Instant nextConsensusTime;
+	private long expiry;
+
+	public ConsensusSimulator(
+			int numAccounts,
+			int numTokens,
+			int numTopics,
+			int numWarmupTxns,
+			int numTxns,
+			long consensusNanosPerTxn,
+			TxnMix mix,
+			long seed
+	) {
+		if (numAccounts < 2) {
+			throw new IllegalArgumentException("At least two accounts are needed for transfers!");
+		}
+		if (mix.includes(TxnMix.Type.TOKEN_TRANSFER) && numTokens < 1) {
+			throw new IllegalArgumentException("Token transfers need at least one token!");
+		}
+		if (mix.includes(TxnMix.Type.CONSENSUS_SUBMIT) && numTopics < 1) {
+			throw new IllegalArgumentException("HCS submissions need at least one topic!");
+		}
+		this.numAccounts = numAccounts;
+		this.numTokens = numTokens;
+		this.numTopics = numTopics;
+		this.numWarmupTxns = numWarmupTxns;
+		this.numTxns = numTxns;
+		this.consensusNanosPerTxn = consensusNanosPerTxn;
+		this.mix = mix;
+		this.random = new SplittableRandom(seed);
+	}
+
+	public static void main(String... args) {
+		var simulator = new ConsensusSimulator(
+				Integer.getInteger("sim.numAccounts", 1_000),
+				Integer.getInteger("sim.numTokens", 10),
+				Integer.getInteger("sim.numTopics", 10),
+				Integer.getInteger("sim.numWarmupTxns", 20_000),
+				Integer.getInteger("sim.numTxns", 100_000),
+				Long.getLong("sim.consensusNanosPerTxn", 10_000L),
+				TxnMix.parse(System.getProperty("sim.mix", TxnMix.DEFAULT_SPEC)),
+				Long.getLong("sim.seed", 1_234L));
+		simulator.setUp();
+		log.info("{}", simulator.run());
+		/* Exit explicitly, since the context may have started non-daemon threads. */
+		System.exit(0);
+	}
+
+	/**
+	 * Initializes a genesis state for the stand-in platform, seeds it with the
+	 * simulated accounts, tokens, and topics, and creates the contract to call.
+	 */
+	public void setUp() {
+		StandardizedPropertySources.nodePropertiesSupplier =
+				() -> withOverrides(Map.of("hedera.recordStream.isEnabled", false));
+
+		state = new ServicesState();
+		state.genesisInit(standIn, addressBook);
+		ctx = CONTEXTS.lookup(NODE_ID);
+
+		ctx.systemFilesManager().createAddressBookIfMissing();
+		ctx.systemFilesManager().createNodeDetailsIfMissing();
+		ctx.systemFilesManager().createUpdateZipFileIfMissing();
+		if (!ctx.systemFilesManager().areFilesLoaded()) {
+			ctx.systemFilesManager().loadAllSystemFiles();
+		}
+		ctx.systemAccountsCreator().ensureSystemAccounts(ctx.backingAccounts(), ctx.addressBook());
+		ctx.stateMigrations().runAllFor(ctx);
+		ctx.initRecordStreamManager();
+
+		nextConsensusTime = Instant.now();
+		expiry = nextConsensusTime.getEpochSecond() + ENTITY_LIFETIME_SECS;
+		seedEntities();
+		ctx.rehydrateViewsOfState();
+
+		createContract();
+	}
+
+	/**
+	 * Expands, verifies, and then handles the warmup and measured transactions.
+	 *
+	 * @return the report on the measured transactions
+	 */
+	public Report run() {
+		int total = numWarmupTxns + numTxns;
+		var types = new TxnMix.Type[total];
+		var txns = new com.swirlds.common.Transaction[total];
+		var consensusTimes = new Instant[total];
+		for (int i = 0; i < total; i++) {
+			types[i] = mix.next(random);
+			consensusTimes[i] = nextConsensusTime;
+			nextConsensusTime = nextConsensusTime.plusNanos(consensusNanosPerTxn);
+			txns[i] = platformTxn(next(types[i], consensusTimes[i].minusSeconds(1L)));
+		}
+
+		/* As the platform does, expand and verify signatures before consensus. */
+		long expandNanos = 0L, verifyNanos = 0L;
+		for (var txn : txns) {
+			long start = System.nanoTime();
+			state.expandSignatures(txn);
+			long expanded = System.nanoTime();
+			standIn.getCryptography().verifySync(txn.getSignatures());
+			verifyNanos += System.nanoTime() - expanded;
+			expandNanos += expanded - start;
+		}
+
+		for (int i = 0; i < numWarmupTxns; i++) {
+			state.handleTransaction(NODE_ID, true, consensusTimes[i], consensusTimes[i], txns[i]);
+		}
+		/* Discard the warmup transactions from the per-stage latencies. */
+		ctx.handleLatencies().updateAndLog();
+
+		var latencies = new long[numTxns];
+		var statuses = new EnumMap<TxnMix.Type, Map<ResponseCodeEnum, Integer>>(TxnMix.Type.class);
+		var gcBefore = GcSnapshot.now();
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		for (int i = numWarmupTxns; i < total; i++) {
+			long handleStart = System.nanoTime();
+			state.handleTransaction(NODE_ID, true, consensusTimes[i], consensusTimes[i], txns[i]);
+			latencies[i - numWarmupTxns] = System.nanoTime() - handleStart;
+			statuses.computeIfAbsent(types[i], ignore -> new TreeMap<>())
+					.merge(lastStatus(), 1, Integer::sum);
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = allocatedBytes() - allocatedBefore;
+		var gc = GcSnapshot.now().since(gcBefore);
+		ctx.handleLatencies().updateAndLog();
+
+		return new Report(
+				Arrays.copyOfRange(types, numWarmupTxns, total),
+				latencies,
+				statuses,
+				elapsed,
+				allocated,
+				gc,
+				(double) expandNanos / total,
+				(double) verifyNanos / total);
+	}
+
+	private void seedEntities() {
+		var seqNo = ctx.seqNo();
+		for (int i = 0; i < numAccounts; i++) {
+			var id = AccountID.newBuilder().setAccountNum(seqNo.getAndIncrement()).build();
+			accounts.add(new SimAccount(id, randomBytes(random, 32)));
+		}
+		for (int i = 0; i < numTokens; i++) {
+			tokens.add(TokenID.newBuilder().setTokenNum(seqNo.getAndIncrement()).build());
+		}
+		for (int i = 0; i < numTopics; i++) {
+			topics.add(TopicID.newBuilder().setTopicNum(seqNo.getAndIncrement()).build());
+		}
+
+		var treasury = accounts.get(0).id();
+		for (var token : tokens) {
+			ctx.tokens().put(fromTokenId(token), new MerkleToken(
+					expiry,
+					INITIAL_TOKEN_BALANCE * numAccounts,
+					0,
+					"SIM" + token.getTokenNum(),
+					"Simulated token " + token.getTokenNum(),
+					false,
+					true,
+					new EntityId(0, 0, treasury.getAccountNum())));
+		}
+		for (var topic : topics) {
+			ctx.topics().put(fromTopicId(topic), new MerkleTopic(
+					"", null, null, 0L, null, new RichInstant(expiry, 0)));
+		}
+		var allTokens = new HashSet<>(tokens);
+		for (var simAccount : accounts) {
+			var account = new MerkleAccount();
+			account.setKey(simAccount.jKey());
+			account.setExpiry(expiry);
+			setBalance(account, INITIAL_BALANCE);
+			account.tokens().associateAll(allTokens);
+			ctx.accounts().put(fromAccountId(simAccount.id()), account);
+			for (var token : tokens) {
+				ctx.tokenAssociations().put(
+						fromAccountTokenRel(simAccount.id(), token),
+						new MerkleTokenRelStatus(INITIAL_TOKEN_BALANCE, false, true));
+			}
+		}
+
+		/* Keep the total float unchanged, by funding the seeded accounts from the treasury. */
+		var systemTreasury = new MerkleEntityId(0, 0, ctx.accountNums().treasury());
+		var treasuryAccount = ctx.accounts().getForModify(systemTreasury);
+		setBalance(treasuryAccount, treasuryAccount.getBalance() - INITIAL_BALANCE * numAccounts);
+		ctx.accounts().replace(systemTreasury, treasuryAccount);
+	}
+
+	private void createContract() {
+		var owner = accounts.get(0);
+		var fileCreate = handleNow(signed(owner, nextConsensusTime.minusSeconds(1L), txn -> txn
+				.setFileCreate(FileCreateTransactionBody.newBuilder()
+						.setContents(ByteString.copyFrom(SIMPLE_STORAGE_BYTECODE, US_ASCII))
+						.setKeys(KeyList.newBuilder().addKeys(owner.grpcKey()))
+						.setExpirationTime(Timestamp.newBuilder().setSeconds(expiry)))));
+		var contractCreate = handleNow(signed(owner, nextConsensusTime.minusSeconds(1L), txn -> txn
+				.setContractCreateInstance(ContractCreateTransactionBody.newBuilder()
+						.setFileID(fileCreate.getFileID())
+						.setGas(CONTRACT_CREATE_GAS)
+						.setAutoRenewPeriod(CONTRACT_AUTO_RENEW))));
+		contract = contractCreate.getContractID();
+	}
+
+	private TransactionReceipt handleNow(Transaction signedTxn) {
+		var txn = platformTxn(signedTxn);
+		state.expandSignatures(txn);
+		standIn.getCryptography().verifySync(txn.getSignatures());
+		state.handleTransaction(NODE_ID, true, nextConsensusTime, nextConsensusTime, txn);
+		nextConsensusTime = nextConsensusTime.plusNanos(consensusNanosPerTxn);
+
+		var receipt = ctx.recordsHistorian().lastCreatedRecord()
+				.map(TransactionRecord::getReceipt)
+				.orElseThrow(() -> new IllegalStateException("No record for a set-up transaction!"));
+		if (receipt.getStatus() != SUCCESS) {
+			throw new IllegalStateException("Set-up transaction failed with status " + receipt.getStatus());
+		}
+		return receipt;
+	}
+
+	private Transaction next(TxnMix.Type type, Instant validStart) {
+		var payer = randomAccount();
+		var counterparty = randomAccountOtherThan(payer);
+		switch (type) {
+			case CRYPTO_TRANSFER:
+				return signed(payer, validStart, txn -> txn
+						.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+								.setTransfers(TransferList.newBuilder()
+										.addAccountAmounts(adjust(payer.id(), -1L))
+										.addAccountAmounts(adjust(counterparty.id(), +1L)))));
+			case TOKEN_TRANSFER:
+				return signed(payer, validStart, txn -> txn
+						.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+								.addTokenTransfers(TokenTransferList.newBuilder()
+										.setToken(tokens.get(random.nextInt(numTokens)))
+										.addTransfers(adjust(payer.id(), -1L))
+										.addTransfers(adjust(counterparty.id(), +1L)))));
+			case CONSENSUS_SUBMIT:
+				return signed(payer, validStart, txn -> txn
+						.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+								.setTopicID(topics.get(random.nextInt(numTopics)))
+								.setMessage(ByteString.copyFrom(randomBytes(random, MESSAGE_SIZE)))));
+			case CONTRACT_CALL:
+				return signed(payer, validStart, txn -> txn
+						.setContractCall(ContractCallTransactionBody.newBuilder()
+								.setContractID(contract)
+								.setGas(CONTRACT_CALL_GAS)
+								.setFunctionParameters(setCall(random.nextLong()))));
+			default:
+				throw new IllegalArgumentException("Unsupported transaction type " + type);
+		}
+	}
+
+	private static Transaction signed(SimAccount payer, Instant validStart, Consumer<TransactionBody.Builder> op) {
+		var body = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(payer.id())
+						.setTransactionValidStart(Timestamp.newBuilder()
+								.setSeconds(validStart.getEpochSecond())
+								.setNanos(validStart.getNano())))
+				.setNodeAccountID(NODE_ACCOUNT)
+				.setTransactionFee(MAX_FEE)
+				.setTransactionValidDuration(VALID_DURATION);
+		op.accept(body);
+		var bodyBytes = body.build().toByteString();
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(bodyBytes)
+						.setSigMap(SignatureMap.newBuilder().addSigPair(payer.sign(bodyBytes.toByteArray())))
+						.build()
+						.toByteString())
+				.build();
+	}
+
+	private static com.swirlds.common.Transaction platformTxn(Transaction signedTxn) {
+		return new com.swirlds.common.Transaction(signedTxn.toByteArray());
+	}
+
+	private static AccountAmount adjust(AccountID account, long amount) {
+		return AccountAmount.newBuilder().setAccountID(account).setAmount(amount).build();
+	}
+
+	private static ByteString setCall(long value) {
+		var params = new byte[SET_SELECTOR.length + 32];
+		System.arraycopy(SET_SELECTOR, 0, params, 0, SET_SELECTOR.length);
+		for (int i = 0; i < Long.BYTES; i++) {
+			params[params.length - 1 - i] = (byte) (value >>> (8 * i));
+		}
+		return ByteString.copyFrom(params);
+	}
+
+	private SimAccount randomAccount() {
+		return accounts.get(random.nextInt(numAccounts));
+	}
+
+	private SimAccount randomAccountOtherThan(SimAccount account) {
+		SimAccount other;
+		do {
+			other = randomAccount();
+		} while (other == account);
+		return other;
+	}
+
+	private ResponseCodeEnum lastStatus() {
+		return ctx.recordsHistorian().lastCreatedRecord()
+				.map(record -> record.getReceipt().getStatus())
+				.orElse(ResponseCodeEnum.UNKNOWN);
+	}
+
+	private static void setBalance(MerkleAccount account, long balance) {
+		try {
+			account.setBalance(balance);
+		} catch (NegativeAccountBalanceException e) {
+			throw new IllegalStateException("Seeded balances exceed the treasury!", e);
+		}
+	}
+
+	private static ScreenedNodeFileProps withOverrides(Map<String, Object> overrides) {
+		return new ScreenedNodeFileProps() {
+			@Override
+			public boolean containsProperty(String name) {
+				return overrides.containsKey(name) || super.containsProperty(name);
+			}
+
+			@Override
+			public Object getProperty(String name) {
+				return overrides.containsKey(name) ? overrides.get(name) : super.getProperty(name);
+			}
+
+			@Override
+			public Set<String> allPropertyNames() {
+				var names = new HashSet<>(super.allPropertyNames());
+				names.addAll(overrides.keySet());
+				return names;
+			}
+		};
+	}
+
+	/**
+	 * Returns an address book with just the (staked) simulated node, whose memo
+	 * gives its account as the platform would read it from {@code config.txt}.
+	 */
+	private static AddressBook singleNodeAddressBook() {
+		byte[] localhost = { 127, 0, 0, 1 };
+		var address = new Address(
+				NODE_ID, "node0", "node0", 1L, true,
+				localhost, 50204, localhost, 50204,
+				null, -1, null, -1,
+				rsaPublicKey(), null, null,
+				"0.0." + NODE_ACCOUNT.getAccountNum());
+		return new AddressBook(List.of(address));
+	}
+
+	private static PublicKey rsaPublicKey() {
+		try {
+			var generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair().getPublic();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] randomBytes(SplittableRandom random, int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) random.nextInt(256);
+		}
+		return bytes;
+	}
+
+	private static long allocatedBytes() {
+		var threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1L;
+	}
+
+	static class GcSnapshot {
+		final long collections;
+		final long millis;
+
+		GcSnapshot(long collections, long millis) {
+			this.collections = collections;
+			this.millis = millis;
+		}
+
+		static GcSnapshot now() {
+			long collections = 0L, millis = 0L;
+			for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+				collections += Math.max(0L, gc.getCollectionCount());
+				millis += Math.max(0L, gc.getCollectionTime());
+			}
+			return new GcSnapshot(collections, millis);
+		}
+
+		GcSnapshot since(GcSnapshot before) {
+			return new GcSnapshot(collections - before.collections, millis - before.millis);
+		}
+	}
+
+	/**
+	 * The throughput, GC pressure, and latencies of handling the measured transactions.
+	 */
+	public class Report {
+		private final TxnMix.Type[] types;
+		private final long[] latencies;
+		private final Map<TxnMix.Type, Map<ResponseCodeEnum, Integer>> statuses;
+		private final long elapsedNanos;
+		private final long allocatedBytes;
+		private final GcSnapshot gc;
+		private final double expandNanosPerTxn;
+		private final double verifyNanosPerTxn;
+
+		Report(
+				TxnMix.Type[] types,
+				long[] latencies,
+				Map<TxnMix.Type, Map<ResponseCodeEnum, Integer>> statuses,
+				long elapsedNanos,
+				long allocatedBytes,
+				GcSnapshot gc,
+				double expandNanosPerTxn,
+				double verifyNanosPerTxn
+		) {
+			this.types = types;
+			this.latencies = latencies;
+			this.statuses = statuses;
+			this.elapsedNanos = elapsedNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.gc = gc;
+			this.expandNanosPerTxn = expandNanosPerTxn;
+			this.verifyNanosPerTxn = verifyNanosPerTxn;
+		}
+
+		public double tps() {
+			return latencies.length * NANOS_PER_SEC / elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			var sb = new StringBuilder();
+			sb.append(String.format("Handled %d txns (after %d warmup) of mix %s in %.3fs :: %.1f TPS%n",
+					latencies.length, numWarmupTxns, mix, elapsedNanos / NANOS_PER_SEC, tps()));
+			sb.append(String.format("GC :: %d collections taking %dms (%.2f%% of the run)%n",
+					gc.collections, gc.millis, 100.0 * gc.millis * 1_000_000L / elapsedNanos));
+			if (allocatedBytes >= 0) {
+				sb.append(String.format("Handle thread allocated %.1f MB (%.1f KB/txn)%n",
+						allocatedBytes / 1_048_576.0, allocatedBytes / 1_024.0 / latencies.length));
+			}
+			sb.append(String.format("Before consensus (not in TPS) :: expandSignatures %.1fus/txn, " +
+							"ed25519 verification %.1fus/txn%n",
+					expandNanosPerTxn / NANOS_PER_MICRO, verifyNanosPerTxn / NANOS_PER_MICRO));
+
+			sb.append("Handle latency by txn type (us) ::");
+			for (TxnMix.Type type : TxnMix.Type.values()) {
+				var typeLatencies = latenciesOf(type);
+				if (typeLatencies.length == 0) {
+					continue;
+				}
+				Arrays.sort(typeLatencies);
+				sb.append(String.format("%n  %-16s n=%-8d", type, typeLatencies.length));
+				appendQuantiles(sb, typeLatencies);
+				sb.append(String.format(" max=%.1f %s",
+						typeLatencies[typeLatencies.length - 1] / NANOS_PER_MICRO,
+						statuses.get(type)));
+			}
+
+			var stageLatencies = ctx.handleLatencies();
+			sb.append(String.format("%nHandle stage latency over all types (us, per-type in the log) ::"));
+			for (HandleStage stage : HandleStage.values()) {
+				sb.append(String.format("%n  %-24s", stage.statName()));
+				for (int i = 0; i < QUANTILES.length; i++) {
+					sb.append(String.format(" %s=%d", QUANTILE_NAMES[i], stageLatencies.quantileMicros(stage, i)));
+				}
+			}
+			return sb.toString();
+		}
+
+		private long[] latenciesOf(TxnMix.Type type) {
+			int n = 0;
+			var matching = new long[latencies.length];
+			for (int i = 0; i < latencies.length; i++) {
+				if (types[i] == type) {
+					matching[n++] = latencies[i];
+				}
+			}
+			return Arrays.copyOf(matching, n);
+		}
+
+		private void appendQuantiles(StringBuilder sb, long[] sorted) {
+			for (int i = 0; i < QUANTILES.length; i++) {
+				int rank = (int) Math.ceil(QUANTILES[i] * sorted.length) - 1;
+				sb.append(String.format(" %s=%.1f", QUANTILE_NAMES[i], sorted[Math.max(0, rank)] / NANOS_PER_MICRO));
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import net.i2p.crypto.eddsa.EdDSAEngine;
+import net.i2p.crypto.eddsa.EdDSAPrivateKey;
+import net.i2p.crypto.eddsa.spec.EdDSAPrivateKeySpec;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import static net.i2p.crypto.eddsa.spec.EdDSANamedCurveTable.ED_25519_CURVE_SPEC;
+
+/**
+ * Minimal ed25519 signing for the simulator, which signs every transaction it
+ * submits with the key of its payer.
+ */
+public final class Ed25519 {
+	private Ed25519() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static EdDSAPrivateKey keyFromSeed(byte[] seed) {
+		return new EdDSAPrivateKey(new EdDSAPrivateKeySpec(seed, ED_25519_CURVE_SPEC));
+	}
+
+	public static byte[] sign(EdDSAPrivateKey key, byte[] data) {
+		try {
+			var engine = new EdDSAEngine(MessageDigest.getInstance(ED_25519_CURVE_SPEC.getHashAlgorithm()));
+			engine.initSign(key);
+			return engine.signOneShot(data);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Could not sign with an ed25519 key!", e);
+		}
+	}
+}
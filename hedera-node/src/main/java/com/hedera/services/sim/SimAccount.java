@@ -0,0 +1,69 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import net.i2p.crypto.eddsa.EdDSAPrivateKey;
+
+/**
+ * An account seeded into the simulated state, along with the ed25519 key the
+ * simulator signs its transactions with.
+ */
+public class SimAccount {
+	private final AccountID id;
+	private final EdDSAPrivateKey privateKey;
+	private final byte[] publicKey;
+
+	public SimAccount(AccountID id, byte[] seed) {
+		this.id = id;
+		this.privateKey = Ed25519.keyFromSeed(seed);
+		this.publicKey = privateKey.getAbyte();
+	}
+
+	public AccountID id() {
+		return id;
+	}
+
+	public JEd25519Key jKey() {
+		return new JEd25519Key(publicKey);
+	}
+
+	public Key grpcKey() {
+		return Key.newBuilder().setEd25519(ByteString.copyFrom(publicKey)).build();
+	}
+
+	/**
+	 * Returns a signature pair for the given data, with a full-length public key prefix.
+	 *
+	 * @param data the data to sign
+	 * @return the signature pair
+	 */
+	public SignaturePair sign(byte[] data) {
+		return SignaturePair.newBuilder()
+				.setPubKeyPrefix(ByteString.copyFrom(publicKey))
+				.setEd25519(ByteString.copyFrom(Ed25519.sign(privateKey, data)))
+				.build();
+	}
+}
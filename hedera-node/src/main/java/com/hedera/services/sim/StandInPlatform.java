@@ -0,0 +1,212 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.Address;
+import com.swirlds.common.AddressBook;
+import com.swirlds.common.Console;
+import com.swirlds.common.InvalidSignedStateListener;
+import com.swirlds.common.NodeId;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import com.swirlds.common.Statistics;
+import com.swirlds.common.SwirldState;
+import com.swirlds.common.Transaction;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.events.Event;
+
+import javax.swing.JFrame;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stands in for the Swirlds {@link Platform} of a single-node network, so that
+ * a {@link com.hedera.services.ServicesState} can be initialized and fed
+ * transactions in-process, without gossip or consensus.
+ *
+ * Signatures are verified by the same {@link Cryptography} a real platform uses,
+ * from {@link CryptoFactory}; {@code createTransaction} just counts submissions;
+ * and everything a real platform does outside the handle path (stats, console,
+ * windows, signed state callbacks) is a no-op.
+ */
+public class StandInPlatform implements Platform {
+	private static final byte[] NO_SIGNATURE = new byte[0];
+
+	private final NodeId selfId;
+	private final AddressBook addressBook;
+	private final Cryptography cryptography = CryptoFactory.getInstance();
+	private final AtomicLong numSubmitted = new AtomicLong();
+
+	public StandInPlatform(long selfId, AddressBook addressBook) {
+		this.selfId = NodeId.createMain(selfId);
+		this.addressBook = addressBook;
+	}
+
+	public long numSubmitted() {
+		return numSubmitted.get();
+	}
+
+	@Override
+	public NodeId getSelfId() {
+		return selfId;
+	}
+
+	@Override
+	public Cryptography getCryptography() {
+		return cryptography;
+	}
+
+	@Override
+	public boolean createTransaction(Transaction trans) {
+		numSubmitted.incrementAndGet();
+		return true;
+	}
+
+	@Override
+	public Address getAddress() {
+		return addressBook.getAddress(selfId.getId());
+	}
+
+	@Override
+	public Address getAddress(long id) {
+		return addressBook.getAddress(id);
+	}
+
+	@Override
+	public int getNumMembers() {
+		return addressBook.getSize();
+	}
+
+	@Override
+	public Instant estimateTime() {
+		return Instant.now();
+	}
+
+	/* Record stream and balance files are the only things Services signs, and the simulator writes neither. */
+	@Override
+	public byte[] sign(byte[] data) {
+		return NO_SIGNATURE;
+	}
+
+	/* --- Unused outside a real network --- */
+	@Override
+	public void addAppStatEntry(StatEntry newEntry) {
+	}
+
+	@Override
+	public void addSignedStateListener(InvalidSignedStateListener listener) {
+	}
+
+	@Override
+	public void appStatInit() {
+	}
+
+	@Override
+	public Console createConsole(boolean visible) {
+		return null;
+	}
+
+	@Override
+	public JFrame createWindow(boolean visible) {
+		return null;
+	}
+
+	@Override
+	public String getAbout() {
+		return "";
+	}
+
+	@Override
+	public Event[] getAllEvents() {
+		return new Event[0];
+	}
+
+	@Override
+	public long[] getLastSeqByCreator() {
+		return new long[addressBook.getSize()];
+	}
+
+	@Override
+	public double getLastSyncSpeed(int nodeIndex) {
+		return 0.0;
+	}
+
+	@Override
+	public String[] getParameters() {
+		return new String[0];
+	}
+
+	@Override
+	public long getSleepAfterSync() {
+		return 0L;
+	}
+
+	@Override
+	public <T extends SwirldState> T getState() {
+		return null;
+	}
+
+	@Override
+	public Statistics getStats() {
+		return null;
+	}
+
+	@Override
+	public byte[] getSwirldId() {
+		return new byte[0];
+	}
+
+	@Override
+	public boolean isMirrorNode() {
+		return false;
+	}
+
+	@Override
+	public boolean isZeroStakeNode() {
+		return false;
+	}
+
+	@Override
+	public void releaseState() {
+	}
+
+	@Override
+	public void setAbout(String about) {
+	}
+
+	@Override
+	public void setFreezeTime(int startHour, int startMin, int endHour, int endMin) {
+	}
+
+	@Override
+	public void setLastSyncSpeed(int nodeIndex, double speed) {
+	}
+
+	@Override
+	public void setSleepAfterSync(long delay) {
+	}
+
+	@Override
+	public Instant getLastSignedStateTimestamp() {
+		return null;
+	}
+}
@@ -0,0 +1,92 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A weighted mix of the transaction types the {@link ConsensusSimulator} submits,
+ * parsed from a spec such as {@code CRYPTO_TRANSFER=4,TOKEN_TRANSFER=3,CONSENSUS_SUBMIT=2,CONTRACT_CALL=1}.
+ */
+public class TxnMix {
+	public static final String DEFAULT_SPEC = "CRYPTO_TRANSFER=4,TOKEN_TRANSFER=3,CONSENSUS_SUBMIT=2,CONTRACT_CALL=1";
+
+	public enum Type {
+		CRYPTO_TRANSFER,
+		TOKEN_TRANSFER,
+		CONSENSUS_SUBMIT,
+		CONTRACT_CALL
+	}
+
+	private static final Type[] TYPES = Type.values();
+
+	private final int[] cumulativeWeights = new int[TYPES.length];
+	private final Map<Type, Integer> weights;
+
+	public TxnMix(Map<Type, Integer> weights) {
+		this.weights = new EnumMap<>(weights);
+		int total = 0;
+		for (int i = 0; i < TYPES.length; i++) {
+			int weight = this.weights.getOrDefault(TYPES[i], 0);
+			if (weight < 0) {
+				throw new IllegalArgumentException(String.format("Negative weight %d for %s!", weight, TYPES[i]));
+			}
+			total += weight;
+			cumulativeWeights[i] = total;
+		}
+		if (total == 0) {
+			throw new IllegalArgumentException("At least one transaction type needs a positive weight!");
+		}
+	}
+
+	public static TxnMix parse(String spec) {
+		var weights = new EnumMap<Type, Integer>(Type.class);
+		for (String part : spec.split(",")) {
+			var nameAndWeight = part.trim().split("=");
+			if (nameAndWeight.length != 2) {
+				throw new IllegalArgumentException(String.format("Mix entry '%s' is not of the form TYPE=weight!", part));
+			}
+			weights.put(Type.valueOf(nameAndWeight[0].trim()), Integer.parseInt(nameAndWeight[1].trim()));
+		}
+		return new TxnMix(weights);
+	}
+
+	public boolean includes(Type type) {
+		return weights.getOrDefault(type, 0) > 0;
+	}
+
+	public Type next(SplittableRandom random) {
+		int choice = random.nextInt(cumulativeWeights[TYPES.length - 1]);
+		for (int i = 0; i < TYPES.length; i++) {
+			if (choice < cumulativeWeights[i]) {
+				return TYPES[i];
+			}
+		}
+		throw new IllegalStateException("Choice " + choice + " exceeds the total weight!");
+	}
+
+	@Override
+	public String toString() {
+		return weights.toString();
+	}
+}
@@ -23,30 +23,32 @@ package com.hedera.services.state.expiry;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.initialization.RebuildableView;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.AccountID;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcmap.FCMap;
 import com.swirlds.fcqueue.FCQueue;
 
-import java.util.AbstractMap;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
-public class ExpiryManager {
+public class ExpiryManager implements RebuildableView<MerkleEntityId, MerkleAccount> {
 	private final RecordCache recordCache;
-	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private final TxnIdTable<TxnIdRecentHistory> txnHistories;
+
+	private final LongConsumer purgeAction = this::purgeExpiredRecordsOf;
+	private final Consumer<ExpirableTxnRecord> historyUpdate = this::updateHistory;
 
 	long sharedNow;
-	MonotonicFullQueueExpiries<Long> payerExpiries = new MonotonicFullQueueExpiries<>();
+	HederaLedger sharedLedger;
+	NumExpiryWheel payerExpiries = new NumExpiryWheel();
 
 	public ExpiryManager(
 			RecordCache recordCache,
-			Map<TransactionID, TxnIdRecentHistory> txnHistories
+			TxnIdTable<TxnIdRecentHistory> txnHistories
 	) {
 		this.recordCache = recordCache;
 		this.txnHistories = txnHistories;
@@ -57,53 +59,56 @@ public class ExpiryManager {
 	}
 
 	public void restartTrackingFrom(FCMap<MerkleEntityId, MerkleAccount> accounts) {
+		rebuildFrom(accounts::forEach);
+	}
+
+	@Override
+	public void beginRebuild() {
 		recordCache.reset();
 		txnHistories.clear();
 		payerExpiries.reset();
+	}
 
-		var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
-		accounts.forEach((id, account) -> {
-			addUniqueExpiries(id.getNum(), account.records(), _payerExpiries);
-		});
-
-		var cmp = Comparator.comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey);
-		_payerExpiries.sort(cmp);
-		_payerExpiries.forEach(entry -> payerExpiries.track(entry.getKey(), entry.getValue()));
+	@Override
+	public void rebuildWith(MerkleEntityId id, MerkleAccount account) {
+		trackUniqueExpiries(id.getNum(), account.records());
+	}
 
-		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
+	@Override
+	public void finishRebuild() {
+		txnHistories.forEachValue(TxnIdRecentHistory::observeStaged);
 	}
 
-	private void addUniqueExpiries(
-			Long num,
-			FCQueue<ExpirableTxnRecord> records,
-			List<Map.Entry<Long, Long>> expiries
-	) {
+	private void trackUniqueExpiries(long num, FCQueue<ExpirableTxnRecord> records) {
 		long lastAdded = -1;
 		for (ExpirableTxnRecord record : records) {
 			stage(record);
 			var expiry = record.getExpiry();
 			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
+				payerExpiries.track(num, expiry);
 				lastAdded = expiry;
 			}
 		}
 	}
 
 	void stage(ExpirableTxnRecord record) {
-		var txnId = record.getTxnId().toGrpc();
-		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(record);
+		txnHistories.computeIfAbsent(record.getTxnId(), TxnIdRecentHistory::new).stage(record);
 	}
 
 	public void purgeExpiredRecordsAt(long now, HederaLedger ledger) {
 		sharedNow = now;
-		while (payerExpiries.hasExpiringAt(now)) {
-			ledger.purgeExpiredRecords(accountWith(payerExpiries.expireNextAt(now)), now, this::updateHistory);
-		}
+		sharedLedger = ledger;
+		payerExpiries.expireAllAt(now, purgeAction);
+		sharedLedger = null;
 		recordCache.forgetAnyOtherExpiredHistory(now);
 	}
 
+	private void purgeExpiredRecordsOf(long num) {
+		sharedLedger.purgeExpiredRecords(accountWith(num), sharedNow, historyUpdate);
+	}
+
 	void updateHistory(ExpirableTxnRecord record) {
-		var txnId = record.getTxnId().toGrpc();
+		var txnId = record.getTxnId();
 		var history = txnHistories.get(txnId);
 		if (history != null) {
 			history.forgetExpiredAt(sharedNow);
@@ -0,0 +1,201 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * A timing wheel of entity numbers, keyed by the consensus second at which
+ * each number has something due to expire. Every slot of the wheel is a
+ * reusable bucket of primitive {@code long}s holding all the numbers due in
+ * a single second; so tracking an expiry is an append to an array, and
+ * expiring a second hands its whole bucket to the caller at once.
+ *
+ * Expiries may be tracked in any order (there is no need to sort them
+ * first), and a number tracked more than once in the same second is only
+ * expired once in that second. Within a second, numbers are expired in
+ * ascending order.
+ *
+ * In the rare case that a slot is already busy with a different second
+ * (that is, an expiry more than {@code numSlots} seconds away from another
+ * pending expiry), the number goes to an ordered overflow map instead.
+ *
+ * This class is <b>not</b> thread-safe.
+ */
+public class NumExpiryWheel {
+	static final int DEFAULT_NUM_SLOTS = 1 << 10;
+	static final int INITIAL_BUCKET_CAPACITY = 16;
+
+	private final int mask;
+	private final Bucket[] slots;
+
+	TreeMap<Long, Bucket> overflow = new TreeMap<>();
+	int numBusySlots = 0;
+	long cursor = Long.MAX_VALUE;
+
+	public NumExpiryWheel() {
+		this(DEFAULT_NUM_SLOTS);
+	}
+
+	NumExpiryWheel(int numSlots) {
+		if (numSlots <= 0 || Integer.bitCount(numSlots) != 1) {
+			throw new IllegalArgumentException(String.format("Number of slots %d is not a power of two", numSlots));
+		}
+		mask = numSlots - 1;
+		slots = new Bucket[numSlots];
+		for (int i = 0; i < numSlots; i++) {
+			slots[i] = new Bucket();
+		}
+	}
+
+	public void reset() {
+		for (Bucket slot : slots) {
+			slot.clear();
+		}
+		overflow.clear();
+		numBusySlots = 0;
+		cursor = Long.MAX_VALUE;
+	}
+
+	public boolean isEmpty() {
+		return numBusySlots == 0 && overflow.isEmpty();
+	}
+
+	public void track(long num, long expiry) {
+		if (isEmpty() || expiry < cursor) {
+			cursor = expiry;
+		}
+		var slot = slotFor(expiry);
+		if (slot.size == 0) {
+			slot.second = expiry;
+			slot.add(num);
+			numBusySlots++;
+		} else if (slot.second == expiry) {
+			slot.add(num);
+		} else {
+			overflow.computeIfAbsent(expiry, ignore -> new Bucket()).add(num);
+		}
+	}
+
+	/**
+	 * Passes to the given action every number with an expiry no later than the
+	 * given consensus second, in order of expiry, and stops tracking them. The
+	 * action must not itself track new expiries.
+	 *
+	 * @param now the current consensus second
+	 * @param action the action to take for each expired number
+	 */
+	public void expireAllAt(long now, LongConsumer action) {
+		while (cursor <= now) {
+			if (numBusySlots == 0) {
+				if (overflow.isEmpty()) {
+					return;
+				}
+				cursor = Math.max(cursor, overflow.firstKey());
+				if (cursor > now) {
+					return;
+				}
+			}
+			expireSecond(cursor, action);
+			cursor++;
+		}
+	}
+
+	private void expireSecond(long second, LongConsumer action) {
+		var slot = slotFor(second);
+		boolean inSlot = slot.size > 0 && slot.second == second;
+		Bucket extra = (!overflow.isEmpty() && overflow.firstKey() == second) ? overflow.pollFirstEntry().getValue() : null;
+		if (!inSlot && extra == null) {
+			return;
+		}
+
+		Bucket due;
+		if (inSlot) {
+			due = slot;
+			if (extra != null) {
+				due.addAll(extra);
+			}
+			numBusySlots--;
+		} else {
+			due = extra;
+		}
+		int n = due.sortDistinct();
+		long[] nums = due.nums;
+		due.clear();
+		for (int i = 0; i < n; i++) {
+			action.accept(nums[i]);
+		}
+	}
+
+	int numPending() {
+		int n = 0;
+		for (Bucket slot : slots) {
+			n += slot.size;
+		}
+		for (Bucket bucket : overflow.values()) {
+			n += bucket.size;
+		}
+		return n;
+	}
+
+	private Bucket slotFor(long second) {
+		return slots[(int) (second & mask)];
+	}
+
+	static final class Bucket {
+		long second;
+		long[] nums = new long[INITIAL_BUCKET_CAPACITY];
+		int size = 0;
+
+		void add(long num) {
+			if (size > 0 && nums[size - 1] == num) {
+				return;
+			}
+			if (size == nums.length) {
+				nums = Arrays.copyOf(nums, 2 * size);
+			}
+			nums[size++] = num;
+		}
+
+		void addAll(Bucket that) {
+			for (int i = 0; i < that.size; i++) {
+				add(that.nums[i]);
+			}
+		}
+
+		int sortDistinct() {
+			Arrays.sort(nums, 0, size);
+			int distinct = 0;
+			for (int i = 0; i < size; i++) {
+				if (distinct == 0 || nums[distinct - 1] != nums[i]) {
+					nums[distinct++] = nums[i];
+				}
+			}
+			return size = distinct;
+		}
+
+		void clear() {
+			size = 0;
+		}
+	}
+}
@@ -21,8 +21,11 @@ package com.hedera.services.state.exports;
  */
 
 import com.google.common.base.MoreObjects;
+import com.hederahashgraph.api.proto.java.TokenBalance;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 public class AccountBalance implements Comparable<AccountBalance> {
 	private static final Comparator<AccountBalance> CANONICAL_ORDER = Comparator
@@ -35,6 +38,7 @@ public class AccountBalance implements Comparable<AccountBalance> {
 	private long realm;
 	private long balance;
 	private String b64TokenBalances = "";
+	private List<TokenBalance> tokenBalances = Collections.emptyList();
 
 	public AccountBalance(
 			long shard,
@@ -118,4 +122,12 @@ public class AccountBalance implements Comparable<AccountBalance> {
 	public String getB64TokenBalances() {
 		return b64TokenBalances;
 	}
+
+	public void setTokenBalances(List<TokenBalance> tokenBalances) {
+		this.tokenBalances = tokenBalances;
+	}
+
+	public List<TokenBalance> getTokenBalances() {
+		return tokenBalances;
+	}
 }
@@ -0,0 +1,133 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.utils.SystemExits;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link BalancesExporter} that runs the exports of its delegate on a dedicated daemon
+ * thread, so the platform thread delivering signed states never waits on the account scan
+ * or the disk writes.
+ *
+ * At most one export runs at a time, with at most one more pending behind it; if another
+ * export comes due while one is still pending, the pending (older) signed state is skipped
+ * in favor of the newer one.
+ *
+ * Each signed state is reserved (by incrementing its reference count) before it is handed
+ * to the export thread, and released as soon as its export finishes or is skipped; so the
+ * platform cannot release the state out from under a running export.
+ */
+public class AsyncBalancesExporter implements BalancesExporter {
+	static Logger log = LogManager.getLogger(AsyncBalancesExporter.class);
+
+	static final String EXPORT_THREAD_NAME = "BalancesExportThread";
+
+	private final Executor exportThread;
+	private final SystemExits systemExits;
+	private final MiscRunningAvgs runningAvgs;
+	private final BalancesExporter delegate;
+
+	private final AtomicBoolean exporting = new AtomicBoolean(false);
+	private final AtomicReference<PendingExport> pending = new AtomicReference<>();
+
+	public AsyncBalancesExporter(
+			BalancesExporter delegate,
+			SystemExits systemExits,
+			MiscRunningAvgs runningAvgs
+	) {
+		this(delegate, systemExits, runningAvgs, Executors.newSingleThreadExecutor(task -> {
+			var thread = new Thread(task, EXPORT_THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	AsyncBalancesExporter(
+			BalancesExporter delegate,
+			SystemExits systemExits,
+			MiscRunningAvgs runningAvgs,
+			Executor exportThread
+	) {
+		this.delegate = delegate;
+		this.systemExits = systemExits;
+		this.runningAvgs = runningAvgs;
+		this.exportThread = exportThread;
+	}
+
+	@Override
+	public boolean isTimeToExport(Instant now) {
+		return delegate.isTimeToExport(now);
+	}
+
+	@Override
+	public void toCsvFile(ServicesState signedState, Instant when) {
+		signedState.incrementReferenceCount();
+		var skipped = pending.getAndSet(new PendingExport(signedState, when));
+		runningAvgs.recordBalancesExportBacklog((exporting.get() ? 1 : 0) + (skipped != null ? 1 : 0));
+		if (skipped == null) {
+			exportThread.execute(this::exportPending);
+		} else {
+			log.warn("Skipping balances export of signed state @ {}, a newer state @ {} is due", skipped.when, when);
+			skipped.signedState.decrementReferenceCount();
+		}
+	}
+
+	void exportPending() {
+		var export = pending.getAndSet(null);
+		if (export == null) {
+			return;
+		}
+		exporting.set(true);
+		long start = System.nanoTime();
+		try {
+			delegate.toCsvFile(export.signedState, export.when);
+		} catch (IllegalStateException ise) {
+			log.error("Signed state @ {} has invalid total balance, exiting!", export.when, ise);
+			systemExits.fail(1);
+		} catch (Exception unexpected) {
+			log.warn("Could not export balances of signed state @ {}!", export.when, unexpected);
+		} finally {
+			export.signedState.decrementReferenceCount();
+			runningAvgs.recordBalancesExportMs((System.nanoTime() - start) / 1_000_000.0);
+			exporting.set(false);
+		}
+	}
+
+	private static class PendingExport {
+		private final ServicesState signedState;
+		private final Instant when;
+
+		private PendingExport(ServicesState signedState, Instant when) {
+			this.signedState = signedState;
+			this.when = when;
+		}
+	}
+}
@@ -30,7 +30,9 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.utils.HederaDateTimeFormatter;
 import com.hedera.services.utils.MiscUtils;
+import com.google.protobuf.CodedOutputStream;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.SingleAccountBalances;
 import com.hederahashgraph.api.proto.java.TokenBalance;
 import com.hederahashgraph.api.proto.java.TokenBalances;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -38,23 +40,34 @@ import com.swirlds.fcmap.FCMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.UnaryOperator;
+import java.util.zip.GZIPOutputStream;
 
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
+import static com.hedera.services.utils.MiscUtils.asTimestamp;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 
 public class SignedStateBalancesExporter implements BalancesExporter {
 	static Logger log = LogManager.getLogger(SignedStateBalancesExporter.class);
@@ -67,6 +80,16 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	static final String BAD_SIGNING_ATTEMPT_ERROR_MSG_TPL = "Could not sign balance file '%s'!";
 	static final String GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL = "Created balance signature file '%s'.";
 	static final String CURRENT_VERSION = "version:2";
+	static final String HASH_ALGORITHM = "SHA-384";
+	static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+	static final int ALL_ACCOUNTS_TIMESTAMP_FIELD = 1;
+	static final int ALL_ACCOUNTS_BALANCES_FIELD = 2;
+
+	private static final Comparator<MerkleEntityId> CANONICAL_ID_ORDER = Comparator
+			.comparingLong(MerkleEntityId::getShard)
+			.thenComparingLong(MerkleEntityId::getRealm)
+			.thenComparingLong(MerkleEntityId::getNum);
 
 	static final Instant NEVER = null;
 	static final Base64.Encoder encoder = Base64.getEncoder();
@@ -76,7 +99,6 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	final GlobalDynamicProperties dynamicProperties;
 
 	SigFileWriter sigFileWriter = new StandardSigFileWriter();
-	FileHashReader hashReader = new Sha384HashReader();
 	DirectoryAssurance directories = loc -> Files.createDirectories(Paths.get(loc));
 
 	String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
@@ -119,50 +141,108 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 					summary.getTotalFloat(),
 					expectedFloat));
 		}
-		var csvLoc = lastUsedExportDir + when.toString().replace(":", "_") + "_Balances.csv";
-		boolean exportSucceeded = exportBalancesFile(summary, csvLoc, when);
-		if (exportSucceeded) {
-			tryToSign(csvLoc);
+		var fileNamePrefix = lastUsedExportDir + when.toString().replace(":", "_");
+		var csvLoc = fileNamePrefix + "_Balances.csv";
+		var csvHash = exportBalancesFile(summary, csvLoc, when);
+		if (csvHash != null) {
+			tryToSign(csvLoc, csvHash);
+		}
+		if (dynamicProperties.shouldExportBinaryBalances()) {
+			var pbLoc = fileNamePrefix + "_Balances.pb.gz";
+			var pbHash = exportBinaryBalancesFile(summary, pbLoc, when);
+			if (pbHash != null) {
+				tryToSign(pbLoc, pbHash);
+			}
 		}
 	}
 
-	private void tryToSign(String csvLoc) {
+	private void tryToSign(String fileLoc, byte[] hash) {
 		try {
-			var hash = hashReader.readHash(csvLoc);
 			var sig = signer.apply(hash);
-			var sigFileLoc = sigFileWriter.writeSigFile(csvLoc, sig, hash);
+			var sigFileLoc = sigFileWriter.writeSigFile(fileLoc, sig, hash);
 			if (log.isDebugEnabled()) {
 				log.debug(String.format(GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL, sigFileLoc));
 			}
 		} catch (Exception e) {
-			log.error(String.format(BAD_SIGNING_ATTEMPT_ERROR_MSG_TPL, csvLoc), e);
+			log.error(String.format(BAD_SIGNING_ATTEMPT_ERROR_MSG_TPL, fileLoc), e);
 		}
 	}
 
-	private boolean exportBalancesFile(BalancesSummary summary, String csvLoc, Instant when) {
-		try (BufferedWriter fout = Files.newBufferedWriter(Paths.get(csvLoc))) {
-			if (dynamicProperties.shouldExportTokenBalances()) {
+	/**
+	 * Streams the given balances to a CSV file at the given location, computing the
+	 * SHA-384 hash of the file contents as they are written.
+	 *
+	 * @return the hash of the written file, or {@code null} if it could not be written
+	 */
+	private byte[] exportBalancesFile(BalancesSummary summary, String csvLoc, Instant when) {
+		var digest = newDigest();
+		try (BufferedWriter fout = new BufferedWriter(new OutputStreamWriter(
+				new DigestOutputStream(Files.newOutputStream(Paths.get(csvLoc)), digest), UTF_8), EXPORT_BUFFER_SIZE)) {
+			boolean withTokenBalances = dynamicProperties.shouldExportTokenBalances();
+			if (withTokenBalances) {
 				addRelease090Header(fout, when);
 			} else {
 				addLegacyHeader(fout, when);
 			}
-			for (AccountBalance entry : summary.getOrderedBalances())  {
-				fout.write(String.format(
-						"%d,%d,%d,%d",
-						entry.getShard(),
-						entry.getRealm(),
-						entry.getNum(),
-						entry.getBalance()));
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					fout.write("," + entry.getB64TokenBalances());
+			for (AccountBalance entry : summary.getOrderedBalances()) {
+				fout.write(Long.toString(entry.getShard()));
+				fout.write(',');
+				fout.write(Long.toString(entry.getRealm()));
+				fout.write(',');
+				fout.write(Long.toString(entry.getNum()));
+				fout.write(',');
+				fout.write(Long.toString(entry.getBalance()));
+				if (withTokenBalances) {
+					fout.write(',');
+					fout.write(entry.getB64TokenBalances());
 				}
 				fout.write(LINE_SEPARATOR);
 			}
 		} catch (IOException e) {
 			log.error(String.format(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, csvLoc), e);
-			return false;
+			return null;
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * Streams the given balances to a gzipped binary file at the given location, computing
+	 * the SHA-384 hash of the (compressed) file contents as they are written. The file is
+	 * a serialized {@link com.hederahashgraph.api.proto.java.AllAccountBalances}, written
+	 * one field at a time so that no single message holds all the balances.
+	 *
+	 * @return the hash of the written file, or {@code null} if it could not be written
+	 */
+	private byte[] exportBinaryBalancesFile(BalancesSummary summary, String pbLoc, Instant when) {
+		var digest = newDigest();
+		try (GZIPOutputStream fout = new GZIPOutputStream(new BufferedOutputStream(
+				new DigestOutputStream(Files.newOutputStream(Paths.get(pbLoc)), digest), EXPORT_BUFFER_SIZE))) {
+			var out = CodedOutputStream.newInstance(fout, EXPORT_BUFFER_SIZE);
+			out.writeMessage(ALL_ACCOUNTS_TIMESTAMP_FIELD, asTimestamp(when));
+			for (AccountBalance entry : summary.getOrderedBalances()) {
+				out.writeMessage(ALL_ACCOUNTS_BALANCES_FIELD, SingleAccountBalances.newBuilder()
+						.setAccountID(AccountID.newBuilder()
+								.setShardNum(entry.getShard())
+								.setRealmNum(entry.getRealm())
+								.setAccountNum(entry.getNum()))
+						.setHbarBalance(entry.getBalance())
+						.addAllTokenBalances(entry.getTokenBalances())
+						.build());
+			}
+			out.flush();
+		} catch (IOException e) {
+			log.error(String.format(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, pbLoc), e);
+			return null;
+		}
+		return digest.digest();
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException(HASH_ALGORITHM + " not supported by Java API!");
 		}
-		return true;
 	}
 
 	private void addLegacyHeader(Writer writer, Instant at) throws IOException {
@@ -176,39 +256,63 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		writer.write("shardNum,realmNum,accountNum,balance,tokenBalances" + LINE_SEPARATOR);
 	}
 
+	/**
+	 * Summarizes the balances of all non-deleted accounts in the given signed state. Since the
+	 * state is immutable, the key space is sorted and then summarized in parallel; the ordered
+	 * parallel stream merges the per-shard runs back into canonical order.
+	 */
 	BalancesSummary summarized(ServicesState signedState) {
 		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
-		BigInteger totalFloat = BigInteger.valueOf(0L);
-		List<AccountBalance> accountBalances = new ArrayList<>();
+		boolean withTokenBalances = dynamicProperties.shouldExportTokenBalances();
 
 		var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
 		var tokens = signedState.tokens();
 		var accounts = signedState.accounts();
 		var tokenAssociations = signedState.tokenAssociations();
-		for (MerkleEntityId id : accounts.keySet())	{
-			var account = accounts.get(id);
-			if (!account.isDeleted()) {
-				var accountId = id.toAccountId();
-				var balance = account.getBalance();
-				if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
-					log.warn(String.format(
-							LOW_NODE_BALANCE_WARN_MSG_TPL,
-							readableId(accountId),
-							balance));
-				}
-				totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-				var balancesEntry = new AccountBalance(id.getShard(), id.getRealm(), id.getNum(), account.getBalance());
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					addTokenBalances(accountId, account, balancesEntry, tokens, tokenAssociations);
-				}
-				accountBalances.add(balancesEntry);
-			}
-		}
-		Collections.sort(accountBalances);
+
+		var ids = accounts.keySet().toArray(new MerkleEntityId[0]);
+		Arrays.parallelSort(ids, CANONICAL_ID_ORDER);
+		List<AccountBalance> accountBalances = Arrays.stream(ids)
+				.parallel()
+				.map(id -> balanceOf(
+						id, accounts.get(id), nodeIds, nodeBalanceWarnThreshold,
+						withTokenBalances, tokens, tokenAssociations))
+				.filter(Objects::nonNull)
+				.collect(toList());
+		BigInteger totalFloat = accountBalances.parallelStream()
+				.map(entry -> BigInteger.valueOf(entry.getBalance()))
+				.reduce(BigInteger.ZERO, BigInteger::add);
 
 		return new BalancesSummary(totalFloat, accountBalances);
 	}
 
+	private AccountBalance balanceOf(
+			MerkleEntityId id,
+			MerkleAccount account,
+			Set<AccountID> nodeIds,
+			long nodeBalanceWarnThreshold,
+			boolean withTokenBalances,
+			FCMap<MerkleEntityId, MerkleToken> tokens,
+			FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations
+	) {
+		if (account.isDeleted()) {
+			return null;
+		}
+		var accountId = id.toAccountId();
+		var balance = account.getBalance();
+		if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
+			log.warn(String.format(
+					LOW_NODE_BALANCE_WARN_MSG_TPL,
+					readableId(accountId),
+					balance));
+		}
+		var balancesEntry = new AccountBalance(id.getShard(), id.getRealm(), id.getNum(), balance);
+		if (withTokenBalances) {
+			addTokenBalances(accountId, account, balancesEntry, tokens, tokenAssociations);
+		}
+		return balancesEntry;
+	}
+
 	private void addTokenBalances(
 			AccountID id,
 			MerkleAccount account,
@@ -227,7 +331,9 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 				}
 			}
 			if (tokenBalances.getTokenBalancesCount() > 0) {
-				balancesEntry.setB64TokenBalances(b64Encode(tokenBalances.build()));
+				var built = tokenBalances.build();
+				balancesEntry.setB64TokenBalances(b64Encode(built));
+				balancesEntry.setTokenBalances(built.getTokenBalancesList());
 			}
 		}
 	}
@@ -0,0 +1,66 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An auxiliary view derived from the entries of one of the state's maps (an index,
+ * a cache, an expiry queue...) which can be rebuilt from a single traversal of
+ * those entries; and hence can share that traversal with other views of the same map.
+ *
+ * @param <K> the type of key in the source map
+ * @param <V> the type of value in the source map
+ */
+public interface RebuildableView<K, V> {
+	/**
+	 * Discards the current contents of the view, before a rebuild.
+	 */
+	void beginRebuild();
+
+	/**
+	 * Incorporates a single entry of the source map into the view being rebuilt.
+	 *
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 */
+	void rebuildWith(K key, V value);
+
+	/**
+	 * Completes a rebuild, once every entry of the source map has been incorporated.
+	 */
+	default void finishRebuild() {
+		/* No-op. */
+	}
+
+	/**
+	 * Rebuilds the view from the entries given by a traversal of its source map,
+	 * such as {@code fcMap::forEach}.
+	 *
+	 * @param traversal the traversal of the source map
+	 */
+	default void rebuildFrom(Consumer<BiConsumer<K, V>> traversal) {
+		beginRebuild();
+		traversal.accept(this::rebuildWith);
+		finishRebuild();
+	}
+}
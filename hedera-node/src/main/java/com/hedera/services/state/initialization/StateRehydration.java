@@ -0,0 +1,132 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds the auxiliary views of a state's maps, after the state is loaded from
+ * disk or received in a reconnect.
+ *
+ * Each map is traversed exactly once, with every view of that map rebuilt from the
+ * same traversal; and the traversals of different maps run in parallel.
+ */
+public class StateRehydration {
+	static Logger log = LogManager.getLogger(StateRehydration.class);
+
+	private final List<Phase<?, ?>> phases = new ArrayList<>();
+
+	/**
+	 * Adds a phase that rebuilds the given views from one traversal of a map. Does
+	 * nothing if there are no views to rebuild.
+	 *
+	 * @param name a name for the map, used in logging
+	 * @param traversal the traversal of the map, such as {@code fcMap::forEach}
+	 * @param views the views of the map to rebuild
+	 * @return this rehydration
+	 */
+	public <K, V> StateRehydration of(
+			String name,
+			Consumer<BiConsumer<K, V>> traversal,
+			List<? extends RebuildableView<K, V>> views
+	) {
+		if (!views.isEmpty()) {
+			phases.add(new Phase<>(name, traversal, views));
+		}
+		return this;
+	}
+
+	/**
+	 * Runs all the phases of this rehydration on the given executor, returning once
+	 * every phase is complete.
+	 *
+	 * @param executor the executor to run the phases on
+	 * @throws IllegalStateException if any view could not be rebuilt
+	 */
+	public void runOn(ExecutorService executor) {
+		long start = System.nanoTime();
+		try {
+			for (var result : executor.invokeAll(phases)) {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Could not rehydrate views of state!", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while rehydrating views of state!", e);
+		}
+		log.info("Rehydrated all views of state in {}ms", msSince(start));
+	}
+
+	int numPhases() {
+		return phases.size();
+	}
+
+	private static long msSince(long start) {
+		return (System.nanoTime() - start) / 1_000_000L;
+	}
+
+	private static class Phase<K, V> implements Callable<Void> {
+		private final String name;
+		private final Consumer<BiConsumer<K, V>> traversal;
+		private final List<? extends RebuildableView<K, V>> views;
+
+		private Phase(
+				String name,
+				Consumer<BiConsumer<K, V>> traversal,
+				List<? extends RebuildableView<K, V>> views
+		) {
+			this.name = name;
+			this.traversal = traversal;
+			this.views = views;
+		}
+
+		@Override
+		public Void call() {
+			long start = System.nanoTime();
+			int n = views.size();
+			for (int i = 0; i < n; i++) {
+				views.get(i).beginRebuild();
+			}
+			long[] numEntries = { 0 };
+			traversal.accept((key, value) -> {
+				numEntries[0]++;
+				for (int i = 0; i < n; i++) {
+					views.get(i).rebuildWith(key, value);
+				}
+			});
+			for (int i = 0; i < n; i++) {
+				views.get(i).finishRebuild();
+			}
+			log.info("Rehydrated {} view(s) of {} {} in {}ms", n, numEntries[0], name, msSince(start));
+			return null;
+		}
+	}
+}
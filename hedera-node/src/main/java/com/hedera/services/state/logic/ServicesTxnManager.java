@@ -26,6 +26,8 @@ import com.hedera.services.utils.PlatformTxnAccessor;
 import java.time.Instant;
 import java.util.function.BiConsumer;
 
+import static com.hedera.services.stats.HandleStage.COMMIT;
+import static com.hedera.services.stats.HandleStage.RECORD_STREAMING;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 public class ServicesTxnManager {
@@ -61,9 +63,15 @@ public class ServicesTxnManager {
 			warning.accept(processFailure, "txn processing");
 			ctx.txnCtx().setStatus(FAIL_INVALID);
 		} finally {
+			var latencies = ctx.handleLatencies();
+			var function = accessor.getFunction();
+
+			long stageStart = System.nanoTime();
 			attemptCommit(accessor, consensusTime, submittingMember, ctx);
+			stageStart = latencies.recordSince(stageStart, function, COMMIT);
 			if (createdStreamableRecord) {
 				attemptRecordStreaming();
+				latencies.recordSince(stageStart, function, RECORD_STREAMING);
 			}
 		}
 	}
@@ -84,6 +92,7 @@ public class ServicesTxnManager {
 	) {
 		try {
 			ctx.ledger().commit();
+			ctx.recentCreations().commitPending();
 			createdStreamableRecord = true;
 		} catch (Exception commitFailure) {
 			warning.accept(commitFailure, "txn commit");
@@ -111,5 +120,6 @@ public class ServicesTxnManager {
 		} catch (Exception rollbackFailure) {
 			warning.accept(rollbackFailure, "txn rollback");
 		}
+		ctx.recentCreations().rollbackPending();
 	}
 }
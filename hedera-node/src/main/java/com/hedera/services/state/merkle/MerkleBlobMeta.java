@@ -42,6 +42,7 @@ public class MerkleBlobMeta extends AbstractMerkleLeaf implements FCMKey {
 	public static final int MAX_PATH_LEN = 4_096;
 
 	private String path;
+	private int hash;
 
 	public MerkleBlobMeta() {
 	}
@@ -83,7 +84,7 @@ public class MerkleBlobMeta extends AbstractMerkleLeaf implements FCMKey {
 
 	@Override
 	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
-		path = in.readNormalisedString(MAX_PATH_LEN);
+		setPath(in.readNormalisedString(MAX_PATH_LEN));
 	}
 
 	/* --- FastCopyable --- */
@@ -108,7 +109,12 @@ public class MerkleBlobMeta extends AbstractMerkleLeaf implements FCMKey {
 
 	@Override
 	public int hashCode() {
-		return Arrays.hashCode(getNormalisedStringBytes(path));
+		/* Lookup keys are reused across accesses (see AddressKeyedBlobs), so only encode the path once. */
+		int h = hash;
+		if (h == 0 && path != null) {
+			hash = h = Arrays.hashCode(getNormalisedStringBytes(path));
+		}
+		return h;
 	}
 
 	/* --- Bean --- */
@@ -118,6 +124,7 @@ public class MerkleBlobMeta extends AbstractMerkleLeaf implements FCMKey {
 
 	public void setPath(String path) {
 		this.path = path;
+		this.hash = 0;
 	}
 
 	@Override
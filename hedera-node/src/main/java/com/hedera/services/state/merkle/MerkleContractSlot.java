@@ -0,0 +1,121 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.swirlds.common.FCMValue;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
+import org.apache.commons.codec.binary.Hex;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The data under a {@link MerkleContractSlotKey}; that is, either the 32-byte value
+ * of one storage slot, or (for an index key) the ascending concatenation of the
+ * 32-byte keys of every slot in the contract's storage.
+ */
+public class MerkleContractSlot extends AbstractMerkleLeaf implements FCMValue {
+	static final int MERKLE_VERSION = 1;
+	static final long RUNTIME_CONSTRUCTABLE_ID = 0x2f89beb621cf15c1L;
+
+	/* Far above the index of a contract at the default contracts.maxStorageKb=1024 (16384 slots) */
+	static final int MAX_DATA_BYTES = 32 * 1024 * 1024;
+
+	private static final byte[] NO_DATA = new byte[0];
+
+	private byte[] data = NO_DATA;
+
+	public MerkleContractSlot() {
+	}
+
+	public MerkleContractSlot(byte[] data) {
+		this.data = data;
+	}
+
+	/* --- MerkleLeaf --- */
+	@Override
+	public long getClassId() {
+		return RUNTIME_CONSTRUCTABLE_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return MERKLE_VERSION;
+	}
+
+	@Override
+	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+		data = in.readByteArray(MAX_DATA_BYTES);
+	}
+
+	@Override
+	public void serialize(SerializableDataOutputStream out) throws IOException {
+		out.writeByteArray(data);
+	}
+
+	/* --- Object --- */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || MerkleContractSlot.class != o.getClass()) {
+			return false;
+		}
+
+		var that = (MerkleContractSlot) o;
+		return Arrays.equals(this.data, that.data);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(data);
+	}
+
+	/* --- FastCopyable --- */
+	@Override
+	public MerkleContractSlot copy() {
+		return new MerkleContractSlot(data);
+	}
+
+	/* --- Bean --- */
+	public byte[] getData() {
+		return data;
+	}
+
+	public void setData(byte[] data) {
+		this.data = data;
+	}
+
+	public boolean hasSameData(byte[] source, int offset, int len) {
+		return Arrays.equals(data, 0, data.length, source, offset, offset + len);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("data", Hex.encodeHexString(data))
+				.toString();
+	}
+}
@@ -0,0 +1,154 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.swirlds.common.FCMKey;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
+import org.apache.commons.codec.binary.Hex;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Identifies either one 32-byte storage slot of the contract {@code shard.realm.num};
+ * or, when the slot is empty, the index of all the slots in that contract's storage.
+ */
+public class MerkleContractSlotKey extends AbstractMerkleLeaf implements FCMKey {
+	static final int MERKLE_VERSION = 1;
+	static final long RUNTIME_CONSTRUCTABLE_ID = 0x2983e3293e995a21L;
+
+	public static final int SLOT_BYTES = 32;
+
+	private static final byte[] INDEX_SLOT = new byte[0];
+
+	private long shard;
+	private long realm;
+	private long num;
+	private byte[] slot = INDEX_SLOT;
+
+	public MerkleContractSlotKey() {
+	}
+
+	public MerkleContractSlotKey(long shard, long realm, long num, byte[] slot) {
+		if (slot.length != 0 && slot.length != SLOT_BYTES) {
+			throw new IllegalArgumentException(
+					String.format("Argument 'slot' has %d bytes, not 0 or %d!", slot.length, SLOT_BYTES));
+		}
+		this.shard = shard;
+		this.realm = realm;
+		this.num = num;
+		this.slot = slot;
+	}
+
+	public static MerkleContractSlotKey indexKeyFor(long shard, long realm, long num) {
+		return new MerkleContractSlotKey(shard, realm, num, INDEX_SLOT);
+	}
+
+	/* --- MerkleLeaf --- */
+	@Override
+	public long getClassId() {
+		return RUNTIME_CONSTRUCTABLE_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return MERKLE_VERSION;
+	}
+
+	@Override
+	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+		shard = in.readLong();
+		realm = in.readLong();
+		num = in.readLong();
+		slot = in.readByteArray(SLOT_BYTES);
+	}
+
+	@Override
+	public void serialize(SerializableDataOutputStream out) throws IOException {
+		out.writeLong(shard);
+		out.writeLong(realm);
+		out.writeLong(num);
+		out.writeByteArray(slot);
+	}
+
+	/* --- Object --- */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || MerkleContractSlotKey.class != o.getClass()) {
+			return false;
+		}
+
+		var that = (MerkleContractSlotKey) o;
+		return this.num == that.num
+				&& this.realm == that.realm
+				&& this.shard == that.shard
+				&& Arrays.equals(this.slot, that.slot);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Long.hashCode(num);
+		result = 31 * result + Long.hashCode(realm);
+		result = 31 * result + Long.hashCode(shard);
+		return 31 * result + Arrays.hashCode(slot);
+	}
+
+	/* --- FastCopyable --- */
+	@Override
+	public MerkleContractSlotKey copy() {
+		return new MerkleContractSlotKey(shard, realm, num, slot);
+	}
+
+	/* --- Bean --- */
+	public long getShard() {
+		return shard;
+	}
+
+	public long getRealm() {
+		return realm;
+	}
+
+	public long getNum() {
+		return num;
+	}
+
+	public byte[] getSlot() {
+		return slot;
+	}
+
+	public boolean isIndex() {
+		return slot.length == 0;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("id", String.format("%d.%d.%d", shard, realm, num))
+				.add("slot", isIndex() ? "<index>" : Hex.encodeHexString(slot))
+				.toString();
+	}
+}
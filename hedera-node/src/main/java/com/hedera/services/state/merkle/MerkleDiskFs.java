@@ -27,7 +27,6 @@ import com.swirlds.common.io.SerializableDataInputStream;
 import com.swirlds.common.io.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleExternalLeaf;
 import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -35,12 +34,24 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,11 +60,25 @@ import static com.hedera.services.ledger.HederaLedger.FILE_ID_COMPARATOR;
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.utils.EntityIdUtils.asLiteralString;
 import static com.swirlds.common.CommonUtils.hex;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * Save some special system files on the local file system instead of database to improve access efficiency.
  *
  * All that is kept in memory is a map from {@code FileID} to the SHA-384 hash of the current contents.
+ *
+ * Contents are written through a {@link FileChannel} to a sibling temp file that is then atomically
+ * moved into place, and read back through a read-only memory mapping; so a reader never sees a
+ * half-written file, and readers do not serialize behind each other. Appends go straight to the end
+ * of the existing file, and update a running digest of the contents instead of rehashing the whole
+ * file (the running digest is seeded by streaming the file from disk the first time it is needed).
  */
 public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLeaf {
 	static Logger log = LogManager.getLogger(MerkleDiskFs.class);
@@ -64,15 +89,33 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 	static final byte[] MISSING_CONTENT = new byte[0];
 
 	static final int HASH_BYTES = 48;
+	static final int STREAM_BUFFER_BYTES = 64 * 1_024;
 	static final int MAX_FILE_BYTES = 1_024 * 1_024 * 1_024;
 	static final int MERKLE_VERSION = 1;
 
-	static ThrowingBytesWriter writeHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c);
-	static ThrowingBytesGetter bytesHelper = p -> FileUtils.readFileToByteArray(p.toFile());
+	static final String TEMP_FILE_SUFFIX = ".tmp";
+	static final String HASH_CHECK_THREAD_NAME = "DiskFsHashCheckThread";
+
+	static ThrowingBytesWriter writeHelper = MerkleDiskFs::replaceAllBytes;
+	static ThrowingBytesWriter appendHelper = MerkleDiskFs::appendAllBytes;
+	static ThrowingBytesGetter bytesHelper = MerkleDiskFs::mappedBytesFrom;
+	static ThrowingDigestGetter digestHelper = MerkleDiskFs::streamedDigestOf;
+
+	static Executor hashCheckThread = Executors.newSingleThreadExecutor(task -> {
+		var thread = new Thread(task, HASH_CHECK_THREAD_NAME);
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/* Every copy of the leaf shares the same files on disk, hence the same lock. */
+	private static final ReadWriteLock diskLock = new ReentrantReadWriteLock();
 
 	private String fsBaseDir = UNKNOWN_PATH_SEGMENT;
 	private String fsNodeScopedDir = UNKNOWN_PATH_SEGMENT;
 	private Map<FileID, byte[]> fileHashes = new HashMap<>();
+	/* Digests of the current disk contents that have not been completed, so they can absorb appends;
+	(like the files themselves) these are shared by every copy of the leaf. */
+	private Map<FileID, MessageDigest> runningDigests = new HashMap<>();
 
 	/* --- RuntimeConstructable --- */
 	public MerkleDiskFs() {
@@ -96,7 +139,9 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 		Map<FileID, byte[]> fileHashesCopy = fileHashes.entrySet()
 				.stream()
 				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, HashMap::new));
-		return new MerkleDiskFs(fileHashesCopy, fsBaseDir, fsNodeScopedDir);
+		var copy = new MerkleDiskFs(fileHashesCopy, fsBaseDir, fsNodeScopedDir);
+		copy.runningDigests = runningDigests;
+		return copy;
 	}
 
 	public void setFsBaseDir(String fsBaseDir) {
@@ -107,10 +152,31 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 		this.fsNodeScopedDir = fsNodeScopedDir;
 	}
 
+	/**
+	 * Schedules {@link MerkleDiskFs#checkHashesAgainstDiskContents()} on a background daemon thread,
+	 * so that re-hashing (possibly very large) special files does not delay startup.
+	 */
+	public void checkHashesAgainstDiskContentsInBackground() {
+		hashCheckThread.execute(() -> {
+			try {
+				checkHashesAgainstDiskContents();
+			} catch (Exception unexpected) {
+				log.warn("Could not check disk contents against state hashes!", unexpected);
+			}
+		});
+	}
+
 	public void checkHashesAgainstDiskContents() {
-		for (FileID fid : fileHashes.keySet()) {
-			byte[] expectedHash = fileHashes.get(fid);
-			byte[] actualHash = diskContentHash(fid);
+		for (FileID fid : fidsSnapshot()) {
+			byte[] expectedHash;
+			byte[] actualHash;
+			diskLock.readLock().lock();
+			try {
+				expectedHash = fileHashes.get(fid);
+				actualHash = diskContentHash(fid);
+			} finally {
+				diskLock.readLock().unlock();
+			}
 			if (!Arrays.equals(expectedHash, actualHash)) {
 				log.error(
 						"State hash doesn't match disk hash for content of '{}'!\n  State :: {}\n  Disk  :: {}",
@@ -122,36 +188,86 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 	}
 
 	public byte[] diskContentHash(FileID fid) {
-		return noThrowSha384HashOf(contentsOf(fid));
+		try {
+			return digestHelper.digestOf(pathToContentsOf(fid)).digest();
+		} catch (IOException e) {
+			logUnreadable(fid, e);
+			return noThrowSha384HashOf(MISSING_CONTENT);
+		}
 	}
 
-	public synchronized byte[] contentsOf(FileID fid) {
+	public byte[] contentsOf(FileID fid) {
+		diskLock.readLock().lock();
 		try {
 			return bytesHelper.allBytesFrom(pathToContentsOf(fid));
 		} catch (IOException e) {
-			if(log.isDebugEnabled()) {
-				log.warn("Not able to read '{}' @ {}!", asLiteralString(fid), pathToContentsOf(fid), e);
-			}
-			else {
-				log.warn("Not able to read '{}' @ {}!", asLiteralString(fid), pathToContentsOf(fid));
-			}
+			logUnreadable(fid, e);
 			return MISSING_CONTENT;
+		} finally {
+			diskLock.readLock().unlock();
+		}
+	}
+
+	public long sizeOf(FileID fid) {
+		try {
+			return Files.size(pathToContentsOf(fid));
+		} catch (IOException e) {
+			logUnreadable(fid, e);
+			return MISSING_CONTENT.length;
 		}
 	}
 
-	public synchronized void put(FileID fid, byte[] contents) {
+	public void put(FileID fid, byte[] contents) {
+		diskLock.writeLock().lock();
 		try {
-			byte[] hash = noThrowSha384HashOf(contents);
+			var digest = sha384Digest();
+			digest.update(contents);
 			writeHelper.allBytesTo(pathToContentsOf(fid), contents);
+			runningDigests.put(fid, digest);
+			byte[] hash = completedCopyOf(digest);
 			log.info("Updated '{}' with {} bytes; new hash :: {}", asLiteralString(fid), contents.length, hex(hash));
 			fileHashes.put(fid, hash);
 			setHashFromContents();
 		} catch (IOException e) {
+			runningDigests.remove(fid);
 			log.error(
 					"Error writing new contents for '{}' to disk @ {}!",
 					asLiteralString(fid),
 					pathToContentsOf(fid),
 					e);
+		} finally {
+			diskLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Appends the given bytes to the end of the file on disk, and derives the new hash of its
+	 * contents by updating a running digest with just these bytes.
+	 *
+	 * @param fid the special file to append to
+	 * @param moreContents the bytes to append
+	 */
+	public void append(FileID fid, byte[] moreContents) {
+		var loc = pathToContentsOf(fid);
+		diskLock.writeLock().lock();
+		try {
+			var digest = runningDigests.get(fid);
+			if (digest == null) {
+				digest = digestHelper.digestOf(loc);
+			}
+			appendHelper.allBytesTo(loc, moreContents);
+			digest.update(moreContents);
+			runningDigests.put(fid, digest);
+			byte[] hash = completedCopyOf(digest);
+			log.info("Appended {} bytes to '{}'; new hash :: {}", moreContents.length, asLiteralString(fid), hex(hash));
+			fileHashes.put(fid, hash);
+			setHashFromContents();
+		} catch (IOException e) {
+			/* The file may now hold only part of the appended bytes, so re-seed from disk next time. */
+			runningDigests.remove(fid);
+			log.error("Error appending {} bytes to '{}' on disk @ {}!", moreContents.length, asLiteralString(fid), loc, e);
+		} finally {
+			diskLock.writeLock().unlock();
 		}
 	}
 
@@ -327,6 +443,101 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 		return fileHashes.keySet().stream().sorted(FILE_ID_COMPARATOR);
 	}
 
+	private List<FileID> fidsSnapshot() {
+		diskLock.readLock().lock();
+		try {
+			return new ArrayList<>(fileHashes.keySet());
+		} finally {
+			diskLock.readLock().unlock();
+		}
+	}
+
+	private void logUnreadable(FileID fid, IOException e) {
+		if (log.isDebugEnabled()) {
+			log.warn("Not able to read '{}' @ {}!", asLiteralString(fid), pathToContentsOf(fid), e);
+		} else {
+			log.warn("Not able to read '{}' @ {}!", asLiteralString(fid), pathToContentsOf(fid));
+		}
+	}
+
+	static MessageDigest sha384Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	}
+
+	static byte[] completedCopyOf(MessageDigest digest) {
+		try {
+			return ((MessageDigest) digest.clone()).digest();
+		} catch (CloneNotSupportedException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	}
+
+	static void replaceAllBytes(Path loc, byte[] contents) throws IOException {
+		var parent = loc.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		var tmpLoc = loc.resolveSibling(loc.getFileName() + TEMP_FILE_SUFFIX);
+		try (var channel = FileChannel.open(tmpLoc, CREATE, TRUNCATE_EXISTING, WRITE)) {
+			writeFully(channel, contents);
+			channel.force(false);
+		}
+		try {
+			Files.move(tmpLoc, loc, ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ignore) {
+			Files.move(tmpLoc, loc, REPLACE_EXISTING);
+		}
+	}
+
+	static void appendAllBytes(Path loc, byte[] moreContents) throws IOException {
+		try (var channel = FileChannel.open(loc, CREATE, APPEND, WRITE)) {
+			writeFully(channel, moreContents);
+			channel.force(false);
+		}
+	}
+
+	static byte[] mappedBytesFrom(Path loc) throws IOException {
+		try (var channel = FileChannel.open(loc, READ)) {
+			long size = channel.size();
+			if (size > MAX_FILE_BYTES) {
+				throw new IOException(String.format("File @ %s has %d bytes, more than the %d allowed",
+						loc, size, MAX_FILE_BYTES));
+			}
+			byte[] contents = new byte[(int) size];
+			channel.map(READ_ONLY, 0, size).get(contents);
+			return contents;
+		}
+	}
+
+	static MessageDigest streamedDigestOf(Path loc) throws IOException {
+		var digest = sha384Digest();
+		var buffer = ByteBuffer.allocate(STREAM_BUFFER_BYTES);
+		try (var channel = FileChannel.open(loc, READ)) {
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return digest;
+	}
+
+	private static void writeFully(FileChannel channel, byte[] contents) throws IOException {
+		var buffer = ByteBuffer.wrap(contents);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	@FunctionalInterface
+	interface ThrowingDigestGetter {
+		MessageDigest digestOf(Path loc) throws IOException;
+	}
+
 	@FunctionalInterface
 	interface ThrowingBytesGetter {
 		byte[] allBytesFrom(Path loc) throws IOException;
@@ -49,11 +49,14 @@ import static com.swirlds.common.CommonUtils.hex;
 
 
 public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
-    static final int MERKLE_VERSION = 1;
+    static final int RELEASE_0100_VERSION = 1;
+    static final int RELEASE_0120_VERSION = 2;
+    static final int MERKLE_VERSION = RELEASE_0120_VERSION;
 
     static final long RUNTIME_CONSTRUCTABLE_ID = 0x8d2b7d9e673285fcL;
     static DomainSerdes serdes = new DomainSerdes();
 
+    public static final long UNKNOWN_EXPIRY = 0L;
     public static final JKey UNUSED_KEY = null;
     public static final EntityId UNUSED_PAYER = null;
 
@@ -64,6 +67,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
     private RichInstant schedulingTXValidStart;
     private Set<JKey> signers = new LinkedHashSet<>();
     private boolean deleted;
+    private long expiry = UNKNOWN_EXPIRY;
 
     @Deprecated
     public static final MerkleSchedule.Provider LEGACY_PROVIDER = new MerkleSchedule.Provider();
@@ -100,6 +104,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
 
         var that = (MerkleSchedule) o;
         return this.deleted == that.deleted &&
+                this.expiry == that.expiry &&
                 Arrays.areEqual(this.transactionBody, that.transactionBody) &&
                 Objects.equals(this.payer, that.payer) &&
                 Objects.equals(this.schedulingAccount, that.schedulingAccount) &&
@@ -112,6 +117,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
     public int hashCode() {
         return Objects.hash(
                 deleted,
+                expiry,
                 transactionBody,
                 payer,
                 schedulingAccount,
@@ -124,6 +130,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
     public String toString() {
         return MoreObjects.toStringHelper(MerkleSchedule.class)
                 .add("deleted", deleted)
+                .add("expiry", expiry)
                 .add("transactionBody", hex(transactionBody))
                 .add("payer", readablePayer())
                 .add("schedulingAccount", schedulingAccount)
@@ -147,6 +154,8 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         schedulingTXValidStart = RichInstant.from(in);
         deserializeSigners(in);
         adminKey = serdes.readNullable(in, serdes::deserializeKey);
+        /* Schedules saved before 0.12.0 have no expiry of their own; StdStateMigrations gives them one. */
+        expiry = (version >= RELEASE_0120_VERSION) ? in.readLong() : UNKNOWN_EXPIRY;
     }
 
     @Override
@@ -159,6 +168,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         schedulingTXValidStart.serialize(out);
         serializeSigners(out);
         serdes.writeNullable(adminKey, out, serdes::serializeKey);
+        out.writeLong(expiry);
     }
 
     @Override
@@ -182,6 +192,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         );
 
         fc.setDeleted(deleted);
+        fc.setExpiry(expiry);
         fc.setSigners(signersCopy);
         if (payer != UNUSED_PAYER) {
             fc.setPayer(payer);
@@ -233,6 +244,18 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         this.deleted = deleted;
     }
 
+    public long expiry() {
+        return expiry;
+    }
+
+    public boolean hasExpiry() {
+        return expiry != UNKNOWN_EXPIRY;
+    }
+
+    public void setExpiry(long expiry) {
+        this.expiry = expiry;
+    }
+
     private String readableSigners() {
         var sb = new StringBuilder("[");
         sb.append(
@@ -0,0 +1,151 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+
+/**
+ * Computes the next running hash of a consensus topic by streaming the version 3
+ * preimage directly into a reusable, thread-confined SHA-384 digest.
+ *
+ * The preimage is, byte for byte, what a {@link java.io.ObjectOutputStream} produces
+ * for {@code writeObject(runningHash)}; the version, payer, topic, consensus time, and
+ * sequence number as primitives; and {@code writeObject(sha384(message))}. That is,
+ * a stream header, the class descriptor of {@code byte[]}, the previous running hash,
+ * one block of primitive data, a back-reference to the {@code byte[]} descriptor,
+ * and finally the message hash. Since none of this depends on anything but the
+ * lengths of the two arrays, the framing bytes are constants here.
+ */
+public final class TopicRunningHash {
+	static final String DIGEST_ALGORITHM = "SHA-384";
+
+	static final int PRIMITIVES_BYTES = 9 * Long.BYTES + Integer.BYTES;
+
+	/* STREAM_MAGIC, STREAM_VERSION, then TC_ARRAY with a new TC_CLASSDESC for "[B" */
+	static final byte[] STREAM_HEADER_AND_ARRAY_DESC = {
+			(byte) 0xac, (byte) 0xed, 0x00, 0x05,
+			0x75, 0x72, 0x00, 0x02, '[', 'B',
+			(byte) 0xac, (byte) 0xf3, 0x17, (byte) 0xf8, 0x06, 0x08, 0x54, (byte) 0xe0,
+			0x02, 0x00, 0x00, 0x78, 0x70
+	};
+	/* TC_BLOCKDATA with a one-byte length */
+	static final byte[] PRIMITIVES_BLOCK_HEADER = { 0x77, (byte) PRIMITIVES_BYTES };
+	/* TC_ARRAY with a TC_REFERENCE to the first handle, the "[B" descriptor */
+	static final byte[] ARRAY_DESC_REFERENCE = { 0x75, 0x71, 0x00, 0x7e, 0x00, 0x00 };
+
+	private static final ThreadLocal<TopicRunningHash> ENGINES = ThreadLocal.withInitial(TopicRunningHash::new);
+
+	private final MessageDigest digest;
+	private final byte[] messageHash = new byte[RUNNING_HASH_BYTE_ARRAY_SIZE];
+	private final ByteBuffer scratch = ByteBuffer.allocate(PRIMITIVES_BLOCK_HEADER.length + PRIMITIVES_BYTES);
+
+	TopicRunningHash() {
+		try {
+			digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	}
+
+	/**
+	 * Returns the running hash that follows the given one on the given topic, using
+	 * the calling thread's engine.
+	 *
+	 * @param runningHash the current running hash of the topic
+	 * @param payer the payer of the message submission
+	 * @param topicId the topic
+	 * @param consensusTime the consensus time of the submission
+	 * @param sequenceNumber the (already incremented) sequence number of the message
+	 * @param message the submitted message
+	 * @return the next running hash
+	 */
+	public static byte[] next(
+			byte[] runningHash,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTime,
+			long sequenceNumber,
+			byte[] message
+	) {
+		return ENGINES.get().nextRunningHash(
+				runningHash,
+				payer.getShardNum(), payer.getRealmNum(), payer.getAccountNum(),
+				topicId.getShardNum(), topicId.getRealmNum(), topicId.getTopicNum(),
+				consensusTime.getEpochSecond(), consensusTime.getNano(),
+				sequenceNumber,
+				message);
+	}
+
+	byte[] nextRunningHash(
+			byte[] runningHash,
+			long payerShard, long payerRealm, long payerNum,
+			long topicShard, long topicRealm, long topicNum,
+			long seconds, int nanos,
+			long sequenceNumber,
+			byte[] message
+	) {
+		digest.update(message);
+		digestInto(messageHash);
+
+		digest.update(STREAM_HEADER_AND_ARRAY_DESC);
+		updateWithInt(runningHash.length);
+		digest.update(runningHash);
+
+		scratch.clear();
+		scratch.put(PRIMITIVES_BLOCK_HEADER)
+				.putLong(RUNNING_HASH_VERSION)
+				.putLong(payerShard).putLong(payerRealm).putLong(payerNum)
+				.putLong(topicShard).putLong(topicRealm).putLong(topicNum)
+				.putLong(seconds).putInt(nanos)
+				.putLong(sequenceNumber);
+		digest.update(scratch.array(), 0, scratch.position());
+
+		digest.update(ARRAY_DESC_REFERENCE);
+		updateWithInt(messageHash.length);
+		digest.update(messageHash);
+
+		return digest.digest();
+	}
+
+	private void updateWithInt(int v) {
+		scratch.clear();
+		scratch.putInt(v);
+		digest.update(scratch.array(), 0, Integer.BYTES);
+	}
+
+	private void digestInto(byte[] hash) {
+		try {
+			digest.digest(hash, 0, hash.length);
+		} catch (DigestException impossible) {
+			throw new IllegalStateException(impossible);
+		}
+	}
+}
@@ -21,9 +21,21 @@ package com.hedera.services.state.migration;
  */
 
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
+import com.hedera.services.contracts.sources.ContractSlotStorageMap;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.utils.Pause;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.addressOfLegacyStoragePath;
+import static java.util.stream.Collectors.toList;
 
 public class StdStateMigrations implements StateMigrations {
+	private static final Logger log = LogManager.getLogger(StdStateMigrations.class);
+
 	private final Pause pause;
 
 	public StdStateMigrations(Pause pause) {
@@ -32,6 +44,64 @@ public class StdStateMigrations implements StateMigrations {
 
 	@Override
 	public void runAllFor(ServicesContext ctx) {
-		/* There are no applicable state migrations at this time. */
+		migrateToSlotKeyedContractStorage(ctx);
+		setExpiryOfLegacySchedules(ctx);
+	}
+
+	/**
+	 * Gives every schedule saved before 0.12.0 the expiry it would have had if created
+	 * now; that is, its scheduling transaction's valid start plus the current value of
+	 * {@code ledger.schedule.txExpiryTimeSecs}. This is a no-op once every schedule has
+	 * an expiry of its own.
+	 *
+	 * @param ctx the context whose state should be migrated
+	 */
+	private void setExpiryOfLegacySchedules(ServicesContext ctx) {
+		var schedules = ctx.schedules();
+		var legacyIds = schedules.entrySet()
+				.stream()
+				.filter(entry -> !entry.getValue().hasExpiry())
+				.map(Map.Entry::getKey)
+				.collect(toList());
+		if (legacyIds.isEmpty()) {
+			return;
+		}
+
+		long lifetime = ctx.globalDynamicProperties().scheduledTxExpiryTimeSecs();
+		for (var id : legacyIds) {
+			var schedule = schedules.getForModify(id);
+			schedule.setExpiry(schedule.schedulingTXValidStart().getSeconds() + lifetime);
+			schedules.replace(id, schedule);
+		}
+		log.info("Set expiry of {} schedules saved before 0.12.0", legacyIds.size());
+	}
+
+	/**
+	 * Moves the storage of every contract from its legacy {@code /<realm>/d<num>} blob into
+	 * the slot-keyed contract storage; this is a no-op once no legacy storage blobs remain.
+	 *
+	 * Every node runs this on every state it loads, whatever its own configuration, so all
+	 * nodes agree on the contract storage that results from a state saved before 0.12.0.
+	 *
+	 * @param ctx the context whose state should be migrated
+	 */
+	private void migrateToSlotKeyedContractStorage(ServicesContext ctx) {
+		var legacyPaths = ctx.storage().keySet()
+				.stream()
+				.map(MerkleBlobMeta::getPath)
+				.filter(AddressKeyedMapFactory::isLegacyStoragePath)
+				.sorted()
+				.collect(toList());
+		if (legacyPaths.isEmpty()) {
+			return;
+		}
+
+		var blobs = ctx.blobStore();
+		var slotKeyedStorage = new ContractSlotStorageMap(ctx::contractStorage);
+		for (var path : legacyPaths) {
+			slotKeyedStorage.put(addressOfLegacyStoragePath(path), blobs.get(path));
+			blobs.remove(path);
+		}
+		log.info("Migrated storage of {} contracts from legacy blobs to slot-keyed storage", legacyPaths.size());
 	}
 }
@@ -21,7 +21,6 @@ package com.hedera.services.state.serdes;
  */
 
 import com.hedera.services.legacy.core.jproto.JKey;
-import com.hedera.services.legacy.core.jproto.JKeySerializer;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.swirlds.common.io.SelfSerializable;
@@ -37,12 +36,15 @@ import java.io.IOException;
 public class DomainSerdes {
 	private static final Logger log = LogManager.getLogger(DomainSerdes.class);
 
+	/* Shared by every DomainSerdes, so that identical keys are pooled across all entity types. */
+	static JKeyPool keyPool = new JKeyPool();
+
 	public JKey deserializeKey(DataInputStream in) throws IOException {
-		return JKeySerializer.deserialize(in);
+		return keyPool.readInterned(in);
 	}
 
 	public void serializeKey(JKey key, DataOutputStream out) throws IOException {
-		out.write(key.serialize());
+		out.write(keyPool.serializedFormOf(key));
 	}
 
 	public void writeNullableInstant(RichInstant at, SerializableDataOutputStream out) throws IOException {
@@ -0,0 +1,118 @@
+package com.hedera.services.state.serdes;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeySerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+
+import static com.hedera.services.legacy.core.jproto.JKeySerializer.BPACK_VERSION;
+import static com.hedera.services.legacy.core.jproto.JKeySerializer.HEADER_BYTES;
+
+/**
+ * A content-addressed pool of the {@link JKey}s read from saved state, so that every
+ * entity whose key has the same serialized form (for example, the many accounts
+ * controlled by one wallet) shares a single key instance; and a cache of the
+ * serialized form of each key instance, so that saving state does not re-encode
+ * keys that have not changed.
+ *
+ * Both are safe only because a {@code JKey} is never mutated once it is part of
+ * an entity; and both hold their keys weakly, so a key is collectable as soon as no
+ * entity references it.
+ */
+public class JKeyPool {
+	static final int MAX_INTERNED_KEY_BYTES = 64 * 1_024;
+
+	private final Cache<ByteBuffer, JKey> interned = CacheBuilder.newBuilder()
+			.weakValues()
+			.build();
+	private final Cache<JKey, byte[]> serializedForms = CacheBuilder.newBuilder()
+			.weakKeys()
+			.build();
+
+	/**
+	 * Reads a serialized key from the stream, and returns the pooled instance with
+	 * the same serialized form if there is one; otherwise parses a new key and pools it.
+	 *
+	 * @param in the stream to read from
+	 * @return the (possibly shared) key
+	 * @throws IOException if the key cannot be read
+	 */
+	public JKey readInterned(DataInputStream in) throws IOException {
+		long version = in.readLong();
+		long objectType = in.readLong();
+		long length = in.readLong();
+		var header = ByteBuffer.allocate(HEADER_BYTES).putLong(version).putLong(objectType).putLong(length);
+
+		if (version != BPACK_VERSION || length < 0 || length > MAX_INTERNED_KEY_BYTES) {
+			/* Let the serializer handle (or reject) anything unusual, exactly as it always has. */
+			return JKeySerializer.deserialize(new DataInputStream(
+					new SequenceInputStream(new ByteArrayInputStream(header.array()), in)));
+		}
+
+		byte[] serialized = new byte[HEADER_BYTES + (int) length];
+		System.arraycopy(header.array(), 0, serialized, 0, HEADER_BYTES);
+		in.readFully(serialized, HEADER_BYTES, (int) length);
+		return intern(serialized);
+	}
+
+	/**
+	 * Returns the serialized form of the given key, encoding it only if this
+	 * instance has not been read from, or written to, saved state before.
+	 *
+	 * @param key the key to serialize
+	 * @return its serialized form, which callers must not modify
+	 * @throws IOException if the key cannot be serialized
+	 */
+	public byte[] serializedFormOf(JKey key) throws IOException {
+		var serialized = serializedForms.getIfPresent(key);
+		if (serialized == null) {
+			serialized = key.serialize();
+			serializedForms.put(key, serialized);
+		}
+		return serialized;
+	}
+
+	JKey intern(byte[] serialized) throws IOException {
+		var contents = ByteBuffer.wrap(serialized);
+		var key = interned.getIfPresent(contents);
+		if (key == null) {
+			try (var in = new DataInputStream(new ByteArrayInputStream(serialized))) {
+				key = JKeySerializer.deserialize(in);
+			}
+			interned.put(contents, key);
+			serializedForms.put(key, serialized);
+		}
+		return key;
+	}
+
+	long numInterned() {
+		interned.cleanUp();
+		return interned.size();
+	}
+}
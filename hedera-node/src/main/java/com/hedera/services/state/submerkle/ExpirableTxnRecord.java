@@ -32,6 +32,7 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -47,7 +48,6 @@ import org.apache.logging.log4j.Logger;
 import org.bouncycastle.util.encoders.Hex;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
 public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 	public static final long UNKNOWN_SUBMITTING_MEMBER = -1;
@@ -94,6 +94,9 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 	private List<EntityId> tokens = NO_TOKENS;
 	private List<CurrencyAdjustments> tokenAdjustments = NO_TOKEN_ADJUSTMENTS;
 
+	/* Records are immutable once in state, so their gRPC form can be built once and shared by every query. */
+	private volatile TransactionRecord grpcForm;
+
 	@Override
 	public void release() {
 	}
@@ -441,13 +444,23 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 				tokenAdjustments);
 	}
 
-	public static List<TransactionRecord> allToGrpc(List<ExpirableTxnRecord> records) {
-		return records.stream()
-				.map(ExpirableTxnRecord::asGrpc)
-				.collect(toList());
+	public static List<TransactionRecord> allToGrpc(Collection<ExpirableTxnRecord> records) {
+		var grpcRecords = new ArrayList<TransactionRecord>(records.size());
+		for (ExpirableTxnRecord record : records) {
+			grpcRecords.add(record.asGrpc());
+		}
+		return grpcRecords;
 	}
 
 	public TransactionRecord asGrpc() {
+		var cached = grpcForm;
+		if (cached == null) {
+			cached = grpcForm = buildGrpc();
+		}
+		return cached;
+	}
+
+	private TransactionRecord buildGrpc() {
 		var grpc = TransactionRecord.newBuilder();
 
 		grpc.setTransactionFee(fee);
@@ -0,0 +1,193 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hedera.services.stats.LatencyHistogram.NUM_BUCKETS;
+import static com.hedera.services.stats.LatencyHistogram.quantileOf;
+import static com.hedera.services.stats.ServicesStatsConfig.IGNORED_FUNCTIONS;
+import static com.hedera.services.utils.MiscUtils.QUERY_FUNCTIONS;
+
+/**
+ * Tracks the latency of each {@link HandleStage} of handling a consensus transaction,
+ * in a separate {@link LatencyHistogram} for each transaction type.
+ *
+ * Recording is allocation-free, so it can be done inline on the handle thread. A
+ * reporting thread periodically calls {@link HandleLatencies#updateAndLog()}, which
+ * logs the p50/p99/p999 latency of each stage per transaction type over the last
+ * interval, and updates the same quantiles over all transaction types for the
+ * platform stats.
+ */
+public class HandleLatencies {
+	static Logger log = LogManager.getLogger(HandleLatencies.class);
+
+	static Supplier<HederaFunctionality[]> allFunctions = HederaFunctionality.class::getEnumConstants;
+
+	static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+	static final String[] QUANTILE_NAMES = { "P50", "P99", "P999" };
+	static final String[] QUANTILE_DESCS = { "50th", "99th", "99.9th" };
+
+	static final String STAT_NAME_TPL = "%sLatency%sUs";
+	static final String STAT_DESC_TPL = "%s percentile latency of the %s stage of handling a txn (microseconds)";
+
+	private static final HandleStage[] STAGES = HandleStage.values();
+	private static final long NANOS_PER_MICRO = 1_000L;
+
+	private final CounterFactory counter;
+	private final Function<HederaFunctionality, String> statNameFn;
+
+	private final EnumMap<HederaFunctionality, LatencyHistogram[]> histograms =
+			new EnumMap<>(HederaFunctionality.class);
+
+	/* Only touched by the thread calling updateAndLog() */
+	private final EnumMap<HederaFunctionality, long[][]> reportedCounts = new EnumMap<>(HederaFunctionality.class);
+	private final long[][] intervalCounts = new long[STAGES.length][NUM_BUCKETS];
+	private final long[] counts = new long[NUM_BUCKETS];
+	private final long[] deltas = new long[NUM_BUCKETS];
+
+	private volatile long[][] quantilesMicros = new long[STAGES.length][QUANTILES.length];
+
+	public HandleLatencies(CounterFactory counter, Function<HederaFunctionality, String> statNameFn) {
+		this.counter = counter;
+		this.statNameFn = statNameFn;
+
+		Arrays.stream(allFunctions.get())
+				.filter(function -> !IGNORED_FUNCTIONS.contains(function))
+				.filter(function -> !QUERY_FUNCTIONS.contains(function))
+				.forEach(function -> {
+					var stages = new LatencyHistogram[STAGES.length];
+					for (int i = 0; i < STAGES.length; i++) {
+						stages[i] = new LatencyHistogram();
+					}
+					histograms.put(function, stages);
+					reportedCounts.put(function, new long[STAGES.length][NUM_BUCKETS]);
+				});
+	}
+
+	public void registerWith(Platform platform) {
+		for (int i = 0; i < STAGES.length; i++) {
+			for (int j = 0; j < QUANTILES.length; j++) {
+				final int stage = i, quantile = j;
+				var name = String.format(STAT_NAME_TPL, STAGES[i].statName(), QUANTILE_NAMES[j]);
+				var description = String.format(STAT_DESC_TPL, QUANTILE_DESCS[j], STAGES[i].statName());
+				platform.addAppStatEntry(counter.from(name, description, () -> quantilesMicros[stage][quantile]));
+			}
+		}
+	}
+
+	/**
+	 * Records the time since the given start as a latency of the given stage of
+	 * handling a transaction of the given type.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} at which the stage started
+	 * @param function the type of the transaction being handled
+	 * @param stage the stage that just finished
+	 * @return the {@link System#nanoTime()} at which the stage finished, to start the next stage
+	 */
+	public long recordSince(long startNanos, HederaFunctionality function, HandleStage stage) {
+		long now = System.nanoTime();
+		record(function, stage, now - startNanos);
+		return now;
+	}
+
+	public void record(HederaFunctionality function, HandleStage stage, long nanos) {
+		var stages = histograms.get(function);
+		if (stages != null) {
+			stages[stage.ordinal()].record(nanos);
+		}
+	}
+
+	public long quantileMicros(HandleStage stage, int quantile) {
+		return quantilesMicros[stage.ordinal()][quantile];
+	}
+
+	/**
+	 * Computes the latency quantiles of every stage over the interval since the
+	 * last call, per transaction type (logging these) and over all transaction
+	 * types (exposing these through the platform stats).
+	 */
+	public void updateAndLog() {
+		for (long[] stageCounts : intervalCounts) {
+			Arrays.fill(stageCounts, 0L);
+		}
+
+		var report = new StringBuilder();
+		for (Map.Entry<HederaFunctionality, LatencyHistogram[]> entry : histograms.entrySet()) {
+			var function = entry.getKey();
+			var reported = reportedCounts.get(function);
+			var separator = "\n  " + statNameFn.apply(function) + " :: ";
+			for (int i = 0; i < STAGES.length; i++) {
+				long total = updateDeltas(entry.getValue()[i], reported[i], intervalCounts[i]);
+				if (total > 0) {
+					report.append(separator);
+					appendQuantiles(report, STAGES[i], deltas, total);
+					separator = ", ";
+				}
+			}
+		}
+
+		var nextQuantiles = new long[STAGES.length][QUANTILES.length];
+		for (int i = 0; i < STAGES.length; i++) {
+			long total = Arrays.stream(intervalCounts[i]).sum();
+			for (int j = 0; j < QUANTILES.length; j++) {
+				nextQuantiles[i][j] = quantileOf(intervalCounts[i], total, QUANTILES[j]) / NANOS_PER_MICRO;
+			}
+		}
+		quantilesMicros = nextQuantiles;
+
+		if (report.length() > 0) {
+			log.info("Handle latencies since last report ::{}", report);
+		}
+	}
+
+	private long updateDeltas(LatencyHistogram histogram, long[] reported, long[] interval) {
+		histogram.copyCountsInto(counts);
+		long total = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			deltas[i] = counts[i] - reported[i];
+			reported[i] = counts[i];
+			interval[i] += deltas[i];
+			total += deltas[i];
+		}
+		return total;
+	}
+
+	private void appendQuantiles(StringBuilder report, HandleStage stage, long[] stageDeltas, long total) {
+		report.append(stage.statName()).append("(n=").append(total).append(")");
+		for (int j = 0; j < QUANTILES.length; j++) {
+			report.append(' ')
+					.append(QUANTILE_NAMES[j].toLowerCase())
+					.append('=')
+					.append(quantileOf(stageDeltas, total, QUANTILES[j]) / NANOS_PER_MICRO)
+					.append("us");
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+/**
+ * The stages of handling a consensus transaction whose latencies are tracked
+ * by {@link HandleLatencies}.
+ */
+public enum HandleStage {
+	/** Rationalizing the platform sigs, and testing activation of the payer key. */
+	SIG_RATIONALIZATION("sigRationalization"),
+	/** Computing the fee for the transaction. */
+	FEE_COMPUTATION("feeComputation"),
+	/** Classifying the transaction as unique or duplicate, and checking node due diligence. */
+	DUPLICATE_CLASSIFICATION("duplicateClassification"),
+	/** Charging the (possibly partial) fee for the transaction. */
+	CHARGING("charging"),
+	/** Everything from testing the non-payer sigs through the state transition itself. */
+	TRANSITION_LOGIC("transitionLogic"),
+	/** Committing the ledger, including creating the transaction's record. */
+	COMMIT("commit"),
+	/** Adding the transaction's record to the record stream. */
+	RECORD_STREAMING("recordStreaming");
+
+	private final String statName;
+
+	HandleStage(String statName) {
+		this.statName = statName;
+	}
+
+	public String statName() {
+		return statName;
+	}
+}
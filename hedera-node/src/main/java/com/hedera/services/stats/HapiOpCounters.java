@@ -40,6 +40,10 @@ import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_RECEIVED_DES
 import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_RECEIVED_NAME_TPL;
 import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_SUBMITTED_DESC_TPL;
 import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_SUBMITTED_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_HITS_DESC;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_HITS_NAME;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_MISSES_DESC;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_MISSES_NAME;
 import static com.hedera.services.utils.MiscUtils.QUERY_FUNCTIONS;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
 
@@ -55,6 +59,8 @@ public class HapiOpCounters {
 	EnumMap<HederaFunctionality, AtomicLong> handledTxns = new EnumMap<>(HederaFunctionality.class);
 	EnumMap<HederaFunctionality, AtomicLong> submittedTxns = new EnumMap<>(HederaFunctionality.class);
 	EnumMap<HederaFunctionality, AtomicLong> answeredQueries = new EnumMap<>(HederaFunctionality.class);
+	AtomicLong txnAccessorCacheHits = new AtomicLong();
+	AtomicLong txnAccessorCacheMisses = new AtomicLong();
 
 	public HapiOpCounters(
 			CounterFactory counter,
@@ -85,6 +91,14 @@ public class HapiOpCounters {
 		registerCounters(platform, submittedTxns, COUNTER_SUBMITTED_NAME_TPL, COUNTER_SUBMITTED_DESC_TPL);
 		registerCounters(platform, handledTxns, COUNTER_HANDLED_NAME_TPL, COUNTER_HANDLED_DESC_TPL);
 		registerCounters(platform, answeredQueries, COUNTER_ANSWERED_NAME_TPL, COUNTER_ANSWERED_DESC_TPL);
+		platform.addAppStatEntry(counter.from(
+				COUNTER_TXN_ACCESSOR_CACHE_HITS_NAME,
+				COUNTER_TXN_ACCESSOR_CACHE_HITS_DESC,
+				txnAccessorCacheHits::get));
+		platform.addAppStatEntry(counter.from(
+				COUNTER_TXN_ACCESSOR_CACHE_MISSES_NAME,
+				COUNTER_TXN_ACCESSOR_CACHE_MISSES_DESC,
+				txnAccessorCacheMisses::get));
 	}
 
 	private void registerCounters(
@@ -137,6 +151,14 @@ public class HapiOpCounters {
 		return IGNORED_FUNCTIONS.contains(query) ? 0 : answeredQueries.get(query).get();
 	}
 
+	public void countTxnAccessorCacheHit() {
+		txnAccessorCacheHits.getAndIncrement();
+	}
+
+	public void countTxnAccessorCacheMiss() {
+		txnAccessorCacheMisses.getAndIncrement();
+	}
+
 	private void safeIncrement(
 			Map<HederaFunctionality, AtomicLong> counters,
 			HederaFunctionality function
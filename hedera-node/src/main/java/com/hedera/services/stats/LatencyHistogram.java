@@ -0,0 +1,102 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, allocation-free histogram of latencies in nanoseconds, with
+ * log-linear buckets; each power of two is split into eight sub-buckets, so any
+ * recorded value is known to within 12.5%. Values of {@code 2^41} nanos (about 37
+ * minutes) or more all land in the last bucket.
+ *
+ * Recording is a single uncontended atomic increment; readers take a (not
+ * necessarily instantaneous) snapshot of the cumulative counts.
+ */
+public class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 3;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static final int MAX_EXPONENT = 40;
+	static final int NUM_BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+
+	public void record(long nanos) {
+		counts.incrementAndGet(bucketOf(nanos));
+	}
+
+	/**
+	 * Copies the cumulative count of each bucket into the given array.
+	 *
+	 * @param into an array of length at least {@code NUM_BUCKETS}
+	 */
+	public void copyCountsInto(long[] into) {
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			into[i] = counts.get(i);
+		}
+	}
+
+	/**
+	 * Returns (an upper bound on) the given quantile of a distribution given as
+	 * per-bucket counts of this histogram's shape.
+	 *
+	 * @param counts the per-bucket counts
+	 * @param total the sum of the counts
+	 * @param quantile the quantile of interest, in {@code (0, 1]}
+	 * @return the largest value in the bucket holding the quantile, or 0 if there are no counts
+	 */
+	public static long quantileOf(long[] counts, long total, double quantile) {
+		if (total <= 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * total));
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(NUM_BUCKETS - 1);
+	}
+
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) Math.max(0, value);
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return NUM_BUCKETS - 1;
+		}
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+		int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return (SUB_BUCKETS + subBucket) * width + width - 1;
+	}
+}
@@ -30,9 +30,19 @@ public class MiscRunningAvgs {
 	StatsRunningAverage accountRetryWaitMs;
 	StatsRunningAverage accountLookupRetries;
 	StatsRunningAverage handledSubmitMessageSize;
+	StatsRunningAverage txnAccessorCacheHitRatio;
+
+	StatsRunningAverage txnPrecheckQueueDepth;
+	StatsRunningAverage txnPrecheckWaitMs;
+	StatsRunningAverage queryPrecheckQueueDepth;
+	StatsRunningAverage queryPrecheckWaitMs;
 
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
+	StatsRunningAverage precheckSigBatchFill;
+	StatsRunningAverage precheckSigBatchLingerMs;
+	StatsRunningAverage balancesExportMs;
+	StatsRunningAverage balancesExportBacklog;
 
 	public MiscRunningAvgs(RunningAvgFactory runningAvg, NodeLocalProperties properties) {
 		this.runningAvg = runningAvg;
@@ -42,9 +52,19 @@ public class MiscRunningAvgs {
 		accountRetryWaitMs = new StatsRunningAverage(halfLife);
 		accountLookupRetries = new StatsRunningAverage(halfLife);
 		handledSubmitMessageSize = new StatsRunningAverage(halfLife);
+		txnAccessorCacheHitRatio = new StatsRunningAverage(halfLife);
+
+		txnPrecheckQueueDepth = new StatsRunningAverage(halfLife);
+		txnPrecheckWaitMs = new StatsRunningAverage(halfLife);
+		queryPrecheckQueueDepth = new StatsRunningAverage(halfLife);
+		queryPrecheckWaitMs = new StatsRunningAverage(halfLife);
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+		precheckSigBatchFill = new StatsRunningAverage(halfLife);
+		precheckSigBatchLingerMs = new StatsRunningAverage(halfLife);
+		balancesExportMs = new StatsRunningAverage(halfLife);
+		balancesExportBacklog = new StatsRunningAverage(halfLife);
 	}
 
 	public void registerWith(Platform platform) {
@@ -63,6 +83,31 @@ public class MiscRunningAvgs {
 						Names.HANDLED_SUBMIT_MESSAGE_SIZE,
 						Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE,
 						handledSubmitMessageSize));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TXN_ACCESSOR_CACHE_HIT_RATIO,
+						Descriptions.TXN_ACCESSOR_CACHE_HIT_RATIO,
+						txnAccessorCacheHitRatio));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TXN_PRECHECK_QUEUE_DEPTH,
+						Descriptions.TXN_PRECHECK_QUEUE_DEPTH,
+						txnPrecheckQueueDepth));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TXN_PRECHECK_WAIT_MS,
+						Descriptions.TXN_PRECHECK_WAIT_MS,
+						txnPrecheckWaitMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_PRECHECK_QUEUE_DEPTH,
+						Descriptions.QUERY_PRECHECK_QUEUE_DEPTH,
+						queryPrecheckQueueDepth));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_PRECHECK_WAIT_MS,
+						Descriptions.QUERY_PRECHECK_WAIT_MS,
+						queryPrecheckWaitMs));
 		platform.addAppStatEntry(
 				runningAvg.from(
 						Names.WRITE_QUEUE_SIZE_RECORD_STREAM,
@@ -75,6 +120,26 @@ public class MiscRunningAvgs {
 						hashQueueSizeRecordStream
 				)
 		);
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PRECHECK_SIG_BATCH_FILL,
+						Descriptions.PRECHECK_SIG_BATCH_FILL,
+						precheckSigBatchFill));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PRECHECK_SIG_BATCH_LINGER_MS,
+						Descriptions.PRECHECK_SIG_BATCH_LINGER_MS,
+						precheckSigBatchLingerMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.BALANCES_EXPORT_MS,
+						Descriptions.BALANCES_EXPORT_MS,
+						balancesExportMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.BALANCES_EXPORT_BACKLOG,
+						Descriptions.BALANCES_EXPORT_BACKLOG,
+						balancesExportBacklog));
 	}
 
 	public void recordAccountLookupRetries(int num) {
@@ -89,6 +154,30 @@ public class MiscRunningAvgs {
 		handledSubmitMessageSize.recordValue(bytes);
 	}
 
+	public void recordTxnAccessorCacheHit() {
+		txnAccessorCacheHitRatio.recordValue(1.0);
+	}
+
+	public void recordTxnAccessorCacheMiss() {
+		txnAccessorCacheHitRatio.recordValue(0.0);
+	}
+
+	public void recordTxnPrecheckQueueDepth(int depth) {
+		txnPrecheckQueueDepth.recordValue(depth);
+	}
+
+	public void recordTxnPrecheckWaitMs(double time) {
+		txnPrecheckWaitMs.recordValue(time);
+	}
+
+	public void recordQueryPrecheckQueueDepth(int depth) {
+		queryPrecheckQueueDepth.recordValue(depth);
+	}
+
+	public void recordQueryPrecheckWaitMs(double time) {
+		queryPrecheckWaitMs.recordValue(time);
+	}
+
 	public void writeQueueSizeRecordStream(int num) {
 		writeQueueSizeRecordStream.recordValue(num);
 	}
@@ -97,13 +186,38 @@ public class MiscRunningAvgs {
 		hashQueueSizeRecordStream.recordValue(num);
 	}
 
+	public void recordPrecheckSigBatchFill(double value) {
+		precheckSigBatchFill.recordValue(value);
+	}
+
+	public void recordPrecheckSigBatchLingerMs(double value) {
+		precheckSigBatchLingerMs.recordValue(value);
+	}
+
+	public void recordBalancesExportMs(double value) {
+		balancesExportMs.recordValue(value);
+	}
+
+	public void recordBalancesExportBacklog(int num) {
+		balancesExportBacklog.recordValue(num);
+	}
+
 	static class Names {
 		public static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "avgAcctLookupRetryAttempts";
 		public static final String HANDLED_SUBMIT_MESSAGE_SIZE = "avgHdlSubMsgSize";
+		public static final String TXN_ACCESSOR_CACHE_HIT_RATIO = "avgTxnAccessorCacheHitRatio";
+		public static final String TXN_PRECHECK_QUEUE_DEPTH = "avgTxnPrecheckQueueDepth";
+		public static final String TXN_PRECHECK_WAIT_MS = "avgTxnPrecheckWaitMs";
+		public static final String QUERY_PRECHECK_QUEUE_DEPTH = "avgQueryPrecheckQueueDepth";
+		public static final String QUERY_PRECHECK_WAIT_MS = "avgQueryPrecheckWaitMs";
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+		public static final String PRECHECK_SIG_BATCH_FILL = "avgPrecheckSigBatchFill";
+		public static final String PRECHECK_SIG_BATCH_LINGER_MS = "avgPrecheckSigBatchLingerMs";
+		public static final String BALANCES_EXPORT_MS = "avgBalancesExportMs";
+		public static final String BALANCES_EXPORT_BACKLOG = "avgBalancesExportBacklog";
 	}
 
 	static class Descriptions {
@@ -113,9 +227,27 @@ public class MiscRunningAvgs {
 				"average number of retry attempts made to lookup the account number";
 		public static final String HANDLED_SUBMIT_MESSAGE_SIZE =
 				"average size of the handled HCS submit message transaction";
+		public static final String TXN_ACCESSOR_CACHE_HIT_RATIO =
+				"fraction of consensus txns whose accessor was reused from expandSignatures";
+		public static final String TXN_PRECHECK_QUEUE_DEPTH =
+				"average number of submitted txns waiting for a precheck thread";
+		public static final String TXN_PRECHECK_WAIT_MS =
+				"average time in millis a submitted txn waited for a precheck thread";
+		public static final String QUERY_PRECHECK_QUEUE_DEPTH =
+				"average number of queries waiting for a precheck thread";
+		public static final String QUERY_PRECHECK_WAIT_MS =
+				"average time in millis a query waited for a precheck thread";
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM =
 				"size of the queue from which we take records and write to RecordStream file";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "size of working queue for calculating hash and runningHash";
+		public static final String PRECHECK_SIG_BATCH_FILL =
+				"average fraction of the configured batch size filled by each precheck sig verification batch";
+		public static final String PRECHECK_SIG_BATCH_LINGER_MS =
+				"average time in millis a precheck waited for its sigs to be dispatched in a batch";
+		public static final String BALANCES_EXPORT_MS =
+				"average time in millis to summarize and export the balances of a signed state";
+		public static final String BALANCES_EXPORT_BACKLOG =
+				"average number of balances exports already running or pending when another came due";
 	}
 }
@@ -30,6 +30,7 @@ public class MiscSpeedometers {
 	StatsSpeedometer syncVerifications;
 	StatsSpeedometer asyncVerifications;
 	StatsSpeedometer accountLookupRetries;
+	StatsSpeedometer recentCreationLookupHits;
 	StatsSpeedometer platformTxnRejections;
 
 	public MiscSpeedometers(SpeedometerFactory speedometer, NodeLocalProperties properties) {
@@ -38,6 +39,7 @@ public class MiscSpeedometers {
 		syncVerifications = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 		asyncVerifications = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 		accountLookupRetries = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
+		recentCreationLookupHits = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 		platformTxnRejections = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 	}
 
@@ -57,6 +59,11 @@ public class MiscSpeedometers {
 						Names.ACCOUNT_LOOKUP_RETRIES,
 						Descriptions.ACCOUNT_LOOKUP_RETRIES,
 						accountLookupRetries));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.RECENT_CREATION_LOOKUP_HITS,
+						Descriptions.RECENT_CREATION_LOOKUP_HITS,
+						recentCreationLookupHits));
 		platform.addAppStatEntry(
 				speedometer.from(
 						Names.PLATFORM_TXN_REJECTIONS,
@@ -76,6 +83,10 @@ public class MiscSpeedometers {
 		accountLookupRetries.update(1);
 	}
 
+	public void cycleRecentCreationLookupHits() {
+		recentCreationLookupHits.update(1);
+	}
+
 	public void cyclePlatformTxnRejections() {
 		platformTxnRejections.update(1);
 	}
@@ -84,6 +95,7 @@ public class MiscSpeedometers {
 		public static final String SYNC_VERIFICATIONS = "sigVerifySync/sec";
 		public static final String ASYNC_VERIFICATIONS = "sigVerifyAsync/sec";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "acctLookupRetries/sec";
+		public static final String RECENT_CREATION_LOOKUP_HITS = "acctLookupRecentCreationHits/sec";
 		public static final String PLATFORM_TXN_REJECTIONS = "platformTxnNotCreated/sec";
 	}
 
@@ -94,6 +106,8 @@ public class MiscSpeedometers {
 				"number of transactions received per second that were verified asynchronously via expandSignatures";
 		public static final String ACCOUNT_LOOKUP_RETRIES =
 				"number of times per second that an account lookup must be retried";
+		public static final String RECENT_CREATION_LOOKUP_HITS =
+				"number of times per second that an account lookup was resolved from recently created accounts";
 		public static final String PLATFORM_TXN_REJECTIONS =
 				"number of platform transactions not created per second";
 	}
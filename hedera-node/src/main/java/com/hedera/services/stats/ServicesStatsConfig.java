@@ -54,6 +54,13 @@ public class ServicesStatsConfig {
 	static final String SPEEDOMETER_ANSWERED_DESC_TPL = "number of %s answered per second";
 	static final String SPEEDOMETER_SUBMITTED_DESC_TPL = "number of %s submitted per second";
 
+	static final String COUNTER_TXN_ACCESSOR_CACHE_HITS_NAME = "txnAccessorCacheHits";
+	static final String COUNTER_TXN_ACCESSOR_CACHE_MISSES_NAME = "txnAccessorCacheMisses";
+	static final String COUNTER_TXN_ACCESSOR_CACHE_HITS_DESC =
+			"number of consensus txns whose accessor was reused from expandSignatures";
+	static final String COUNTER_TXN_ACCESSOR_CACHE_MISSES_DESC =
+			"number of consensus txns whose accessor was not cached, and had to be re-created";
+
 	public static final String SYSTEM_DELETE_METRIC = "systemDelete";
 	public static final String SYSTEM_UNDELETE_METRIC = "systemUndelete";
 }
@@ -37,11 +37,13 @@ public class ServicesStatsManager {
 	});
 
 	static final String SPEEDOMETER_UPDATE_THREAD_NAME_TPL = "SpeedometerUpdateThread%d";
+	static final String HANDLE_LATENCIES_LOG_THREAD_NAME_TPL = "HandleLatenciesLogThread%d";
 
 	private final HapiOpCounters opCounters;
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
 	private final HapiOpSpeedometers opSpeedometers;
+	private final HandleLatencies handleLatencies;
 	private final NodeLocalProperties properties;
 
 	public ServicesStatsManager(
@@ -49,6 +51,7 @@ public class ServicesStatsManager {
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers,
 			HapiOpSpeedometers opSpeedometers,
+			HandleLatencies handleLatencies,
 			NodeLocalProperties properties
 	) {
 		this.properties = properties;
@@ -56,6 +59,7 @@ public class ServicesStatsManager {
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
 		this.opSpeedometers = opSpeedometers;
+		this.handleLatencies = handleLatencies;
 	}
 
 	public void initializeFor(Platform platform) {
@@ -63,6 +67,7 @@ public class ServicesStatsManager {
 		runningAvgs.registerWith(platform);
 		speedometers.registerWith(platform);
 		opSpeedometers.registerWith(platform);
+		handleLatencies.registerWith(platform);
 
 		platform.appStatInit();
 
@@ -72,5 +77,12 @@ public class ServicesStatsManager {
 		});
 		updateThread.setName(String.format(SPEEDOMETER_UPDATE_THREAD_NAME_TPL, platform.getSelfId().getId()));
 		updateThread.start();
+
+		var logThread = loopFactory.apply(() -> {
+			pause.forMs(properties.statsHandleLatenciesLogIntervalSecs() * 1_000L);
+			handleLatencies.updateAndLog();
+		});
+		logThread.setName(String.format(HANDLE_LATENCIES_LOG_THREAD_NAME_TPL, platform.getSelfId().getId()));
+		logThread.start();
 	}
 }
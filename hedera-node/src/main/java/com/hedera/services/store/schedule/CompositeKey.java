@@ -20,15 +20,39 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+
 import com.hederahashgraph.api.proto.java.AccountID;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Identifies a scheduled transaction by the SHA-384 digest of its body
+ * bytes together with its designated payer; so two schedules share a key
+ * only if they schedule the same transaction for the same payer.
+ */
 public class CompositeKey {
+    static final String DIGEST_ALGORITHM = "SHA-384";
+
+    private final byte[] digest;
     private final int hash;
-    private final AccountID id;
 
-    public CompositeKey(int hash, AccountID id) {
-        this.hash = hash;
-        this.id = id;
+    CompositeKey(byte[] digest) {
+        this.digest = digest;
+        this.hash = (digest[0] & 0xff) << 24 | (digest[1] & 0xff) << 16 | (digest[2] & 0xff) << 8 | (digest[3] & 0xff);
+    }
+
+    public static CompositeKey of(byte[] bodyBytes, AccountID payer) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+        md.update(bodyBytes);
+        md.update(payer.toByteArray());
+        return new CompositeKey(md.digest());
     }
 
     @Override
@@ -39,18 +63,11 @@ public class CompositeKey {
             return false;
         CompositeKey other = (CompositeKey)o;
 
-        boolean hashEquals = this.hash == other.hash;
-        boolean idEquals = this.id.equals(other.id);
-
-        return hashEquals && idEquals;
+        return this.hash == other.hash && Arrays.equals(this.digest, other.digest);
     }
 
     @Override
     public final int hashCode() {
-        int result = hash;
-        if (id != null) {
-            result = 31 * result + id.hashCode();
-        }
-        return result;
+        return hash;
     }
 }
@@ -78,6 +78,9 @@ public enum ExceptionalScheduleStore implements ScheduleStore {
 	@Override
 	public ResponseCodeEnum delete(ScheduleID id) { throw new UnsupportedOperationException(); }
 
+	@Override
+	public void expireSchedulesAt(long now) { throw new UnsupportedOperationException(); }
+
 	@Override
 	public void commitCreation() { throw new UnsupportedOperationException(); }
 
@@ -20,8 +20,11 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.state.expiry.NumExpiryWheel;
+import com.hedera.services.state.initialization.RebuildableView;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
@@ -33,12 +36,14 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.swirlds.fcmap.FCMap;
 
-import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.state.merkle.MerkleEntityId.fromScheduleId;
@@ -55,25 +60,41 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_WAS_D
 /**
  * Provides a managing store for Scheduled Entities.
  *
+ * Schedules are deduplicated by a {@link CompositeKey} digest of their body and
+ * payer, kept in an index that is updated as each schedule is created, deleted,
+ * or expired. Every schedule is also tracked in a {@link NumExpiryWheel} for its
+ * (shard, realm), so that once consensus time passes its expiry, it is removed
+ * from state whether or not it was ever executed.
+ *
  * @author Daniel Ivanov
  */
-public class HederaScheduleStore extends HederaStore implements ScheduleStore {
+public class HederaScheduleStore extends HederaStore implements
+		ScheduleStore,
+		RebuildableView<MerkleEntityId, MerkleSchedule> {
 	static final ScheduleID NO_PENDING_ID = ScheduleID.getDefaultInstance();
+	static final Comparator<MerkleEntityId> BY_SHARD_AND_REALM =
+			Comparator.comparingLong(MerkleEntityId::getShard).thenComparingLong(MerkleEntityId::getRealm);
 
+	private final GlobalDynamicProperties properties;
 	private final Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules;
+
 	Map<CompositeKey, MerkleEntityId> txToEntityId = new HashMap<>();
+	/* Schedule numbers are only unique within a (shard, realm), so each has its own wheel. */
+	TreeMap<MerkleEntityId, RealmExpiries> scheduleExpiries = new TreeMap<>(BY_SHARD_AND_REALM);
 
 	ScheduleID pendingId = NO_PENDING_ID;
-	Integer pendingTxHashCode = null;
+	CompositeKey pendingTxKey = null;
 	MerkleSchedule pendingCreation;
 
 	public HederaScheduleStore(
 			EntityIdSource ids,
+			GlobalDynamicProperties properties,
 			Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules
 	) {
 		super(ids);
+		this.properties = properties;
 		this.schedules = schedules;
-		buildTxToEntityIdMap(this.schedules);
+		rebuildFrom(schedules.get()::forEach);
 	}
 
 	@Override
@@ -123,7 +144,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 
 		pendingId = ids.newScheduleId(schedulingAccount);
-		pendingTxHashCode = Arrays.hashCode(bodyBytes);
+		pendingTxKey = CompositeKey.of(bodyBytes, payer);
 		pendingCreation = new MerkleSchedule(
 				bodyBytes,
 				EntityId.ofNullableAccountId(schedulingAccount),
@@ -131,6 +152,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		);
 		adminKey.ifPresent(pendingCreation::setAdminKey);
 		pendingCreation.setPayer(EntityId.ofNullableAccountId(payer));
+		pendingCreation.setExpiry(schedulingTXValidStart.getSeconds() + properties.scheduledTxExpiryTimeSecs());
 
 		return success(pendingId);
 	}
@@ -168,7 +190,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 
 		apply(id, DELETION);
-		txToEntityId.remove(new CompositeKey(Arrays.hashCode(schedule.transactionBody()), schedule.payer().toGrpcAccountId()));
+		txToEntityId.remove(keyOf(schedule), fromScheduleId(id));
 		return OK;
 	}
 
@@ -178,7 +200,8 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		var id = fromScheduleId(pendingId);
 
 		schedules.get().put(id, pendingCreation);
-		txToEntityId.put(new CompositeKey(pendingTxHashCode, pendingCreation.payer().toGrpcAccountId()), id);
+		txToEntityId.put(pendingTxKey, id);
+		trackExpiry(id, pendingCreation.expiry());
 		resetPendingCreation();
 	}
 
@@ -196,7 +219,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 
 	private void resetPendingCreation() {
 		pendingId = NO_PENDING_ID;
-		pendingTxHashCode = null;
+		pendingTxKey = null;
 		pendingCreation = null;
 	}
 
@@ -206,29 +229,76 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 	}
 
-	private void buildTxToEntityIdMap(Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules) {
-		var schedulesMap = schedules.get();
-		schedulesMap.forEach((key, value) -> txToEntityId.put(new CompositeKey(Arrays.hashCode(value.transactionBody()), value.payer().toGrpcAccountId()), key));
+	@Override
+	public void beginRebuild() {
+		txToEntityId.clear();
+		scheduleExpiries.clear();
 	}
 
 	@Override
-	public Optional<ScheduleID> getScheduleID(byte[] bodyBytes, AccountID scheduledTxPayer) {
-		var txHashCode = Arrays.hashCode(bodyBytes);
-		var keyToCheckFor = new CompositeKey(txHashCode, scheduledTxPayer);
+	public void rebuildWith(MerkleEntityId id, MerkleSchedule schedule) {
+		if (!schedule.isDeleted()) {
+			txToEntityId.put(keyOf(schedule), id);
+		}
+		trackExpiry(id, expiryOf(schedule));
+	}
 
-		if (isCreationPending()) {
-			var pendingKey = new CompositeKey(pendingTxHashCode, pendingCreation.payer().toGrpcAccountId());
+	@Override
+	public void expireSchedulesAt(long now) {
+		for (RealmExpiries expiries : scheduleExpiries.values()) {
+			expiries.wheel.expireAllAt(now, expiries.action);
+		}
+	}
+
+	void trackExpiry(MerkleEntityId id, long expiry) {
+		scheduleExpiries
+				.computeIfAbsent(id, ignore -> new RealmExpiries(id.getShard(), id.getRealm()))
+				.wheel
+				.track(id.getNum(), expiry);
+	}
+
+	boolean hasPendingExpiries() {
+		return scheduleExpiries.values().stream().anyMatch(expiries -> !expiries.wheel.isEmpty());
+	}
 
-			if (keyToCheckFor.equals(pendingKey)) {
-				return Optional.of(pendingId);
-			}
+	/* Schedules saved before 0.12.0 only get an expiry of their own from a state migration. */
+	private long expiryOf(MerkleSchedule schedule) {
+		return schedule.hasExpiry()
+				? schedule.expiry()
+				: schedule.schedulingTXValidStart().getSeconds() + properties.scheduledTxExpiryTimeSecs();
+	}
+
+	private void expire(MerkleEntityId id) {
+		var schedule = schedules.get().get(id);
+		if (schedule == null) {
+			return;
+		}
+		txToEntityId.remove(keyOf(schedule), id);
+		schedules.get().remove(id);
+	}
+
+	private class RealmExpiries {
+		private final NumExpiryWheel wheel = new NumExpiryWheel();
+		private final LongConsumer action;
+
+		private RealmExpiries(long shard, long realm) {
+			action = num -> expire(new MerkleEntityId(shard, realm, num));
 		}
+	}
+
+	private CompositeKey keyOf(MerkleSchedule schedule) {
+		return CompositeKey.of(schedule.transactionBody(), schedule.payer().toGrpcAccountId());
+	}
+
+	@Override
+	public Optional<ScheduleID> getScheduleID(byte[] bodyBytes, AccountID scheduledTxPayer) {
+		var keyToCheckFor = CompositeKey.of(bodyBytes, scheduledTxPayer);
 
-		if (txToEntityId.containsKey(keyToCheckFor)) {
-			var scheduleId = txToEntityId.get(keyToCheckFor).toScheduleId();
-			return Optional.of(scheduleId);
+		if (isCreationPending() && keyToCheckFor.equals(pendingTxKey)) {
+			return Optional.of(pendingId);
 		}
 
-		return Optional.empty();
+		var extant = txToEntityId.get(keyToCheckFor);
+		return Optional.ofNullable(extant).map(MerkleEntityId::toScheduleId);
 	}
 }
@@ -27,6 +27,7 @@ import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.TokenRelProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.sigs.utils.ImmutableKeyUtils;
+import com.hedera.services.state.initialization.RebuildableView;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
@@ -99,7 +100,9 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TRANSACTION_RE
  *
  * @author Michael Tinker
  */
-public class HederaTokenStore extends HederaStore implements TokenStore {
+public class HederaTokenStore extends HederaStore implements
+		TokenStore,
+		RebuildableView<MerkleEntityId, MerkleToken> {
 	static final TokenID NO_PENDING_ID = TokenID.getDefaultInstance();
 
 	static Predicate<Key> REMOVES_ADMIN_KEY = ImmutableKeyUtils::signalsKeyRemoval;
@@ -129,9 +132,17 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		this.properties = properties;
 		this.tokenRelsLedger = tokenRelsLedger;
 
-		tokens.get().forEach((key, value) -> {
-			addKnownTreasury(value.treasury().toGrpcAccountId(), key.toTokenId());
-		});
+		rebuildFrom(tokens.get()::forEach);
+	}
+
+	@Override
+	public void beginRebuild() {
+		knownTreasuries.clear();
+	}
+
+	@Override
+	public void rebuildWith(MerkleEntityId id, MerkleToken token) {
+		addKnownTreasury(token.treasury().toGrpcAccountId(), id.toTokenId());
 	}
 
 	@Override
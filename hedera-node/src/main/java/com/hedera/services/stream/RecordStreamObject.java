@@ -56,6 +56,15 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 	/** the {@link Transaction} object to be written to record stream file */
 	private Transaction transaction;
 
+	/**
+	 * the serialized forms of the {@link TransactionRecord} and {@link Transaction}; each is encoded (or,
+	 * for a transaction received from the platform, taken as-is) at most once and then shared by the
+	 * runningHash calculation and the record stream file writer. (These run one after the other, and the
+	 * object reaches each via a blocking queue, so the plain fields are safely published.)
+	 */
+	private byte[] transactionRecordBytes;
+	private byte[] transactionBytes;
+
 	/**
 	 * the consensus timestamp of this {@link TransactionRecord} object,
 	 * this field is used for deciding wether to start a new record stream file,
@@ -82,16 +91,33 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 		runningHash = new RunningHash();
 	}
 
+	/**
+	 * Creates a RecordStreamObject whose {@link Transaction} will be streamed as the given bytes,
+	 * which must be the exact bytes the transaction was parsed from.
+	 *
+	 * @param transactionRecord the record of the handled transaction
+	 * @param transaction the handled transaction
+	 * @param transactionBytes the bytes the handled transaction was parsed from
+	 * @param consensusTimestamp the consensus timestamp of the handled transaction
+	 */
+	public RecordStreamObject(final TransactionRecord transactionRecord,
+			final Transaction transaction, final byte[] transactionBytes, final Instant consensusTimestamp) {
+		this(transactionRecord, transaction, consensusTimestamp);
+		this.transactionBytes = transactionBytes;
+	}
+
 	@Override
 	public void serialize(SerializableDataOutputStream out) throws IOException {
-		out.writeByteArray(transactionRecord.toByteArray());
-		out.writeByteArray(transaction.toByteArray());
+		out.writeByteArray(getTransactionRecordBytes());
+		out.writeByteArray(getTransactionBytes());
 	}
 
 	@Override
 	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
-		transactionRecord = TransactionRecord.parseFrom(in.readByteArray(MAX_RECORD_LENGTH));
-		transaction = Transaction.parseFrom(in.readByteArray(MAX_TRANSACTION_LENGTH));
+		transactionRecordBytes = in.readByteArray(MAX_RECORD_LENGTH);
+		transactionRecord = TransactionRecord.parseFrom(transactionRecordBytes);
+		transactionBytes = in.readByteArray(MAX_TRANSACTION_LENGTH);
+		transaction = Transaction.parseFrom(transactionBytes);
 		final Timestamp timestamp = transactionRecord.getConsensusTimestamp();
 		consensusTimestamp = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
 	}
@@ -178,4 +204,18 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 	TransactionRecord getTransactionRecord() {
 		return transactionRecord;
 	}
+
+	byte[] getTransactionBytes() {
+		if (transactionBytes == null) {
+			transactionBytes = transaction.toByteArray();
+		}
+		return transactionBytes;
+	}
+
+	byte[] getTransactionRecordBytes() {
+		if (transactionRecordBytes == null) {
+			transactionRecordBytes = transactionRecord.toByteArray();
+		}
+		return transactionRecordBytes;
+	}
 }
@@ -22,6 +22,8 @@ package com.hedera.services.txns.contract;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.files.HederaFs;
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -37,6 +39,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.hedera.services.utils.EntityIdUtils.asAccount;
+import static com.hedera.services.utils.MiscUtils.asFcKeyUnchecked;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.AUTORENEW_DURATION_NOT_IN_RANGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_FILE_EMPTY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_GAS;
@@ -65,6 +69,7 @@ public class ContractCreateTransitionLogic implements TransitionLogic {
 	private final OptionValidator validator;
 	private final TransactionContext txnCtx;
 	private final Supplier<SequenceNumber> seqNo;
+	private final RecentlyCreatedAccounts recentCreations;
 
 	private final Function<TransactionBody, ResponseCodeEnum> SYNTAX_CHECK = this::validate;
 
@@ -73,9 +78,11 @@ public class ContractCreateTransitionLogic implements TransitionLogic {
 			LegacyCreator delegate,
 			Supplier<SequenceNumber> seqNo,
 			OptionValidator validator,
-			TransactionContext txnCtx
+			TransactionContext txnCtx,
+			RecentlyCreatedAccounts recentCreations
 	) {
 		this.hfs = hfs;
+		this.recentCreations = recentCreations;
 		this.seqNo = seqNo;
 		this.txnCtx = txnCtx;
 		this.delegate = delegate;
@@ -100,7 +107,10 @@ public class ContractCreateTransitionLogic implements TransitionLogic {
 			txnCtx.setStatus(outcome);
 			txnCtx.setCreateResult(legacyRecord.getContractCreateResult());
 			if (outcome == SUCCESS) {
-				txnCtx.setCreated(legacyRecord.getReceipt().getContractID());
+				var created = legacyRecord.getReceipt().getContractID();
+				txnCtx.setCreated(created);
+				var key = op.hasAdminKey() ? asFcKeyUnchecked(op.getAdminKey()) : new JContractIDKey(created);
+				recentCreations.track(asAccount(created), key, false);
 			}
 		} catch (Exception e) {
 			txnCtx.setStatus(FAIL_INVALID);
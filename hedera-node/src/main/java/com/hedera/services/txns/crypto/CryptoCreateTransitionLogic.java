@@ -24,6 +24,7 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.exceptions.InsufficientFundsException;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -59,15 +60,18 @@ public class CryptoCreateTransitionLogic implements TransitionLogic {
 	private final HederaLedger ledger;
 	private final OptionValidator validator;
 	private final TransactionContext txnCtx;
+	private final RecentlyCreatedAccounts recentCreations;
 
 	public CryptoCreateTransitionLogic(
 			HederaLedger ledger,
 			OptionValidator validator,
-			TransactionContext txnCtx
+			TransactionContext txnCtx,
+			RecentlyCreatedAccounts recentCreations
 	) {
 		this.ledger = ledger;
 		this.txnCtx = txnCtx;
 		this.validator = validator;
+		this.recentCreations = recentCreations;
 	}
 
 	@Override
@@ -82,6 +86,7 @@ public class CryptoCreateTransitionLogic implements TransitionLogic {
 
 			txnCtx.setCreated(created);
 			txnCtx.setStatus(SUCCESS);
+			recentCreations.track(created, asFcKeyUnchecked(op.getKey()), op.getReceiverSigRequired());
 		} catch (InsufficientFundsException ife) {
 			txnCtx.setStatus(INSUFFICIENT_PAYER_BALANCE);
 		} catch (Exception e) {
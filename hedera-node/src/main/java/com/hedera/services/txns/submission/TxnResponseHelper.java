@@ -20,6 +20,7 @@ package com.hedera.services.txns.submission;
  * ‍
  */
 
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.txns.SubmissionFlow;
@@ -31,6 +32,7 @@ import io.grpc.stub.StreamObserver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -40,13 +42,22 @@ public class TxnResponseHelper {
 	static final TransactionResponse FAIL_INVALID_RESPONSE = TransactionResponse.newBuilder()
 			.setNodeTransactionPrecheckCode(FAIL_INVALID)
 			.build();
+	static final TransactionResponse BUSY_RESPONSE = TransactionResponse.newBuilder()
+			.setNodeTransactionPrecheckCode(BUSY)
+			.build();
 
 	private final SubmissionFlow submissionFlow;
 	private final HapiOpCounters opCounters;
+	private final PrecheckExecutor precheckExecutor;
 
-	public TxnResponseHelper(SubmissionFlow submissionFlow, HapiOpCounters opCounters) {
+	public TxnResponseHelper(
+			SubmissionFlow submissionFlow,
+			HapiOpCounters opCounters,
+			PrecheckExecutor precheckExecutor
+	) {
 		this.opCounters = opCounters;
 		this.submissionFlow = submissionFlow;
+		this.precheckExecutor = precheckExecutor;
 	}
 
 	public void submit(
@@ -68,6 +79,18 @@ public class TxnResponseHelper {
 			Runnable incSubmittedCount
 	) {
 		incReceivedCount.run();
+
+		if (!precheckExecutor.tryExecute(() -> submitAndRespond(signedTxn, observer, incSubmittedCount))) {
+			observer.onNext(BUSY_RESPONSE);
+			observer.onCompleted();
+		}
+	}
+
+	private void submitAndRespond(
+			Transaction signedTxn,
+			StreamObserver<TransactionResponse> observer,
+			Runnable incSubmittedCount
+	) {
 		TransactionResponse response;
 
 		try {
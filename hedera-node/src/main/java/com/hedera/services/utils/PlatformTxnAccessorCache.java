@@ -0,0 +1,123 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.common.Transaction;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded cache of {@link PlatformTxnAccessor}s keyed by the <b>identity</b> of
+ * their {@link Transaction}, so that a platform txn whose signatures were expanded
+ * in {@code expandSignatures} does not need to be re-parsed and re-hashed when it
+ * reaches consensus in {@code handleTransaction}.
+ *
+ * Since each accessor references its platform txn, an entry that is never consumed
+ * at consensus stays until it is evicted; either because the cache is full, or
+ * because the entry has not been accessed for longer than the maximum valid
+ * duration of a txn, after which it can no longer reach consensus.
+ */
+public class PlatformTxnAccessorCache {
+	static final long EXPIRE_AFTER_ACCESS_SECS = 180L;
+
+	private final HapiOpCounters opCounters;
+	private final MiscRunningAvgs runningAvgs;
+	private final Cache<TxnKey, PlatformTxnAccessor> accessors;
+
+	public PlatformTxnAccessorCache(long maxSize, MiscRunningAvgs runningAvgs, HapiOpCounters opCounters) {
+		this.opCounters = opCounters;
+		this.runningAvgs = runningAvgs;
+		this.accessors = CacheBuilder.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterAccess(EXPIRE_AFTER_ACCESS_SECS, TimeUnit.SECONDS)
+				.build();
+	}
+
+	/**
+	 * Returns an accessor for the given platform txn, creating and caching
+	 * it if this txn has not been seen before.
+	 *
+	 * @param platformTxn the txn to provide an accessor for
+	 * @return the (possibly cached) accessor
+	 * @throws InvalidProtocolBufferException if the txn contents are not a gRPC {@code Transaction}
+	 */
+	public PlatformTxnAccessor accessorFor(Transaction platformTxn) throws InvalidProtocolBufferException {
+		var key = new TxnKey(platformTxn);
+		var accessor = accessors.getIfPresent(key);
+		if (accessor == null) {
+			accessor = new PlatformTxnAccessor(platformTxn);
+			accessors.put(key, accessor);
+		}
+		return accessor;
+	}
+
+	/**
+	 * Returns an accessor for the given platform txn, which is about to be
+	 * handled at consensus; so the txn will not be needed again and any
+	 * cached accessor is evicted.
+	 *
+	 * @param platformTxn the consensus txn to provide an accessor for
+	 * @return the cached accessor if present, or a newly created one
+	 * @throws InvalidProtocolBufferException if the txn contents are not a gRPC {@code Transaction}
+	 */
+	public PlatformTxnAccessor consumedAccessorFor(Transaction platformTxn) throws InvalidProtocolBufferException {
+		var key = new TxnKey(platformTxn);
+		var accessor = accessors.getIfPresent(key);
+		if (accessor != null) {
+			accessors.invalidate(key);
+			runningAvgs.recordTxnAccessorCacheHit();
+			opCounters.countTxnAccessorCacheHit();
+			return accessor;
+		}
+		runningAvgs.recordTxnAccessorCacheMiss();
+		opCounters.countTxnAccessorCacheMiss();
+		return new PlatformTxnAccessor(platformTxn);
+	}
+
+	long size() {
+		accessors.cleanUp();
+		return accessors.size();
+	}
+
+	/* Two platform txns with equal contents may carry different expanded signatures. */
+	private static class TxnKey {
+		private final Transaction platformTxn;
+
+		TxnKey(Transaction platformTxn) {
+			this.platformTxn = platformTxn;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof TxnKey && ((TxnKey) o).platformTxn == platformTxn;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(platformTxn);
+		}
+	}
+}
@@ -24,8 +24,10 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.exceptions.UnknownHederaFunctionality;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
@@ -41,13 +43,18 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
  * @author Michael Tinker
  */
 public class SignedTxnAccessor {
-	private byte[] txnBytes;
-	private byte[] signedTxnBytes;
-	private Transaction signedTxn;
-	private TransactionID txnId;
-	private TransactionBody txn;
-	private HederaFunctionality function;
-	private ByteString hash;
+	private final byte[] txnBytes;
+	private final byte[] signedTxnBytes;
+	private final Transaction signedTxn;
+	private final TransactionID txnId;
+	private final TransactionBody txn;
+	private final ByteString hash;
+	/* Computed lazily, and possibly concurrently, since one accessor is shared by
+	precheck, signature expansion, and handleTransaction threads; a racing thread
+	at worst recomputes an equivalent immutable value. */
+	private volatile HederaFunctionality function;
+	private volatile SignatureMap sigMap;
+	private volatile PubKeyToSigBytes pkToSigsFn;
 
 	static Function<TransactionBody, HederaFunctionality> functionExtractor = txn -> {
 		try {
@@ -70,7 +77,16 @@ public class SignedTxnAccessor {
 		txnBytes = CommonUtils.extractTransactionBodyBytes(signedTxn);
 		txn = TransactionBody.parseFrom(txnBytes);
 		txnId = txn.getTransactionID();
-		hash = CommonUtils.sha384HashOf(signedTxn);
+		hash = hashOf(signedTxn, signedTxnBytes);
+	}
+
+	/* Hashes the bytes that are actually streamed, never a re-encoding of the parsed message; the
+	signed transaction bytes of a Transaction are exactly as submitted, since a ByteString is kept as-is. */
+	private static ByteString hashOf(Transaction signedTxn, byte[] signedTxnBytes) {
+		var signedTransactionBytes = signedTxn.getSignedTransactionBytes();
+		return signedTransactionBytes.isEmpty()
+				? CommonUtils.sha384HashOf(signedTxnBytes)
+				: CommonUtils.sha384HashOf(signedTransactionBytes.toByteArray());
 	}
 
 	public SignedTxnAccessor(Transaction signedTxn) throws InvalidProtocolBufferException {
@@ -78,10 +94,11 @@ public class SignedTxnAccessor {
 	}
 
 	public HederaFunctionality getFunction() {
-		if (function == null) {
-			function = functionExtractor.apply(getTxn());
+		var memo = function;
+		if (memo == null) {
+			function = memo = functionExtractor.apply(getTxn());
 		}
-		return function;
+		return memo;
 	}
 
 	public Transaction getSignedTxn4Log() {
@@ -115,4 +132,27 @@ public class SignedTxnAccessor {
 	public ByteString getHash() {
 		return hash;
 	}
+
+	public SignatureMap getSigMap() {
+		var memo = sigMap;
+		if (memo == null) {
+			sigMap = memo = CommonUtils.extractSignatureMapOrUseDefault(signedTxn);
+		}
+		return memo;
+	}
+
+	/**
+	 * Returns a source of the cryptographic signatures in this transaction's
+	 * {@link SignatureMap}, indexed once and then shared by every role
+	 * (payer, other parties) whose signatures are expanded or rationalized.
+	 *
+	 * @return the indexed signature source for this transaction
+	 */
+	public PubKeyToSigBytes getPkToSigsFn() {
+		var memo = pkToSigsFn;
+		if (memo == null) {
+			pkToSigsFn = memo = PubKeyToSigBytes.from(getSigMap());
+		}
+		return memo;
+	}
 }
@@ -30,11 +30,14 @@ import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.stream.RecordStream;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.state.initialization.SystemFilesManager;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -46,9 +49,12 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.txns.ProcessLogic;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.services.utils.SystemExits;
 import com.hedera.test.factories.txns.PlatformTxnFactory;
 import com.hedera.test.utils.IdUtils;
@@ -56,7 +62,6 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.blob.BinaryObjectStore;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
@@ -83,13 +88,13 @@ import org.mockito.InOrder;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.hedera.services.ServicesState.RELEASE_0100_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0110_VERSION;
+import static com.hedera.services.ServicesState.RELEASE_0120_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_070_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_080_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_090_VERSION;
@@ -137,6 +142,8 @@ class ServicesStateTest {
 	FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociationsCopy;
 	FCMap<MerkleEntityId, MerkleToken> tokensCopy;
 	FCMap<MerkleEntityId, MerkleSchedule> scheduledTxsCopy;
+	FCMap<MerkleContractSlotKey, MerkleContractSlot> contractStorage;
+	FCMap<MerkleContractSlotKey, MerkleContractSlot> contractStorageCopy;
 	MerkleDiskFs diskFs;
 	MerkleDiskFs diskFsCopy;
 	RecordsRunningHashLeaf runningHashLeaf;
@@ -153,7 +160,7 @@ class ServicesStateTest {
 	SystemExits systemExits;
 	SystemFilesManager systemFilesManager;
 	RecordStreamManager recordStreamManager;
-	Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	TxnIdTable<TxnIdRecentHistory> txnHistories;
 
 	ServicesState subject;
 
@@ -188,10 +195,12 @@ class ServicesStateTest {
 		ctx = mock(ServicesContext.class);
 		given(ctx.id()).willReturn(self);
 		given(ctx.logic()).willReturn(logic);
+		given(ctx.txnAccessorCache()).willReturn(new PlatformTxnAccessorCache(
+				10, mock(MiscRunningAvgs.class), mock(HapiOpCounters.class)));
 
 		systemFilesManager = mock(SystemFilesManager.class);
 		historian = mock(AccountRecordsHistorian.class);
-		txnHistories = mock(Map.class);
+		txnHistories = mock(TxnIdTable.class);
 		recordStreamManager = mock(RecordStreamManager.class);
 
 		topics = mock(FCMap.class);
@@ -214,6 +223,8 @@ class ServicesStateTest {
 		accountsCopy = mock(FCMap.class);
 		diskFsCopy = mock(MerkleDiskFs.class);
 		scheduledTxsCopy = mock(FCMap.class);
+		contractStorage = mock(FCMap.class);
+		contractStorageCopy = mock(FCMap.class);
 		runningHashLeafCopy = mock(RecordsRunningHashLeaf.class);
 
 		given(topics.copy()).willReturn(topicsCopy);
@@ -223,6 +234,7 @@ class ServicesStateTest {
 		given(tokenAssociations.copy()).willReturn(tokenAssociationsCopy);
 		given(diskFs.copy()).willReturn(diskFsCopy);
 		given(scheduledTxs.copy()).willReturn(scheduledTxsCopy);
+		given(contractStorage.copy()).willReturn(contractStorageCopy);
 		given(runningHashLeaf.copy()).willReturn(runningHashLeafCopy);
 
 		seqNo = mock(SequenceNumber.class);
@@ -268,6 +280,7 @@ class ServicesStateTest {
 		assertNotNull(subject.tokenAssociations());
 		assertNotNull(subject.diskFs());
 		assertNotNull(subject.runningHashLeaf());
+		assertNotNull(subject.contractStorage());
 		// and:
 		assertTrue(subject.skipDiskFsHashCheck);
 	}
@@ -283,11 +296,12 @@ class ServicesStateTest {
 		assertEquals(ServicesState.ChildIndices.NUM_090_CHILDREN, subject.getMinimumChildCount(RELEASE_090_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0100_CHILDREN, subject.getMinimumChildCount(RELEASE_0100_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0110_CHILDREN, subject.getMinimumChildCount(RELEASE_0110_VERSION));
+		assertEquals(ServicesState.ChildIndices.NUM_0120_CHILDREN, subject.getMinimumChildCount(RELEASE_0120_VERSION));
 
 		Throwable throwable = assertThrows(IllegalArgumentException.class,
-				() -> subject.getMinimumChildCount(RELEASE_0110_VERSION + 1));
+				() -> subject.getMinimumChildCount(RELEASE_0120_VERSION + 1));
 		assertEquals(
-				String.format(ServicesState.UNSUPPORTED_VERSION_MSG_TPL, RELEASE_0110_VERSION + 1),
+				String.format(ServicesState.UNSUPPORTED_VERSION_MSG_TPL, RELEASE_0120_VERSION + 1),
 				throwable.getMessage());
 	}
 
@@ -327,6 +341,7 @@ class ServicesStateTest {
 		assertNotNull(subject.accounts());
 		assertNotNull(subject.tokens());
 		assertNotNull(subject.scheduleTxs());
+		assertNotNull(subject.contractStorage());
 		assertEquals(book, subject.addressBook());
 		assertEquals(self, actualCtx.id());
 		assertEquals(platform, actualCtx.platform());
@@ -355,8 +370,7 @@ class ServicesStateTest {
 		// during migration, if the records directory doesn't have old files, initialHash will be empty hash
 		inOrder.verify(ctx).setRecordsInitialHash(EMPTY_HASH);
 		inOrder.verify(ctx).update(subject);
-		inOrder.verify(ctx).rebuildBackingStoresIfPresent();
-		inOrder.verify(historian).reviewExistingRecords();
+		inOrder.verify(ctx).rehydrateViewsOfState();
 		inOrder.verify(systemFilesManager).loadAllSystemFiles();
 	}
 
@@ -375,8 +389,7 @@ class ServicesStateTest {
 		// then:
 		inOrder.verify(ctx).nodeAccount();
 		inOrder.verify(ctx).update(subject);
-		inOrder.verify(ctx).rebuildBackingStoresIfPresent();
-		inOrder.verify(historian).reviewExistingRecords();
+		inOrder.verify(ctx).rehydrateViewsOfState();
 		inOrder.verify(systemFilesManager, never()).loadAllSystemFiles();
 	}
 
@@ -426,12 +439,13 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 
 		// when:
 		subject.init(platform, book);
 
 		// then:
-		verify(diskFs, never()).checkHashesAgainstDiskContents();
+		verify(diskFs, never()).checkHashesAgainstDiskContentsInBackground();
 
 		// cleanup:
 		ServicesMain.log = LogManager.getLogger(ServicesMain.class);
@@ -457,17 +471,18 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 
 		// when:
 		subject.init(platform, book);
 
 		// then:
 		InOrder inOrder = inOrder(scheduledTxs, runningHashLeaf, diskFs, ctx, mockDigest, accounts, storage, topics,
-				tokens, tokenAssociations, networkCtx, book, mockLog);
+				tokens, tokenAssociations, contractStorage, networkCtx, book, mockLog);
 		inOrder.verify(diskFs).setFsBaseDir(any());
 		inOrder.verify(ctx).nodeAccount();
 		inOrder.verify(diskFs).setFsNodeScopedDir(any());
-		inOrder.verify(diskFs).checkHashesAgainstDiskContents();
+		inOrder.verify(diskFs).checkHashesAgainstDiskContentsInBackground();
 		inOrder.verify(ctx).setRecordsInitialHash(recordsHash);
 		inOrder.verify(mockDigest).accept(subject);
 		inOrder.verify(accounts).getHash();
@@ -477,6 +492,7 @@ class ServicesStateTest {
 		inOrder.verify(tokenAssociations).getHash();
 		inOrder.verify(diskFs).getHash();
 		inOrder.verify(scheduledTxs).getHash();
+		inOrder.verify(contractStorage).getHash();
 		inOrder.verify(networkCtx).getHash();
 		inOrder.verify(book).getHash();
 		inOrder.verify(runningHashLeaf).getHash();
@@ -502,6 +518,7 @@ class ServicesStateTest {
 		Hash tokenRelsRootHash = new Hash("asdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasdh".getBytes());
 		Hash specialFileSystemHash = new Hash("123456781234567812345678123456781234567812345678".getBytes());
 		Hash scheduledTxsRootHash = new Hash("qlqlqlqlqlqlllqqllqlqlqlqllqlqlqlqllqlqlqllqqlql".getBytes());
+		Hash contractStorageRootHash = new Hash("cscscscscscscscscscscscscscscscscscscscscscscscs".getBytes());
 
 		Hash runningHashLeafHash = new Hash("qasdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasd".getBytes());
 		RunningHash runningHash = mock(RunningHash.class);
@@ -520,6 +537,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 		// and:
 		var expected = String.format("[SwirldState Hashes]\n" +
 						"  Overall           :: %s\n" +
@@ -530,6 +548,7 @@ class ServicesStateTest {
 						"  TokenAssociations :: %s\n" +
 						"  DiskFs            :: %s\n" +
 						"  ScheduledTxs      :: %s\n" +
+						"  ContractStorage   :: %s\n" +
 						"  NetworkContext    :: %s\n" +
 						"  AddressBook       :: %s\n" +
 						"  RecordsRunningHashLeaf:: %s\n" +
@@ -543,6 +562,7 @@ class ServicesStateTest {
 				tokenRelsRootHash,
 				specialFileSystemHash,
 				scheduledTxsRootHash,
+				contractStorageRootHash,
 				ctxHash,
 				bookHash,
 				runningHashLeafHash,
@@ -558,6 +578,7 @@ class ServicesStateTest {
 		given(book.getHash()).willReturn(bookHash);
 		given(diskFs.getHash()).willReturn(specialFileSystemHash);
 		given(scheduledTxs.getHash()).willReturn(scheduledTxsRootHash);
+		given(contractStorage.getHash()).willReturn(contractStorageRootHash);
 
 		given(runningHashLeaf.getHash()).willReturn(runningHashLeafHash);
 		given(runningHashLeaf.getRunningHash()).willReturn(runningHash);
@@ -585,6 +606,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 		subject.nodeId = self;
 		subject.ctx = ctx;
 
@@ -605,6 +627,7 @@ class ServicesStateTest {
 		assertSame(diskFsCopy, copy.diskFs());
 		assertSame(scheduledTxsCopy, copy.scheduleTxs());
 		assertSame(runningHashLeafCopy, copy.runningHashLeaf());
+		assertSame(contractStorageCopy, copy.contractStorage());
 	}
 
 	@Test
@@ -628,6 +651,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.TOKENS, tokens);
 		subject.setChild(ServicesState.ChildIndices.TOKEN_ASSOCIATIONS, tokenAssociations);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 
 		// when:
 		subject.release();
@@ -639,6 +663,7 @@ class ServicesStateTest {
 		verify(tokens).decrementReferenceCount();
 		verify(tokenAssociations).decrementReferenceCount();
 		verify(scheduledTxs).decrementReferenceCount();
+		verify(contractStorage).decrementReferenceCount();
 	}
 
 	@Test
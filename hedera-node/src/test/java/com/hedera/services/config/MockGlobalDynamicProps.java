@@ -102,6 +102,11 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
 		return true;
 	}
 
+	@Override
+	public boolean shouldExportBinaryBalances() {
+		return false;
+	}
+
 	@Override
 	public int maxTransferListSize() {
 		return 10;
@@ -44,9 +44,11 @@ import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
-import com.hedera.services.state.exports.SignedStateBalancesExporter;
+import com.hedera.services.state.exports.AsyncBalancesExporter;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
@@ -72,6 +74,7 @@ import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -90,6 +93,7 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.HandleLatencies;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stats.ServicesStatsManager;
@@ -97,6 +101,7 @@ import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.throttling.BucketThrottling;
 import com.hedera.services.throttling.TransactionThrottling;
+import com.hedera.services.store.schedule.HederaScheduleStore;
 import com.hedera.services.store.tokens.HederaTokenStore;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
@@ -109,10 +114,13 @@ import com.hedera.services.queries.crypto.CryptoAnswers;
 import com.hedera.services.queries.meta.MetaAnswers;
 import com.hedera.services.records.TxnAwareRecordsHistorian;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TxnIdTable;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.migration.StdStateMigrations;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.services.utils.SleepingPause;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hedera.services.legacy.handler.FreezeHandler;
@@ -141,9 +149,11 @@ import org.mockito.InOrder;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.stream.RecordStreamManagerTest.INITIAL_RANDOM_HASH;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -171,6 +181,7 @@ public class ServicesContextTest {
 	FCMap<MerkleEntityId, MerkleToken> tokens;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
 	FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
+	FCMap<MerkleContractSlotKey, MerkleContractSlot> contractStorage;
 	FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
 	FCMap<MerkleEntityId, MerkleSchedule> schedules;
 
@@ -181,6 +192,7 @@ public class ServicesContextTest {
 		tokenAssociations = mock(FCMap.class);
 		schedules = mock(FCMap.class);
 		storage = mock(FCMap.class);
+		contractStorage = mock(FCMap.class);
 		accounts = mock(FCMap.class);
 		seqNo = mock(SequenceNumber.class);
 		midnightRates = mock(ExchangeRates.class);
@@ -189,6 +201,7 @@ public class ServicesContextTest {
 		given(state.networkCtx()).willReturn(networkCtx);
 		given(state.accounts()).willReturn(accounts);
 		given(state.storage()).willReturn(storage);
+		given(state.contractStorage()).willReturn(contractStorage);
 		given(state.topics()).willReturn(topics);
 		given(state.tokens()).willReturn(tokens);
 		given(state.tokenAssociations()).willReturn(tokenAssociations);
@@ -208,6 +221,7 @@ public class ServicesContextTest {
 		var newAccounts = mock(FCMap.class);
 		var newTopics = mock(FCMap.class);
 		var newStorage = mock(FCMap.class);
+		var newContractStorage = mock(FCMap.class);
 		var newTokens = mock(FCMap.class);
 		var newTokenRels = mock(FCMap.class);
 		var newSchedules = mock(FCMap.class);
@@ -216,6 +230,7 @@ public class ServicesContextTest {
 		given(newState.topics()).willReturn(newTopics);
 		given(newState.tokens()).willReturn(newTokens);
 		given(newState.storage()).willReturn(newStorage);
+		given(newState.contractStorage()).willReturn(newContractStorage);
 		given(newState.tokenAssociations()).willReturn(newTokenRels);
 		given(newState.scheduleTxs()).willReturn(newSchedules);
 		// given:
@@ -224,6 +239,7 @@ public class ServicesContextTest {
 		var accountsRef = subject.queryableAccounts();
 		var topicsRef = subject.queryableTopics();
 		var storageRef = subject.queryableStorage();
+		var contractStorageRef = subject.queryableContractStorage();
 		var tokensRef = subject.queryableTokens();
 		var tokenRelsRef = subject.queryableTokenAssociations();
 		var schedulesRef = subject.queryableSchedules();
@@ -236,6 +252,7 @@ public class ServicesContextTest {
 		assertSame(accountsRef, subject.queryableAccounts());
 		assertSame(topicsRef, subject.queryableTopics());
 		assertSame(storageRef, subject.queryableStorage());
+		assertSame(contractStorageRef, subject.queryableContractStorage());
 		assertSame(tokensRef, subject.queryableTokens());
 		assertSame(tokenRelsRef, subject.queryableTokenAssociations());
 		assertSame(schedulesRef, subject.queryableSchedules());
@@ -243,6 +260,7 @@ public class ServicesContextTest {
 		assertSame(newAccounts, subject.queryableAccounts().get());
 		assertSame(newTopics, subject.queryableTopics().get());
 		assertSame(newStorage, subject.queryableStorage().get());
+		assertSame(newContractStorage, subject.queryableContractStorage().get());
 		assertSame(newTokens, subject.queryableTokens().get());
 		assertSame(newTokenRels, subject.queryableTokenAssociations().get());
 		assertSame(newSchedules, subject.queryableSchedules().get());
@@ -263,6 +281,7 @@ public class ServicesContextTest {
 		var actualLastHandleTime = subject.consensusTimeOfLastHandledTxn();
 		subject.topics();
 		subject.storage();
+		subject.contractStorage();
 		subject.accounts();
 
 		// then:
@@ -272,9 +291,23 @@ public class ServicesContextTest {
 		assertEquals(consensusTimeOfLastHandledTxn.toJava(), actualLastHandleTime);
 		inOrder.verify(state).topics();
 		inOrder.verify(state).storage();
+		inOrder.verify(state).contractStorage();
 		inOrder.verify(state).accounts();
 	}
 
+	@Test
+	public void persistsSlotKeyedContractStorage() {
+		// given:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// when:
+		subject.storagePersistence().storageExist(asSolidityAddress(0, 0, 1_234L));
+
+		// then:
+		verify(contractStorage).containsKey(MerkleContractSlotKey.indexKeyFor(0, 0, 1_234L));
+		verify(storage, never()).containsKey(any());
+	}
+
 	@Test
 	public void hasExpectedNodeAccount() {
 		// setup:
@@ -345,27 +378,58 @@ public class ServicesContextTest {
 	}
 
 	@Test
-	public void rebuildsBackingAccountsIfNonNull() {
+	public void rehydratesOnlyConstructedViews() {
 		// setup:
-		BackingTokenRels tokenRels = mock(BackingTokenRels.class);
-		FCMapBackingAccounts backingAccounts = mock(FCMapBackingAccounts.class);
+		ExpiryManager expiries = mock(ExpiryManager.class);
 
 		// given:
 		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
+		ctx.setExpiries(expiries);
 
-		// expect:
-		assertDoesNotThrow(ctx::rebuildBackingStoresIfPresent);
+		// when:
+		ctx.rehydrateViewsOfState();
 
-		// and given:
+		// then:
+		verify(expiries).beginRebuild();
+		verify(accounts).forEach(any(BiConsumer.class));
+		verify(expiries).finishRebuild();
+		// and:
+		verify(tokenAssociations, never()).forEach(any(BiConsumer.class));
+		verify(tokens, never()).forEach(any(BiConsumer.class));
+		verify(schedules, never()).forEach(any(BiConsumer.class));
+	}
+
+	@Test
+	public void rehydratesAllConstructedViews() {
+		// setup:
+		ExpiryManager expiries = mock(ExpiryManager.class);
+		BackingTokenRels tokenRels = mock(BackingTokenRels.class);
+		FCMapBackingAccounts backingAccounts = mock(FCMapBackingAccounts.class);
+		HederaTokenStore tokenStore = mock(HederaTokenStore.class);
+		HederaScheduleStore scheduleStore = mock(HederaScheduleStore.class);
+
+		// given:
+		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
+		ctx.setExpiries(expiries);
 		ctx.setBackingAccounts(backingAccounts);
 		ctx.setBackingTokenRels(tokenRels);
+		ctx.setTokenStore(tokenStore);
+		ctx.setScheduleStore(scheduleStore);
 
 		// when:
-		ctx.rebuildBackingStoresIfPresent();
+		ctx.rehydrateViewsOfState();
 
 		// then:
-		verify(tokenRels).rebuildFromSources();
-		verify(backingAccounts).rebuildFromSources();
+		verify(expiries).beginRebuild();
+		verify(backingAccounts).beginRebuild();
+		verify(tokenRels).beginRebuild();
+		verify(tokenStore).beginRebuild();
+		verify(scheduleStore).beginRebuild();
+		// and:
+		verify(accounts).forEach(any(BiConsumer.class));
+		verify(tokenAssociations).forEach(any(BiConsumer.class));
+		verify(tokens).forEach(any(BiConsumer.class));
+		verify(schedules).forEach(any(BiConsumer.class));
 	}
 
 	@Test
@@ -414,6 +478,7 @@ public class ServicesContextTest {
 		assertThat(ctx.blobStore(), instanceOf(FcBlobsBytesStore.class));
 		assertThat(ctx.entityExpiries(), instanceOf(Map.class));
 		assertThat(ctx.syncVerifier(), instanceOf(SyncVerifier.class));
+		assertThat(ctx.precheckSyncVerifier(), instanceOf(SyncVerifier.class));
 		assertThat(ctx.txnThrottling(), instanceOf(TransactionThrottling.class));
 		assertThat(ctx.bucketThrottling(), instanceOf(BucketThrottling.class));
 		assertThat(ctx.accountSource(), instanceOf(LedgerAccountsSource.class));
@@ -431,6 +496,7 @@ public class ServicesContextTest {
 		assertThat(ctx.answerFunctions(), instanceOf(AnswerFunctions.class));
 		assertThat(ctx.queryFeeCheck(), instanceOf(QueryFeeCheck.class));
 		assertThat(ctx.queryableTopics(), instanceOf(AtomicReference.class));
+		assertThat(ctx.queryableContractStorage(), instanceOf(AtomicReference.class));
 		assertThat(ctx.transitionLogic(), instanceOf(TransitionLogicLookup.class));
 		assertThat(ctx.precheckVerifier(), instanceOf(PrecheckVerifier.class));
 		assertThat(ctx.apiPermissionsReloading(), instanceOf(ValidatingCallbackInterceptor.class));
@@ -452,7 +518,7 @@ public class ServicesContextTest {
 		assertThat(ctx.soliditySigsVerifier(), instanceOf(TxnAwareSoliditySigsVerifier.class));
 		assertThat(ctx.expiries(), instanceOf(ExpiryManager.class));
 		assertThat(ctx.creator(), instanceOf(ExpiringCreations.class));
-		assertThat(ctx.txnHistories(), instanceOf(Map.class));
+		assertThat(ctx.txnHistories(), instanceOf(TxnIdTable.class));
 		assertThat(ctx.backingAccounts(), instanceOf(FCMapBackingAccounts.class));
 		assertThat(ctx.backingTokenRels(), instanceOf(BackingTokenRels.class));
 		assertThat(ctx.systemAccountsCreator(), instanceOf(BackedSystemAccountsCreator.class));
@@ -468,12 +534,17 @@ public class ServicesContextTest {
 		assertThat(ctx.tokenGrpc(), instanceOf(TokenController.class));
 		assertThat(ctx.scheduleGrpc(), instanceOf(ScheduleController.class));
 		assertThat(ctx.nodeLocalProperties(), instanceOf(NodeLocalProperties.class));
-		assertThat(ctx.balancesExporter(), instanceOf(SignedStateBalancesExporter.class));
+		assertThat(ctx.balancesExporter(), instanceOf(AsyncBalancesExporter.class));
 		assertThat(ctx.exchange(), instanceOf(AwareHbarCentExchange.class));
 		assertThat(ctx.stateMigrations(), instanceOf(StdStateMigrations.class));
 		assertThat(ctx.opCounters(), instanceOf(HapiOpCounters.class));
 		assertThat(ctx.runningAvgs(), instanceOf(MiscRunningAvgs.class));
 		assertThat(ctx.speedometers(), instanceOf(MiscSpeedometers.class));
+		assertThat(ctx.handleLatencies(), instanceOf(HandleLatencies.class));
+		assertThat(ctx.txnAccessorCache(), instanceOf(PlatformTxnAccessorCache.class));
+		assertThat(ctx.recentCreations(), instanceOf(RecentlyCreatedAccounts.class));
+		assertThat(ctx.txnPrecheckExecutor(), instanceOf(PrecheckExecutor.class));
+		assertThat(ctx.queryPrecheckExecutor(), instanceOf(PrecheckExecutor.class));
 		assertThat(ctx.statsManager(), instanceOf(ServicesStatsManager.class));
 		assertThat(ctx.semVers(), instanceOf(SemanticVersions.class));
 		assertThat(ctx.freezeGrpc(), instanceOf(FreezeController.class));
@@ -375,6 +375,22 @@ class StateViewTest {
 		assertArrayEquals(expectedStorage, actual.get());
 	}
 
+	@Test
+	public void prefersSlotKeyedStorage() {
+		// setup:
+		var slotKeyedStorage = (Map<byte[], byte[]>) mock(Map.class);
+		var expectedSlotKeyedStorage = "SlotKeyed".getBytes();
+		given(slotKeyedStorage.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes))))
+				.willReturn(expectedSlotKeyedStorage);
+		subject.slotKeyedContractStorage = slotKeyedStorage;
+
+		// when:
+		var actual = subject.storageOf(cid);
+
+		// then:
+		assertArrayEquals(expectedSlotKeyedStorage, actual.get());
+	}
+
 	@Test
 	public void getsContents() {
 		given(contents.get(target)).willReturn(data);
@@ -120,10 +120,23 @@ class BootstrapPropertiesTest {
 			entry("files.maxSizeKb", 1024),
 			entry("fees.tokenTransferUsageMultiplier", 380),
 			entry("cache.records.ttl", 180),
+			entry("cache.txnAccessors.maxSize", 10_000),
 			entry("rates.intradayChangeLimitPercent", 25),
 			entry("stats.runningAvgHalfLifeSecs", 10.0),
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", 3_000L),
-			entry("stats.speedometerHalfLifeSecs", 10.0)
+			entry("stats.speedometerHalfLifeSecs", 10.0),
+			entry("grpc.precheck.queryQueueSize", 1_000),
+			entry("grpc.precheck.queryThreads", 4),
+			entry("grpc.precheck.txnQueueSize", 1_000),
+			entry("grpc.precheck.txnThreads", 4),
+			entry("precheck.sigs.batchSize", 64),
+			entry("precheck.sigs.maxBatchLingerMicros", 500),
+			entry("precheck.sigs.verifierThreads", 2),
+			entry("precheck.sigs.maxBatchWaitMs", 1000),
+			entry("cache.recentCreations.maxSize", 10_000),
+			entry("cache.recentCreations.ttlSecs", 180),
+			entry("stats.handleLatencies.logIntervalSecs", 60),
+			entry("balances.exportBinaryFile", false)
 	);
 
 	@BeforeEach
@@ -72,6 +72,7 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(13L, subject.nodeBalanceWarningThreshold());
 		assertEquals(balanceExportPaths[1], subject.pathToBalancesExportDir());
 		assertTrue(subject.shouldExportTokenBalances());
+		assertFalse(subject.shouldExportBinaryBalances());
 		assertEquals(15, subject.maxTransferListSize());
 		assertEquals(16, subject.maxTokenTransferListSize());
 		assertEquals(17, subject.maxMemoUtf8Bytes());
@@ -109,6 +110,7 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(14L, subject.nodeBalanceWarningThreshold());
 		assertEquals(balanceExportPaths[0], subject.pathToBalancesExportDir());
 		assertFalse(subject.shouldExportTokenBalances());
+		assertTrue(subject.shouldExportBinaryBalances());
 		assertEquals(16, subject.maxTransferListSize());
 		assertEquals(17, subject.maxTokenTransferListSize());
 		assertEquals(18, subject.maxMemoUtf8Bytes());
@@ -139,6 +141,7 @@ class GlobalDynamicPropertiesTest {
 		given(properties.getLongProperty("balances.nodeBalanceWarningThreshold")).willReturn(i + 12L);
 		given(properties.getStringProperty("balances.exportDir.path")).willReturn(balanceExportPaths[i % 2]);
 		given(properties.getBooleanProperty("balances.exportTokenBalances")).willReturn((i + 13) % 2 == 0);
+		given(properties.getBooleanProperty("balances.exportBinaryFile")).willReturn((i + 13) % 2 == 1);
 		given(properties.getIntProperty("ledger.transfers.maxLen")).willReturn(i + 14);
 		given(properties.getIntProperty("ledger.tokenTransfers.maxLen")).willReturn(i + 15);
 		given(properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes")).willReturn(i + 16);
@@ -63,6 +63,18 @@ class NodeLocalPropertiesTest {
 		assertEquals(10L, subject.recordLogPeriod());
 		Assertions.assertTrue(subject.isRecordStreamEnabled());
 		assertEquals(12, subject.recordStreamQueueCapacity());
+		assertEquals(13, subject.txnAccessorCacheMaxSize());
+		assertEquals(14, subject.precheckTxnThreads());
+		assertEquals(15, subject.precheckTxnQueueSize());
+		assertEquals(16, subject.precheckQueryThreads());
+		assertEquals(17, subject.precheckQueryQueueSize());
+		assertEquals(18, subject.precheckSigBatchSize());
+		assertEquals(19, subject.precheckSigMaxBatchLingerMicros());
+		assertEquals(20, subject.precheckSigVerifierThreads());
+		assertEquals(21, subject.recentCreationsCacheMaxSize());
+		assertEquals(22, subject.recentCreationsCacheTtlSecs());
+		assertEquals(23, subject.statsHandleLatenciesLogIntervalSecs());
+		assertEquals(24, subject.precheckSigMaxBatchWaitMs());
 	}
 
 	@Test
@@ -85,6 +97,18 @@ class NodeLocalPropertiesTest {
 		assertEquals(11L, subject.recordLogPeriod());
 		Assertions.assertFalse(subject.isRecordStreamEnabled());
 		assertEquals(13, subject.recordStreamQueueCapacity());
+		assertEquals(14, subject.txnAccessorCacheMaxSize());
+		assertEquals(15, subject.precheckTxnThreads());
+		assertEquals(16, subject.precheckTxnQueueSize());
+		assertEquals(17, subject.precheckQueryThreads());
+		assertEquals(18, subject.precheckQueryQueueSize());
+		assertEquals(19, subject.precheckSigBatchSize());
+		assertEquals(20, subject.precheckSigMaxBatchLingerMicros());
+		assertEquals(21, subject.precheckSigVerifierThreads());
+		assertEquals(22, subject.recentCreationsCacheMaxSize());
+		assertEquals(23, subject.recentCreationsCacheTtlSecs());
+		assertEquals(24, subject.statsHandleLatenciesLogIntervalSecs());
+		assertEquals(25, subject.precheckSigMaxBatchWaitMs());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -100,6 +124,18 @@ class NodeLocalPropertiesTest {
 		given(properties.getLongProperty("hedera.recordStream.logPeriod")).willReturn(i + 9L);
 		given(properties.getBooleanProperty("hedera.recordStream.isEnabled")).willReturn(i % 2 == 1);
 		given(properties.getIntProperty("hedera.recordStream.queueCapacity")).willReturn(i + 11);
+		given(properties.getIntProperty("cache.txnAccessors.maxSize")).willReturn(i + 12);
+		given(properties.getIntProperty("grpc.precheck.txnThreads")).willReturn(i + 13);
+		given(properties.getIntProperty("grpc.precheck.txnQueueSize")).willReturn(i + 14);
+		given(properties.getIntProperty("grpc.precheck.queryThreads")).willReturn(i + 15);
+		given(properties.getIntProperty("grpc.precheck.queryQueueSize")).willReturn(i + 16);
+		given(properties.getIntProperty("precheck.sigs.batchSize")).willReturn(i + 17);
+		given(properties.getIntProperty("precheck.sigs.maxBatchLingerMicros")).willReturn(i + 18);
+		given(properties.getIntProperty("precheck.sigs.verifierThreads")).willReturn(i + 19);
+		given(properties.getIntProperty("cache.recentCreations.maxSize")).willReturn(i + 20);
+		given(properties.getIntProperty("cache.recentCreations.ttlSecs")).willReturn(i + 21);
+		given(properties.getIntProperty("stats.handleLatencies.logIntervalSecs")).willReturn(i + 22);
+		given(properties.getIntProperty("precheck.sigs.maxBatchWaitMs")).willReturn(i + 23);
 	}
 
 	static String logDir(int num) {
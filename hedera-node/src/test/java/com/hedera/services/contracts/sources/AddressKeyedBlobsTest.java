@@ -0,0 +1,200 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_BYTECODE_PATH_MARKER;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class AddressKeyedBlobsTest {
+	byte[] address = asSolidityAddress(0, 2, 7);
+	byte[] data = "Bytecode".getBytes();
+	MerkleBlobMeta bytecodePath = new MerkleBlobMeta("/2/s7");
+	MerkleBlobMeta storagePath = new MerkleBlobMeta("/2/d7");
+
+	MerkleOptionalBlob blob;
+	Function<byte[], MerkleOptionalBlob> blobFactory;
+	FCMap<MerkleBlobMeta, MerkleOptionalBlob> pathedBlobs;
+
+	AddressKeyedBlobs subject;
+
+	@BeforeEach
+	private void setup() {
+		blob = mock(MerkleOptionalBlob.class);
+		given(blob.getData()).willReturn(data);
+		blobFactory = mock(Function.class);
+		given(blobFactory.apply(data)).willReturn(blob);
+		pathedBlobs = mock(FCMap.class);
+
+		subject = new AddressKeyedBlobs(LEGACY_BYTECODE_PATH_MARKER, blobFactory, () -> pathedBlobs);
+	}
+
+	@Test
+	public void getsAtLegacyPath() {
+		given(pathedBlobs.get(bytecodePath)).willReturn(blob);
+
+		// expect:
+		assertArrayEquals(data, subject.get(address));
+		assertNull(subject.get(asSolidityAddress(0, 2, 8)));
+	}
+
+	@Test
+	public void reusesLookupKeyForRepeatedAccess() {
+		// setup:
+		var captor = ArgumentCaptor.forClass(MerkleBlobMeta.class);
+
+		// when:
+		subject.get(address);
+		subject.get(address.clone());
+		subject.get(asSolidityAddress(0, 2, 7 + AddressKeyedBlobs.KEY_CACHE_SLOTS));
+
+		// then:
+		verify(pathedBlobs, times(3)).get(captor.capture());
+		var keys = captor.getAllValues();
+		assertSame(keys.get(0), keys.get(1));
+		assertEquals(bytecodePath, keys.get(0));
+		assertEquals(new MerkleBlobMeta("/2/s" + (7 + AddressKeyedBlobs.KEY_CACHE_SLOTS)), keys.get(2));
+	}
+
+	@Test
+	public void neverInsertsCachedLookupKey() {
+		// setup:
+		var captor = ArgumentCaptor.forClass(MerkleBlobMeta.class);
+
+		// given:
+		subject.get(address);
+
+		// when:
+		subject.put(address, data);
+
+		// then:
+		verify(pathedBlobs).get(captor.capture());
+		verify(pathedBlobs).put(argThat(meta -> meta != captor.getValue() && meta.equals(bytecodePath)), eq(blob));
+	}
+
+	@Test
+	public void checksContainmentAtLegacyPath() {
+		given(pathedBlobs.containsKey(bytecodePath)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.containsKey(address));
+		assertFalse(subject.containsKey(asSolidityAddress(0, 2, 8)));
+	}
+
+	@Test
+	public void putsNewBlobAtLegacyPath() {
+		// when:
+		var prev = subject.put(address, data);
+
+		// then:
+		assertNull(prev);
+		verify(pathedBlobs).put(bytecodePath, blob);
+	}
+
+	@Test
+	public void modifiesExistingBlob() {
+		// setup:
+		var newData = "Other bytecode".getBytes();
+
+		given(pathedBlobs.containsKey(bytecodePath)).willReturn(true);
+		given(pathedBlobs.getForModify(bytecodePath)).willReturn(blob);
+
+		// when:
+		subject.put(address, newData);
+
+		// then:
+		verify(blob).modify(newData);
+		verify(pathedBlobs).put(bytecodePath, blob);
+		verify(blobFactory, never()).apply(newData);
+	}
+
+	@Test
+	public void removesAtLegacyPath() {
+		// when:
+		var prev = subject.remove(address);
+
+		// then:
+		assertNull(prev);
+		verify(pathedBlobs).remove(bytecodePath);
+	}
+
+	@Test
+	public void onlyViewsBlobsOfItsKind() {
+		// setup:
+		var otherBlob = mock(MerkleOptionalBlob.class);
+
+		given(pathedBlobs.entrySet()).willReturn(Set.of(
+				new AbstractMap.SimpleEntry<>(bytecodePath, blob),
+				new AbstractMap.SimpleEntry<>(storagePath, otherBlob)));
+
+		// when:
+		var entries = subject.entrySet();
+
+		// then:
+		assertEquals(1, entries.size());
+		Map.Entry<byte[], byte[]> entry = entries.iterator().next();
+		assertArrayEquals(address, entry.getKey());
+		assertArrayEquals(data, entry.getValue());
+	}
+
+	@Test
+	public void sizesWholeStore() {
+		given(pathedBlobs.size()).willReturn(2);
+		given(pathedBlobs.isEmpty()).willReturn(false);
+
+		// expect:
+		assertEquals(2, subject.size());
+		assertFalse(subject.isEmpty());
+	}
+
+	@Test
+	public void clearsWholeStore() {
+		// when:
+		subject.clear();
+
+		// then:
+		verify(pathedBlobs).clear();
+	}
+}
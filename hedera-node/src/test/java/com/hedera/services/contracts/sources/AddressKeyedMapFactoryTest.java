@@ -35,7 +35,7 @@ class AddressKeyedMapFactoryTest {
 	@Test
 	public void toAddressConversion() {
 		// given:
-		var mapper = toAddressMapping(LEGACY_BYTECODE_PATH_PATTERN);
+		var mapper = toAddressMapping(LEGACY_BYTECODE_PATH_MARKER);
 		var key = "/666/s888";
 		// and:
 		var expected = EntityIdUtils.asSolidityAddress(0, 666, 888);
@@ -50,7 +50,7 @@ class AddressKeyedMapFactoryTest {
 	@Test
 	public void toKeyConversionWorks() {
 		// given:
-		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE);
+		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_MARKER);
 		var address = EntityIdUtils.asSolidityAddress(0, 666, 888);
 		// and:
 		var expected = "/666/s888";
@@ -67,13 +67,52 @@ class AddressKeyedMapFactoryTest {
 		// given:
 		var realKey = "/666/s888";
 		var fakeKey = "/a66/s888";
-		var pred = toRelevancyPredicate(LEGACY_BYTECODE_PATH_PATTERN);
+		var pred = toRelevancyPredicate(LEGACY_BYTECODE_PATH_MARKER);
 
 		// expect:
 		assertTrue(pred.test(realKey));
 		assertFalse(pred.test(fakeKey));
 	}
 
+	@Test
+	public void rejectsMalformedLegacyPaths() {
+		// expect:
+		assertNull(addressOfLegacyPath("", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("666/s888", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("//s888", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666/", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666/s", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666/d888", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666/s888x", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/666-s888", LEGACY_BYTECODE_PATH_MARKER));
+	}
+
+	@Test
+	public void rejectsLegacyPathsWithOverflowingDigits() {
+		// expect:
+		assertNull(addressOfLegacyPath("/1/s9223372036854775808", LEGACY_BYTECODE_PATH_MARKER));
+		assertNull(addressOfLegacyPath("/99999999999999999999/s1", LEGACY_BYTECODE_PATH_MARKER));
+		assertArrayEquals(
+				EntityIdUtils.asSolidityAddress(0, 1, Long.MAX_VALUE),
+				addressOfLegacyPath("/1/s9223372036854775807", LEGACY_BYTECODE_PATH_MARKER));
+	}
+
+	@Test
+	public void legacyStoragePathsRoundTrip() {
+		// given:
+		var address = EntityIdUtils.asSolidityAddress(0, 1, Long.MAX_VALUE);
+
+		// when:
+		var path = legacyPathOf(address, LEGACY_STORAGE_PATH_MARKER);
+
+		// then:
+		assertEquals("/1/d" + Long.MAX_VALUE, path);
+		assertTrue(isLegacyStoragePath(path));
+		assertFalse(isLegacyStoragePath("/1/s2"));
+		assertArrayEquals(address, addressOfLegacyStoragePath(path));
+	}
+
 	@Test
 	public void bytecodeProductHasMapSemantics() {
 		// setup:
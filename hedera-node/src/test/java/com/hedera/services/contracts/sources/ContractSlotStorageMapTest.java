@@ -0,0 +1,234 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.SLOT_BYTES;
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.indexKeyFor;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractSlotStorageMapTest {
+	int shard = 1;
+	long realm = 2, num = 1_234L;
+	byte[] address = asSolidityAddress(shard, realm, num);
+	byte[] otherAddress = asSolidityAddress(shard, realm, num + 1);
+
+	FCMap<MerkleContractSlotKey, MerkleContractSlot> slots;
+
+	ContractSlotStorageMap subject;
+
+	@BeforeEach
+	private void setup() {
+		slots = new FCMap<>();
+
+		subject = new ContractSlotStorageMap(() -> slots);
+	}
+
+	@Test
+	public void storesOneLeafPerSlotPlusIndex() {
+		// given:
+		var storage = storageOf(1, 11, 2, 22, 3, 33);
+
+		// when:
+		subject.put(address, storage);
+
+		// then:
+		assertEquals(4, slots.size());
+		assertArrayEquals(word(22), slotAt(2).getData());
+		assertArrayEquals(concat(word(1), word(2), word(3)), slots.get(indexKeyFor(shard, realm, num)).getData());
+		// and:
+		assertTrue(subject.containsKey(address));
+		assertFalse(subject.containsKey(otherAddress));
+		assertArrayEquals(storage, subject.get(address));
+		assertNull(subject.get(otherAddress));
+	}
+
+	@Test
+	public void roundTripsEmptyStorage() {
+		// when:
+		subject.put(address, new byte[0]);
+
+		// then:
+		assertTrue(subject.containsKey(address));
+		assertArrayEquals(new byte[0], subject.get(address));
+	}
+
+	@Test
+	public void rejectsStorageThatIsNotSlots() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.put(address, new byte[SLOT_BYTES]));
+	}
+
+	@Test
+	public void onlyReplacesDirtySlots() {
+		// setup:
+		subject.put(address, storageOf(1, 11, 2, 22, 3, 33));
+		var first = slotAt(1);
+		var last = slotAt(3);
+		var index = slots.get(indexKeyFor(shard, realm, num));
+
+		// when:
+		subject.put(address, storageOf(1, 11, 2, 23, 3, 33));
+
+		// then:
+		assertSame(first, slotAt(1));
+		assertSame(last, slotAt(3));
+		assertSame(index, slots.get(indexKeyFor(shard, realm, num)));
+		assertArrayEquals(word(23), slotAt(2).getData());
+	}
+
+	@Test
+	public void addingSlotLeavesOtherSlotsUntouched() {
+		// setup:
+		subject.put(address, storageOf(2, 22, 3, 33));
+		var second = slotAt(2);
+		var third = slotAt(3);
+		// and:
+		var newStorage = storageOf(1, 11, 2, 22, 3, 33);
+
+		// when:
+		subject.put(address, newStorage);
+
+		// then:
+		assertSame(second, slotAt(2));
+		assertSame(third, slotAt(3));
+		assertEquals(4, slots.size());
+		assertArrayEquals(newStorage, subject.get(address));
+	}
+
+	@Test
+	public void removesClearedSlots() {
+		// setup:
+		subject.put(address, storageOf(1, 11, 2, 22, 3, 33));
+		var third = slotAt(3);
+		// and:
+		var newStorage = storageOf(3, 33);
+
+		// when:
+		subject.put(address, newStorage);
+
+		// then:
+		assertEquals(2, slots.size());
+		assertNull(slotAt(1));
+		assertNull(slotAt(2));
+		assertSame(third, slotAt(3));
+		assertArrayEquals(newStorage, subject.get(address));
+	}
+
+	@Test
+	public void removesAllSlots() {
+		// setup:
+		subject.put(address, storageOf(1, 11, 2, 22, 3, 33));
+		subject.put(otherAddress, storageOf(1, 11));
+
+		// when:
+		subject.remove(address);
+		subject.remove(asSolidityAddress(shard, realm, num + 2));
+
+		// then:
+		assertEquals(2, slots.size());
+		assertFalse(subject.containsKey(address));
+		assertTrue(subject.containsKey(otherAddress));
+	}
+
+	@Test
+	public void keysSlotsByFullContractId() {
+		// given:
+		var sameNumOtherRealm = asSolidityAddress(shard, realm + 1, num);
+
+		// when:
+		subject.put(address, storageOf(1, 11));
+		subject.put(sameNumOtherRealm, storageOf(1, 12));
+
+		// then:
+		assertArrayEquals(storageOf(1, 11), subject.get(address));
+		assertArrayEquals(storageOf(1, 12), subject.get(sameNumOtherRealm));
+		assertNotSame(slotAt(1), slots.get(new MerkleContractSlotKey(shard, realm + 1, num, word(1))));
+	}
+
+	@Test
+	public void entrySetAndSizeAreByContract() {
+		// setup:
+		var storage = storageOf(1, 11, 2, 22, 3, 33);
+		subject.put(address, storage);
+
+		// when:
+		var entries = subject.entrySet();
+
+		// then:
+		assertEquals(1, subject.size());
+		assertEquals(1, entries.size());
+		var entry = entries.iterator().next();
+		assertArrayEquals(address, entry.getKey());
+		assertArrayEquals(storage, entry.getValue());
+	}
+
+	@Test
+	public void clearDelegates() {
+		// setup:
+		subject.put(address, storageOf(1, 11, 2, 22, 3, 33));
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(slots.isEmpty());
+	}
+
+	private MerkleContractSlot slotAt(int key) {
+		return slots.get(new MerkleContractSlotKey(shard, realm, num, word(key)));
+	}
+
+	private static byte[] storageOf(int... keysAndValues) {
+		var words = new byte[keysAndValues.length][];
+		for (int i = 0; i < keysAndValues.length; i++) {
+			words[i] = word(keysAndValues[i]);
+		}
+		return concat(words);
+	}
+
+	private static byte[] word(int lastByte) {
+		var word = new byte[SLOT_BYTES];
+		word[SLOT_BYTES - 1] = (byte) lastByte;
+		return word;
+	}
+
+	private static byte[] concat(byte[]... words) {
+		var all = new byte[words.length * SLOT_BYTES];
+		for (int i = 0; i < words.length; i++) {
+			System.arraycopy(words[i], 0, all, i * SLOT_BYTES, SLOT_BYTES);
+		}
+		return all;
+	}
+}
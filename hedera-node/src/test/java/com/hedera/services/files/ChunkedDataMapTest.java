@@ -0,0 +1,265 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static com.hedera.services.files.ChunkedDataMap.HASH_BYTES;
+import static com.hedera.services.files.ChunkedDataMap.chunkPath;
+import static com.hedera.services.files.ChunkedDataMap.manifestPath;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedDataMapTest {
+	static final int CHUNK_BYTES = 4;
+
+	FileID fid = IdUtils.asFile("0.2.3");
+	String dataPath = "/2/f3";
+	String manifestPath = "/2/m3";
+
+	RecordingBlobs blobs;
+	ChunkedDataMap subject;
+
+	@BeforeEach
+	private void setup() {
+		blobs = new RecordingBlobs();
+		subject = new ChunkedDataMap(CHUNK_BYTES, blobs);
+	}
+
+	@Test
+	public void usesExpectedPaths() {
+		// expect:
+		assertEquals(dataPath, chunkPath(dataPath, 0));
+		assertEquals(dataPath + "/2", chunkPath(dataPath, 2));
+		assertEquals(manifestPath, manifestPath(fid));
+	}
+
+	@Test
+	public void smallFilesUseLegacyLayout() {
+		// when:
+		subject.put(fid, "ABCD".getBytes());
+
+		// then:
+		assertEquals(1, blobs.size());
+		assertArrayEquals("ABCD".getBytes(), blobs.get(dataPath));
+		// and:
+		assertArrayEquals("ABCD".getBytes(), subject.get(fid));
+		assertEquals(4, subject.sizeOf(fid));
+		assertTrue(subject.containsKey(fid));
+	}
+
+	@Test
+	public void readsLegacyBlobs() {
+		// given:
+		blobs.put(dataPath, "A legacy file much larger than a chunk".getBytes());
+
+		// expect:
+		assertArrayEquals("A legacy file much larger than a chunk".getBytes(), subject.get(fid));
+		assertEquals(38, subject.sizeOf(fid));
+	}
+
+	@Test
+	public void largeFilesAreChunkedWithManifest() {
+		// when:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+
+		// then:
+		assertArrayEquals("ABCD".getBytes(), blobs.get(dataPath));
+		assertArrayEquals("EFGH".getBytes(), blobs.get(dataPath + "/1"));
+		assertArrayEquals("IJ".getBytes(), blobs.get(dataPath + "/2"));
+		// and:
+		var manifest = ChunkedDataMap.Manifest.from(blobs.get(manifestPath));
+		assertEquals(CHUNK_BYTES, manifest.chunkBytes);
+		assertEquals(10, manifest.length);
+		assertEquals(3 * HASH_BYTES, manifest.hashes.length);
+		// and:
+		assertArrayEquals("ABCDEFGHIJ".getBytes(), subject.get(fid));
+		assertEquals(10, subject.sizeOf(fid));
+	}
+
+	@Test
+	public void appendOnlyTouchesTailChunkAndManifest() {
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+		blobs.puts.clear();
+
+		// when:
+		subject.append(fid, "KLMNOP".getBytes());
+
+		// then:
+		assertEquals(List.of(dataPath + "/2", dataPath + "/3", manifestPath), blobs.puts);
+		// and:
+		assertArrayEquals("ABCDEFGHIJKLMNOP".getBytes(), subject.get(fid));
+		assertEquals(16, subject.sizeOf(fid));
+	}
+
+	@Test
+	public void appendToFullTailOnlyAddsChunks() {
+		// given:
+		subject.put(fid, "ABCDEFGH".getBytes());
+		blobs.puts.clear();
+
+		// when:
+		subject.append(fid, "IJ".getBytes());
+
+		// then:
+		assertEquals(List.of(dataPath + "/2", manifestPath), blobs.puts);
+		assertArrayEquals("ABCDEFGHIJ".getBytes(), subject.get(fid));
+	}
+
+	@Test
+	public void appendedAndWrittenFilesHaveSameLayout() {
+		// setup:
+		var other = new RecordingBlobs();
+		var otherSubject = new ChunkedDataMap(CHUNK_BYTES, other);
+
+		// given:
+		subject.put(fid, "AB".getBytes());
+		subject.append(fid, "CDE".getBytes());
+		subject.append(fid, "".getBytes());
+		subject.append(fid, "FGHIJKL".getBytes());
+		// and:
+		otherSubject.put(fid, "ABCDEFGHIJKL".getBytes());
+
+		// expect:
+		assertEquals(other.keySet(), blobs.keySet());
+		for (var path : blobs.keySet()) {
+			assertArrayEquals(other.get(path), blobs.get(path));
+		}
+	}
+
+	@Test
+	public void appendToMissingContentsJustPuts() {
+		// when:
+		subject.append(fid, "AB".getBytes());
+
+		// then:
+		assertArrayEquals("AB".getBytes(), subject.get(fid));
+	}
+
+	@Test
+	public void overwriteOnlyRewritesChangedChunks() {
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+		blobs.puts.clear();
+
+		// when:
+		subject.put(fid, "ABCDEFGXIJ".getBytes());
+
+		// then:
+		assertEquals(List.of(dataPath + "/1", manifestPath), blobs.puts);
+		assertArrayEquals("ABCDEFGXIJ".getBytes(), subject.get(fid));
+	}
+
+	@Test
+	public void shrinkingRemovesStaleChunks() {
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+
+		// when:
+		subject.put(fid, "ABCDEF".getBytes());
+
+		// then:
+		assertFalse(blobs.containsKey(dataPath + "/2"));
+		assertArrayEquals("ABCDEF".getBytes(), subject.get(fid));
+
+		// and when:
+		subject.put(fid, "AB".getBytes());
+
+		// then:
+		assertEquals(1, blobs.size());
+		assertArrayEquals("AB".getBytes(), subject.get(fid));
+	}
+
+	@Test
+	public void removeDropsAllChunksAndManifest() {
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+		blobs.put("/2/k3", "METADATA".getBytes());
+
+		// when:
+		var removed = subject.remove(fid);
+
+		// then:
+		assertNull(removed);
+		assertEquals(1, blobs.size());
+		assertFalse(subject.containsKey(fid));
+		assertNull(subject.get(fid));
+		assertEquals(0, subject.sizeOf(fid));
+	}
+
+	@Test
+	public void entrySetHasOnlyFileContents() {
+		// setup:
+		var otherFid = IdUtils.asFile("0.2.4");
+
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+		subject.put(otherFid, "AB".getBytes());
+		blobs.put("/2/k3", "METADATA".getBytes());
+
+		// when:
+		var entries = subject.entrySet();
+
+		// then:
+		assertEquals(2, entries.size());
+		for (var entry : entries) {
+			var expected = entry.getKey().equals(fid) ? "ABCDEFGHIJ" : "AB";
+			assertArrayEquals(expected.getBytes(), entry.getValue());
+		}
+	}
+
+	@Test
+	public void sizeAndClearUseBlobStore() {
+		// given:
+		subject.put(fid, "ABCDEFGHIJ".getBytes());
+
+		// expect:
+		assertEquals(blobs.size(), subject.size());
+		assertFalse(subject.isEmpty());
+
+		// and when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+	}
+
+	static class RecordingBlobs extends HashMap<String, byte[]> {
+		List<String> puts = new ArrayList<>();
+
+		@Override
+		public byte[] put(String path, byte[] value) {
+			puts.add(path);
+			return super.put(path, value);
+		}
+	}
+}
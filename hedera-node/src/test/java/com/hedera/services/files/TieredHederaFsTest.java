@@ -39,6 +39,7 @@ import org.mockito.InOrder;
 
 import java.time.Instant;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.function.Supplier;
@@ -80,7 +81,7 @@ class TieredHederaFsTest {
 	EntityIdSource ids;
 	GlobalDynamicProperties properties;
 	Supplier<Instant> clock;
-	Map<FileID, byte[]> data;
+	ChunkedDataMap data;
 	Map<FileID, JFileInfo> metadata;
 	MerkleDiskFs diskFs;
 	TieredHederaFs subject;
@@ -101,7 +102,7 @@ class TieredHederaFsTest {
 		given(highInterceptor.priorityForCandidate(any())).willReturn(OptionalInt.of(Integer.MIN_VALUE));
 
 		ids = mock(EntityIdSource.class);
-		data = mock(Map.class);
+		data = mock(ChunkedDataMap.class);
 		metadata = mock(Map.class);
 		diskFs = mock(MerkleDiskFs.class);
 
@@ -131,7 +132,9 @@ class TieredHederaFsTest {
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
 		// and:
-		given(data.get(fid)).willReturn(origContents);
+		given(data.sizeOf(fid)).willReturn((long) origContents.length);
+		// and:
+		subject.register(noInterceptor);
 
 		// when:
 		var result = subject.append(fid, moreContents);
@@ -140,11 +143,42 @@ class TieredHederaFsTest {
 		assertEquals(SUCCESS, result.outcome());
 		assertTrue(result.fileReplaced());
 		// and:
-		verify(data).put(
-				argThat(fid::equals),
-				argThat(bytes -> new String(bytes).equals(
-						new String(origContents) + new String(moreContents)
-				)));
+		verify(data).append(fid, moreContents);
+		verify(data, never()).get(fid);
+		verify(data, never()).put(any(), any());
+	}
+
+	@Test
+	public void appendsFullContentsWithInterception() {
+		InOrder inOrder = inOrder(highInterceptor, lowInterceptor);
+		// setup:
+		var fullContents = (new String(origContents) + new String(moreContents)).getBytes();
+
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		// and:
+		given(data.sizeOf(fid)).willReturn((long) origContents.length);
+		given(data.get(fid)).willReturn(origContents);
+		// and:
+		given(highInterceptor.preUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes))))
+				.willReturn(new AbstractMap.SimpleEntry<>(ResponseCodeEnum.OK, true));
+		given(lowInterceptor.preUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes))))
+				.willReturn(new AbstractMap.SimpleEntry<>(ResponseCodeEnum.OK, true));
+		subject.register(lowInterceptor);
+		subject.register(highInterceptor);
+
+		// when:
+		var result = subject.append(fid, moreContents);
+
+		// then:
+		assertEquals(ResponseCodeEnum.OK, result.outcome());
+		assertTrue(result.fileReplaced());
+		// and:
+		verify(data).put(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes)));
+		verify(data, never()).append(any(), any());
+		// and:
+		inOrder.verify(highInterceptor).postUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes)));
+		inOrder.verify(lowInterceptor).postUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes)));
 	}
 
 	@Test
@@ -248,7 +282,7 @@ class TieredHederaFsTest {
 
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
-		given(data.get(fid)).willReturn(stretchContents);
+		given(data.sizeOf(fid)).willReturn((long) stretchContents.length);
 		// and:
 		given(properties.maxFileSizeKb()).willReturn(1);
 
@@ -274,7 +308,7 @@ class TieredHederaFsTest {
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
 		given(diskFs.contains(fid)).willReturn(true);
-		given(diskFs.contentsOf(fid)).willReturn(stretchContents);
+		given(diskFs.sizeOf(fid)).willReturn((long) stretchContents.length);
 		// and:
 		given(properties.maxFileSizeKb()).willReturn(1);
 
@@ -285,11 +319,33 @@ class TieredHederaFsTest {
 		assertEquals(SUCCESS, result.outcome());
 		assertTrue(result.fileReplaced());
 		// and:
-		verify(diskFs).put(
-				argThat(fid::equals),
-				argThat(bytes -> new String(bytes).equals(
-						new String(stretchContents) + new String(burstContents)
-				)));
+		verify(diskFs).append(fid, burstContents);
+		verify(diskFs, never()).contentsOf(fid);
+	}
+
+	@Test
+	public void appendsFullContentsToDiskFsWithInterception() {
+		// setup:
+		var fullContents = (new String(origContents) + new String(moreContents)).getBytes();
+
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(diskFs.contains(fid)).willReturn(true);
+		given(diskFs.contentsOf(fid)).willReturn(origContents);
+		// and:
+		given(lowInterceptor.preUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes))))
+				.willReturn(new AbstractMap.SimpleEntry<>(SUCCESS, true));
+		subject.register(lowInterceptor);
+
+		// when:
+		var result = subject.append(fid, moreContents);
+
+		// then:
+		assertEquals(SUCCESS, result.outcome());
+		assertTrue(result.fileReplaced());
+		// and:
+		verify(diskFs).put(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes)));
+		verify(diskFs, never()).append(any(), any());
 	}
 
 	@Test
@@ -855,6 +911,6 @@ class TieredHederaFsTest {
 		subject.append(fileID, moreContents);
 
 		// then:
-		verify(diskFs).put(fileID, (new String(newContents) + new String(moreContents)).getBytes());
+		verify(diskFs).append(fileID, moreContents);
 	}
 }
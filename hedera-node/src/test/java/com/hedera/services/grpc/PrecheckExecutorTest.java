@@ -0,0 +1,126 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.timeout;
+import static org.mockito.BDDMockito.verify;
+
+class PrecheckExecutorTest {
+	IntConsumer queueDepthObserver = mock(IntConsumer.class);
+	DoubleConsumer queueWaitMsObserver = mock(DoubleConsumer.class);
+
+	PrecheckExecutor subject;
+
+	@AfterEach
+	public void cleanup() {
+		subject.shutdown();
+	}
+
+	@Test
+	public void runsInlineWithNoThreads() {
+		// setup:
+		AtomicReference<Thread> runner = new AtomicReference<>();
+
+		subject = new PrecheckExecutor("Test", 0, 0, queueDepthObserver, queueWaitMsObserver);
+
+		// when:
+		boolean accepted = subject.tryExecute(() -> runner.set(Thread.currentThread()));
+
+		// then:
+		assertTrue(accepted);
+		assertEquals(Thread.currentThread(), runner.get());
+		verify(queueDepthObserver, never()).accept(anyInt());
+		verify(queueWaitMsObserver, never()).accept(anyDouble());
+	}
+
+	@Test
+	public void runsOnNamedPoolThreadAndRecordsStats() throws InterruptedException {
+		// setup:
+		AtomicReference<String> runnerName = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+
+		subject = new PrecheckExecutor("Test", 1, 1, queueDepthObserver, queueWaitMsObserver);
+
+		// when:
+		boolean accepted = subject.tryExecute(() -> {
+			runnerName.set(Thread.currentThread().getName());
+			done.countDown();
+		});
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals("TestPrecheckThread0", runnerName.get());
+		verify(queueDepthObserver).accept(0);
+		verify(queueWaitMsObserver, timeout(5_000)).accept(anyDouble());
+	}
+
+	@Test
+	public void rejectsWhenQueueIsFull() throws InterruptedException {
+		// setup:
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		subject = new PrecheckExecutor("Test", 1, 1, queueDepthObserver, queueWaitMsObserver);
+
+		// given:
+		assertTrue(subject.tryExecute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(subject.tryExecute(() -> {}));
+
+		// when:
+		boolean accepted = subject.tryExecute(() -> {});
+
+		// then:
+		assertFalse(accepted);
+		verify(queueDepthObserver).accept(1);
+
+		// cleanup:
+		release.countDown();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
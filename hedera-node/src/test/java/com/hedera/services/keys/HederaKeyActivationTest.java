@@ -22,8 +22,10 @@ package com.hedera.services.keys;
 
 import com.hedera.test.factories.keys.KeyTree;
 import com.hedera.test.factories.sigs.SigWrappers;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
 import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.TransactionSignature;
 import org.junit.jupiter.api.BeforeAll;
@@ -33,12 +35,14 @@ import org.junit.jupiter.api.Test;
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import static com.hedera.test.factories.keys.NodeFactory.*;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
@@ -145,11 +149,81 @@ public class HederaKeyActivationTest {
 	public void topLevelActivatesIfAllChildrenAreActive() {
 		given(sigsFn.apply(any()))
 				.willReturn(VALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(VALID_SIG)
+				.willReturn(INVALID_SIG).willReturn(VALID_SIG)
 				.willReturn(VALID_SIG)
 				.willReturn(INVALID_SIG).willReturn(VALID_SIG).willReturn(VALID_SIG);
 
 		// when:
 		assertTrue(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID));
 	}
+
+	@Test
+	public void stopsEvaluatingOnceVerdictIsKnown() {
+		given(sigsFn.apply(any()))
+				.willReturn(VALID_SIG)
+				.willReturn(INVALID_SIG).willReturn(VALID_SIG)
+				.willReturn(INVALID_SIG);
+
+		// when:
+		assertFalse(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID));
+
+		// then:
+		verify(sigsFn, times(4)).apply(any());
+	}
+
+	@Test
+	public void thresholdNeedingNoSigsIsActiveWithoutLookups() {
+		// given:
+		JKey key = new JThresholdKey(new JKeyList(List.of(new JEd25519Key(pk))), 0);
+
+		// expect:
+		assertTrue(isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+		verify(sigsFn, never()).apply(any());
+	}
+
+	@Test
+	public void thresholdNeedingMoreSigsThanKeysIsNeverActive() {
+		// given:
+		JKey key = new JThresholdKey(new JKeyList(List.of(new JEd25519Key(pk))), 2);
+
+		// expect:
+		assertFalse(isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+		verify(sigsFn, never()).apply(any());
+	}
+
+	@Test
+	public void evaluatesDeepTreesAndReentrantChecks() {
+		// setup:
+		JKey deep = new JEd25519Key(pk);
+		for (int i = 0; i < 100; i++) {
+			deep = new JKeyList(List.of(deep));
+		}
+		JKey nested = deep;
+		BiPredicate<JKey, TransactionSignature> reentrant = (key, sig) -> isActive(nested, ignore -> VALID_SIG, ONLY_IF_SIG_IS_VALID);
+
+		// expect:
+		assertTrue(isActive(deep, ignore -> VALID_SIG, ONLY_IF_SIG_IS_VALID));
+		assertFalse(isActive(deep, ignore -> INVALID_SIG, ONLY_IF_SIG_IS_VALID));
+		assertTrue(isActive(deep, ignore -> INVALID_SIG, reentrant));
+	}
+
+	@Test
+	public void mapSupplierKeepsFirstSigForRepeatedKeyAndSurvivesCollisions() {
+		// setup:
+		List<TransactionSignature> presentSigs = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			presentSigs.add(mockSigFn.apply(i));
+		}
+		TransactionSignature repeated = mockSigFn.apply(0);
+		presentSigs.add(repeated);
+
+		// given:
+		Function<byte[], TransactionSignature> sigsFn = pkToSigMapFrom(presentSigs);
+
+		// expect:
+		for (int i = 0; i < 100; i++) {
+			assertSame(presentSigs.get(i), sigsFn.apply(String.format("PK%d", i).getBytes()));
+		}
+		assertSame(HederaKeyActivation.INVALID_SIG, sigsFn.apply("PK100".getBytes()));
+	}
 }
@@ -0,0 +1,163 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountNumIndexTest {
+	AccountID a = asAccount("0.0.2");
+	AccountID b = asAccount("0.0.1001");
+	AccountID c = asAccount("1.2.3");
+	AccountID huge = asAccount("0.0." + (Integer.MAX_VALUE + 1L));
+
+	AccountNumIndex subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new AccountNumIndex();
+	}
+
+	@Test
+	public void addsAndRemovesAcrossRealms() {
+		// when:
+		subject.add(a);
+		subject.add(b);
+		subject.add(c);
+		subject.add(huge);
+
+		// then:
+		assertEquals(4, subject.size());
+		assertTrue(subject.contains(a));
+		assertTrue(subject.contains(b));
+		assertTrue(subject.contains(c));
+		assertTrue(subject.contains(huge));
+		assertFalse(subject.contains(asAccount("0.0.3")));
+		assertFalse(subject.contains(asAccount("1.2.2")));
+		assertFalse(subject.contains(asAccount("2.2.3")));
+		assertFalse(subject.contains(asAccount("0.0." + (Integer.MAX_VALUE + 2L))));
+
+		// and when:
+		subject.remove(b);
+		subject.remove(huge);
+		subject.remove(asAccount("3.3.3"));
+
+		// then:
+		assertEquals(2, subject.size());
+		assertFalse(subject.contains(b));
+		assertFalse(subject.contains(huge));
+	}
+
+	@Test
+	public void countsEachIdOnce() {
+		// when:
+		subject.add(a);
+		subject.add(a);
+		subject.add(huge);
+		subject.add(huge);
+		subject.remove(c);
+		subject.remove(asAccount("0.0.3"));
+		subject.remove(asAccount("0.0." + (Integer.MAX_VALUE + 2L)));
+
+		// then:
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	public void addsFromPrimitives() {
+		// when:
+		subject.add(1, 2, 3);
+
+		// then:
+		assertTrue(subject.contains(c));
+		assertTrue(subject.contains(1, 2, 3));
+	}
+
+	@Test
+	public void clearsEverything() {
+		// given:
+		subject.add(a);
+		subject.add(c);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertEquals(0, subject.size());
+		assertFalse(subject.contains(a));
+		assertFalse(subject.contains(c));
+	}
+
+	@Test
+	public void viewsAsIdSet() {
+		// given:
+		subject.add(a);
+		subject.add(b);
+		subject.add(c);
+		subject.add(huge);
+
+		// when:
+		var ids = subject.asIdSet();
+
+		// then:
+		assertEquals(Set.of(a, b, c, huge), new HashSet<>(ids));
+		assertEquals(4, ids.size());
+		assertTrue(ids.contains(c));
+		assertFalse(ids.contains(asAccount("0.0.3")));
+		assertFalse(ids.contains("0.0.2"));
+	}
+
+	@Test
+	public void idSetIteratorIsExhaustible() {
+		// given:
+		subject.add(a);
+		var ids = subject.asIdSet().iterator();
+
+		// when:
+		ids.next();
+
+		// then:
+		assertFalse(ids.hasNext());
+		assertThrows(NoSuchElementException.class, ids::next);
+	}
+
+	@Test
+	public void emptyIdSetIsEmpty() {
+		// given:
+		subject.add(a);
+		subject.remove(a);
+
+		// expect:
+		assertTrue(subject.asIdSet().isEmpty());
+		assertFalse(subject.asIdSet().iterator().hasNext());
+	}
+}
@@ -101,10 +101,30 @@ class FCMapBackingAccountsTest {
 		assertTrue(subject.existingAccounts.contains(d));
 	}
 
+	@Test
+	public void rebuildsFromSharedTraversal() {
+		// setup:
+		map = new FCMap<>();
+		map.put(cKey, cValue);
+		map.put(dKey, dValue);
+		// and:
+		subject.existingAccounts = indexOf(a, b);
+
+		// when:
+		subject.rebuildFrom(map::forEach);
+
+		// then:
+		assertFalse(subject.existingAccounts.contains(a));
+		assertFalse(subject.existingAccounts.contains(b));
+		// and:
+		assertTrue(subject.existingAccounts.contains(c));
+		assertTrue(subject.existingAccounts.contains(d));
+	}
+
 	@Test
 	public void containsDelegatesToKnownActive() {
 		// setup:
-		subject.existingAccounts = Set.of(a, b);
+		subject.existingAccounts = indexOf(a, b);
 
 		// expect:
 		assertTrue(subject.contains(a));
@@ -219,7 +239,7 @@ class FCMapBackingAccountsTest {
 	@Test
 	public void ensuresAllRefsAreReplaced() {
 		// setup:
-		subject.existingAccounts = Set.of(a, b, c, d);
+		subject.existingAccounts = indexOf(a, b, c, d);
 		// and:
 		InOrder inOrder = inOrder(map);
 
@@ -249,10 +269,18 @@ class FCMapBackingAccountsTest {
 		// setup:
 		var s = Set.of(a, b, c, d);
 		// given:
-		subject.existingAccounts = s;
+		subject.existingAccounts = indexOf(a, b, c, d);
 
 		// expect:
-		assertSame(s, subject.idSet());
+		assertEquals(s, subject.idSet());
+	}
+
+	private AccountNumIndex indexOf(AccountID... ids) {
+		var index = new AccountNumIndex();
+		for (AccountID id : ids) {
+			index.add(id);
+		}
+		return index;
 	}
 
 	@Test
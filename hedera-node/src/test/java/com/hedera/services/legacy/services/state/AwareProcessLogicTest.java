@@ -32,19 +32,25 @@ import com.hedera.services.ledger.accounts.BackingStore;
 import com.hedera.services.legacy.handler.SmartContractRequestHandler;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.security.ops.SystemOpAuthorization;
 import com.hedera.services.security.ops.SystemOpPolicies;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.stats.HandleLatencies;
+import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordStreamObject;
+import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -69,7 +75,6 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
 
 import static com.hedera.services.context.domain.trackers.IssEventStatus.NO_KNOWN_ISS;
@@ -102,16 +107,17 @@ class AwareProcessLogicTest {
 		final MiscSpeedometers speedometers = mock(MiscSpeedometers.class);
 		final FeeCalculator fees = mock(FeeCalculator.class);
 		final TxnIdRecentHistory recentHistory = mock(TxnIdRecentHistory.class);
-		final Map<TransactionID, TxnIdRecentHistory> histories = mock(Map.class);
+		final TxnIdTable<TxnIdRecentHistory> histories = mock(TxnIdTable.class);
 		final BackingStore<AccountID, MerkleAccount> backingAccounts = mock(BackingStore.class);
 		final AccountID accountID = mock(AccountID.class);
 		final OptionValidator validator = mock(OptionValidator.class);
 		final TxnFeeChargingPolicy policy = mock(TxnFeeChargingPolicy.class);
 		final SystemOpPolicies policies = mock(SystemOpPolicies.class);
 		final TransitionLogicLookup lookup = mock(TransitionLogicLookup.class);
+		final ScheduleStore scheduleStore = mock(ScheduleStore.class);
 		hfs = mock(HederaFs.class);
 
-		given(histories.get(any())).willReturn(recentHistory);
+		given(histories.get(any(TransactionID.class))).willReturn(recentHistory);
 
 		txnCtx = mock(TransactionContext.class);
 		ctx = mock(ServicesContext.class);
@@ -140,7 +146,10 @@ class AwareProcessLogicTest {
 		given(ctx.recordsHistorian()).willReturn(historian);
 		given(ctx.backedKeyOrder()).willReturn(keyOrder);
 		given(ctx.runningAvgs()).willReturn(runningAvgs);
+		given(ctx.txnAccessorCache()).willReturn(new PlatformTxnAccessorCache(
+				10, runningAvgs, mock(HapiOpCounters.class)));
 		given(ctx.speedometers()).willReturn(speedometers);
+		given(ctx.handleLatencies()).willReturn(mock(HandleLatencies.class));
 		given(ctx.fees()).willReturn(fees);
 		given(ctx.txnHistories()).willReturn(histories);
 		given(ctx.backingAccounts()).willReturn(backingAccounts);
@@ -149,7 +158,9 @@ class AwareProcessLogicTest {
 		given(ctx.systemOpPolicies()).willReturn(policies);
 		given(ctx.transitionLogic()).willReturn(lookup);
 		given(ctx.hfs()).willReturn(hfs);
+		given(ctx.scheduleStore()).willReturn(scheduleStore);
 		given(ctx.contracts()).willReturn(contracts);
+		given(ctx.recentCreations()).willReturn(mock(RecentlyCreatedAccounts.class));
 
 		given(txnCtx.accessor()).willReturn(txnAccessor);
 		given(txnCtx.submittingNodeAccount()).willReturn(accountID);
@@ -245,7 +256,7 @@ class AwareProcessLogicTest {
 
 		//when:
 		subject.addForStreaming(mock(com.hederahashgraph.api.proto.java.Transaction.class),
-				mock(TransactionRecord.class), Instant.now());
+				new byte[0], mock(TransactionRecord.class), Instant.now());
 		//then:
 		verify(ctx).updateRecordRunningHash(any(RunningHash.class));
 		verify(recordStreamManager).addRecordStreamObject(any(RecordStreamObject.class));
@@ -20,7 +20,6 @@ package com.hedera.services.legacy.unit;
  * ‍
  */
 
-import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.config.MockEntityNumbers;
@@ -38,6 +37,8 @@ import com.hedera.services.legacy.unit.handler.FileServiceHandler;
 import com.hedera.services.legacy.util.MockStorageWrapper;
 import com.hedera.services.queries.validation.QueryFeeCheck;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TimedTxnIdSet;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -47,6 +48,7 @@ import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.txns.validation.BasicPrecheck;
 import com.hedera.services.utils.MiscUtils;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.mocks.TestContextValidator;
 import com.hedera.test.mocks.TestFeesFactory;
 import com.hedera.test.utils.IdUtils;
@@ -89,7 +91,6 @@ import java.security.PublicKey;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 
 import static com.hedera.test.mocks.TestExchangeRates.TEST_EXCHANGE;
@@ -116,8 +117,8 @@ class PreCheckValidationTest {
 	private MockStorageWrapper storageWrapper = new MockStorageWrapper();
 	private RecordCache recordCache = new RecordCache(
 			null,
-			CacheBuilder.newBuilder().build(),
-			new HashMap<>());
+			new TimedTxnIdSet(180),
+			new TxnIdTable<>());
 	private FCMap<MerkleEntityId, MerkleAccount> accountFCMap = new FCMap<>();
 	FCMap<MerkleEntityId, MerkleTopic> topicFCMap = new FCMap<>();
 	private AccountID nodeAccount = AccountID.newBuilder().setAccountNum(3).setRealmNum(0).setShardNum(0).build();
@@ -457,8 +458,8 @@ class PreCheckValidationTest {
 		TransactionID trId = body.getTransactionID();
 		RecordCache localRecordCache = new RecordCache(
 				null,
-				CacheBuilder.newBuilder().build(),
-				new HashMap<>());
+				new TimedTxnIdSet(180),
+				new TxnIdTable<>());
 		TransactionReceipt txReceipt = RequestBuilder.getTransactionReceipt(OK);
 		TransactionRecord transactionRecord =
 				TransactionRecord.newBuilder().setReceipt(txReceipt).build();
@@ -713,4 +714,34 @@ class PreCheckValidationTest {
 		Assert.assertEquals(NOT_SUPPORTED, result.getValidity());
 		Assert.assertEquals(0l, result.getRequiredFee());
 	}
+
+	@Test
+	void accessorPrecheckFailsFastOnSignedTransactionBytesCombinedWithSigMap() {
+		// given:
+		var accessor = SignedTxnAccessor.uncheckedFrom(
+				transactionWithSignedTransactionBytes().setSigMap(fakeSigMap()).build());
+
+		// when:
+		TxnValidityAndFeeReq result = transactionHandler.validateTransactionPreConsensus(accessor, false);
+
+		// then:
+		Assert.assertEquals(INVALID_TRANSACTION, result.getValidity());
+		Assert.assertEquals(0l, result.getRequiredFee());
+	}
+
+	@Test
+	void accessorPrecheckAgreesWithUnparsedPrecheck() {
+		// given:
+		var signedTxn = transactionWithSignedTransactionBytes().build();
+		var accessor = SignedTxnAccessor.uncheckedFrom(signedTxn);
+
+		// when:
+		TxnValidityAndFeeReq unparsedResult = transactionHandler.validateTransactionPreConsensus(signedTxn, false);
+		TxnValidityAndFeeReq accessorResult = transactionHandler.validateTransactionPreConsensus(accessor, false);
+
+		// then:
+		Assert.assertEquals(NOT_SUPPORTED, accessorResult.getValidity());
+		Assert.assertEquals(unparsedResult.getValidity(), accessorResult.getValidity());
+		Assert.assertEquals(unparsedResult.getRequiredFee(), accessorResult.getRequiredFee());
+	}
 }
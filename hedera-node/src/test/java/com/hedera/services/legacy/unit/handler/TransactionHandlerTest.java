@@ -38,17 +38,28 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.throttling.FunctionalityThrottling;
 import com.hedera.services.throttling.TransactionThrottling;
 import com.hedera.services.txns.validation.BasicPrecheck;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransferList;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.Platform;
 import com.swirlds.common.PlatformStatus;
 import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.function.Supplier;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INSUFFICIENT_TX_FEE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -110,4 +121,26 @@ public class TransactionHandlerTest {
 				new StandardExemptions(new MockAccountNumbers(), policies),
 				platformStatus);
 	}
+
+	@Test
+	public void nodePaymentValidityUsesAccessorBody() {
+		// setup:
+		var node = IdUtils.asAccount("0.0.3");
+		var transfers = List.of(AccountAmount.newBuilder().setAccountID(node).setAmount(1L).build());
+		var body = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder().setAccountID(IdUtils.asAccount("0.0.2")))
+				.setNodeAccountID(node)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.setTransfers(TransferList.newBuilder().addAllAccountAmounts(transfers)))
+				.build();
+		var accessor = SignedTxnAccessor.uncheckedFrom(Transaction.newBuilder()
+				.setBodyBytes(body.toByteString())
+				.build());
+
+		given(queryFeeCheck.nodePaymentValidity(transfers, 2L, node)).willReturn(INSUFFICIENT_TX_FEE);
+
+		// expect:
+		assertEquals(INSUFFICIENT_TX_FEE, subject.nodePaymentValidity(accessor, 2L));
+		assertEquals(INSUFFICIENT_TX_FEE, subject.nodePaymentValidity(accessor.getSignedTxn(), 2L));
+	}
 }
@@ -0,0 +1,125 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.swirlds.fcqueue.FCQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayerRecordsIndexTest {
+	FCQueue<ExpirableTxnRecord> records;
+
+	PayerRecordsIndex subject;
+
+	@BeforeEach
+	void setup() {
+		records = new FCQueue<>();
+
+		subject = new PayerRecordsIndex();
+	}
+
+	@Test
+	void scansSmallQueues() {
+		// given:
+		givenRecords(PayerRecordsIndex.MIN_INDEXED_RECORDS - 1);
+		records.copy();
+
+		// expect:
+		assertEquals(5L, subject.find(records, txnIdAt(5)).get().getConsensusTimestamp().getSeconds());
+		assertFalse(subject.find(records, txnIdAt(PayerRecordsIndex.MIN_INDEXED_RECORDS)).isPresent());
+		assertNull(subject.indices.getIfPresent(records));
+	}
+
+	@Test
+	void scansMutableQueues() {
+		// given:
+		givenRecords(2 * PayerRecordsIndex.MIN_INDEXED_RECORDS);
+
+		// expect:
+		assertTrue(subject.find(records, txnIdAt(7)).isPresent());
+		assertNull(subject.indices.getIfPresent(records));
+	}
+
+	@Test
+	void indexesLargeImmutableQueuesOnce() {
+		// given:
+		givenRecords(2 * PayerRecordsIndex.MIN_INDEXED_RECORDS);
+		records.copy();
+
+		// when:
+		var found = subject.find(records, txnIdAt(40));
+		var index = subject.indices.getIfPresent(records);
+		var foundAgain = subject.find(records, txnIdAt(41));
+
+		// then:
+		assertEquals(40L, found.get().getConsensusTimestamp().getSeconds());
+		assertEquals(41L, foundAgain.get().getConsensusTimestamp().getSeconds());
+		assertSame(index, subject.indices.getIfPresent(records));
+		assertFalse(subject.find(records, txnIdAt(1_000)).isPresent());
+	}
+
+	@Test
+	void prefersEarliestRecordForDuplicateIds() {
+		// given:
+		givenRecords(PayerRecordsIndex.MIN_INDEXED_RECORDS);
+		records.offer(recordWith(3, 1_000));
+		records.copy();
+
+		// expect:
+		assertEquals(3L, subject.find(records, txnIdAt(3)).get().getConsensusTimestamp().getSeconds());
+	}
+
+	private void givenRecords(int n) {
+		for (int i = 0; i < n; i++) {
+			records.offer(recordWith(i, i));
+		}
+	}
+
+	private ExpirableTxnRecord recordWith(int validStart, long consensusSecs) {
+		return ExpirableTxnRecord.fromGprc(TransactionRecord.newBuilder()
+				.setTransactionID(grpcTxnIdAt(validStart))
+				.setConsensusTimestamp(Timestamp.newBuilder().setSeconds(consensusSecs))
+				.build());
+	}
+
+	private TxnId txnIdAt(int validStart) {
+		return TxnId.fromGrpc(grpcTxnIdAt(validStart));
+	}
+
+	private TransactionID grpcTxnIdAt(int validStart) {
+		return TransactionID.newBuilder()
+				.setAccountID(asAccount("0.0.12345"))
+				.setTransactionValidStart(Timestamp.newBuilder().setSeconds(validStart))
+				.build();
+	}
+}
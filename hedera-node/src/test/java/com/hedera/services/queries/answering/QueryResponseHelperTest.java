@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
@@ -30,13 +31,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class QueryResponseHelperTest {
 	Query query = Query.getDefaultInstance();
@@ -47,6 +52,7 @@ class QueryResponseHelperTest {
 	AnswerFlow answerFlow;
 	AnswerService answer;
 	HapiOpCounters opCounters;
+	PrecheckExecutor precheckExecutor;
 	StreamObserver<Response> observer;
 
 	QueryResponseHelper subject;
@@ -60,7 +66,9 @@ class QueryResponseHelperTest {
 		okResponse = mock(Response.class);
 		notOkResponse = mock(Response.class);
 
-		subject = new QueryResponseHelper(answerFlow, opCounters);
+		precheckExecutor = new PrecheckExecutor("Test", 0, 0, ignore -> {}, ignore -> {});
+
+		subject = new QueryResponseHelper(answerFlow, opCounters, precheckExecutor);
 	}
 
 	@Test
@@ -100,4 +108,26 @@ class QueryResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countAnswered(TokenGetInfo);
 	}
+
+	@Test
+	public void respondsBusyWhenPrecheckQueueIsFull() {
+		// setup:
+		precheckExecutor = mock(PrecheckExecutor.class);
+		subject = new QueryResponseHelper(answerFlow, opCounters, precheckExecutor);
+		// and:
+		Response busyResponse = mock(Response.class);
+
+		given(precheckExecutor.tryExecute(any(Runnable.class))).willReturn(false);
+		given(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L)).willReturn(busyResponse);
+
+		// when:
+		subject.answer(query, observer, answer, TokenGetInfo);
+
+		// then:
+		verify(opCounters).countReceived(TokenGetInfo);
+		verify(answerFlow, never()).satisfyUsing(answer, query);
+		verify(observer).onNext(busyResponse);
+		verify(observer).onCompleted();
+		verify(opCounters, never()).countAnswered(TokenGetInfo);
+	}
 }
@@ -249,7 +249,7 @@ class StakedAnswerFlowTest {
 				argThat(view::equals),
 				argThat(at::equals),
 				any())).willReturn(costs);
-		given(legacyHandler.validateTransactionPreConsensus(userTxn, true))
+		given(legacyHandler.validateTransactionPreConsensus(userAccessor, true))
 				.willReturn(new TxnValidityAndFeeReq(INVALID_ACCOUNT_ID));
 		given(service.responseGiven(query, view, INVALID_ACCOUNT_ID, 6)).willReturn(response);
 
@@ -277,7 +277,7 @@ class StakedAnswerFlowTest {
 				argThat(view::equals),
 				argThat(at::equals),
 				any())).willReturn(zeroCosts);
-		given(legacyHandler.validateTransactionPreConsensus(userTxn, true))
+		given(legacyHandler.validateTransactionPreConsensus(userAccessor, true))
 				.willReturn(new TxnValidityAndFeeReq(INVALID_ACCOUNT_ID));
 		given(service.responseGiven(query, view, INVALID_ACCOUNT_ID, 6)).willReturn(response);
 
@@ -286,7 +286,7 @@ class StakedAnswerFlowTest {
 
 		// then:
 		verify(service, times(2)).requiresNodePayment(query);
-		verify(legacyHandler, never()).validateTransactionPreConsensus(any(), anyBoolean());
+		verify(legacyHandler, never()).validateTransactionPreConsensus(any(SignedTxnAccessor.class), anyBoolean());
 	}
 
 	@Test
@@ -304,9 +304,9 @@ class StakedAnswerFlowTest {
 				argThat(view::equals),
 				argThat(at::equals),
 				any())).willReturn(costs);
-		given(legacyHandler.validateTransactionPreConsensus(userTxn, true))
+		given(legacyHandler.validateTransactionPreConsensus(userAccessor, true))
 				.willReturn(new TxnValidityAndFeeReq(OK));
-		given(legacyHandler.nodePaymentValidity(userTxn, 6)).willReturn(INSUFFICIENT_PAYER_BALANCE);
+		given(legacyHandler.nodePaymentValidity(userAccessor, 6)).willReturn(INSUFFICIENT_PAYER_BALANCE);
 		given(service.responseGiven(query, view, INSUFFICIENT_PAYER_BALANCE, 6)).willReturn(response);
 
 		// when:
@@ -333,9 +333,9 @@ class StakedAnswerFlowTest {
 				argThat(view::equals),
 				argThat(at::equals),
 				any())).willReturn(costs);
-		given(legacyHandler.validateTransactionPreConsensus(userTxn, true))
+		given(legacyHandler.validateTransactionPreConsensus(userAccessor, true))
 				.willReturn(new TxnValidityAndFeeReq(OK));
-		given(legacyHandler.nodePaymentValidity(userTxn, 6)).willReturn(OK);
+		given(legacyHandler.nodePaymentValidity(userAccessor, 6)).willReturn(OK);
 		given(service.responseGiven(
 				argThat(query::equals),
 				argThat(view::equals),
@@ -367,9 +367,9 @@ class StakedAnswerFlowTest {
 				argThat(view::equals),
 				argThat(at::equals),
 				any())).willReturn(costs);
-		given(legacyHandler.validateTransactionPreConsensus(userTxn, true))
+		given(legacyHandler.validateTransactionPreConsensus(userAccessor, true))
 				.willReturn(new TxnValidityAndFeeReq(OK));
-		given(legacyHandler.nodePaymentValidity(userTxn, 6)).willReturn(OK);
+		given(legacyHandler.nodePaymentValidity(userAccessor, 6)).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(PLATFORM_TRANSACTION_NOT_CREATED);
 		given(service.responseGiven(query, view, PLATFORM_TRANSACTION_NOT_CREATED, 6)).willReturn(response);
 
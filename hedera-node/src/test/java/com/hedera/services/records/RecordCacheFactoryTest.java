@@ -22,13 +22,12 @@ package com.hedera.services.records;
 
 import com.hedera.services.context.properties.PropertySource;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import com.hederahashgraph.api.proto.java.TransactionRecord;
 import org.junit.jupiter.api.Test;
 
-import static com.hedera.services.utils.SleepingPause.SLEEPING_PAUSE;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 
@@ -39,7 +38,6 @@ class RecordCacheFactoryTest {
 	private TransactionID txnIdB = TransactionID.newBuilder()
 			.setAccountID(asAccount("2.2.0"))
 			.build();
-	private TransactionRecord record = TransactionRecord.getDefaultInstance();
 
 	private PropertySource properties;
 	private RecordCacheFactory subject;
@@ -50,19 +48,15 @@ class RecordCacheFactoryTest {
 		properties = mock(PropertySource.class);
 		subject = new RecordCacheFactory(properties);
 
-		given(properties.getIntProperty("cache.records.ttl")).willReturn(1);
+		given(properties.getIntProperty("cache.records.ttl")).willReturn(180);
 
 		// when:
 		var cache = subject.getRecordCache();
-		cache.put(txnIdA, RecordCache.MARKER);
+		cache.add(txnIdA);
 
 		// then:
-		assertEquals(RecordCache.MARKER, cache.getIfPresent(txnIdA));
-		assertNull(cache.getIfPresent(txnIdB));
-		SLEEPING_PAUSE.forMs(500L);
-		assertEquals(RecordCache.MARKER, cache.getIfPresent(txnIdA));
-		SLEEPING_PAUSE.forMs(500L);
-		assertNull(cache.getIfPresent(txnIdA));
+		assertEquals(60L, cache.span());
+		assertTrue(cache.contains(txnIdA));
+		assertFalse(cache.contains(txnIdB));
 	}
-
 }
@@ -20,7 +20,6 @@ package com.hedera.services.records;
  * ‍
  */
 
-import com.google.common.cache.Cache;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
@@ -42,9 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.hedera.services.utils.MiscUtils.asTimestamp;
 import static com.hedera.services.utils.PlatformTxnAccessor.uncheckedAccessorFor;
@@ -59,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.argThat;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
@@ -103,8 +101,8 @@ class RecordCacheTest {
 
 	private ExpiringCreations creator;
 	private ServicesContext ctx;
-	private Cache<TransactionID, Boolean> receiptCache;
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private TimedTxnIdSet receiptCache;
+	private TxnIdTable<TxnIdRecentHistory> histories;
 
 	private RecordCache subject;
 
@@ -113,8 +111,8 @@ class RecordCacheTest {
 		creator = mock(ExpiringCreations.class);
 		ctx = mock(ServicesContext.class);
 		given(ctx.creator()).willReturn(creator);
-		histories = (Map<TransactionID, TxnIdRecentHistory>)mock(Map.class);
-		receiptCache = (Cache<TransactionID, Boolean>)mock(Cache.class);
+		histories = (TxnIdTable<TxnIdRecentHistory>) mock(TxnIdTable.class);
+		receiptCache = mock(TimedTxnIdSet.class);
 		subject = new RecordCache(ctx, receiptCache, histories);
 	}
 
@@ -132,7 +130,7 @@ class RecordCacheTest {
 	@Test
 	public void expiresOtherForgottenHistory() {
 		// setup:
-		subject = new RecordCache(ctx, receiptCache, new HashMap<>());
+		subject = new RecordCache(ctx, receiptCache, new TxnIdTable<>());
 
 		// given:
 		record.setExpiry(someExpiry);
@@ -219,7 +217,7 @@ class RecordCacheTest {
 	@Test
 	public void getsReceiptWithUnknownStatusPreconsensus() {
 		given(histories.get(txnIdA)).willReturn(null);
-		given(receiptCache.getIfPresent(txnIdA)).willReturn(Boolean.TRUE);
+		given(receiptCache.contains(txnIdA)).willReturn(true);
 
 		// expect:
 		assertEquals(unknownReceipt, subject.getPriorityReceipt(txnIdA));
@@ -281,7 +279,7 @@ class RecordCacheTest {
 		subject.addPreConsensus(txnIdB);
 
 		// then:
-		verify(receiptCache).put(txnIdB, Boolean.TRUE);
+		verify(receiptCache).add(txnIdB);
 	}
 
 	@Test
@@ -289,7 +287,7 @@ class RecordCacheTest {
 		// setup:
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
-		given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(history);
+		given(histories.computeIfAbsent(eq(txnIdA), any())).willReturn(history);
 
 		// when:
 		subject.setPostConsensus(
@@ -320,7 +318,7 @@ class RecordCacheTest {
 		// and:
 		AccountID effectivePayer = IdUtils.asAccount("0.0.3");
 
-		given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(history);
+		given(histories.computeIfAbsent(eq(txnId), any())).willReturn(history);
 
 		// given:
 		PlatformTxnAccessor accessor = uncheckedAccessorFor(platformTxn);
@@ -353,13 +351,13 @@ class RecordCacheTest {
 	@Test
 	public void usesHistoryThenCacheToTestReceiptPresence() {
 		given(histories.containsKey(txnIdA)).willReturn(true);
-		given(receiptCache.getIfPresent(txnIdA)).willReturn(null);
+		given(receiptCache.contains(txnIdA)).willReturn(false);
 		// and:
 		given(histories.containsKey(txnIdB)).willReturn(false);
-		given(receiptCache.getIfPresent(txnIdB)).willReturn(RecordCache.MARKER);
+		given(receiptCache.contains(txnIdB)).willReturn(true);
 		// and:
 		given(histories.containsKey(txnIdC)).willReturn(false);
-		given(receiptCache.getIfPresent(txnIdC)).willReturn(null);
+		given(receiptCache.contains(txnIdC)).willReturn(false);
 
 		// when:
 		boolean hasA = subject.isReceiptPresent(txnIdA);
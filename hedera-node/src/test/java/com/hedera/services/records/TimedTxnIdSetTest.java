@@ -0,0 +1,116 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedTxnIdSetTest {
+	int ttl = 180;
+	long[] now = { 1_000_000L };
+	TransactionID a = TransactionID.newBuilder().setAccountID(asAccount("0.0.2")).build();
+	TransactionID b = TransactionID.newBuilder().setAccountID(asAccount("0.0.3")).build();
+
+	TimedTxnIdSet subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new TimedTxnIdSet(ttl, () -> now[0]);
+	}
+
+	@Test
+	void rejectsNonPositiveTtl() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new TimedTxnIdSet(0));
+	}
+
+	@Test
+	void roundsSpanUp() {
+		// expect:
+		assertEquals(60L, subject.span());
+		assertEquals(1L, new TimedTxnIdSet(1).span());
+		assertEquals(61L, new TimedTxnIdSet(181).span());
+	}
+
+	@Test
+	void remembersForAtLeastTtl() {
+		// given:
+		now[0] += 59;
+		subject.add(a);
+
+		// when:
+		now[0] += ttl;
+
+		// then:
+		assertTrue(subject.contains(a));
+		assertFalse(subject.contains(b));
+	}
+
+	@Test
+	void forgetsWithinTtlPlusSpan() {
+		// given:
+		subject.add(a);
+
+		// when:
+		now[0] += ttl + subject.span();
+
+		// then:
+		assertFalse(subject.contains(a));
+	}
+
+	@Test
+	void forgetsEverythingAfterLongGap() {
+		// given:
+		subject.add(a);
+		now[0] += 30;
+		subject.add(b);
+
+		// when:
+		now[0] += 10 * ttl;
+
+		// then:
+		assertFalse(subject.contains(a));
+		assertFalse(subject.contains(b));
+		assertEquals(now[0], subject.newestStart);
+	}
+
+	@Test
+	void agesOutOneGenerationAtATime() {
+		// given:
+		subject.add(a);
+		now[0] += subject.span();
+		subject.add(b);
+
+		// when:
+		now[0] += ttl;
+
+		// then:
+		assertFalse(subject.contains(a));
+		assertTrue(subject.contains(b));
+	}
+}
@@ -0,0 +1,254 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxnIdTableTest {
+	TransactionID a = txnId("0.0.2", 1_234_567L, 890);
+	TransactionID b = txnId("0.0.2", 1_234_567L, 891);
+	TransactionID c = txnId("0.1.2", 1_234_567L, 890);
+
+	TxnIdTable<String> subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new TxnIdTable<>(4);
+	}
+
+	@Test
+	void roundsCapacityUpToPowerOfTwo() {
+		// expect:
+		assertEquals(4, subject.capacity());
+		assertEquals(8, new TxnIdTable<>(5).capacity());
+		assertEquals(TxnIdTable.DEFAULT_INITIAL_CAPACITY, new TxnIdTable<>().capacity());
+	}
+
+	@Test
+	void distinguishesEveryComponentOfId() {
+		// given:
+		subject.put(a, "A");
+
+		// expect:
+		assertEquals("A", subject.get(a));
+		assertTrue(subject.containsKey(a));
+		assertFalse(subject.containsKey(b));
+		assertFalse(subject.containsKey(c));
+		assertNull(subject.get(txnId("0.0.3", 1_234_567L, 890)));
+		assertNull(subject.get(txnId("0.0.2", 1_234_568L, 890)));
+		assertNull(subject.get(txnId("1.0.2", 1_234_567L, 890)));
+	}
+
+	@Test
+	void findsSameEntryByGrpcOrJprotoId() {
+		// given:
+		subject.put(a, "A");
+
+		// expect:
+		assertEquals("A", subject.get(TxnId.fromGrpc(a)));
+		// and when:
+		subject.computeIfAbsent(TxnId.fromGrpc(b), () -> "B");
+		// then:
+		assertEquals("B", subject.get(b));
+		// and when:
+		assertEquals("A", subject.remove(TxnId.fromGrpc(a)));
+		// then:
+		assertFalse(subject.containsKey(a));
+	}
+
+	@Test
+	void putReplacesExistingValue() {
+		// given:
+		subject.put(a, "A");
+
+		// when:
+		var prior = subject.put(a, "AA");
+
+		// then:
+		assertEquals("A", prior);
+		assertEquals("AA", subject.get(a));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void computesOnlyIfAbsent() {
+		// when:
+		var first = subject.computeIfAbsent(a, () -> new String("A"));
+		var second = subject.computeIfAbsent(a, () -> "NOPE");
+
+		// then:
+		assertSame(first, second);
+	}
+
+	@Test
+	void rejectsNullValues() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.put(a, null));
+		assertThrows(IllegalArgumentException.class, () -> subject.computeIfAbsent(a, () -> null));
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void growsAsNeeded() {
+		// when:
+		for (int i = 0; i < 100; i++) {
+			subject.put(txnId("0.0.2", i, i), "V" + i);
+		}
+
+		// then:
+		assertEquals(100, subject.size());
+		assertEquals(256, subject.capacity());
+		for (int i = 0; i < 100; i++) {
+			assertEquals("V" + i, subject.get(txnId("0.0.2", i, i)));
+		}
+	}
+
+	@Test
+	void clearForgetsAll() {
+		// given:
+		subject.put(a, "A");
+		subject.put(b, "B");
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertNull(subject.get(a));
+	}
+
+	@Test
+	void visitsAllValues() {
+		// given:
+		subject.put(a, "A");
+		subject.put(b, "B");
+		subject.put(c, "C");
+		// and:
+		var visited = new ArrayList<String>();
+
+		// when:
+		subject.forEachValue(visited::add);
+
+		// then:
+		visited.sort(String::compareTo);
+		assertEquals(java.util.List.of("A", "B", "C"), visited);
+	}
+
+	@Test
+	void removesMissingAsNull() {
+		// expect:
+		assertNull(subject.remove(a));
+	}
+
+	@Test
+	void stripesOnlyLargeEnoughTables() {
+		// expect:
+		assertEquals(1, subject.numSegments());
+		assertEquals(TxnIdTable.MAX_SEGMENTS, new TxnIdTable<>().numSegments());
+		assertEquals(2, new TxnIdTable<>(2 * TxnIdTable.MIN_SEGMENT_CAPACITY).numSegments());
+	}
+
+	@Test
+	void concurrentWritersAllLand() throws Exception {
+		// setup:
+		int numThreads = 4, perThread = 10_000;
+		var pool = Executors.newFixedThreadPool(numThreads);
+		var writes = new ArrayList<Future<?>>();
+
+		// given:
+		subject = new TxnIdTable<>();
+
+		// when:
+		for (int t = 0; t < numThreads; t++) {
+			var payer = "0.0." + (t + 2);
+			writes.add(pool.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					subject.put(txnId(payer, i, i), payer);
+				}
+			}));
+		}
+		for (var write : writes) {
+			write.get();
+		}
+		pool.shutdown();
+
+		// then:
+		assertEquals(numThreads * perThread, subject.size());
+		assertEquals("0.0.3", subject.get(txnId("0.0.3", perThread - 1, perThread - 1)));
+	}
+
+	@Test
+	void stripedTableAgreesWithHashMapUnderRandomChurn() {
+		// given:
+		subject = new TxnIdTable<>();
+
+		// expect:
+		agreesWithHashMapUnderRandomChurn();
+	}
+
+	@Test
+	void agreesWithHashMapUnderRandomChurn() {
+		// setup:
+		var random = new Random(1_234L);
+		Map<TransactionID, String> expected = new HashMap<>();
+
+		for (int i = 0; i < 10_000; i++) {
+			var id = txnId("0.0." + random.nextInt(8), random.nextInt(16), random.nextInt(4));
+			var op = random.nextInt(3);
+			if (op == 0) {
+				assertEquals(expected.remove(id), subject.remove(id));
+			} else {
+				var value = "V" + i;
+				assertEquals(expected.put(id, value), subject.put(id, value));
+			}
+			assertEquals(expected.size(), subject.size());
+		}
+		for (var entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), subject.get(entry.getKey()));
+		}
+	}
+
+	private TransactionID txnId(String payer, long seconds, int nanos) {
+		return TransactionID.newBuilder()
+				.setAccountID(asAccount(payer))
+				.setTransactionValidStart(Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos))
+				.build();
+	}
+}
@@ -0,0 +1,91 @@
+package com.hedera.services.sigs.metadata.lookups;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentlyCreatedAccountsTest {
+	JKey key = new JEd25519Key("01234567890123456789012345678901".getBytes());
+	AccountID a = asAccount("0.0.1001");
+	AccountID b = asAccount("0.0.1002");
+	AccountID c = asAccount("0.0.1003");
+
+	RecentlyCreatedAccounts subject;
+
+	@BeforeEach
+	public void setup() {
+		subject = new RecentlyCreatedAccounts(2, 60);
+	}
+
+	@Test
+	public void tracksCreatedAccountMetaOnceCommitted() {
+		// when:
+		subject.track(a, key, true);
+
+		// then:
+		assertNull(subject.lookup(a));
+
+		// and when:
+		subject.commitPending();
+
+		// then:
+		var meta = subject.lookup(a);
+		assertSame(key, meta.getKey());
+		assertTrue(meta.isReceiverSigRequired());
+		assertNull(subject.lookup(b));
+	}
+
+	@Test
+	public void respectsMaxSize() {
+		// when:
+		subject.track(a, key, false);
+		subject.track(b, key, false);
+		subject.track(c, key, false);
+		subject.commitPending();
+
+		// then:
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	public void discardsRolledBackCreations() {
+		// given:
+		subject.track(a, key, true);
+
+		// when:
+		subject.rollbackPending();
+		subject.commitPending();
+
+		// then:
+		assertNull(subject.lookup(a));
+		assertEquals(0, subject.size());
+	}
+}
@@ -51,6 +51,7 @@ public class RetryingFCMapAccountLookupTest {
 	private NodeLocalProperties properties;
 	private MiscRunningAvgs runningAvgs;
 	private MiscSpeedometers speedometers;
+	private RecentlyCreatedAccounts recentCreations;
 	private FCMap<MerkleEntityId, MerkleAccount> accounts;
 	private RetryingFCMapAccountLookup subject;
 	private Pause pause;
@@ -71,6 +72,7 @@ public class RetryingFCMapAccountLookupTest {
 		runningAvgs = mock(MiscRunningAvgs.class);
 		speedometers = mock(MiscSpeedometers.class);
 		pause = mock(Pause.class);
+		recentCreations = new RecentlyCreatedAccounts(10, 60);
 		accounts = (FCMap<MerkleEntityId, MerkleAccount>)mock(FCMap.class);
 		properties = mock(NodeLocalProperties.class);
 		given(properties.precheckLookupRetries()).willReturn(2);
@@ -81,7 +83,7 @@ public class RetryingFCMapAccountLookupTest {
 	public void neverRetriesIfAccountAlreadyExists() throws Exception {
 		given(accounts.get(accountKey)).willReturn(accountValue);
 		// and:
-		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, runningAvgs, speedometers);
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
 
 		// when:
 		AccountSigningMetadata meta = subject.safeLookup(account).metadata();
@@ -92,12 +94,56 @@ public class RetryingFCMapAccountLookupTest {
 		assertEquals(JKey.mapJKey(accountKeys), JKey.mapJKey(meta.getKey()));
 	}
 
+	@Test
+	public void neverRetriesIfAccountWasRecentlyCreated() throws Exception {
+		given(accounts.get(accountKey)).willReturn(null);
+		// and:
+		recentCreations.track(account, accountKeys, true);
+		recentCreations.commitPending();
+		// and:
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
+
+		// when:
+		AccountSigningMetadata meta = subject.safeLookup(account).metadata();
+
+		// then:
+		verifyZeroInteractions(pause);
+		verify(speedometers).cycleRecentCreationLookupHits();
+		verify(speedometers, never()).cycleAccountLookupRetries();
+		assertTrue(meta.isReceiverSigRequired());
+		assertEquals(JKey.mapJKey(accountKeys), JKey.mapJKey(meta.getKey()));
+	}
+
+	@Test
+	public void stopsRetryingOnceCreationIsCommitted() throws Exception {
+		given(accounts.get(accountKey)).willReturn(null);
+		given(pause.forMs(anyLong())).willAnswer(invocation -> {
+			recentCreations.commitPending();
+			return true;
+		});
+		// and:
+		recentCreations.track(account, accountKeys, true);
+		// and:
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
+
+		// when:
+		AccountSigningMetadata meta = subject.safeLookup(account).metadata();
+
+		// then:
+		verify(pause).forMs(RETRY_WAIT_MS);
+		verify(pause, never()).forMs(RETRY_WAIT_MS * 2);
+		verify(speedometers).cycleRecentCreationLookupHits();
+		verify(runningAvgs).recordAccountLookupRetries(1);
+		assertTrue(meta.isReceiverSigRequired());
+		assertEquals(JKey.mapJKey(accountKeys), JKey.mapJKey(meta.getKey()));
+	}
+
 	@Test
 	public void retriesTwiceWithStats() throws Exception {
 		given(pause.forMs(anyLong())).willReturn(true);
 		given(accounts.get(accountKey)).willReturn(null).willReturn(null).willReturn(accountValue);
 		// and:
-		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, runningAvgs, speedometers);
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
 		// and:
 		InOrder inOrder = inOrder(pause, speedometers, runningAvgs);
 
@@ -112,6 +158,7 @@ public class RetryingFCMapAccountLookupTest {
 		inOrder.verify(runningAvgs).recordAccountLookupRetries(captor.capture());
 		inOrder.verify(runningAvgs).recordAccountRetryWaitMs(anyDouble());
 		assertEquals(2, captor.getValue().intValue());
+		verify(speedometers, never()).cycleRecentCreationLookupHits();
 		assertTrue(meta.isReceiverSigRequired());
 		assertEquals(JKey.mapJKey(accountKeys), JKey.mapJKey(meta.getKey()));
 	}
@@ -120,7 +167,7 @@ public class RetryingFCMapAccountLookupTest {
 	public void retriesOnceWithSleepingPause() throws Exception {
 		given(accounts.get(accountKey)).willReturn(null).willReturn(accountValue);
 		// and:
-		subject = new RetryingFCMapAccountLookup(defaultPause, properties, () -> accounts, runningAvgs, speedometers);
+		subject = new RetryingFCMapAccountLookup(defaultPause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
 		// and:
 		InOrder inOrder = inOrder(runningAvgs, speedometers);
 
@@ -142,7 +189,7 @@ public class RetryingFCMapAccountLookupTest {
 		given(pause.forMs(anyLong())).willReturn(true);
 		given(accounts.get(accountKey)).willReturn(null).willReturn(null).willReturn(null);
 		// and:
-		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, runningAvgs, speedometers);
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
 		// and:
 		InOrder inOrder = inOrder(pause, runningAvgs, speedometers);
 
@@ -164,7 +211,7 @@ public class RetryingFCMapAccountLookupTest {
 		given(pause.forMs(anyLong())).willReturn(true).willReturn(false);
 		given(accounts.get(accountKey)).willReturn(null).willReturn(null).willReturn(null);
 		// and:
-		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, runningAvgs, speedometers);
+		subject = new RetryingFCMapAccountLookup(pause, properties, () -> accounts, recentCreations, runningAvgs, speedometers);
 		// and:
 		InOrder inOrder = inOrder(pause);
 
@@ -29,6 +29,8 @@ import com.hedera.test.factories.keys.OverlappingKeyGenerator;
 import com.hedera.test.factories.sigs.SigFactory;
 import com.hedera.test.factories.sigs.SigMapGenerator;
 import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hedera.services.legacy.exception.KeyPrefixMismatchException;
 import com.swirlds.common.crypto.SignatureType;
@@ -41,6 +43,7 @@ import static com.hedera.test.factories.keys.NodeFactory.*;
 import static com.hedera.test.factories.txns.SystemDeleteFactory.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SigMapPubKeyToSigBytesTest {
@@ -106,6 +109,75 @@ public class SigMapPubKeyToSigBytesTest {
 		});
 	}
 
+	@Test
+	public void findsUniquePrefixAmongMixedLengths() throws Exception {
+		// given:
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(sigMapWith(
+				new byte[] { (byte)0xff }, "ff",
+				new byte[] { 0x01, 0x02 }, "0102",
+				new byte[] { 0x01, 0x03 }, "0103",
+				new byte[] { 0x02 }, "02"));
+
+		// expect:
+		assertArrayEquals("ff".getBytes(), subject.sigBytesFor(new byte[] { (byte)0xff, 0x00 }));
+		assertArrayEquals("0103".getBytes(), subject.sigBytesFor(new byte[] { 0x01, 0x03, 0x04 }));
+		assertArrayEquals("02".getBytes(), subject.sigBytesFor(new byte[] { 0x02, 0x01 }));
+		assertArrayEquals(EMPTY_SIG, subject.sigBytesFor(new byte[] { 0x01, 0x04 }));
+	}
+
+	@Test
+	public void rejectsNestedPrefixes() {
+		// given:
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(sigMapWith(
+				new byte[] { 0x01 }, "01",
+				new byte[] { 0x01, 0x02 }, "0102"));
+
+		// expect:
+		assertThrows(KeyPrefixMismatchException.class, () -> subject.sigBytesFor(new byte[] { 0x01, 0x02, 0x03 }));
+	}
+
+	@Test
+	public void rejectsRepeatedPrefixOnlyWhenLookedUp() throws Exception {
+		// given:
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(sigMapWith(
+				new byte[] { 0x01 }, "a",
+				new byte[] { 0x02 }, "b",
+				new byte[] { 0x01 }, "c"));
+
+		// expect:
+		assertArrayEquals("b".getBytes(), subject.sigBytesFor(new byte[] { 0x02, 0x02 }));
+		assertThrows(KeyPrefixMismatchException.class, () -> subject.sigBytesFor(new byte[] { 0x01, 0x02 }));
+	}
+
+	@Test
+	public void rejectsPrefixLongerThanKey() {
+		// given:
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(sigMapWith(
+				new byte[] { 0x01, 0x02, 0x03 }, "010203"));
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.sigBytesFor(new byte[] { 0x01, 0x02 }));
+	}
+
+	@Test
+	public void returnsEmptySigForEmptyMap() throws Exception {
+		// given:
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(SignatureMap.getDefaultInstance());
+
+		// expect:
+		assertArrayEquals(EMPTY_SIG, subject.sigBytesFor(new byte[] { 0x01 }));
+	}
+
+	private SignatureMap sigMapWith(Object... prefixesAndSigs) {
+		SignatureMap.Builder sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < prefixesAndSigs.length; i += 2) {
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom((byte[]) prefixesAndSigs[i]))
+					.setEd25519(ByteString.copyFromUtf8((String) prefixesAndSigs[i + 1])));
+		}
+		return sigMap.build();
+	}
+
 	private void lookupsMatch(KeyTree kt, KeyFactory factory, byte[] data, PubKeyToSigBytes subject) throws Exception {
 		AtomicReference<Exception> thrown = new AtomicReference<>();
 		kt.traverseLeaves(leaf -> {
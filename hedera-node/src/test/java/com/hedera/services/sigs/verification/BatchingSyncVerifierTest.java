@@ -0,0 +1,196 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+class BatchingSyncVerifierTest {
+	TransactionSignature a = mock(TransactionSignature.class);
+	TransactionSignature b = mock(TransactionSignature.class);
+
+	List<List<TransactionSignature>> delegated;
+	SyncVerifier delegate;
+	MiscRunningAvgs runningAvgs;
+	ExecutorService callers = Executors.newCachedThreadPool();
+
+	BatchingSyncVerifier subject;
+
+	@BeforeEach
+	public void setup() {
+		delegated = Collections.synchronizedList(new ArrayList<>());
+		delegate = sigs -> delegated.add(new ArrayList<>(sigs));
+		runningAvgs = mock(MiscRunningAvgs.class);
+	}
+
+	@Test
+	public void batchesConcurrentCallersWhileWorkersAreBusy() throws Exception {
+		// setup:
+		var c = mock(TransactionSignature.class);
+		var entered = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		delegate = sigs -> {
+			if (sigs.contains(c)) {
+				entered.countDown();
+				await(release);
+			}
+			delegated.add(new ArrayList<>(sigs));
+		};
+		willAnswer(invocation -> {
+			release.countDown();
+			return null;
+		}).given(runningAvgs).recordPrecheckSigBatchFill(1.0);
+		// and:
+		subject = new BatchingSyncVerifier(2, 5_000_000, 60_000, 1, delegate, runningAvgs);
+
+		// given:
+		var busy = CompletableFuture.runAsync(() -> subject.verifySync(List.of(c)), callers);
+		entered.await(5, TimeUnit.SECONDS);
+
+		// when:
+		var first = CompletableFuture.runAsync(() -> subject.verifySync(List.of(a)), callers);
+		var second = CompletableFuture.runAsync(() -> subject.verifySync(List.of(b)), callers);
+		// and:
+		busy.get(5, TimeUnit.SECONDS);
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+
+		// then:
+		assertEquals(2, delegated.size());
+		assertEquals(List.of(c), delegated.get(0));
+		assertEquals(2, delegated.get(1).size());
+		assertTrue(delegated.get(1).containsAll(List.of(a, b)));
+		verify(runningAvgs).recordPrecheckSigBatchFill(1.0);
+	}
+
+	@Test
+	public void doesNotLingerWhenQueueDrainsWithIdleWorker() throws Exception {
+		subject = new BatchingSyncVerifier(10, 60_000_000, 60_000, 1, delegate, runningAvgs);
+
+		// when:
+		CompletableFuture.runAsync(() -> subject.verifySync(List.of(a)), callers).get(5, TimeUnit.SECONDS);
+
+		// then:
+		assertEquals(List.of(List.of(a)), delegated);
+	}
+
+	@Test
+	public void verifiesDirectlyIfBatchNotDoneWithinMaxWait() throws Exception {
+		// setup:
+		var release = new CountDownLatch(1);
+		delegate = sigs -> {
+			if (Thread.currentThread().getName().startsWith("PrecheckSigBatchVerifier")) {
+				await(release);
+			} else {
+				delegated.add(new ArrayList<>(sigs));
+			}
+		};
+		subject = new BatchingSyncVerifier(10, 1_000, 10, 1, delegate, runningAvgs);
+
+		// when:
+		CompletableFuture.runAsync(() -> subject.verifySync(List.of(a)), callers).get(5, TimeUnit.SECONDS);
+
+		// then:
+		assertEquals(List.of(List.of(a)), delegated);
+		// cleanup:
+		release.countDown();
+	}
+
+	@Test
+	public void failsBatchAndKeepsDispatchingIfDispatchThrows() {
+		// setup:
+		willThrow(IllegalStateException.class).willNothing().given(runningAvgs).recordPrecheckSigBatchFill(anyDouble());
+		subject = new BatchingSyncVerifier(10, 1_000, 60_000, 1, delegate, runningAvgs);
+
+		// expect:
+		var e = assertThrows(CompletionException.class, () -> subject.verifySync(List.of(a)));
+		assertTrue(e.getCause() instanceof IllegalStateException);
+		// and when:
+		subject.verifySync(List.of(b));
+		// then:
+		assertEquals(List.of(List.of(b)), delegated);
+	}
+
+	@Test
+	public void dispatchesPartialBatchOnceLingerExpires() {
+		subject = new BatchingSyncVerifier(10, 1_000, 60_000, 1, delegate, runningAvgs);
+
+		// when:
+		subject.verifySync(List.of(a));
+
+		// then:
+		assertEquals(List.of(List.of(a)), delegated);
+		verify(runningAvgs).recordPrecheckSigBatchFill(0.1);
+		verify(runningAvgs).recordPrecheckSigBatchLingerMs(anyDouble());
+	}
+
+	@Test
+	public void propagatesDelegateFailureToCaller() {
+		delegate = sigs -> {
+			throw new IllegalStateException();
+		};
+		subject = new BatchingSyncVerifier(10, 1_000, 60_000, 1, delegate, runningAvgs);
+
+		// expect:
+		var e = assertThrows(CompletionException.class, () -> subject.verifySync(List.of(a)));
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	}
+
+	@Test
+	public void ignoresEmptySigs() {
+		subject = new BatchingSyncVerifier(10, 1_000, 60_000, 1, delegate, runningAvgs);
+
+		// when:
+		subject.verifySync(Collections.emptyList());
+
+		// then:
+		assertTrue(delegated.isEmpty());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
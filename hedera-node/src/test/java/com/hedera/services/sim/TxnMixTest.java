@@ -0,0 +1,79 @@
+package com.hedera.services.sim;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.sim.TxnMix.Type.CONSENSUS_SUBMIT;
+import static com.hedera.services.sim.TxnMix.Type.CONTRACT_CALL;
+import static com.hedera.services.sim.TxnMix.Type.CRYPTO_TRANSFER;
+import static com.hedera.services.sim.TxnMix.Type.TOKEN_TRANSFER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxnMixTest {
+	@Test
+	public void parsesSpec() {
+		// given:
+		var subject = TxnMix.parse("CRYPTO_TRANSFER=3, CONTRACT_CALL=1");
+
+		// expect:
+		assertTrue(subject.includes(CRYPTO_TRANSFER));
+		assertTrue(subject.includes(CONTRACT_CALL));
+		assertFalse(subject.includes(TOKEN_TRANSFER));
+		assertFalse(subject.includes(CONSENSUS_SUBMIT));
+		assertEquals("{CRYPTO_TRANSFER=3, CONTRACT_CALL=1}", subject.toString());
+	}
+
+	@Test
+	public void rejectsMalformedSpecs() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> TxnMix.parse("CRYPTO_TRANSFER"));
+		assertThrows(IllegalArgumentException.class, () -> TxnMix.parse("NOT_A_TYPE=1"));
+		assertThrows(IllegalArgumentException.class, () -> TxnMix.parse("CRYPTO_TRANSFER=-1"));
+		assertThrows(IllegalArgumentException.class, () -> TxnMix.parse("CRYPTO_TRANSFER=0"));
+	}
+
+	@Test
+	public void choosesOnlyWeightedTypesInProportion() {
+		// setup:
+		var random = new SplittableRandom(1_234L);
+		var counts = new EnumMap<TxnMix.Type, Integer>(TxnMix.Type.class);
+		// and:
+		var subject = new TxnMix(Map.of(TOKEN_TRANSFER, 3, CONSENSUS_SUBMIT, 1));
+
+		// when:
+		for (int i = 0; i < 10_000; i++) {
+			counts.merge(subject.next(random), 1, Integer::sum);
+		}
+
+		// then:
+		assertEquals(2, counts.size());
+		assertEquals(7_500, counts.get(TOKEN_TRANSFER), 250);
+		assertEquals(2_500, counts.get(CONSENSUS_SUBMIT), 250);
+	}
+}
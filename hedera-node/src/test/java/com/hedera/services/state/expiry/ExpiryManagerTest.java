@@ -25,6 +25,7 @@ import com.hedera.services.legacy.core.jproto.TxnId;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdTable;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -39,15 +40,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -69,14 +71,14 @@ class ExpiryManagerTest {
 	RecordCache recordCache;
 	HederaLedger ledger;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
-	Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	TxnIdTable<TxnIdRecentHistory> txnHistories;
 
 	ExpiryManager subject;
 
 	@BeforeEach
 	public void setup() {
 		accounts = new FCMap<>();
-		txnHistories = new HashMap<>();
+		txnHistories = new TxnIdTable<>();
 		recordCache = mock(RecordCache.class);
 
 		ledger = mock(HederaLedger.class);
@@ -104,6 +106,26 @@ class ExpiryManagerTest {
 				any());
 		// and:
 		verify(recordCache).forgetAnyOtherExpiredHistory(33);
+		// and:
+		assertEquals(1, subject.payerExpiries.numPending());
+	}
+
+	@Test
+	public void purgesEachPayerOnceForAllItsRecordsDueInASecond() {
+		// given:
+		subject.trackRecord(payer, expiry);
+		subject.trackRecord(asAccount(b), expiry);
+		subject.trackRecord(payer, expiry);
+
+		// when:
+		subject.purgeExpiredRecordsAt(expiry, ledger);
+
+		// then:
+		verify(ledger, times(1)).purgeExpiredRecords(argThat(payer::equals), longThat(l -> l == expiry), any());
+		verify(ledger, times(1)).purgeExpiredRecords(argThat(asAccount(b)::equals), longThat(l -> l == expiry), any());
+		// and:
+		assertTrue(subject.payerExpiries.isEmpty());
+		assertNull(subject.sharedLedger);
 	}
 
 	private AccountID asAccount(long num) {
@@ -115,7 +137,7 @@ class ExpiryManagerTest {
 		// setup:
 		long oldExpiry = 2_345_678L;
 		AccountID payer = IdUtils.asAccount("0.0.2");
-		txnHistories = mock(Map.class);
+		txnHistories = mock(TxnIdTable.class);
 
 		// given:
 		subject = new ExpiryManager(recordCache, txnHistories);
@@ -124,7 +146,7 @@ class ExpiryManagerTest {
 		// and:
 		givenAccount(2, new long[] { expiry });
 		// and:
-		given(txnHistories.computeIfAbsent(any(), any())).willReturn(new TxnIdRecentHistory());
+		given(txnHistories.computeIfAbsent(any(TxnId.class), any())).willReturn(new TxnIdRecentHistory());
 
 		// when:
 		subject.restartTrackingFrom(accounts);
@@ -132,11 +154,11 @@ class ExpiryManagerTest {
 		// then:
 		verify(recordCache).reset();
 		verify(txnHistories).clear();
-		assertEquals(expiry, subject.payerExpiries.now);
-		assertEquals(1, subject.payerExpiries.allExpiries.size());
-		var expiryEvent = subject.payerExpiries.allExpiries.getFirst();
-		assertEquals(2, expiryEvent.getId());
-		assertEquals(expiry, expiryEvent.getExpiry());
+		assertEquals(1, subject.payerExpiries.numPending());
+		// and:
+		var expired = new ArrayList<Long>();
+		subject.payerExpiries.expireAllAt(expiry, expired::add);
+		assertEquals(List.of(2L), expired);
 	}
 
 	@Test
@@ -148,14 +170,13 @@ class ExpiryManagerTest {
 		subject.restartTrackingFrom(accounts);
 
 		// then:
-		var e1 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(b, e1.getId());
-		assertEquals(33, e1.getExpiry());
-		var e2 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(a, e2.getId());
-		assertEquals(55, e2.getExpiry());
+		var expired = new ArrayList<Long>();
+		subject.payerExpiries.expireAllAt(33, expired::add);
+		assertEquals(List.of(b), expired);
+		subject.payerExpiries.expireAllAt(55, expired::add);
+		assertEquals(List.of(b, a), expired);
 		// and:
-		assertTrue(subject.payerExpiries.allExpiries.isEmpty());
+		assertTrue(subject.payerExpiries.isEmpty());
 		// and:
 		long[] allPayerTs = Stream.of(aPayer, bPayer)
 				.flatMap(a -> Arrays.stream(a).boxed())
@@ -163,7 +184,9 @@ class ExpiryManagerTest {
 				.toArray();
 		assertTrue(Arrays.stream(allPayerTs).mapToObj(t -> txnIdOf(t).toGrpc()).allMatch(txnHistories::containsKey));
 		// and:
-		assertTrue(txnHistories.values().stream().noneMatch(TxnIdRecentHistory::isStagePending));
+		var histories = new ArrayList<TxnIdRecentHistory>();
+		txnHistories.forEachValue(histories::add);
+		assertTrue(histories.stream().noneMatch(TxnIdRecentHistory::isStagePending));
 	}
 
 	private void givenAccount(long num, long[] payerExpiries) {
@@ -292,12 +315,12 @@ class ExpiryManagerTest {
 	@Test
 	public void addsExpectedExpiryForPayer() {
 		// setup:
-		subject.payerExpiries = (MonotonicFullQueueExpiries<Long>) mock(MonotonicFullQueueExpiries.class);
+		subject.payerExpiries = mock(NumExpiryWheel.class);
 
 		// when:
 		subject.trackRecord(payer, expiry);
 
 		// then:
-		verify(subject.payerExpiries).track(Long.valueOf(13257), expiry);
+		verify(subject.payerExpiries).track(13257L, expiry);
 	}
 }
\ No newline at end of file
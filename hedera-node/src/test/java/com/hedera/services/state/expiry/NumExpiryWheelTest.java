@@ -0,0 +1,197 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumExpiryWheelTest {
+	int numSlots = 8;
+	List<Long> expired = new ArrayList<>();
+
+	NumExpiryWheel subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new NumExpiryWheel(numSlots);
+	}
+
+	@Test
+	void rejectsNonPowerOfTwoSlots() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new NumExpiryWheel(6));
+		assertThrows(IllegalArgumentException.class, () -> new NumExpiryWheel(0));
+	}
+
+	@Test
+	void expiresNothingBeforeDue() {
+		// given:
+		subject.track(1L, 100L);
+
+		// when:
+		subject.expireAllAt(99L, expired::add);
+
+		// then:
+		assertTrue(expired.isEmpty());
+		assertEquals(1, subject.numPending());
+	}
+
+	@Test
+	void expiresInOrderOfSecondThenNum() {
+		// given:
+		subject.track(5L, 102L);
+		subject.track(3L, 101L);
+		subject.track(7L, 101L);
+		subject.track(1L, 101L);
+		subject.track(2L, 103L);
+
+		// when:
+		subject.expireAllAt(102L, expired::add);
+
+		// then:
+		assertEquals(List.of(1L, 3L, 7L, 5L), expired);
+		assertEquals(1, subject.numPending());
+	}
+
+	@Test
+	void expiresEachNumOnlyOncePerSecond() {
+		// given:
+		subject.track(3L, 101L);
+		subject.track(3L, 101L);
+		subject.track(1L, 101L);
+		subject.track(3L, 101L);
+
+		// when:
+		subject.expireAllAt(101L, expired::add);
+
+		// then:
+		assertEquals(List.of(1L, 3L), expired);
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void usesOverflowForCollidingSeconds() {
+		// given:
+		subject.track(1L, 100L + numSlots);
+		subject.track(2L, 100L);
+		subject.track(3L, 100L + 2 * numSlots);
+
+		// expect:
+		assertEquals(2, subject.overflow.size());
+
+		// when:
+		subject.expireAllAt(100L + numSlots, expired::add);
+
+		// then:
+		assertEquals(List.of(2L, 1L), expired);
+		// and when:
+		subject.expireAllAt(100L + 2 * numSlots, expired::add);
+		// then:
+		assertEquals(List.of(2L, 1L, 3L), expired);
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void mergesSlotAndOverflowForSameSecond() {
+		// given:
+		subject.track(1L, 100L);
+		subject.track(4L, 100L + numSlots);
+		subject.track(2L, 100L + numSlots);
+		// and:
+		subject.expireAllAt(100L, expired::add);
+		// and:
+		subject.track(3L, 100L + numSlots);
+		subject.track(2L, 100L + numSlots);
+
+		// when:
+		subject.expireAllAt(100L + numSlots, expired::add);
+
+		// then:
+		assertEquals(List.of(1L, 2L, 3L, 4L), expired);
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void jumpsToOverflowWhenSlotsAreEmpty() {
+		// given:
+		subject.track(1L, 100L);
+		subject.track(2L, 100L + numSlots);
+		// and:
+		subject.expireAllAt(100L, expired::add);
+
+		// when:
+		subject.expireAllAt(1_000_000L, expired::add);
+
+		// then:
+		assertEquals(List.of(1L, 2L), expired);
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void tracksEarlierExpiriesAfterLaterOnes() {
+		// given:
+		subject.track(1L, 105L);
+		subject.track(2L, 101L);
+
+		// when:
+		subject.expireAllAt(101L, expired::add);
+
+		// then:
+		assertEquals(List.of(2L), expired);
+	}
+
+	@Test
+	void growsBucketsAsNeeded() {
+		// given:
+		for (long num = 2 * NumExpiryWheel.INITIAL_BUCKET_CAPACITY; num > 0; num--) {
+			subject.track(num, 100L);
+		}
+
+		// when:
+		subject.expireAllAt(100L, expired::add);
+
+		// then:
+		assertEquals(2 * NumExpiryWheel.INITIAL_BUCKET_CAPACITY, expired.size());
+		assertEquals(1L, expired.get(0));
+	}
+
+	@Test
+	void resetForgetsEverything() {
+		// given:
+		subject.track(1L, 100L);
+		subject.track(2L, 100L + numSlots);
+
+		// when:
+		subject.reset();
+		subject.expireAllAt(Long.MAX_VALUE - 1, expired::add);
+
+		// then:
+		assertTrue(expired.isEmpty());
+		assertEquals(0, subject.numPending());
+	}
+}
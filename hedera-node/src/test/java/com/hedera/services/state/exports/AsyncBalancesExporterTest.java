@@ -0,0 +1,193 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.utils.SystemExits;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+class AsyncBalancesExporterTest {
+	Instant now = Instant.ofEpochSecond(1_234_567L);
+	Instant later = now.plusSeconds(600L);
+
+	Logger mockLog;
+	ServicesState state, laterState;
+	SystemExits systemExits;
+	MiscRunningAvgs runningAvgs;
+	BalancesExporter delegate;
+	List<Runnable> submitted;
+
+	AsyncBalancesExporter subject;
+
+	@BeforeEach
+	private void setup() {
+		mockLog = mock(Logger.class);
+		AsyncBalancesExporter.log = mockLog;
+
+		state = mock(ServicesState.class);
+		laterState = mock(ServicesState.class);
+		systemExits = mock(SystemExits.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		delegate = mock(BalancesExporter.class);
+		submitted = new ArrayList<>();
+
+		subject = new AsyncBalancesExporter(delegate, systemExits, runningAvgs, submitted::add);
+	}
+
+	@Test
+	public void delegatesIsTimeToExport() {
+		given(delegate.isTimeToExport(now)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.isTimeToExport(now));
+	}
+
+	@Test
+	public void exportsOnlyOnExportThread() {
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		verify(state).incrementReferenceCount();
+		verify(delegate, never()).toCsvFile(any(), any());
+		assertEquals(1, submitted.size());
+		verify(runningAvgs).recordBalancesExportBacklog(0);
+
+		// and when:
+		submitted.get(0).run();
+
+		// then:
+		var inOrder = inOrder(state, delegate);
+		inOrder.verify(delegate).toCsvFile(state, now);
+		inOrder.verify(state).decrementReferenceCount();
+		verify(runningAvgs).recordBalancesExportMs(anyDouble());
+	}
+
+	@Test
+	public void skipsOlderPendingExport() {
+		// when:
+		subject.toCsvFile(state, now);
+		subject.toCsvFile(laterState, later);
+
+		// then:
+		assertEquals(1, submitted.size());
+		verify(runningAvgs).recordBalancesExportBacklog(1);
+		verify(mockLog).warn(
+				"Skipping balances export of signed state @ {}, a newer state @ {} is due", now, later);
+		verify(state).decrementReferenceCount();
+		verify(laterState, never()).decrementReferenceCount();
+
+		// and when:
+		submitted.get(0).run();
+
+		// then:
+		verify(delegate, never()).toCsvFile(state, now);
+		verify(delegate).toCsvFile(laterState, later);
+		verify(laterState).decrementReferenceCount();
+	}
+
+	@Test
+	public void queuesOneExportBehindRunningExport() {
+		willAnswer(invocation -> {
+			subject.toCsvFile(laterState, later);
+			return null;
+		}).given(delegate).toCsvFile(state, now);
+
+		// given:
+		subject.toCsvFile(state, now);
+
+		// when:
+		submitted.get(0).run();
+
+		// then:
+		assertEquals(2, submitted.size());
+		verify(runningAvgs).recordBalancesExportBacklog(1);
+
+		// and when:
+		submitted.get(1).run();
+
+		// then:
+		verify(delegate).toCsvFile(laterState, later);
+	}
+
+	@Test
+	public void failsFastOnInvalidTotalBalance() {
+		willThrow(IllegalStateException.class).given(delegate).toCsvFile(state, now);
+
+		// when:
+		subject.toCsvFile(state, now);
+		submitted.get(0).run();
+
+		// then:
+		verify(mockLog).error(
+				eq("Signed state @ {} has invalid total balance, exiting!"),
+				eq(now),
+				any(IllegalStateException.class));
+		verify(systemExits).fail(1);
+		verify(state).decrementReferenceCount();
+	}
+
+	@Test
+	public void survivesUnexpectedExportFailure() {
+		willThrow(IllegalArgumentException.class).given(delegate).toCsvFile(state, now);
+
+		// when:
+		subject.toCsvFile(state, now);
+		submitted.get(0).run();
+		subject.toCsvFile(laterState, later);
+		submitted.get(1).run();
+
+		// then:
+		verify(systemExits, never()).fail(1);
+		verify(state).decrementReferenceCount();
+		verify(delegate).toCsvFile(laterState, later);
+	}
+
+	@Test
+	public void ignoresDrainedTask() {
+		// when:
+		subject.exportPending();
+
+		// then:
+		verify(delegate, never()).toCsvFile(any(), any());
+		verify(runningAvgs, never()).recordBalancesExportMs(anyDouble());
+	}
+}
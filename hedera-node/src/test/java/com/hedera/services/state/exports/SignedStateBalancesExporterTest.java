@@ -31,8 +31,10 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.utils.HederaDateTimeFormatter;
+import com.hedera.services.utils.MiscUtils;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.AllAccountBalances;
 import com.hederahashgraph.api.proto.java.TokenBalance;
 import com.hederahashgraph.api.proto.java.TokenBalances;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -50,11 +52,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 import static com.hedera.services.state.exports.SignedStateBalancesExporter.GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL;
 import static com.hedera.services.state.exports.SignedStateBalancesExporter.b64Encode;
@@ -101,7 +106,6 @@ class SignedStateBalancesExporterTest {
 	long secondNonNodeDeletedTokenBalance = 100;
 
 	byte[] sig = "not-really-a-sig".getBytes();
-	byte[] fileHash = "not-really-a-hash".getBytes();
 
 	MerkleAccount thisNodeAccount, anotherNodeAccount, firstNonNodeAccount, secondNonNodeAccount, deletedAccount;
 
@@ -115,7 +119,6 @@ class SignedStateBalancesExporterTest {
 	PropertySource properties;
 	UnaryOperator<byte[]> signer;
 	SigFileWriter sigFileWriter;
-	FileHashReader hashReader;
 	DirectoryAssurance assurance;
 
 	SignedStateBalancesExporter subject;
@@ -178,13 +181,11 @@ class SignedStateBalancesExporterTest {
 		given(state.addressBook()).willReturn(book);
 
 		signer = mock(UnaryOperator.class);
-		given(signer.apply(fileHash)).willReturn(sig);
+		given(signer.apply(any())).willReturn(sig);
 		subject = new SignedStateBalancesExporter(properties, signer, dynamicProperties);
 
 		sigFileWriter = mock(SigFileWriter.class);
-		hashReader = mock(FileHashReader.class);
 		subject.sigFileWriter = sigFileWriter;
-		subject.hashReader = hashReader;
 	}
 
 	@Test
@@ -213,7 +214,7 @@ class SignedStateBalancesExporterTest {
 		// setup:
 		var loc = expectedExportLoc();
 
-		given(hashReader.readHash(loc)).willThrow(IllegalStateException.class);
+		given(signer.apply(any())).willThrow(IllegalStateException.class);
 
 		// when:
 		subject.toCsvFile(state, now);
@@ -234,7 +235,6 @@ class SignedStateBalancesExporterTest {
 		// and:
 		var loc = expectedExportLoc();
 
-		given(hashReader.readHash(loc)).willReturn(fileHash);
 		given(sigFileWriter.writeSigFile(captor.capture(), any(), any())).willReturn(loc + "_sig");
 
 		// when:
@@ -258,7 +258,8 @@ class SignedStateBalancesExporterTest {
 					entry.getB64TokenBalances()), lines.get(i + 3));
 		}
 		// and:
-		verify(sigFileWriter).writeSigFile(loc, sig, fileHash);
+		verify(signer).apply(sha384Of(loc));
+		verify(sigFileWriter).writeSigFile(loc, sig, sha384Of(loc));
 		// and:
 		verify(mockLog).debug(String.format(GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL, loc + "_sig"));
 		// and:
@@ -279,7 +280,6 @@ class SignedStateBalancesExporterTest {
 		};
 		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties);
 		subject.sigFileWriter = sigFileWriter;
-		subject.hashReader = hashReader;
 
 		// when:
 		subject.toCsvFile(state, now);
@@ -304,16 +304,73 @@ class SignedStateBalancesExporterTest {
 		new File(expectedExportLoc()).delete();
 	}
 
+	@Test
+	public void alsoExportsBinaryFileIfConfigured() throws IOException {
+		// setup:
+		var otherDynamicProperties = new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportBinaryBalances() {
+				return true;
+			}
+		};
+		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties);
+		subject.sigFileWriter = sigFileWriter;
+		// and:
+		var pbLoc = expectedExportLoc("_Balances.pb.gz");
+
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		AllAccountBalances allBalances;
+		try (var in = new GZIPInputStream(Files.newInputStream(Paths.get(pbLoc)))) {
+			allBalances = AllAccountBalances.parseFrom(in);
+		}
+		assertEquals(MiscUtils.asTimestamp(now), allBalances.getConsensusTimestamp());
+		var expected = theExpectedBalances();
+		assertEquals(expected.size(), allBalances.getAllAccountsCount());
+		for (int i = 0; i < expected.size(); i++) {
+			var entry = expected.get(i);
+			var actual = allBalances.getAllAccounts(i);
+			assertEquals(asAccount(String.format(
+					"%d.%d.%d", entry.getShard(), entry.getRealm(), entry.getNum())), actual.getAccountID());
+			assertEquals(entry.getBalance(), actual.getHbarBalance());
+			assertEquals(
+					entry.getB64TokenBalances(),
+					actual.getTokenBalancesCount() == 0
+							? ""
+							: b64Encode(TokenBalances.newBuilder()
+									.addAllTokenBalances(actual.getTokenBalancesList())
+									.build()));
+		}
+		// and:
+		verify(sigFileWriter).writeSigFile(expectedExportLoc(), sig, sha384Of(expectedExportLoc()));
+		verify(sigFileWriter).writeSigFile(pbLoc, sig, sha384Of(pbLoc));
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(pbLoc).delete();
+	}
+
+	private byte[] sha384Of(String loc) throws IOException {
+		try {
+			return MessageDigest.getInstance("SHA-384").digest(Files.readAllBytes(Paths.get(loc)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	private String expectedExportLoc() {
+		return expectedExportLoc("_Balances.csv");
+	}
+
+	private String expectedExportLoc(String suffix) {
 		return dynamicProperties.pathToBalancesExportDir()
 				+ File.separator
 				+ "balance0.0.3"
 				+ File.separator
-				+ expectedBalancesName();
-	}
-
-	private String expectedBalancesName() {
-		return now.toString().replace(":", "_") + "_Balances.csv";
+				+ now.toString().replace(":", "_")
+				+ suffix;
 	}
 
 	@Test
@@ -27,9 +27,12 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 
 import static com.hedera.services.legacy.stream.RecordStream.TYPE_FILE_HASH;
 import static com.hedera.services.legacy.stream.RecordStream.TYPE_SIGNATURE;
@@ -40,7 +43,6 @@ class StandardSigFileWriterTest {
 	String toSign = "src/test/resources/bootstrap/standard.properties";
 	String cannotSign = "src/test/resources/oops/bootstrap/not-so-standard.properties";
 	byte[] pretendSig = "not-really-a-sig-at-all".getBytes();
-	FileHashReader hashReader = new Sha384HashReader();
 
 	SigFileWriter subject = new StandardSigFileWriter();
 
@@ -54,7 +56,7 @@ class StandardSigFileWriterTest {
 	@Test
 	public void writesExpectedFile() throws Exception {
 		// setup:
-		var hash = hashReader.readHash(toSign);
+		var hash = sha384HashOf(toSign);
 
 		// given:
 		var expectedWritten = legacy(toSign, pretendSig, hash);
@@ -71,6 +73,14 @@ class StandardSigFileWriterTest {
 		assertArrayEquals(expectedBytes, actualBytes);
 	}
 
+	private static byte[] sha384HashOf(String file) throws Exception {
+		var digest = MessageDigest.getInstance(SignedStateBalancesExporter.HASH_ALGORITHM);
+		try (var out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+			Files.copy(Paths.get(file), out);
+		}
+		return digest.digest();
+	}
+
 	public static String legacy(String fileName, byte[] signature, byte[] fileHash) throws IOException {
 			String newFileName = fileName + "_sig";
 			try (FileOutputStream output = new FileOutputStream(newFileName, false)) {
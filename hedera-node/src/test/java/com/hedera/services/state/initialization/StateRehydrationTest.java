@@ -0,0 +1,153 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StateRehydrationTest {
+	Map<String, Integer> letters = Map.of("a", 1, "b", 2, "c", 3);
+	Map<Long, String> numbers = Map.of(1L, "one", 2L, "two");
+
+	StateRehydration subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new StateRehydration();
+	}
+
+	@Test
+	void feedsEveryViewFromOneTraversalPerMap() {
+		// setup:
+		int[] letterTraversals = { 0 };
+		var sumView = new SummingView();
+		var otherSumView = new SummingView();
+		var keysView = new KeysView();
+
+		// given:
+		subject.<String, Integer>of("letters", visitor -> {
+			letterTraversals[0]++;
+			letters.forEach(visitor);
+		}, List.of(sumView, otherSumView))
+				.of("numbers", numbers::forEach, List.of(keysView));
+
+		// when:
+		subject.runOn(ForkJoinPool.commonPool());
+
+		// then:
+		assertEquals(1, letterTraversals[0]);
+		assertEquals(6, sumView.sum);
+		assertEquals(6, otherSumView.sum);
+		assertTrue(sumView.finished && otherSumView.finished);
+		// and:
+		Collections.sort(keysView.keys);
+		assertEquals(List.of(1L, 2L), keysView.keys);
+	}
+
+	@Test
+	void discardsPriorContentsBeforeRebuild() {
+		// setup:
+		var sumView = new SummingView();
+		sumView.sum = 42;
+
+		// given:
+		subject.of("letters", letters::forEach, List.of(sumView));
+
+		// when:
+		subject.runOn(ForkJoinPool.commonPool());
+
+		// then:
+		assertEquals(6, sumView.sum);
+	}
+
+	@Test
+	void skipsMapsWithNoViews() {
+		// given:
+		subject.of("letters", letters::forEach, List.<SummingView>of());
+
+		// expect:
+		assertEquals(0, subject.numPhases());
+	}
+
+	@Test
+	void propagatesFailureAsIse() {
+		// setup:
+		var brokenView = new SummingView() {
+			@Override
+			public void rebuildWith(String key, Integer value) {
+				throw new IllegalArgumentException("Not a letter!");
+			}
+		};
+
+		// given:
+		subject.of("letters", letters::forEach, List.of(brokenView));
+
+		// when:
+		var e = assertThrows(IllegalStateException.class, () -> subject.runOn(ForkJoinPool.commonPool()));
+
+		// then:
+		assertTrue(e.getCause() instanceof IllegalArgumentException);
+	}
+
+	static class SummingView implements RebuildableView<String, Integer> {
+		int sum;
+		boolean finished;
+
+		@Override
+		public void beginRebuild() {
+			sum = 0;
+		}
+
+		@Override
+		public void rebuildWith(String key, Integer value) {
+			sum += value;
+		}
+
+		@Override
+		public void finishRebuild() {
+			finished = true;
+		}
+	}
+
+	static class KeysView implements RebuildableView<Long, String> {
+		List<Long> keys = new ArrayList<>();
+
+		@Override
+		public void beginRebuild() {
+			keys.clear();
+		}
+
+		@Override
+		public void rebuildWith(Long key, String value) {
+			keys.add(key);
+		}
+	}
+}
@@ -24,6 +24,8 @@ import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
+import com.hedera.services.stats.HandleLatencies;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -35,6 +37,9 @@ import org.mockito.InOrder;
 import java.time.Instant;
 import java.util.function.BiConsumer;
 
+import static com.hedera.services.stats.HandleStage.COMMIT;
+import static com.hedera.services.stats.HandleStage.RECORD_STREAMING;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
@@ -57,7 +62,9 @@ class ServicesTxnManagerTest {
 
 	HederaLedger ledger;
 	RecordCache recordCache;
+	RecentlyCreatedAccounts recentCreations;
 	TransactionContext txnCtx;
+	HandleLatencies latencies;
 	ServicesContext ctx;
 
 	ServicesTxnManager subject;
@@ -65,9 +72,11 @@ class ServicesTxnManagerTest {
 	@BeforeEach
 	public void setup() {
 		accessor = mock(PlatformTxnAccessor.class);
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
 
 		processLogic = mock(Runnable.class);
 		recordCache = mock(RecordCache.class);
+		recentCreations = mock(RecentlyCreatedAccounts.class);
 		recordStreaming = mock(Runnable.class);
 		warning = mock(BiConsumer.class);
 
@@ -75,17 +84,20 @@ class ServicesTxnManagerTest {
 
 		ledger = mock(HederaLedger.class);
 		txnCtx = mock(TransactionContext.class);
+		latencies = mock(HandleLatencies.class);
 		ctx = mock(ServicesContext.class);
+		given(ctx.handleLatencies()).willReturn(latencies);
 		given(ctx.ledger()).willReturn(ledger);
 		given(ctx.txnCtx()).willReturn(txnCtx);
 		given(txnCtx.effectivePayer()).willReturn(effectivePayer);
 		given(ctx.recordCache()).willReturn(recordCache);
+		given(ctx.recentCreations()).willReturn(recentCreations);
 	}
 
 	@Test
 	public void managesHappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recordStreaming);
+		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recentCreations, recordStreaming);
 
 		// when:
 		subject.process(accessor, consensusTime, submittingMember, ctx);
@@ -95,7 +107,25 @@ class ServicesTxnManagerTest {
 		inOrder.verify(txnCtx).resetFor(accessor, consensusTime, submittingMember);
 		inOrder.verify(processLogic).run();
 		inOrder.verify(ledger).commit();
+		inOrder.verify(recentCreations).commitPending();
 		inOrder.verify(recordStreaming).run();
+		verify(recentCreations, never()).rollbackPending();
+	}
+
+	@Test
+	public void recordsCommitAndStreamingLatencies() {
+		// setup:
+		InOrder inOrder = inOrder(ledger, recordStreaming, latencies);
+
+		// when:
+		subject.process(accessor, consensusTime, submittingMember, ctx);
+
+		// then:
+		inOrder.verify(ledger).commit();
+		inOrder.verify(latencies).recordSince(anyLong(), argThat(CryptoTransfer::equals), argThat(COMMIT::equals));
+		inOrder.verify(recordStreaming).run();
+		inOrder.verify(latencies).recordSince(
+				anyLong(), argThat(CryptoTransfer::equals), argThat(RECORD_STREAMING::equals));
 	}
 
 	@Test
@@ -130,7 +160,7 @@ class ServicesTxnManagerTest {
 	@Test
 	public void retriesRecordCreationOnCommitFailureThenRollbacks() {
 		// setup:
-		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recordStreaming, warning, recordCache);
+		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recordStreaming, warning, recordCache, recentCreations);
 
 		willThrow(IllegalStateException.class).given(ledger).commit();
 
@@ -145,7 +175,9 @@ class ServicesTxnManagerTest {
 		inOrder.verify(warning).accept(any(IllegalStateException.class), argThat("txn commit"::equals));
 		inOrder.verify(recordCache).setFailInvalid(effectivePayer, accessor, consensusTime, submittingMember);
 		inOrder.verify(ledger).rollback();
+		inOrder.verify(recentCreations).rollbackPending();
 		inOrder.verify(recordStreaming, never()).run();
+		verify(recentCreations, never()).commitPending();
 	}
 
 	@Test
@@ -120,6 +120,20 @@ class MerkleBlobMetaTest {
 		assertEquals(two.hashCode(), three.hashCode());
 	}
 
+	@Test
+	public void hashCodeTracksPathChanges() {
+		// given:
+		var subject = new MerkleBlobMeta(path);
+		var before = subject.hashCode();
+
+		// when:
+		subject.setPath(path + "1");
+
+		// then:
+		assertNotEquals(before, subject.hashCode());
+		assertEquals(new MerkleBlobMeta(path + "1").hashCode(), subject.hashCode());
+	}
+
 	@Test
 	public void toStringWorks() {
 		// expect:
@@ -0,0 +1,164 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.SLOT_BYTES;
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.indexKeyFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
+import static org.mockito.BDDMockito.mock;
+
+class MerkleContractSlotKeyTest {
+	long shard = 1, realm = 2, num = 1_234L;
+	byte[] slot = "Not a real slot but close enough".getBytes();
+
+	MerkleContractSlotKey subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new MerkleContractSlotKey(shard, realm, num, slot);
+	}
+
+	@Test
+	public void objectContractMet() {
+		// given:
+		var one = new MerkleContractSlotKey();
+		var two = new MerkleContractSlotKey(shard + 1, realm, num, slot);
+		var three = new MerkleContractSlotKey(shard, realm + 1, num, slot);
+		var four = new MerkleContractSlotKey(shard, realm, num + 1, slot);
+		var five = new MerkleContractSlotKey(shard, realm, num, "Something else, also 32 bytes...".getBytes());
+		var six = new MerkleContractSlotKey(shard, realm, num, slot.clone());
+
+		// then:
+		assertNotEquals(one, null);
+		assertNotEquals(one, new Object());
+		assertNotEquals(subject, two);
+		assertNotEquals(subject, three);
+		assertNotEquals(subject, four);
+		assertNotEquals(subject, five);
+		assertNotEquals(subject, indexKeyFor(shard, realm, num));
+		assertEquals(subject, six);
+		// and:
+		assertNotEquals(one.hashCode(), two.hashCode());
+		assertEquals(subject.hashCode(), six.hashCode());
+	}
+
+	@Test
+	public void rejectsMisSizedSlot() {
+		// expect:
+		assertThrows(IllegalArgumentException.class,
+				() -> new MerkleContractSlotKey(shard, realm, num, new byte[SLOT_BYTES - 1]));
+	}
+
+	@Test
+	public void indexKeyHasEmptySlot() {
+		// given:
+		var indexKey = indexKeyFor(shard, realm, num);
+
+		// expect:
+		assertTrue(indexKey.isIndex());
+		assertFalse(subject.isIndex());
+		assertEquals(0, indexKey.getSlot().length);
+	}
+
+	@Test
+	public void merkleMethodsWork() {
+		// expect;
+		assertEquals(MerkleContractSlotKey.MERKLE_VERSION, subject.getVersion());
+		assertEquals(MerkleContractSlotKey.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
+		assertTrue(subject.isLeaf());
+	}
+
+	@Test
+	public void serializeWorks() throws IOException {
+		// setup:
+		var out = mock(SerializableDataOutputStream.class);
+		// and:
+		InOrder inOrder = inOrder(out);
+
+		// when:
+		subject.serialize(out);
+
+		// then:
+		inOrder.verify(out).writeLong(shard);
+		inOrder.verify(out).writeLong(realm);
+		inOrder.verify(out).writeLong(num);
+		inOrder.verify(out).writeByteArray(slot);
+	}
+
+	@Test
+	public void deserializeWorks() throws IOException {
+		// setup:
+		var in = mock(SerializableDataInputStream.class);
+		// and:
+		var defaultSubject = new MerkleContractSlotKey();
+
+		given(in.readLong()).willReturn(shard).willReturn(realm).willReturn(num);
+		given(in.readByteArray(SLOT_BYTES)).willReturn(slot);
+
+		// when:
+		defaultSubject.deserialize(in, MerkleContractSlotKey.MERKLE_VERSION);
+
+		// then:
+		assertEquals(subject, defaultSubject);
+	}
+
+	@Test
+	public void toStringWorks() {
+		// expect:
+		assertEquals(
+				"MerkleContractSlotKey{id=1.2.1234, slot=" + Hex.encodeHexString(slot) + "}",
+				subject.toString());
+		assertEquals(
+				"MerkleContractSlotKey{id=1.2.1234, slot=<index>}",
+				indexKeyFor(shard, realm, num).toString());
+	}
+
+	@Test
+	public void copyWorks() {
+		// when:
+		var subjectCopy = subject.copy();
+
+		// then:
+		assertNotSame(subjectCopy, subject);
+		assertEquals(subject, subjectCopy);
+		assertEquals(shard, subjectCopy.getShard());
+		assertEquals(realm, subjectCopy.getRealm());
+		assertEquals(num, subjectCopy.getNum());
+		assertArrayEquals(slot, subjectCopy.getSlot());
+	}
+}
@@ -0,0 +1,135 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.hedera.services.state.merkle.MerkleContractSlot.MAX_DATA_BYTES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+
+class MerkleContractSlotTest {
+	byte[] data = "Not a real slot but close enough".getBytes();
+
+	MerkleContractSlot subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new MerkleContractSlot(data);
+	}
+
+	@Test
+	public void objectContractMet() {
+		// given:
+		var one = new MerkleContractSlot();
+		var two = new MerkleContractSlot("Something else".getBytes());
+		var three = new MerkleContractSlot(data.clone());
+
+		// then:
+		assertNotEquals(one, null);
+		assertNotEquals(one, new Object());
+		assertNotEquals(subject, two);
+		assertEquals(subject, three);
+		// and:
+		assertNotEquals(one.hashCode(), two.hashCode());
+		assertEquals(subject.hashCode(), three.hashCode());
+	}
+
+	@Test
+	public void comparesAgainstSourceRange() {
+		// given:
+		var source = new byte[data.length + 2];
+		System.arraycopy(data, 0, source, 1, data.length);
+
+		// expect:
+		assertTrue(subject.hasSameData(source, 1, data.length));
+		assertFalse(subject.hasSameData(source, 0, data.length));
+		assertFalse(subject.hasSameData(source, 1, data.length - 1));
+	}
+
+	@Test
+	public void merkleMethodsWork() {
+		// expect;
+		assertEquals(MerkleContractSlot.MERKLE_VERSION, subject.getVersion());
+		assertEquals(MerkleContractSlot.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
+		assertTrue(subject.isLeaf());
+	}
+
+	@Test
+	public void serializeWorks() throws IOException {
+		// setup:
+		var out = mock(SerializableDataOutputStream.class);
+
+		// when:
+		subject.serialize(out);
+
+		// then:
+		verify(out).writeByteArray(data);
+	}
+
+	@Test
+	public void deserializeWorks() throws IOException {
+		// setup:
+		var in = mock(SerializableDataInputStream.class);
+		// and:
+		var defaultSubject = new MerkleContractSlot();
+
+		given(in.readByteArray(MAX_DATA_BYTES)).willReturn(data);
+
+		// when:
+		defaultSubject.deserialize(in, MerkleContractSlot.MERKLE_VERSION);
+
+		// then:
+		assertEquals(subject, defaultSubject);
+	}
+
+	@Test
+	public void toStringWorks() {
+		// expect:
+		assertEquals(
+				"MerkleContractSlot{data=" + Hex.encodeHexString(data) + "}",
+				subject.toString());
+	}
+
+	@Test
+	public void copyWorks() {
+		// when:
+		var subjectCopy = subject.copy();
+
+		// then:
+		assertNotSame(subjectCopy, subject);
+		assertEquals(subject, subjectCopy);
+		assertArrayEquals(data, subjectCopy.getData());
+	}
+}
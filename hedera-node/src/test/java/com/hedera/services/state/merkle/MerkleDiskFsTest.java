@@ -29,7 +29,7 @@ import com.swirlds.common.CommonUtils;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.SerializableDataInputStream;
 import com.swirlds.common.io.SerializableDataOutputStream;
-import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -46,16 +46,22 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.utils.EntityIdUtils.asLiteralString;
 import static com.hedera.test.utils.IdUtils.asFile;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -74,6 +80,9 @@ public class MerkleDiskFsTest {
 
 	MerkleDiskFs.ThrowingBytesGetter getter;
 	MerkleDiskFs.ThrowingBytesWriter writer;
+	MerkleDiskFs.ThrowingBytesWriter appender;
+	MerkleDiskFs.ThrowingDigestGetter digester;
+	Executor hashCheckThread = MerkleDiskFs.hashCheckThread;
 
 	@BeforeEach
 	private void setup() throws Exception {
@@ -91,14 +100,23 @@ public class MerkleDiskFsTest {
 		MerkleDiskFs.bytesHelper = getter;
 		writer = mock(MerkleDiskFs.ThrowingBytesWriter.class);
 		MerkleDiskFs.writeHelper = writer;
+		appender = mock(MerkleDiskFs.ThrowingBytesWriter.class);
+		MerkleDiskFs.appendHelper = appender;
+		digester = mock(MerkleDiskFs.ThrowingDigestGetter.class);
+		MerkleDiskFs.digestHelper = digester;
 
 		given(getter.allBytesFrom(subject.pathToContentsOf(file150))).willReturn(origContents);
+		given(digester.digestOf(subject.pathToContentsOf(file150))).willAnswer(invocation -> digestOf(origContents));
 	}
 
 	@AfterEach
 	private void cleanup() {
-		MerkleDiskFs.writeHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c);
-		MerkleDiskFs.bytesHelper = p -> FileUtils.readFileToByteArray(p.toFile());
+		MerkleDiskFs.writeHelper = MerkleDiskFs::replaceAllBytes;
+		MerkleDiskFs.appendHelper = MerkleDiskFs::appendAllBytes;
+		MerkleDiskFs.bytesHelper = MerkleDiskFs::mappedBytesFrom;
+		MerkleDiskFs.digestHelper = MerkleDiskFs::streamedDigestOf;
+		MerkleDiskFs.hashCheckThread = hashCheckThread;
+		MerkleDiskFs.log = LogManager.getLogger(MerkleDiskFs.class);
 	}
 
 	@Test
@@ -110,12 +128,31 @@ public class MerkleDiskFsTest {
 		String tmpBase = MOCK_DISKFS_DIR + File.separator + "a" + File.separator + "b" + File.separator;
 		Path tmpLoc = Paths.get(tmpBase + "c.txt");
 		byte[] tmpMsg = "Testing-1-2-3".getBytes();
+		byte[] tmpMore = "-4-5-6".getBytes();
 
 		// when:
 		MerkleDiskFs.writeHelper.allBytesTo(tmpLoc, tmpMsg);
 
 		// then:
 		assertArrayEquals(tmpMsg, MerkleDiskFs.bytesHelper.allBytesFrom(tmpLoc));
+		assertFalse(Files.exists(Paths.get(tmpBase + "c.txt" + MerkleDiskFs.TEMP_FILE_SUFFIX)));
+
+		// and when:
+		MerkleDiskFs.appendHelper.allBytesTo(tmpLoc, tmpMore);
+
+		// then:
+		assertArrayEquals(
+				(new String(tmpMsg) + new String(tmpMore)).getBytes(),
+				MerkleDiskFs.bytesHelper.allBytesFrom(tmpLoc));
+		assertArrayEquals(
+				noThrowSha384HashOf((new String(tmpMsg) + new String(tmpMore)).getBytes()),
+				MerkleDiskFs.digestHelper.digestOf(tmpLoc).digest());
+
+		// and when:
+		MerkleDiskFs.writeHelper.allBytesTo(tmpLoc, tmpMore);
+
+		// then:
+		assertArrayEquals(tmpMore, MerkleDiskFs.bytesHelper.allBytesFrom(tmpLoc));
 
 		// cleanup:
 		tmpLoc.toFile().delete();
@@ -152,6 +189,126 @@ public class MerkleDiskFsTest {
 		verify(writer).allBytesTo(subject.pathToContentsOf(file150), origContents);
 	}
 
+	@Test
+	public void checkLogsMismatchedHash() throws IOException {
+		// setup:
+		MerkleDiskFs.log = mock(Logger.class);
+
+		given(digester.digestOf(subject.pathToContentsOf(file150))).willAnswer(invocation -> digestOf(newContents));
+
+		// when:
+		subject.checkHashesAgainstDiskContents();
+
+		// then:
+		verify(MerkleDiskFs.log).error(
+				any(String.class),
+				argThat(asLiteralString(file150)::equals),
+				argThat(CommonUtils.hex(origFileHash)::equals),
+				argThat(CommonUtils.hex(newFileHash)::equals));
+	}
+
+	@Test
+	public void checksHashesInBackground() throws IOException {
+		// setup:
+		var background = new AtomicReference<Runnable>();
+		MerkleDiskFs.hashCheckThread = background::set;
+		MerkleDiskFs.log = mock(Logger.class);
+
+		// when:
+		subject.checkHashesAgainstDiskContentsInBackground();
+
+		// then:
+		verify(digester, never()).digestOf(any());
+
+		// and when:
+		background.get().run();
+
+		// then:
+		verify(digester).digestOf(subject.pathToContentsOf(file150));
+		verify(MerkleDiskFs.log, never()).error(any(String.class), any(), any(), any());
+	}
+
+	@Test
+	public void backgroundCheckSurvivesUnexpectedFailure() throws IOException {
+		// setup:
+		MerkleDiskFs.hashCheckThread = Runnable::run;
+		MerkleDiskFs.log = mock(Logger.class);
+
+		given(digester.digestOf(any())).willThrow(IllegalStateException.class);
+
+		// when:
+		subject.checkHashesAgainstDiskContentsInBackground();
+
+		// then:
+		verify(MerkleDiskFs.log).warn(any(String.class), any(IllegalStateException.class));
+	}
+
+	@Test
+	public void diskContentHashOfUnreadableIsEmptyHash() throws IOException {
+		given(digester.digestOf(any())).willThrow(IOException.class);
+
+		// expect:
+		assertArrayEquals(noThrowSha384HashOf(new byte[0]), subject.diskContentHash(file150));
+	}
+
+	@Test
+	public void appendSeedsRunningDigestFromDisk() throws IOException {
+		// setup:
+		var fullContents = (new String(origContents) + new String(newContents)).getBytes();
+
+		// when:
+		subject.append(file150, newContents);
+
+		// then:
+		verify(appender).allBytesTo(subject.pathToContentsOf(file150), newContents);
+		verify(digester).digestOf(subject.pathToContentsOf(file150));
+		assertArrayEquals(hashWithFileHash(noThrowSha384HashOf(fullContents)), subject.getHash().getValue());
+	}
+
+	@Test
+	public void appendReusesRunningDigestFromPut() throws IOException {
+		// setup:
+		var fullContents = (new String(newContents) + new String(origContents) + new String(newContents)).getBytes();
+
+		// when:
+		subject.put(file150, newContents);
+		subject.copy().append(file150, origContents);
+		// and:
+		var copy = subject.copy();
+		copy.append(file150, newContents);
+
+		// then:
+		verify(digester, never()).digestOf(any());
+		assertArrayEquals(hashWithFileHash(noThrowSha384HashOf(fullContents)), copy.getHash().getValue());
+	}
+
+	@Test
+	public void failedAppendDropsRunningDigest() throws IOException {
+		// setup:
+		MerkleDiskFs.log = mock(Logger.class);
+
+		willThrow(IOException.class).given(appender).allBytesTo(any(), any());
+
+		// when:
+		subject.put(file150, newContents);
+		subject.append(file150, origContents);
+
+		// then:
+		assertArrayEquals(hashWithFileHash(newFileHash), subject.getHash().getValue());
+		// and when:
+		willDoNothing().given(appender).allBytesTo(any(), any());
+		subject.append(file150, origContents);
+
+		// then:
+		verify(digester).digestOf(subject.pathToContentsOf(file150));
+	}
+
+	@Test
+	public void sizeOfMissingIsZero() {
+		// expect:
+		assertEquals(0L, subject.sizeOf(file150));
+	}
+
 	@Test
 	public void putChangesHash() throws IOException {
 		// when:
@@ -308,6 +465,12 @@ public class MerkleDiskFsTest {
 		assertEquals(new Hash(noThrowSha384HashOf(new byte[0])), new MerkleDiskFs().getHash());
 	}
 
+	private MessageDigest digestOf(byte[] contents) {
+		var digest = MerkleDiskFs.sha384Digest();
+		digest.update(contents);
+		return digest;
+	}
+
 	private byte[] hashWithOrigContents() {
 		return hashWithFileHash(origFileHash);
 	}
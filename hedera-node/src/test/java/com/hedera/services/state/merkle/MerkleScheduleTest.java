@@ -57,6 +57,8 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class MerkleScheduleTest {
     final int TX_BYTES = 64;
@@ -69,6 +71,7 @@ public class MerkleScheduleTest {
     Set<JKey> signers, otherSigners;
 
     boolean isDeleted = true, otherIsDeleted = false;
+    long expiry = 1_234_567L, otherExpiry = 1_234_568L;
 
     MerkleSchedule subject;
     MerkleSchedule other;
@@ -126,6 +129,7 @@ public class MerkleScheduleTest {
         // expect:
         assertEquals(transactionBody, subject.transactionBody());
         assertEquals(isDeleted, subject.isDeleted());
+        assertEquals(expiry, subject.expiry());
         assertEquals(signers, subject.signers());
         assertEquals(payer, subject.payer());
         assertEquals(schedulingAccount, subject.schedulingAccount());
@@ -174,6 +178,7 @@ public class MerkleScheduleTest {
         inOrder.verify(serdes).serializeKey(signer2, out);
         inOrder.verify(serdes).writeNullable(
                 argThat(adminKey::equals), argThat(out::equals), any(IoWritingConsumer.class));
+        inOrder.verify(out).writeLong(expiry);
     }
 
     @Test
@@ -188,7 +193,8 @@ public class MerkleScheduleTest {
         given(fin.readBoolean())
                 .willReturn(subject.isDeleted());
         given(fin.readLong())
-                .willReturn(schedulingTXValidStart.getSeconds());
+                .willReturn(schedulingTXValidStart.getSeconds())
+                .willReturn(expiry);
         given(fin.readInt())
                 .willReturn(transactionBody.length)
                 .willReturn(schedulingTXValidStart.getNanos())
@@ -207,12 +213,64 @@ public class MerkleScheduleTest {
         var read = new MerkleSchedule();
 
         // when:
-        read.deserialize(fin, MerkleToken.MERKLE_VERSION);
+        read.deserialize(fin, MerkleSchedule.MERKLE_VERSION);
 
         // then:
         assertEquals(subject, read);
     }
 
+    @Test
+    public void legacyDeserializeUsesValidStartAsExpiry() throws IOException {
+        // setup:
+        SerializableDataInputStream fin = mock(SerializableDataInputStream.class);
+
+        given(serdes.readNullable(argThat(fin::equals), any(IoReadingFunction.class)))
+                .willReturn(adminKey);
+        given(fin.readBoolean())
+                .willReturn(subject.isDeleted());
+        given(fin.readLong())
+                .willReturn(schedulingTXValidStart.getSeconds());
+        given(fin.readInt())
+                .willReturn(transactionBody.length)
+                .willReturn(schedulingTXValidStart.getNanos())
+                .willReturn(signers.size());
+        given(fin.readByteArray(transactionBody.length))
+                .willReturn(transactionBody);
+        given(serdes.deserializeKey(fin))
+                .willReturn(signer1)
+                .willReturn(signer2);
+        given(serdes.readNullableSerializable(any()))
+                .willReturn(payer);
+        given(fin.readSerializable())
+                .willReturn(schedulingAccount);
+
+        // and:
+        var read = new MerkleSchedule();
+
+        // when:
+        read.deserialize(fin, MerkleSchedule.RELEASE_0100_VERSION);
+
+        // then:
+        assertFalse(read.hasExpiry());
+        assertEquals(MerkleSchedule.UNKNOWN_EXPIRY, read.expiry());
+        verify(fin, times(1)).readLong();
+    }
+
+    @Test
+    public void failDifferentExpiry() {
+        // given:
+        other = new MerkleSchedule(transactionBody, schedulingAccount, schedulingTXValidStart);
+        setOptionalElements(other);
+
+        // when:
+        other.setExpiry(otherExpiry);
+
+        // expect:
+        assertNotEquals(subject, other);
+        // and:
+        assertNotEquals(subject.hashCode(), other.hashCode());
+    }
+
     @Test
     public void failDifferentTransactionBody() {
         // given:
@@ -330,6 +388,7 @@ public class MerkleScheduleTest {
         // expect:
         assertEquals("MerkleSchedule{" +
                     "deleted=" + isDeleted + ", " +
+                    "expiry=" + expiry + ", " +
                     "transactionBody=" + hex(transactionBody) + ", " +
                     "payer=" + payer.toAbbrevString() + ", " +
                     "schedulingAccount=" + schedulingAccount + ", " +
@@ -406,6 +465,7 @@ public class MerkleScheduleTest {
         schedule.setPayer(payer);
         schedule.setDeleted(isDeleted);
         schedule.setAdminKey(adminKey);
+        schedule.setExpiry(expiry);
     }
 
     private String signersToString() {
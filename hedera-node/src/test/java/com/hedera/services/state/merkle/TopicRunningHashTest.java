@@ -0,0 +1,137 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class TopicRunningHashTest {
+	SplittableRandom r = new SplittableRandom(1_234_567L);
+
+	@Test
+	public void matchesObjectStreamPreimageForRandomInputs() throws IOException {
+		for (int i = 0; i < 1_000; i++) {
+			// given:
+			var runningHash = randomBytes((i % 10 == 0) ? r.nextInt(300) : RUNNING_HASH_BYTE_ARRAY_SIZE);
+			var message = randomBytes(r.nextInt(4_096));
+			var payer = AccountID.newBuilder()
+					.setShardNum(r.nextLong())
+					.setRealmNum(r.nextLong())
+					.setAccountNum(r.nextLong())
+					.build();
+			var topicId = TopicID.newBuilder()
+					.setShardNum(r.nextLong())
+					.setRealmNum(r.nextLong())
+					.setTopicNum(r.nextLong())
+					.build();
+			var consensusTime = Instant.ofEpochSecond(r.nextLong(Instant.MAX.getEpochSecond()), r.nextInt(1_000_000_000));
+			var sequenceNumber = r.nextLong();
+
+			// expect:
+			assertArrayEquals(
+					legacyRunningHash(runningHash, payer, topicId, consensusTime, sequenceNumber, message),
+					TopicRunningHash.next(runningHash, payer, topicId, consensusTime, sequenceNumber, message));
+		}
+	}
+
+	@Test
+	public void matchesObjectStreamPreimageForDefaults() throws IOException {
+		// given:
+		var runningHash = new byte[RUNNING_HASH_BYTE_ARRAY_SIZE];
+		var message = new byte[0];
+		var payer = AccountID.getDefaultInstance();
+		var topicId = TopicID.getDefaultInstance();
+		var consensusTime = Instant.ofEpochSecond(0);
+
+		// expect:
+		assertArrayEquals(
+				legacyRunningHash(runningHash, payer, topicId, consensusTime, 1L, message),
+				TopicRunningHash.next(runningHash, payer, topicId, consensusTime, 1L, message));
+	}
+
+	@Test
+	public void returnsFreshArrays() {
+		// given:
+		var runningHash = new byte[RUNNING_HASH_BYTE_ARRAY_SIZE];
+		var payer = AccountID.getDefaultInstance();
+		var topicId = TopicID.getDefaultInstance();
+		var consensusTime = Instant.ofEpochSecond(0);
+
+		// when:
+		var a = TopicRunningHash.next(runningHash, payer, topicId, consensusTime, 1L, "A".getBytes());
+		var b = TopicRunningHash.next(runningHash, payer, topicId, consensusTime, 1L, "A".getBytes());
+
+		// then:
+		assertNotSame(a, b);
+		assertArrayEquals(a, b);
+		assertEquals(RUNNING_HASH_BYTE_ARRAY_SIZE, a.length);
+	}
+
+	private byte[] randomBytes(int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) r.nextInt(256);
+		}
+		return bytes;
+	}
+
+	/* The running hash computation used up to and including release 0.11.0 */
+	static byte[] legacyRunningHash(
+			byte[] runningHash,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTimestamp,
+			long sequenceNumber,
+			byte[] message
+	) throws IOException {
+		var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(runningHash);
+			out.writeLong(RUNNING_HASH_VERSION);
+			out.writeLong(payer.getShardNum());
+			out.writeLong(payer.getRealmNum());
+			out.writeLong(payer.getAccountNum());
+			out.writeLong(topicId.getShardNum());
+			out.writeLong(topicId.getRealmNum());
+			out.writeLong(topicId.getTopicNum());
+			out.writeLong(consensusTimestamp.getEpochSecond());
+			out.writeInt(consensusTimestamp.getNano());
+			out.writeLong(sequenceNumber);
+			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
+			out.flush();
+			return CommonUtils.noThrowSha384HashOf(boas.toByteArray());
+		}
+	}
+}
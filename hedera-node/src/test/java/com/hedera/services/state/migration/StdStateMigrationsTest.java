@@ -0,0 +1,177 @@
+package com.hedera.services.state.migration;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.ServicesContext;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.sources.ContractSlotStorageMap;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleContractSlot;
+import com.hedera.services.state.merkle.MerkleContractSlotKey;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.utils.Pause;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hedera.services.state.merkle.MerkleContractSlotKey.SLOT_BYTES;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+class StdStateMigrationsTest {
+	String storagePath = "/0/d1234";
+	String bytecodePath = "/0/s1234";
+	/* Two slots, 0x..01 -> 0x..02 and 0x..03 -> 0x..04 */
+	byte[] storage = storageWithLastBytes(1, 2, 3, 4);
+	byte[] bytecode = "Not really bytecode".getBytes();
+
+	long validStart = 1_234_567L;
+	int scheduleLifetime = 1_800;
+	MerkleEntityId legacyScheduleId = new MerkleEntityId(0, 0, 1001);
+	MerkleEntityId scheduleId = new MerkleEntityId(0, 0, 1002);
+
+	Pause pause;
+	GlobalDynamicProperties dynamicProperties;
+	ServicesContext ctx;
+	Map<String, byte[]> blobs;
+	FCMap<MerkleBlobMeta, MerkleOptionalBlob> legacyStorage;
+	FCMap<MerkleContractSlotKey, MerkleContractSlot> slots;
+	FCMap<MerkleEntityId, MerkleSchedule> schedules;
+
+	StdStateMigrations subject;
+
+	@BeforeEach
+	private void setup() {
+		pause = mock(Pause.class);
+		legacyStorage = mock(FCMap.class);
+		given(legacyStorage.keySet()).willReturn(Set.of(
+				new MerkleBlobMeta(storagePath),
+				new MerkleBlobMeta(bytecodePath)));
+		blobs = new HashMap<>();
+		blobs.put(storagePath, storage);
+		blobs.put(bytecodePath, bytecode);
+		slots = new FCMap<>();
+		schedules = new FCMap<>();
+		dynamicProperties = mock(GlobalDynamicProperties.class);
+		given(dynamicProperties.scheduledTxExpiryTimeSecs()).willReturn(scheduleLifetime);
+
+		ctx = mock(ServicesContext.class);
+		given(ctx.schedules()).willReturn(schedules);
+		given(ctx.globalDynamicProperties()).willReturn(dynamicProperties);
+		given(ctx.storage()).willReturn(legacyStorage);
+		given(ctx.blobStore()).willReturn(blobs);
+		given(ctx.contractStorage()).willReturn(slots);
+
+		subject = new StdStateMigrations(pause);
+	}
+
+	@Test
+	public void movesLegacyStorageIntoSlots() {
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertArrayEquals(storage, new ContractSlotStorageMap(() -> slots).get(asSolidityAddress(0, 0, 1234)));
+		assertFalse(blobs.containsKey(storagePath));
+		// and:
+		assertEquals(1, blobs.size());
+		assertArrayEquals(bytecode, blobs.get(bytecodePath));
+	}
+
+	@Test
+	public void isNoopWithoutLegacyStorage() {
+		given(legacyStorage.keySet()).willReturn(Set.of(new MerkleBlobMeta(bytecodePath)));
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertTrue(slots.isEmpty());
+		verify(ctx, never()).blobStore();
+	}
+
+	@Test
+	public void setsExpiryOfLegacySchedules() {
+		// setup:
+		var current = schedule();
+		current.setExpiry(validStart + 1);
+
+		// given:
+		schedules.put(legacyScheduleId, schedule());
+		schedules.put(scheduleId, current);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertEquals(validStart + scheduleLifetime, schedules.get(legacyScheduleId).expiry());
+		assertEquals(validStart + 1, schedules.get(scheduleId).expiry());
+	}
+
+	@Test
+	public void leavesSchedulesAloneIfAllHaveExpiry() {
+		// setup:
+		var current = schedule();
+		current.setExpiry(validStart + 1);
+
+		// given:
+		schedules.put(scheduleId, current);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertEquals(validStart + 1, schedules.get(scheduleId).expiry());
+		verify(ctx, never()).globalDynamicProperties();
+	}
+
+	private MerkleSchedule schedule() {
+		var schedule = new MerkleSchedule(
+				"Not really a body".getBytes(),
+				new EntityId(0, 0, 2),
+				new RichInstant(validStart, 0));
+		schedule.setPayer(new EntityId(0, 0, 2));
+		return schedule;
+	}
+
+	private static byte[] storageWithLastBytes(int... lastBytes) {
+		var words = new byte[lastBytes.length * SLOT_BYTES];
+		for (int i = 0; i < lastBytes.length; i++) {
+			words[(i + 1) * SLOT_BYTES - 1] = (byte) lastBytes[i];
+		}
+		return words;
+	}
+}
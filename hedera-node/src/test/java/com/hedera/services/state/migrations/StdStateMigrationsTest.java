@@ -23,10 +23,12 @@ package com.hedera.services.state.migrations;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.state.migration.StdStateMigrations;
 import com.hedera.services.utils.Pause;
+import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 
 public class StdStateMigrationsTest {
@@ -37,6 +39,8 @@ public class StdStateMigrationsTest {
 	@BeforeEach
 	private void setup() {
 		ctx = mock(ServicesContext.class);
+		given(ctx.storage()).willReturn(new FCMap<>());
+		given(ctx.schedules()).willReturn(new FCMap<>());
 		pause = mock(Pause.class);
 		subject = new StdStateMigrations(pause);
 	}
@@ -0,0 +1,132 @@
+package com.hedera.services.state.serdes;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.MISC_ACCOUNT_KT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class JKeyPoolTest {
+	JKeyPool subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new JKeyPool();
+	}
+
+	@Test
+	void sharesKeysWithSameSerializedForm() throws Exception {
+		// setup:
+		var keyIn = COMPLEX_KEY_ACCOUNT_KT.asJKey();
+		byte[] repr = keyIn.serialize();
+
+		// when:
+		var a = subject.readInterned(streamOf(repr));
+		var b = subject.readInterned(streamOf(repr));
+
+		// then:
+		assertSame(a, b);
+		assertEquals(JKey.mapJKey(keyIn), JKey.mapJKey(a));
+		assertEquals(1, subject.numInterned());
+	}
+
+	@Test
+	void distinguishesKeysWithDifferentSerializedForms() throws Exception {
+		// when:
+		var a = subject.readInterned(streamOf(COMPLEX_KEY_ACCOUNT_KT.asJKey().serialize()));
+		var b = subject.readInterned(streamOf(MISC_ACCOUNT_KT.asJKey().serialize()));
+
+		// then:
+		assertNotSame(a, b);
+		assertEquals(2, subject.numInterned());
+	}
+
+	@Test
+	void reusesReadBytesAsSerializedForm() throws Exception {
+		// setup:
+		byte[] repr = COMPLEX_KEY_ACCOUNT_KT.asJKey().serialize();
+
+		// given:
+		var key = subject.readInterned(streamOf(repr));
+
+		// expect:
+		assertArrayEquals(repr, subject.serializedFormOf(key));
+		assertSame(subject.serializedFormOf(key), subject.serializedFormOf(key));
+	}
+
+	@Test
+	void serializesEachInstanceOnce() throws IOException {
+		// setup:
+		var key = mock(JKey.class);
+		byte[] repr = "NOT-REALLY-A-KEY".getBytes();
+
+		given(key.serialize()).willReturn(repr);
+
+		// when:
+		subject.serializedFormOf(key);
+		var serialized = subject.serializedFormOf(key);
+
+		// then:
+		assertSame(repr, serialized);
+		verify(key, times(1)).serialize();
+	}
+
+	@Test
+	void leavesOversizeKeysToSerializer() throws IOException {
+		// setup:
+		byte[] oversize = new byte[JKeyPool.MAX_INTERNED_KEY_BYTES + 1];
+		oversize[0] = 1;
+		byte[] repr = new JEd25519Key(oversize).serialize();
+		byte[] trailing = { 42 };
+		byte[] stream = new byte[repr.length + 1];
+		System.arraycopy(repr, 0, stream, 0, repr.length);
+		System.arraycopy(trailing, 0, stream, repr.length, 1);
+		var in = streamOf(stream);
+
+		// when:
+		var key = subject.readInterned(in);
+
+		// then:
+		assertArrayEquals(oversize, key.getEd25519());
+		assertEquals(42, in.readByte());
+		assertEquals(0, subject.numInterned());
+	}
+
+	private DataInputStream streamOf(byte[] repr) {
+		return new DataInputStream(new ByteArrayInputStream(repr));
+	}
+}
@@ -268,6 +268,17 @@ class ExpirableTxnRecordTest {
 		assertEquals(subject, ExpirableTxnRecord.fromGprc(subject.asGrpc()));
 	}
 
+	@Test
+	public void buildsGrpcFormOnlyOnce() {
+		// when:
+		var first = subject.asGrpc();
+		var second = subject.asGrpc();
+
+		// then:
+		assertSame(first, second);
+		assertEquals(first, ExpirableTxnRecord.allToGrpc(List.of(subject)).get(0));
+	}
+
 	@Test
 	public void objectContractWorks() {
 		// given:
@@ -0,0 +1,177 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.Supplier;
+
+import static com.hedera.services.stats.HandleStage.CHARGING;
+import static com.hedera.services.stats.HandleStage.COMMIT;
+import static com.hedera.services.stats.LatencyHistogram.bucketOf;
+import static com.hedera.services.stats.LatencyHistogram.upperBoundOf;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class HandleLatenciesTest {
+	Logger log;
+	Platform platform;
+	CounterFactory factory;
+
+	HandleLatencies subject;
+
+	@BeforeEach
+	public void setup() {
+		HandleLatencies.allFunctions = () -> new HederaFunctionality[] {
+				CryptoTransfer,
+				TokenGetInfo,
+				NONE
+		};
+		log = mock(Logger.class);
+		HandleLatencies.log = log;
+
+		platform = mock(Platform.class);
+		factory = mock(CounterFactory.class);
+
+		subject = new HandleLatencies(factory, HederaFunctionality::toString);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		HandleLatencies.allFunctions = HederaFunctionality.class::getEnumConstants;
+		HandleLatencies.log = LogManager.getLogger(HandleLatencies.class);
+	}
+
+	@Test
+	public void registersQuantilesOfEveryStage() {
+		// setup:
+		StatEntry entry = mock(StatEntry.class);
+		var commitP99Name = String.format(HandleLatencies.STAT_NAME_TPL, "commit", "P99");
+		var commitP99Desc = String.format(HandleLatencies.STAT_DESC_TPL, "99th", "commit");
+
+		given(factory.from(anyString(), anyString(), any())).willReturn(entry);
+
+		// when:
+		subject.registerWith(platform);
+
+		// then:
+		verify(platform, times(HandleStage.values().length * 3)).addAppStatEntry(entry);
+		verify(factory).from(argThat(commitP99Name::equals), argThat(commitP99Desc::equals), any());
+	}
+
+	@Test
+	public void exposesIntervalQuantilesViaStats() {
+		// setup:
+		ArgumentCaptor<Supplier<Object>> captor = ArgumentCaptor.forClass(Supplier.class);
+		var chargingP50Name = String.format(HandleLatencies.STAT_NAME_TPL, "charging", "P50");
+
+		given(factory.from(anyString(), anyString(), any())).willReturn(mock(StatEntry.class));
+		subject.registerWith(platform);
+		verify(factory).from(argThat(chargingP50Name::equals), anyString(), captor.capture());
+
+		// given:
+		subject.record(CryptoTransfer, CHARGING, 5_000_000L);
+
+		// when:
+		subject.updateAndLog();
+
+		// then:
+		long expected = upperBoundOf(bucketOf(5_000_000L)) / 1_000L;
+		assertEquals(expected, captor.getValue().get());
+		assertEquals(expected, subject.quantileMicros(CHARGING, 0));
+
+		// and when:
+		subject.updateAndLog();
+
+		// then:
+		assertEquals(0L, subject.quantileMicros(CHARGING, 0));
+	}
+
+	@Test
+	public void logsPerFunctionQuantilesSinceLastReport() {
+		// setup:
+		ArgumentCaptor<StringBuilder> captor = ArgumentCaptor.forClass(StringBuilder.class);
+
+		// given:
+		subject.record(CryptoTransfer, COMMIT, 2_000L);
+		subject.record(CryptoTransfer, COMMIT, 2_000L);
+
+		// when:
+		subject.updateAndLog();
+
+		// then:
+		verify(log).info(eq("Handle latencies since last report ::{}"), captor.capture());
+		var report = captor.getValue().toString();
+		assertTrue(report.contains("CryptoTransfer :: commit(n=2) p50="), report);
+
+		// and when:
+		subject.updateAndLog();
+
+		// then:
+		verify(log, times(1)).info(anyString(), any(Object.class));
+	}
+
+	@Test
+	public void ignoresQueriesAndIgnoredFunctions() {
+		// when:
+		subject.record(TokenGetInfo, COMMIT, 1_000L);
+		subject.record(NONE, COMMIT, 1_000L);
+		subject.updateAndLog();
+
+		// then:
+		verify(log, never()).info(anyString(), any(Object.class));
+		assertEquals(0L, subject.quantileMicros(COMMIT, 0));
+	}
+
+	@Test
+	public void recordSinceReturnsStageEnd() {
+		// given:
+		long start = System.nanoTime();
+
+		// when:
+		long end = subject.recordSince(start, CryptoTransfer, COMMIT);
+		subject.updateAndLog();
+
+		// then:
+		assertTrue(end >= start);
+		assertTrue(subject.quantileMicros(COMMIT, 2) >= (end - start) / 1_000L);
+	}
+}
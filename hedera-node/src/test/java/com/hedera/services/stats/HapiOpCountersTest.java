@@ -106,6 +106,8 @@ class HapiOpCountersTest {
 		StatEntry transferHdl = mock(StatEntry.class);
 		StatEntry tokenInfoRcv = mock(StatEntry.class);
 		StatEntry tokenInfoAns = mock(StatEntry.class);
+		StatEntry cacheHits = mock(StatEntry.class);
+		StatEntry cacheMisses = mock(StatEntry.class);
 		// and:
 		var xferRcvName = String.format(ServicesStatsConfig.COUNTER_RECEIVED_NAME_TPL, "CryptoTransfer");
 		var xferSubName = String.format(ServicesStatsConfig.COUNTER_SUBMITTED_NAME_TPL, "CryptoTransfer");
@@ -142,6 +144,15 @@ class HapiOpCountersTest {
 				argThat(infoAnsName::equals),
 				argThat(infoAnsDesc::equals),
 				any())).willReturn(tokenInfoAns);
+		// and:
+		given(factory.from(
+				argThat(ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_HITS_NAME::equals),
+				argThat(ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_HITS_DESC::equals),
+				any())).willReturn(cacheHits);
+		given(factory.from(
+				argThat(ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_MISSES_NAME::equals),
+				argThat(ServicesStatsConfig.COUNTER_TXN_ACCESSOR_CACHE_MISSES_DESC::equals),
+				any())).willReturn(cacheMisses);
 
 		// when:
 		subject.registerWith(platform);
@@ -152,6 +163,8 @@ class HapiOpCountersTest {
 		verify(platform).addAppStatEntry(transferHdl);
 		verify(platform).addAppStatEntry(tokenInfoRcv);
 		verify(platform).addAppStatEntry(tokenInfoAns);
+		verify(platform).addAppStatEntry(cacheHits);
+		verify(platform).addAppStatEntry(cacheMisses);
 	}
 
 	@Test
@@ -216,6 +229,18 @@ class HapiOpCountersTest {
 		assertEquals(2L, subject.answeredSoFar(TokenGetInfo));
 	}
 
+	@Test
+	public void countsTxnAccessorCacheHitsAndMisses() {
+		// when:
+		subject.countTxnAccessorCacheHit();
+		subject.countTxnAccessorCacheHit();
+		subject.countTxnAccessorCacheMiss();
+
+		// then:
+		assertEquals(2L, subject.txnAccessorCacheHits.get());
+		assertEquals(1L, subject.txnAccessorCacheMisses.get());
+	}
+
 	@Test
 	public void ignoredOpsAreNoops() {
 		// expect:
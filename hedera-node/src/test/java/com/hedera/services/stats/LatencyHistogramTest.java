@@ -0,0 +1,118 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.hedera.services.stats.LatencyHistogram.NUM_BUCKETS;
+import static com.hedera.services.stats.LatencyHistogram.bucketOf;
+import static com.hedera.services.stats.LatencyHistogram.quantileOf;
+import static com.hedera.services.stats.LatencyHistogram.upperBoundOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+	LatencyHistogram subject = new LatencyHistogram();
+
+	@Test
+	public void smallValuesHaveExactBuckets() {
+		for (long v = 0; v < 8; v++) {
+			// expect:
+			assertEquals(v, bucketOf(v));
+			assertEquals(v, upperBoundOf((int) v));
+		}
+		// and:
+		assertEquals(0, bucketOf(-1));
+	}
+
+	@Test
+	public void largerValuesAreBoundedWithinAnEighth() {
+		for (long v = 8; v < (1L << 41); v = v * 3 / 2 + 1) {
+			// when:
+			long bound = upperBoundOf(bucketOf(v));
+
+			// then:
+			assertTrue(bound >= v, "Upper bound " + bound + " should be at least " + v);
+			assertTrue(bound <= v + v / 8, "Upper bound " + bound + " should be within 12.5% of " + v);
+		}
+	}
+
+	@Test
+	public void bucketsAreContiguous() {
+		for (int i = 0; i < NUM_BUCKETS - 1; i++) {
+			// expect:
+			assertEquals(i, bucketOf(upperBoundOf(i)));
+			assertEquals(i + 1, bucketOf(upperBoundOf(i) + 1));
+		}
+	}
+
+	@Test
+	public void hugeValuesLandInLastBucket() {
+		// expect:
+		assertEquals(NUM_BUCKETS - 1, bucketOf(1L << 41));
+		assertEquals(NUM_BUCKETS - 1, bucketOf(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void recordsAndCopiesCounts() {
+		// setup:
+		long[] counts = new long[NUM_BUCKETS];
+
+		// given:
+		subject.record(5);
+		subject.record(5);
+		subject.record(1_000);
+
+		// when:
+		subject.copyCountsInto(counts);
+
+		// then:
+		assertEquals(2, counts[bucketOf(5)]);
+		assertEquals(1, counts[bucketOf(1_000)]);
+		assertEquals(3, Arrays.stream(counts).sum());
+	}
+
+	@Test
+	public void computesQuantilesAsBucketUpperBounds() {
+		// setup:
+		long[] counts = new long[NUM_BUCKETS];
+
+		// given:
+		for (int i = 0; i < 99; i++) {
+			subject.record(100);
+		}
+		subject.record(1_000_000);
+		subject.copyCountsInto(counts);
+
+		// expect:
+		assertEquals(upperBoundOf(bucketOf(100)), quantileOf(counts, 100, 0.5));
+		assertEquals(upperBoundOf(bucketOf(100)), quantileOf(counts, 100, 0.99));
+		assertEquals(upperBoundOf(bucketOf(1_000_000)), quantileOf(counts, 100, 0.999));
+	}
+
+	@Test
+	public void quantileOfNothingIsZero() {
+		// expect:
+		assertEquals(0, quantileOf(new long[NUM_BUCKETS], 0, 0.5));
+	}
+}
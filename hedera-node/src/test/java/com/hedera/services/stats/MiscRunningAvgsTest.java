@@ -59,6 +59,15 @@ class MiscRunningAvgsTest {
 		StatEntry waitMs = mock(StatEntry.class);
 		StatEntry queueSizes = mock(StatEntry.class);
 		StatEntry submitSizes = mock(StatEntry.class);
+		StatEntry hitRatio = mock(StatEntry.class);
+		StatEntry txnDepth = mock(StatEntry.class);
+		StatEntry txnWait = mock(StatEntry.class);
+		StatEntry queryDepth = mock(StatEntry.class);
+		StatEntry queryWait = mock(StatEntry.class);
+		StatEntry precheckSigBatchFillEntry = mock(StatEntry.class);
+		StatEntry precheckSigBatchLingerMsEntry = mock(StatEntry.class);
+		StatEntry balancesExportMsEntry = mock(StatEntry.class);
+		StatEntry balancesExportBacklogEntry = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscRunningAvgs.Names.ACCOUNT_LOOKUP_RETRIES::equals),
@@ -76,6 +85,42 @@ class MiscRunningAvgsTest {
 				argThat(MiscRunningAvgs.Names.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(MiscRunningAvgs.Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(subject.handledSubmitMessageSize::equals))).willReturn(submitSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.TXN_ACCESSOR_CACHE_HIT_RATIO::equals),
+				argThat(MiscRunningAvgs.Descriptions.TXN_ACCESSOR_CACHE_HIT_RATIO::equals),
+				argThat(subject.txnAccessorCacheHitRatio::equals))).willReturn(hitRatio);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.TXN_PRECHECK_QUEUE_DEPTH::equals),
+				argThat(MiscRunningAvgs.Descriptions.TXN_PRECHECK_QUEUE_DEPTH::equals),
+				argThat(subject.txnPrecheckQueueDepth::equals))).willReturn(txnDepth);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.TXN_PRECHECK_WAIT_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.TXN_PRECHECK_WAIT_MS::equals),
+				argThat(subject.txnPrecheckWaitMs::equals))).willReturn(txnWait);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.QUERY_PRECHECK_QUEUE_DEPTH::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_PRECHECK_QUEUE_DEPTH::equals),
+				argThat(subject.queryPrecheckQueueDepth::equals))).willReturn(queryDepth);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.QUERY_PRECHECK_WAIT_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_PRECHECK_WAIT_MS::equals),
+				argThat(subject.queryPrecheckWaitMs::equals))).willReturn(queryWait);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PRECHECK_SIG_BATCH_FILL::equals),
+				argThat(MiscRunningAvgs.Descriptions.PRECHECK_SIG_BATCH_FILL::equals),
+				argThat(subject.precheckSigBatchFill::equals))).willReturn(precheckSigBatchFillEntry);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PRECHECK_SIG_BATCH_LINGER_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.PRECHECK_SIG_BATCH_LINGER_MS::equals),
+				argThat(subject.precheckSigBatchLingerMs::equals))).willReturn(precheckSigBatchLingerMsEntry);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.BALANCES_EXPORT_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.BALANCES_EXPORT_MS::equals),
+				argThat(subject.balancesExportMs::equals))).willReturn(balancesExportMsEntry);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.BALANCES_EXPORT_BACKLOG::equals),
+				argThat(MiscRunningAvgs.Descriptions.BALANCES_EXPORT_BACKLOG::equals),
+				argThat(subject.balancesExportBacklog::equals))).willReturn(balancesExportBacklogEntry);
 
 		// when:
 		subject.registerWith(platform);
@@ -85,6 +130,15 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(waitMs);
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
+		verify(platform).addAppStatEntry(hitRatio);
+		verify(platform).addAppStatEntry(txnDepth);
+		verify(platform).addAppStatEntry(txnWait);
+		verify(platform).addAppStatEntry(queryDepth);
+		verify(platform).addAppStatEntry(queryWait);
+		verify(platform).addAppStatEntry(precheckSigBatchFillEntry);
+		verify(platform).addAppStatEntry(precheckSigBatchLingerMsEntry);
+		verify(platform).addAppStatEntry(balancesExportMsEntry);
+		verify(platform).addAppStatEntry(balancesExportBacklogEntry);
 	}
 
 	@Test
@@ -94,22 +148,60 @@ class MiscRunningAvgsTest {
 		StatsRunningAverage waitMs = mock(StatsRunningAverage.class);
 		StatsRunningAverage queueSize = mock(StatsRunningAverage.class);
 		StatsRunningAverage submitSizes = mock(StatsRunningAverage.class);
+		StatsRunningAverage hitRatio = mock(StatsRunningAverage.class);
+		StatsRunningAverage txnDepth = mock(StatsRunningAverage.class);
+		StatsRunningAverage txnWait = mock(StatsRunningAverage.class);
+		StatsRunningAverage queryDepth = mock(StatsRunningAverage.class);
+		StatsRunningAverage queryWait = mock(StatsRunningAverage.class);
+		StatsRunningAverage precheckSigBatchFillAvg = mock(StatsRunningAverage.class);
+		StatsRunningAverage precheckSigBatchLingerMsAvg = mock(StatsRunningAverage.class);
+		StatsRunningAverage balancesExportMsAvg = mock(StatsRunningAverage.class);
+		StatsRunningAverage balancesExportBacklogAvg = mock(StatsRunningAverage.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.accountRetryWaitMs = waitMs;
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
+		subject.txnAccessorCacheHitRatio = hitRatio;
+		subject.txnPrecheckQueueDepth = txnDepth;
+		subject.txnPrecheckWaitMs = txnWait;
+		subject.queryPrecheckQueueDepth = queryDepth;
+		subject.queryPrecheckWaitMs = queryWait;
+		subject.precheckSigBatchFill = precheckSigBatchFillAvg;
+		subject.precheckSigBatchLingerMs = precheckSigBatchLingerMsAvg;
+		subject.balancesExportMs = balancesExportMsAvg;
+		subject.balancesExportBacklog = balancesExportBacklogAvg;
 
 		// when:
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
 		subject.recordHandledSubmitMessageSize(3);
 		subject.writeQueueSizeRecordStream(4);
+		subject.recordTxnAccessorCacheHit();
+		subject.recordTxnAccessorCacheMiss();
+		subject.recordTxnPrecheckQueueDepth(5);
+		subject.recordTxnPrecheckWaitMs(6.0);
+		subject.recordQueryPrecheckQueueDepth(7);
+		subject.recordQueryPrecheckWaitMs(8.0);
+		subject.recordPrecheckSigBatchFill(0.5);
+		subject.recordPrecheckSigBatchLingerMs(2.0);
+		subject.recordBalancesExportMs(123.0);
+		subject.recordBalancesExportBacklog(1);
 
 		// then:
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
 		verify(submitSizes).recordValue(3.0);
 		verify(queueSize).recordValue(4.0);
+		verify(hitRatio).recordValue(1.0);
+		verify(hitRatio).recordValue(0.0);
+		verify(txnDepth).recordValue(5.0);
+		verify(txnWait).recordValue(6.0);
+		verify(queryDepth).recordValue(7.0);
+		verify(queryWait).recordValue(8.0);
+		verify(precheckSigBatchFillAvg).recordValue(0.5);
+		verify(precheckSigBatchLingerMsAvg).recordValue(2.0);
+		verify(balancesExportMsAvg).recordValue(123.0);
+		verify(balancesExportBacklogAvg).recordValue(1.0);
 	}
 }
\ No newline at end of file
@@ -59,6 +59,7 @@ class MiscSpeedometersTest {
 		StatEntry sync = mock(StatEntry.class);
 		StatEntry async = mock(StatEntry.class);
 		StatEntry retries = mock(StatEntry.class);
+		StatEntry recentHits = mock(StatEntry.class);
 		StatEntry rejections = mock(StatEntry.class);
 
 		given(factory.from(
@@ -73,6 +74,10 @@ class MiscSpeedometersTest {
 				argThat(MiscSpeedometers.Names.ACCOUNT_LOOKUP_RETRIES::equals),
 				argThat(MiscSpeedometers.Descriptions.ACCOUNT_LOOKUP_RETRIES::equals),
 				any())).willReturn(retries);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.RECENT_CREATION_LOOKUP_HITS::equals),
+				argThat(MiscSpeedometers.Descriptions.RECENT_CREATION_LOOKUP_HITS::equals),
+				any())).willReturn(recentHits);
 		given(factory.from(
 				argThat(MiscSpeedometers.Names.PLATFORM_TXN_REJECTIONS::equals),
 				argThat(MiscSpeedometers.Descriptions.PLATFORM_TXN_REJECTIONS::equals),
@@ -83,6 +88,7 @@ class MiscSpeedometersTest {
 
 		// then:
 		verify(platform).addAppStatEntry(retries);
+		verify(platform).addAppStatEntry(recentHits);
 		verify(platform).addAppStatEntry(sync);
 		verify(platform).addAppStatEntry(async);
 		verify(platform).addAppStatEntry(rejections);
@@ -92,23 +98,27 @@ class MiscSpeedometersTest {
 	public void cyclesExpectedSpeedometers() {
 		// setup:
 		StatsSpeedometer retries = mock(StatsSpeedometer.class);
+		StatsSpeedometer recentHits = mock(StatsSpeedometer.class);
 		StatsSpeedometer sync = mock(StatsSpeedometer.class);
 		StatsSpeedometer async = mock(StatsSpeedometer.class);
 		StatsSpeedometer rejections = mock(StatsSpeedometer.class);
 		// and:
 		subject.accountLookupRetries = retries;
+		subject.recentCreationLookupHits = recentHits;
 		subject.syncVerifications = sync;
 		subject.platformTxnRejections = rejections;
 		subject.asyncVerifications = async;
 
 		// when:
 		subject.cycleAccountLookupRetries();
+		subject.cycleRecentCreationLookupHits();
 		subject.cycleAsyncVerifications();
 		subject.cycleSyncVerifications();
 		subject.cyclePlatformTxnRejections();
 
 		// then:
 		verify(retries).update(1.0);
+		verify(recentHits).update(1.0);
 		verify(rejections).update(1.0);
 		verify(sync).update(1.0);
 		verify(async).update(1.0);
@@ -39,6 +39,7 @@ import static org.mockito.Mockito.mock;
 
 class ServicesStatsManagerTest {
 	long updateIntervalMs = 1_234;
+	int logIntervalSecs = 60;
 
 	Pause pause;
 	Function<Runnable, Thread> threads;
@@ -48,6 +49,7 @@ class ServicesStatsManagerTest {
 	MiscRunningAvgs runningAvgs;
 	MiscSpeedometers miscSpeedometers;
 	HapiOpSpeedometers speedometers;
+	HandleLatencies handleLatencies;
 	NodeLocalProperties properties;
 
 	ServicesStatsManager subject;
@@ -66,10 +68,13 @@ class ServicesStatsManagerTest {
 		runningAvgs = mock(MiscRunningAvgs.class);
 		speedometers = mock(HapiOpSpeedometers.class);
 		miscSpeedometers = mock(MiscSpeedometers.class);
+		handleLatencies = mock(HandleLatencies.class);
 		properties = mock(NodeLocalProperties.class);
 		given(properties.statsHapiOpsSpeedometerUpdateIntervalMs()).willReturn(updateIntervalMs);
+		given(properties.statsHandleLatenciesLogIntervalSecs()).willReturn(logIntervalSecs);
 
-		subject = new ServicesStatsManager(counters, runningAvgs, miscSpeedometers, speedometers, properties);
+		subject = new ServicesStatsManager(
+				counters, runningAvgs, miscSpeedometers, speedometers, handleLatencies, properties);
 	}
 
 
@@ -87,10 +92,11 @@ class ServicesStatsManagerTest {
 	public void initsAsExpected() {
 		// setup:
 		Thread thread = mock(Thread.class);
+		Thread logThread = mock(Thread.class);
 		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
 
 		given(pause.forMs(anyLong())).willReturn(true);
-		given(threads.apply(captor.capture())).willReturn(thread);
+		given(threads.apply(captor.capture())).willReturn(thread, logThread);
 
 		// when:
 		subject.initializeFor(platform);
@@ -100,14 +106,20 @@ class ServicesStatsManagerTest {
 		verify(speedometers).registerWith(platform);
 		verify(miscSpeedometers).registerWith(platform);
 		verify(runningAvgs).registerWith(platform);
+		verify(handleLatencies).registerWith(platform);
 		verify(platform).appStatInit();
 		// and:
 		verify(thread).start();
 		verify(thread).setName(String.format(ServicesStatsManager.SPEEDOMETER_UPDATE_THREAD_NAME_TPL, 123L));
+		verify(logThread).start();
+		verify(logThread).setName(String.format(ServicesStatsManager.HANDLE_LATENCIES_LOG_THREAD_NAME_TPL, 123L));
 		// and when:
-		captor.getValue().run();
+		captor.getAllValues().get(0).run();
+		captor.getAllValues().get(1).run();
 		// then:
 		verify(pause).forMs(updateIntervalMs);
 		verify(speedometers).updateAll();
+		verify(pause).forMs(logIntervalSecs * 1_000L);
+		verify(handleLatencies).updateAndLog();
 	}
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ class ExceptionalScheduleStoreTest {
         assertThrows(UnsupportedOperationException.class, NOOP_SCHEDULE_STORE::rollbackCreation);
         assertThrows(UnsupportedOperationException.class, NOOP_SCHEDULE_STORE::isCreationPending);
         assertThrows(UnsupportedOperationException.class, () -> NOOP_SCHEDULE_STORE.getScheduleID(null, null));
+        assertThrows(UnsupportedOperationException.class, () -> NOOP_SCHEDULE_STORE.expireSchedulesAt(0L));
         // and:
         assertDoesNotThrow(() -> NOOP_SCHEDULE_STORE.setAccountsLedger(null));
         assertDoesNotThrow(() -> NOOP_SCHEDULE_STORE.setHederaLedger(null));
@@ -20,6 +20,7 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
@@ -41,7 +42,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Optional;
@@ -71,10 +71,13 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class HederaScheduleStoreTest {
     static final int SIGNATURE_BYTES = 64;
+    static final long EXPIRY_SECS = 1_800L;
+    GlobalDynamicProperties properties;
     EntityIdSource ids;
     FCMap<MerkleEntityId, MerkleSchedule> schedules;
     TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
@@ -85,7 +88,7 @@ public class HederaScheduleStoreTest {
     MerkleAccount account;
 
     byte[] transactionBody;
-    int transactionBodyHashCode;
+    CompositeKey transactionBodyKey;
     RichInstant schedulingTXValidStart;
     Key adminKey;
     JKey adminJKey;
@@ -105,7 +108,7 @@ public class HederaScheduleStoreTest {
     @BeforeEach
     public void setup() {
         transactionBody = TxnUtils.randomUtf8Bytes(SIGNATURE_BYTES);
-        transactionBodyHashCode = Arrays.hashCode(transactionBody);
+        transactionBodyKey = CompositeKey.of(transactionBody, payerId);
         schedulingTXValidStart = new RichInstant(123, 456);
         adminKey = SCHEDULE_ADMIN_KT.asKey();
         adminJKey = SCHEDULE_ADMIN_KT.asJKeyUnchecked();
@@ -123,8 +126,12 @@ public class HederaScheduleStoreTest {
         given(schedule.adminKey()).willReturn(Optional.of(SCHEDULE_ADMIN_KT.asJKeyUnchecked()));
         given(schedule.signers()).willReturn(signers);
         given(schedule.payer()).willReturn(EntityId.ofNullableAccountId(payerId));
+        given(schedule.transactionBody()).willReturn(transactionBody);
+        given(schedule.expiry()).willReturn(schedulingTXValidStart.getSeconds() + EXPIRY_SECS);
+        given(schedule.hasExpiry()).willReturn(true);
 
         given(anotherSchedule.payer()).willReturn(EntityId.ofNullableAccountId(anotherPayerId));
+        given(anotherSchedule.schedulingTXValidStart()).willReturn(schedulingTXValidStart);
 
         ids = mock(EntityIdSource.class);
         given(ids.newScheduleId(schedulingAccount)).willReturn(created);
@@ -143,7 +150,10 @@ public class HederaScheduleStoreTest {
         given(schedules.get(fromScheduleId(created))).willReturn(schedule);
         given(schedules.containsKey(fromScheduleId(created))).willReturn(true);
 
-        subject = new HederaScheduleStore(ids, () -> schedules);
+        properties = mock(GlobalDynamicProperties.class);
+        given(properties.scheduledTxExpiryTimeSecs()).willReturn((int)EXPIRY_SECS);
+
+        subject = new HederaScheduleStore(ids, properties, () -> schedules);
         subject.setAccountsLedger(accountsLedger);
         subject.setHederaLedger(hederaLedger);
     }
@@ -208,7 +218,7 @@ public class HederaScheduleStoreTest {
         // setup:
         subject.pendingId = created;
         subject.pendingCreation = schedule;
-        subject.pendingTxHashCode = 123;
+        subject.pendingTxKey = transactionBodyKey;
 
         // when:
         subject.commitCreation();
@@ -218,6 +228,10 @@ public class HederaScheduleStoreTest {
         // and:
         assertSame(subject.pendingId, HederaScheduleStore.NO_PENDING_ID);
         assertNull(subject.pendingCreation);
+        assertNull(subject.pendingTxKey);
+        // and:
+        assertEquals(fromScheduleId(created), subject.txToEntityId.get(transactionBodyKey));
+        assertTrue(subject.hasPendingExpiries());
     }
 
     @Test
@@ -307,6 +321,7 @@ public class HederaScheduleStoreTest {
         var expected = new MerkleSchedule(transactionBody, entitySchedulingAccount, schedulingTXValidStart);
         expected.setAdminKey(adminJKey);
         expected.setPayer(entityPayer);
+        expected.setExpiry(schedulingTXValidStart.getSeconds() + EXPIRY_SECS);
         // when:
         var outcome = subject
                 .createProvisionally(
@@ -345,11 +360,11 @@ public class HederaScheduleStoreTest {
         // setup:
         subject.pendingId = created;
         subject.pendingCreation = schedule;
-        subject.pendingTxHashCode = transactionBodyHashCode;
+        subject.pendingTxKey = transactionBodyKey;
 
         // expect:
         assertSame(schedule, subject.get(created));
-        assertEquals(transactionBodyHashCode, subject.pendingTxHashCode);
+        assertEquals(transactionBodyKey, subject.pendingTxKey);
     }
 
     @Test
@@ -372,7 +387,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -395,7 +410,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -418,7 +433,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -441,13 +456,13 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
     public void getsScheduleID() {
         // given:
-        subject.txToEntityId.put(new CompositeKey(transactionBodyHashCode, payerId), fromScheduleId(created));
+        subject.txToEntityId.put(transactionBodyKey, fromScheduleId(created));
         given(subject.get(created)).willReturn(schedule);
 
         // when:
@@ -461,7 +476,7 @@ public class HederaScheduleStoreTest {
         // given:
         subject.pendingCreation = schedule;
         subject.pendingId = created;
-        subject.pendingTxHashCode = transactionBodyHashCode;
+        subject.pendingTxKey = transactionBodyKey;
 
         // when:
         var scheduleId = subject.getScheduleID(transactionBody, payerId);
@@ -481,12 +496,142 @@ public class HederaScheduleStoreTest {
     public void deletesAsExpected() {
         // given:
         given(schedules.getForModify(fromScheduleId(created))).willReturn(schedule);
+        subject.txToEntityId.put(transactionBodyKey, fromScheduleId(created));
 
         // when:
         var outcome = subject.delete(created);
 
         // then:
         assertEquals(OK, outcome);
+        assertTrue(subject.txToEntityId.isEmpty());
+    }
+
+    @Test
+    public void rebuildIndexesOnlyUndeletedSchedules() {
+        // setup:
+        var deletedId = new MerkleEntityId(0, 0, 2);
+        given(anotherSchedule.isDeleted()).willReturn(true);
+        given(anotherSchedule.transactionBody()).willReturn(transactionBody);
+
+        // when:
+        subject.beginRebuild();
+        subject.rebuildWith(fromScheduleId(created), schedule);
+        subject.rebuildWith(deletedId, anotherSchedule);
+
+        // then:
+        assertEquals(1, subject.txToEntityId.size());
+        assertEquals(fromScheduleId(created), subject.txToEntityId.get(transactionBodyKey));
+        assertTrue(subject.hasPendingExpiries());
+    }
+
+    @Test
+    public void expiresDueSchedulesFromStateAndIndex() {
+        // setup:
+        var expiry = schedulingTXValidStart.getSeconds() + EXPIRY_SECS;
+        var id = new MerkleEntityId(0, 0, created.getScheduleNum());
+        given(schedules.get(id)).willReturn(schedule);
+
+        // given:
+        subject.txToEntityId.put(transactionBodyKey, id);
+        subject.trackExpiry(id, expiry);
+
+        // when:
+        subject.expireSchedulesAt(expiry - 1);
+        // then:
+        verify(schedules, never()).remove(id);
+
+        // and when:
+        subject.expireSchedulesAt(expiry);
+        subject.expireSchedulesAt(expiry + 1);
+
+        // then:
+        verify(schedules, times(1)).remove(id);
+        assertTrue(subject.txToEntityId.isEmpty());
+        assertFalse(subject.hasPendingExpiries());
+    }
+
+    @Test
+    public void expiryKeepsIndexOfRecreatedSchedule() {
+        // setup:
+        var expiry = schedulingTXValidStart.getSeconds() + EXPIRY_SECS;
+        var id = new MerkleEntityId(0, 0, 1);
+        var recreatedId = new MerkleEntityId(0, 0, 2);
+        given(schedules.get(id)).willReturn(schedule);
+
+        // given:
+        subject.txToEntityId.put(transactionBodyKey, recreatedId);
+        subject.trackExpiry(id, expiry);
+
+        // when:
+        subject.expireSchedulesAt(expiry);
+
+        // then:
+        verify(schedules).remove(id);
+        assertEquals(recreatedId, subject.txToEntityId.get(transactionBodyKey));
+    }
+
+    @Test
+    public void expiryIgnoresAlreadyRemovedSchedule() {
+        // given:
+        subject.trackExpiry(new MerkleEntityId(0, 0, 666), 1L);
+
+        // when:
+        subject.expireSchedulesAt(1L);
+
+        // then:
+        verify(schedules, never()).remove(any());
+    }
+
+    @Test
+    public void expiresSchedulesByFullId() {
+        // setup:
+        var expiry = schedulingTXValidStart.getSeconds() + EXPIRY_SECS;
+        var id = new MerkleEntityId(0, 0, 1);
+        var otherRealmId = new MerkleEntityId(1, 2, 1);
+        given(schedules.get(id)).willReturn(schedule);
+        given(schedules.get(otherRealmId)).willReturn(anotherSchedule);
+        given(anotherSchedule.transactionBody()).willReturn(transactionBody);
+
+        // given:
+        subject.trackExpiry(id, expiry);
+        subject.trackExpiry(otherRealmId, expiry + 1);
+
+        // when:
+        subject.expireSchedulesAt(expiry);
+
+        // then:
+        verify(schedules).remove(id);
+        verify(schedules, never()).remove(otherRealmId);
+
+        // and when:
+        subject.expireSchedulesAt(expiry + 1);
+
+        // then:
+        verify(schedules).remove(otherRealmId);
+        assertFalse(subject.hasPendingExpiries());
+    }
+
+    @Test
+    public void rebuildDefaultsExpiryOfScheduleWithoutOne() {
+        // setup:
+        var id = new MerkleEntityId(0, 0, 2);
+        var expiry = schedulingTXValidStart.getSeconds() + EXPIRY_SECS;
+        given(anotherSchedule.transactionBody()).willReturn(transactionBody);
+        given(schedules.get(id)).willReturn(anotherSchedule);
+
+        // given:
+        subject.beginRebuild();
+        subject.rebuildWith(id, anotherSchedule);
+
+        // when:
+        subject.expireSchedulesAt(expiry - 1);
+        // then:
+        verify(schedules, never()).remove(id);
+
+        // and when:
+        subject.expireSchedulesAt(expiry);
+        // then:
+        verify(schedules).remove(id);
     }
 
     @Test
@@ -516,16 +661,22 @@ public class HederaScheduleStoreTest {
     @Test
     public void validCompositeKey() {
         // given:
-        var key = new CompositeKey(transactionBodyHashCode, payerId);
+        var key = CompositeKey.of(transactionBody, payerId);
 
+        // expect:
         assertEquals(key, key);
+        assertEquals(transactionBodyKey, key);
+        assertEquals(transactionBodyKey.hashCode(), key.hashCode());
     }
 
     @Test
     public void validDifferentInstanceKey() {
         // given:
-        var key = new CompositeKey(transactionBodyHashCode, payerId);
+        var key = CompositeKey.of(transactionBody, payerId);
 
+        // expect:
         assertNotEquals(key, new Object());
+        assertNotEquals(key, CompositeKey.of(transactionBody, anotherPayerId));
+        assertNotEquals(key, CompositeKey.of("ANOTHER".getBytes(), payerId));
     }
 }
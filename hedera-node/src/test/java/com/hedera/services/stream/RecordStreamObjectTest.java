@@ -43,7 +43,11 @@ import java.time.Instant;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RecordStreamObjectTest {
@@ -129,6 +133,45 @@ public class RecordStreamObjectTest {
 		}
 	}
 
+	@Test
+	public void serializesGivenTransactionBytesAsIs() throws IOException {
+		// setup:
+		final Transaction txn = mock(Transaction.class);
+		final byte[] txnBytes = realObject.getTransaction().toByteArray();
+		final var out = mock(SerializableDataOutputStream.class);
+
+		// given:
+		final var subject = new RecordStreamObject(
+				realObject.getTransactionRecord(), txn, txnBytes, realObject.getTimestamp());
+
+		// when:
+		subject.serialize(out);
+		subject.serialize(out);
+
+		// then:
+		verify(out, times(2)).writeByteArray(txnBytes);
+		verify(txn, never()).toByteArray();
+	}
+
+	@Test
+	public void encodesRecordAndTransactionOnce() throws IOException {
+		// setup:
+		final var out = mock(SerializableDataOutputStream.class);
+
+		// given:
+		final var recordBytes = realObject.getTransactionRecordBytes();
+		final var txnBytes = realObject.getTransactionBytes();
+
+		// when:
+		realObject.serialize(out);
+
+		// then:
+		assertSame(recordBytes, realObject.getTransactionRecordBytes());
+		assertSame(txnBytes, realObject.getTransactionBytes());
+		verify(out).writeByteArray(recordBytes);
+		verify(out).writeByteArray(txnBytes);
+	}
+
 	private static RecordStreamObject getRecordStreamObject() {
 		final Instant consensusTimestamp = Instant.now();
 		final AccountID.Builder accountID = AccountID.newBuilder().setAccountNum(3);
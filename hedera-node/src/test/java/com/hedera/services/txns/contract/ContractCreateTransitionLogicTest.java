@@ -22,6 +22,9 @@ package com.hedera.services.txns.contract;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.files.HederaFs;
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -44,6 +47,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 
+import static com.hedera.services.utils.EntityIdUtils.asAccount;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.AUTORENEW_DURATION_NOT_IN_RANGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_FILE_EMPTY;
@@ -58,6 +62,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
@@ -73,6 +78,7 @@ public class ContractCreateTransitionLogicTest {
 	final private ContractID created = ContractID.newBuilder().setContractNum(9_999L).build();
 	final private FileID bytecodeSrc = IdUtils.asFile("0.0.75231");
 	final private byte[] bytecode = "NotReallyEvmBytecode".getBytes();
+	final private Key adminKey = SignedTxnFactory.DEFAULT_PAYER_KT.asKey();
 
 	private Instant consensusTime;
 	private HederaFs hfs;
@@ -82,6 +88,7 @@ public class ContractCreateTransitionLogicTest {
 	private TransactionBody contractCreateTxn;
 	private TransactionContext txnCtx;
 	private PlatformTxnAccessor accessor;
+	private RecentlyCreatedAccounts recentCreations;
 	private ContractCreateTransitionLogic subject;
 
 	@BeforeEach
@@ -96,8 +103,9 @@ public class ContractCreateTransitionLogicTest {
 		validator = mock(OptionValidator.class);
 		withRubberstampingValidator();
 		seqNo = mock(SequenceNumber.class);
+		recentCreations = new RecentlyCreatedAccounts(10, 60);
 
-		subject = new ContractCreateTransitionLogic(hfs, delegate, () -> seqNo, validator, txnCtx);
+		subject = new ContractCreateTransitionLogic(hfs, delegate, () -> seqNo, validator, txnCtx, recentCreations);
 	}
 
 	@Test
@@ -191,6 +199,8 @@ public class ContractCreateTransitionLogicTest {
 		verify(txnCtx).setCreateResult(creation.getContractCreateResult());
 		verify(txnCtx).setStatus(CONTRACT_EXECUTION_EXCEPTION);
 		verify(txnCtx, never()).setCreated(any(ContractID.class));
+		recentCreations.commitPending();
+		assertNull(recentCreations.lookup(asAccount(created)));
 	}
 
 	@Test
@@ -217,6 +227,36 @@ public class ContractCreateTransitionLogicTest {
 		verify(txnCtx).setCreateResult(creation.getContractCreateResult());
 		verify(txnCtx).setCreated(created);
 		verify(txnCtx).setStatus(SUCCESS);
+		// and:
+		recentCreations.commitPending();
+		var meta = recentCreations.lookup(asAccount(created));
+		assertEquals(created, ((JContractIDKey)meta.getKey()).getContractID());
+		assertFalse(meta.isReceiverSigRequired());
+	}
+
+	@Test
+	public void tracksAdminKeyOfCreatedContract() throws Throwable {
+		// setup:
+		TransactionRecord creation = TransactionRecord.newBuilder()
+				.setReceipt(TransactionReceipt.newBuilder()
+						.setStatus(SUCCESS)
+						.setContractID(created)
+						.build())
+				.build();
+
+		givenValidTxnCtx(true, true);
+		// and:
+		given(hfs.exists(bytecodeSrc)).willReturn(true);
+		given(hfs.cat(bytecodeSrc)).willReturn(bytecode);
+		given(delegate.perform(contractCreateTxn, consensusTime, bytecode, seqNo)).willReturn(creation);
+
+		// when:
+		subject.doStateTransition();
+
+		// then:
+		recentCreations.commitPending();
+		var meta = recentCreations.lookup(asAccount(created));
+		assertEquals(adminKey, JKey.mapJKey(meta.getKey()));
 	}
 
 	@Test
@@ -273,6 +313,10 @@ public class ContractCreateTransitionLogicTest {
 	}
 
 	private void givenValidTxnCtx(boolean rememberAutoRenew) {
+		givenValidTxnCtx(rememberAutoRenew, false);
+	}
+
+	private void givenValidTxnCtx(boolean rememberAutoRenew, boolean useAdminKey) {
 		var op = ContractCreateTransactionBody.newBuilder()
 				.setFileID(bytecodeSrc)
 				.setInitialBalance(balance)
@@ -281,6 +325,9 @@ public class ContractCreateTransitionLogicTest {
 		if (rememberAutoRenew) {
 			op.setAutoRenewPeriod(Duration.newBuilder().setSeconds(customAutoRenewPeriod));
 		}
+		if (useAdminKey) {
+			op.setAdminKey(adminKey);
+		}
 		var txn = TransactionBody.newBuilder()
 				.setTransactionID(ourTxnId())
 				.setContractCreateInstance(op);
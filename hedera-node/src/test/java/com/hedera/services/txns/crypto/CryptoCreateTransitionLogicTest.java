@@ -25,6 +25,7 @@ import com.hedera.services.exceptions.InsufficientFundsException;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.sigs.metadata.lookups.RecentlyCreatedAccounts;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.txns.SignedTxnFactory;
@@ -48,6 +49,7 @@ import java.util.EnumMap;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.*;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.*;
 import static com.hedera.services.ledger.properties.AccountProperty.*;
@@ -69,6 +71,7 @@ public class CryptoCreateTransitionLogicTest {
 	private TransactionBody cryptoCreateTxn;
 	private TransactionContext txnCtx;
 	private PlatformTxnAccessor accessor;
+	private RecentlyCreatedAccounts recentCreations;
 	private CryptoCreateTransitionLogic subject;
 
 	@BeforeEach
@@ -80,9 +83,10 @@ public class CryptoCreateTransitionLogicTest {
 		ledger = mock(HederaLedger.class);
 		accessor = mock(PlatformTxnAccessor.class);
 		validator = mock(OptionValidator.class);
+		recentCreations = new RecentlyCreatedAccounts(10, 60);
 		withRubberstampingValidator();
 
-		subject = new CryptoCreateTransitionLogic(ledger, validator, txnCtx);
+		subject = new CryptoCreateTransitionLogic(ledger, validator, txnCtx, recentCreations);
 	}
 
 	@Test
@@ -193,6 +197,11 @@ public class CryptoCreateTransitionLogicTest {
 		assertEquals(key, JKey.mapJKey((JKey)changes.get(KEY)));
 		assertEquals(true, changes.get(IS_RECEIVER_SIG_REQUIRED));
 		assertEquals(EntityId.ofNullableAccountId(proxy), changes.get(PROXY));
+		// and:
+		recentCreations.commitPending();
+		var meta = recentCreations.lookup(created);
+		assertEquals(key, JKey.mapJKey(meta.getKey()));
+		assertTrue(meta.isReceiverSigRequired());
 	}
 
 	@Test
@@ -205,6 +214,8 @@ public class CryptoCreateTransitionLogicTest {
 
 		// then:
 		verify(txnCtx).setStatus(INSUFFICIENT_PAYER_BALANCE);
+		recentCreations.commitPending();
+		assertNull(recentCreations.lookup(created));
 	}
 
 	@Test
@@ -34,6 +34,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.TransitionLogicLookup;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
@@ -131,7 +132,7 @@ class TxnHandlerSubmissionFlowTest {
 		// setup:
 		TxnValidityAndFeeReq metaValidity = new TxnValidityAndFeeReq(INSUFFICIENT_PAYER_BALANCE, feeRequired);
 
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(metaValidity);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(signedTxn), eq(false))).willReturn(metaValidity);
 
 		// when:
 		TransactionResponse response = subject.submit(signedTxn);
@@ -143,7 +144,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void rejectsInvalidSyntax() {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(signedTxn), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(INVALID_ACCOUNT_ID);
 
 		// when:
@@ -155,7 +156,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void catchesPlatformCreateEx() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(signedTxn), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(PLATFORM_TRANSACTION_NOT_CREATED);
 
@@ -168,7 +169,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void followsHappyPathToOk() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(signedTxn), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(OK);
 
@@ -181,7 +182,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void usesFallbackSyntaxCheckIfNotSupported() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(signedTxn), eq(false))).willReturn(okMeta);
 		given(logicLookup.lookupFor(any(), any())).willReturn(Optional.empty());
 
 		// when:
@@ -196,7 +197,7 @@ class TxnHandlerSubmissionFlowTest {
 		// setup:
 		TxnValidityAndFeeReq metaValidity = new TxnValidityAndFeeReq(INSUFFICIENT_PAYER_BALANCE, feeRequired);
 
-		given(txnHandler.validateTransactionPreConsensus(newTxn, false)).willReturn(metaValidity);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(newTxn), eq(false))).willReturn(metaValidity);
 
 		// when:
 		TransactionResponse response = subject.submit(newTxn);
@@ -208,7 +209,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void followsSignedTxnHappyPathToOk() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(newTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(accessorOf(newTxn), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(OK);
 
@@ -218,4 +219,8 @@ class TxnHandlerSubmissionFlowTest {
 		// then:
 		assertEquals(OK, response.getNodeTransactionPrecheckCode());
 	}
+
+	private static SignedTxnAccessor accessorOf(Transaction signedTxn) {
+		return argThat(accessor -> signedTxn.equals(accessor.getSignedTxn()));
+	}
 }
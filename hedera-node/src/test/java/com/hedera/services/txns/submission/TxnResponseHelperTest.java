@@ -20,6 +20,7 @@ package com.hedera.services.txns.submission;
  * ‍
  */
 
+import com.hedera.services.grpc.PrecheckExecutor;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -31,10 +32,12 @@ import org.mockito.InOrder;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class TxnResponseHelperTest {
 	Transaction txn = Transaction.getDefaultInstance();
@@ -43,6 +46,7 @@ class TxnResponseHelperTest {
 
 	SubmissionFlow submissionFlow;
 	HapiOpCounters opCounters;
+	PrecheckExecutor precheckExecutor;
 	StreamObserver<TransactionResponse> observer;
 	TxnResponseHelper subject;
 
@@ -55,7 +59,9 @@ class TxnResponseHelperTest {
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, opCounters);
+		precheckExecutor = new PrecheckExecutor("Test", 0, 0, ignore -> {}, ignore -> {});
+
+		subject = new TxnResponseHelper(submissionFlow, opCounters, precheckExecutor);
 	}
 
 	@Test
@@ -93,4 +99,23 @@ class TxnResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
 	}
+
+	@Test
+	public void respondsBusyWhenPrecheckQueueIsFull() {
+		// setup:
+		precheckExecutor = mock(PrecheckExecutor.class);
+		subject = new TxnResponseHelper(submissionFlow, opCounters, precheckExecutor);
+
+		given(precheckExecutor.tryExecute(any(Runnable.class))).willReturn(false);
+
+		// when:
+		subject.submit(txn, observer, CryptoTransfer);
+
+		// then:
+		verify(opCounters).countReceived(CryptoTransfer);
+		verify(submissionFlow, never()).submit(txn);
+		verify(observer).onNext(TxnResponseHelper.BUSY_RESPONSE);
+		verify(observer).onCompleted();
+		verify(opCounters, never()).countSubmitted(CryptoTransfer);
+	}
 }
@@ -0,0 +1,153 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+class PlatformTxnAccessorCacheTest {
+	TransactionBody someTxn = TransactionBody.newBuilder()
+			.setTransactionID(TransactionID.newBuilder().setAccountID(asAccount("0.0.2")))
+			.setMemo("Hi!")
+			.build();
+	byte[] contents = com.hederahashgraph.api.proto.java.Transaction.newBuilder()
+			.setBodyBytes(someTxn.toByteString())
+			.build()
+			.toByteArray();
+
+	HapiOpCounters opCounters;
+	MiscRunningAvgs runningAvgs;
+
+	PlatformTxnAccessorCache subject;
+
+	@BeforeEach
+	public void setup() {
+		opCounters = mock(HapiOpCounters.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+
+		subject = new PlatformTxnAccessorCache(2, runningAvgs, opCounters);
+	}
+
+	@Test
+	public void reusesAccessorForSameTxn() throws InvalidProtocolBufferException {
+		// given:
+		var platformTxn = new Transaction(contents);
+
+		// when:
+		var first = subject.accessorFor(platformTxn);
+		var second = subject.accessorFor(platformTxn);
+
+		// then:
+		assertSame(first, second);
+		assertSame(platformTxn, first.getPlatformTxn());
+		assertEquals(someTxn, first.getTxn());
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void keysOnIdentityNotEquality() throws InvalidProtocolBufferException {
+		// given:
+		var platformTxn = new Transaction(contents);
+		var equalPlatformTxn = new Transaction(contents.clone());
+
+		// when:
+		var first = subject.accessorFor(platformTxn);
+		var second = subject.accessorFor(equalPlatformTxn);
+
+		// then:
+		assertNotSame(first, second);
+		assertSame(equalPlatformTxn, second.getPlatformTxn());
+	}
+
+	@Test
+	public void consumesCachedAccessorAndRecordsHit() throws InvalidProtocolBufferException {
+		// given:
+		var platformTxn = new Transaction(contents);
+		var expanded = subject.accessorFor(platformTxn);
+
+		// when:
+		var consumed = subject.consumedAccessorFor(platformTxn);
+
+		// then:
+		assertSame(expanded, consumed);
+		assertEquals(0, subject.size());
+		verify(runningAvgs).recordTxnAccessorCacheHit();
+		verify(runningAvgs, never()).recordTxnAccessorCacheMiss();
+		verify(opCounters).countTxnAccessorCacheHit();
+		verify(opCounters, never()).countTxnAccessorCacheMiss();
+	}
+
+	@Test
+	public void createsAccessorAndRecordsMissIfNotCached() throws InvalidProtocolBufferException {
+		// given:
+		var platformTxn = new Transaction(contents);
+
+		// when:
+		var consumed = subject.consumedAccessorFor(platformTxn);
+
+		// then:
+		assertEquals(someTxn, consumed.getTxn());
+		assertEquals(0, subject.size());
+		verify(runningAvgs).recordTxnAccessorCacheMiss();
+		verify(runningAvgs, never()).recordTxnAccessorCacheHit();
+		verify(opCounters).countTxnAccessorCacheMiss();
+		verify(opCounters, never()).countTxnAccessorCacheHit();
+	}
+
+	@Test
+	public void staysBoundedEvenIfTxnsNeverReachConsensus() throws InvalidProtocolBufferException {
+		// when:
+		subject.accessorFor(new Transaction(contents));
+		subject.accessorFor(new Transaction(contents));
+		subject.accessorFor(new Transaction(contents));
+
+		// then:
+		assertTrue(subject.size() <= 2);
+	}
+
+	@Test
+	public void propagatesParseFailures() {
+		// given:
+		var platformTxn = new Transaction("Jabberwocky".getBytes());
+
+		// expect:
+		assertThrows(InvalidProtocolBufferException.class, () -> subject.accessorFor(platformTxn));
+		assertThrows(InvalidProtocolBufferException.class, () -> subject.consumedAccessorFor(platformTxn));
+		// and:
+		assertEquals(0, subject.size());
+	}
+}
@@ -20,10 +20,13 @@ package com.hedera.services.utils;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hederahashgraph.api.proto.java.Duration;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -33,6 +36,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class SignedTxnAccessorTest {
 	@Test
@@ -91,4 +96,60 @@ public class SignedTxnAccessorTest {
 		assertEquals(HederaFunctionality.CryptoTransfer, accessor.getFunction());
 		assertArrayEquals(CommonUtils.noThrowSha384HashOf(signedTransaction.toByteArray()), accessor.getHash().toByteArray());
 	}
+
+	@Test
+	public void hashesSubmittedBytesRatherThanReencoding() throws Exception {
+		// setup:
+		Transaction transaction = RequestBuilder.getCryptoTransferRequest(1234l, 0l, 0l,
+				3l, 0l, 0l,
+				100_000_000l,
+				Timestamp.getDefaultInstance(),
+				Duration.getDefaultInstance(),
+				false,
+				"test memo",
+				5678l, -70000l,
+				5679l, 70000l);
+		/* Concatenated messages merge on parse, so this puts the fields out of canonical order. */
+		var sigMapPart = Transaction.newBuilder().setSigMap(transaction.getSigMap()).build().toByteString();
+		var bodyPart = Transaction.newBuilder().setBodyBytes(transaction.getBodyBytes()).build().toByteString();
+		byte[] submitted = sigMapPart.concat(bodyPart).toByteArray();
+
+		// given:
+		var accessor = new SignedTxnAccessor(submitted);
+
+		// expect:
+		assertEquals(transaction.getBodyBytes(), accessor.getSignedTxn().getBodyBytes());
+		assertNotEquals(ByteString.copyFrom(submitted), accessor.getSignedTxn().toByteString());
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(submitted), accessor.getHash().toByteArray());
+	}
+
+	@Test
+	public void sharesOneIndexedSigSource() throws Exception {
+		// setup:
+		byte[] prefix = "a".getBytes();
+		byte[] sig = "sig".getBytes();
+		SignatureMap sigMap = SignatureMap.newBuilder()
+				.addSigPair(SignaturePair.newBuilder()
+						.setPubKeyPrefix(ByteString.copyFrom(prefix))
+						.setEd25519(ByteString.copyFrom(sig)))
+				.build();
+		Transaction signedTxn = Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(TransactionBody.getDefaultInstance().toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+
+		// given:
+		SignedTxnAccessor accessor = SignedTxnAccessor.uncheckedFrom(signedTxn);
+
+		// when:
+		PubKeyToSigBytes pkToSigsFn = accessor.getPkToSigsFn();
+
+		// then:
+		assertEquals(sigMap, accessor.getSigMap());
+		assertSame(pkToSigsFn, accessor.getPkToSigsFn());
+		assertArrayEquals(sig, pkToSigsFn.sigBytesFor("abc".getBytes()));
+	}
 }
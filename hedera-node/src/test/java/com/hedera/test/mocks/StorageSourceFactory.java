@@ -21,7 +21,6 @@ package com.hedera.test.mocks;
  */
 
 import com.hedera.services.contracts.sources.BlobStorageSource;
-import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.swirlds.fcmap.FCMap;
@@ -31,7 +30,6 @@ import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytec
 
 public class StorageSourceFactory {
 	public static DbSource<byte[]> from(FCMap<MerkleBlobMeta, MerkleOptionalBlob> storageMap) {
-		return new BlobStorageSource(bytecodeMapFrom(
-				new FcBlobsBytesStore(MerkleOptionalBlob::new, () -> storageMap)));
+		return new BlobStorageSource(bytecodeMapFrom(() -> storageMap));
 	}
 }
@@ -20,7 +20,6 @@ package com.hedera.test.mocks;
  * ‍
  */
 
-import com.google.common.cache.CacheBuilder;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.properties.BootstrapProperties;
 import com.hedera.services.context.properties.PropertySource;
@@ -54,12 +53,13 @@ import com.hedera.services.fees.calculation.file.txns.SystemUndeleteFileResource
 import com.hedera.services.fees.calculation.system.txns.FreezeResourceUsage;
 import com.hedera.services.queries.answering.AnswerFunctions;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TimedTxnIdSet;
+import com.hedera.services.records.TxnIdTable;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.fee.CryptoFeeBuilder;
 import com.hederahashgraph.fee.FileFeeBuilder;
 import com.hederahashgraph.fee.SmartContractFeeBuilder;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -103,8 +103,8 @@ public enum TestFeesFactory {
 		AnswerFunctions answerFunctions = new AnswerFunctions();
 		RecordCache recordCache = new RecordCache(
 				null,
-				CacheBuilder.newBuilder().build(),
-				new HashMap<>());
+				new TimedTxnIdSet(180),
+				new TxnIdTable<>());
 
 		return new UsageBasedFeeCalculator(
 				exchange,
@@ -0,0 +1,159 @@
+package com.hedera.services.bench;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.exceptions.NegativeAccountBalanceException;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.bench.SyntheticTxns.randomBytes;
+import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
+
+/**
+ * A synthetic state of a configurable size for the benchmarks to run against; every
+ * account has an ed25519 key and the same (large) balance, and may be associated to
+ * a few of the synthetic tokens.
+ *
+ * All randomness comes from a seeded {@link SplittableRandom}, so the same
+ * arguments always give the same state, and results are comparable across commits.
+ */
+public class SyntheticState {
+	public static final long DEFAULT_SEED = 1_234L;
+	public static final long FIRST_ACCOUNT_NUM = 1_001L;
+	public static final long FIRST_TOKEN_NUM = 100_000_000L;
+	public static final long INITIAL_BALANCE = 1_000_000_000_000L;
+	public static final long INITIAL_TOKEN_BALANCE = 1_000_000L;
+	public static final long EXPIRY = 1_700_000_000L;
+
+	private final int numAccounts;
+	private final FCMap<MerkleEntityId, MerkleAccount> accounts = new FCMap<>();
+	private final FCMap<MerkleEntityId, MerkleToken> tokens = new FCMap<>();
+	private final FCMap<MerkleEntityId, MerkleTopic> topics = new FCMap<>();
+	private final FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations = new FCMap<>();
+
+	public static SyntheticState withAccounts(int numAccounts) {
+		return new SyntheticState(numAccounts, 0, 0, 0.0, DEFAULT_SEED);
+	}
+
+	/**
+	 * Builds a synthetic state with the given number of accounts and tokens.
+	 *
+	 * @param numAccounts the number of accounts, numbered consecutively from {@link #FIRST_ACCOUNT_NUM}
+	 * @param numTokens the number of tokens, numbered consecutively from {@link #FIRST_TOKEN_NUM}
+	 * @param tokensPerAccount the number of (distinct) tokens associated to each account
+	 * @param fractionReceiverSigRequired the (expected) fraction of accounts requiring a receiver sig
+	 * @param seed the seed for all randomness in the state
+	 */
+	public SyntheticState(
+			int numAccounts,
+			int numTokens,
+			int tokensPerAccount,
+			double fractionReceiverSigRequired,
+			long seed
+	) {
+		if (tokensPerAccount > numTokens) {
+			throw new IllegalArgumentException(String.format(
+					"Cannot associate %d tokens to each account with only %d tokens!",
+					tokensPerAccount,
+					numTokens));
+		}
+		this.numAccounts = numAccounts;
+
+		var random = new SplittableRandom(seed);
+		var treasury = new EntityId(0, 0, FIRST_ACCOUNT_NUM);
+		for (int i = 0; i < numTokens; i++) {
+			var token = new MerkleToken(
+					EXPIRY, Long.MAX_VALUE / 2, 0, "T" + i, "Token" + i, false, true, treasury);
+			tokens.put(fromTokenId(tokenId(i)), token);
+		}
+		for (int i = 0; i < numAccounts; i++) {
+			var id = accountId(i);
+			var account = new MerkleAccount();
+			account.setKey(new JEd25519Key(randomBytes(random, 32)));
+			account.setExpiry(EXPIRY);
+			account.setReceiverSigRequired(random.nextDouble() < fractionReceiverSigRequired);
+			try {
+				account.setBalance(INITIAL_BALANCE);
+			} catch (NegativeAccountBalanceException impossible) {
+				throw new IllegalStateException(impossible);
+			}
+			if (tokensPerAccount > 0) {
+				var associated = new HashSet<TokenID>();
+				int offset = random.nextInt(numTokens);
+				for (int j = 0; j < tokensPerAccount; j++) {
+					var tokenId = tokenId((offset + j) % numTokens);
+					associated.add(tokenId);
+					tokenAssociations.put(
+							fromAccountTokenRel(id, tokenId),
+							new MerkleTokenRelStatus(INITIAL_TOKEN_BALANCE, false, true));
+				}
+				account.tokens().associateAll(associated);
+			}
+			accounts.put(fromAccountId(id), account);
+		}
+	}
+
+	public static AccountID accountId(int i) {
+		return AccountID.newBuilder().setAccountNum(FIRST_ACCOUNT_NUM + i).build();
+	}
+
+	public static TokenID tokenId(int i) {
+		return TokenID.newBuilder().setTokenNum(FIRST_TOKEN_NUM + i).build();
+	}
+
+	public AccountID randomAccount(SplittableRandom random) {
+		return accountId(random.nextInt(numAccounts));
+	}
+
+	public int numAccounts() {
+		return numAccounts;
+	}
+
+	public FCMap<MerkleEntityId, MerkleAccount> accounts() {
+		return accounts;
+	}
+
+	public FCMap<MerkleEntityId, MerkleToken> tokens() {
+		return tokens;
+	}
+
+	public FCMap<MerkleEntityId, MerkleTopic> topics() {
+		return topics;
+	}
+
+	public FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations() {
+		return tokenAssociations;
+	}
+}
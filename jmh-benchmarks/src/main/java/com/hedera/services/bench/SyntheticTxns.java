@@ -0,0 +1,110 @@
+package com.hedera.services.bench;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+import java.util.SplittableRandom;
+
+/**
+ * Builds synthetic transactions for the benchmarks, typically against the
+ * accounts in a {@link SyntheticState}.
+ */
+public final class SyntheticTxns {
+	public static final AccountID NODE = AccountID.newBuilder().setAccountNum(3L).build();
+	public static final long VALID_START_SECS = 1_600_000_000L;
+
+	private SyntheticTxns() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Returns a {@code CryptoTransfer} body with the given payer that moves one
+	 * tinybar from each even-indexed party to the next (odd-indexed) party.
+	 *
+	 * @param payer the payer of the transfer
+	 * @param parties the (even number of) accounts whose balances are adjusted
+	 * @return the transfer body
+	 */
+	public static TransactionBody cryptoTransfer(AccountID payer, AccountID... parties) {
+		var transfers = TransferList.newBuilder();
+		for (int i = 0; i < parties.length; i++) {
+			long amount = (i % 2 == 0) ? -1L : +1L;
+			transfers.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(parties[i])
+					.setAmount(amount));
+		}
+		return TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(payer)
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(VALID_START_SECS)))
+				.setNodeAccountID(NODE)
+				.setTransactionFee(100_000_000L)
+				.setTransactionValidDuration(Duration.newBuilder().setSeconds(120L))
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transfers))
+				.build();
+	}
+
+	/**
+	 * Returns the given body, wrapped in a signed transaction with the given
+	 * number of (random, and hence invalid) ed25519 signatures.
+	 *
+	 * @param body the body to wrap
+	 * @param numSigs the number of signatures in the signature map
+	 * @param random the source of the random public key prefixes and signatures
+	 * @return the signed transaction
+	 */
+	public static Transaction signed(TransactionBody body, int numSigs, SplittableRandom random) {
+		var sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < numSigs; i++) {
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(randomBytes(random, 32)))
+					.setEd25519(ByteString.copyFrom(randomBytes(random, 64))));
+		}
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(body.toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+	}
+
+	public static byte[] randomBytes(SplittableRandom random, int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) random.nextInt(256);
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,169 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.crypto.txns.CryptoTransferResourceUsage;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.ExchangeRateSet;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.fee.FeeObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.bench.SyntheticState.accountId;
+import static com.hedera.services.bench.SyntheticTxns.cryptoTransfer;
+import static com.hedera.services.bench.SyntheticTxns.randomBytes;
+import static com.hedera.services.bench.SyntheticTxns.signed;
+
+/**
+ * Measures {@link UsageBasedFeeCalculator#computeFee(SignedTxnAccessor, JKey, StateView)}
+ * for a signed {@code CryptoTransfer}, with the same usage estimator as {@code ServicesContext}
+ * but fixed prices and exchange rate, so that only the usage estimation and fee arithmetic
+ * are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeeCalculationBench {
+	private static final ExchangeRate RATE = ExchangeRate.newBuilder()
+			.setHbarEquiv(1)
+			.setCentEquiv(12)
+			.build();
+	private static final FeeComponents COMPONENT_PRICES = FeeComponents.newBuilder()
+			.setMin(0L)
+			.setMax(1_000_000_000_000_000L)
+			.setConstant(7_874_923_918_408L)
+			.setBpt(2_795_403L)
+			.setVpt(6_988_507_806L)
+			.setRbh(1_863L)
+			.setSbh(140L)
+			.setGas(18_635L)
+			.setTv(1_000L)
+			.setBpr(2_795_403L)
+			.setSbpr(69_885L)
+			.build();
+	private static final FeeData PRICES = FeeData.newBuilder()
+			.setNodedata(COMPONENT_PRICES)
+			.setNetworkdata(COMPONENT_PRICES)
+			.setServicedata(COMPONENT_PRICES)
+			.build();
+
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "1", "10" })
+	int numSigs;
+
+	JKey payerKey;
+	SignedTxnAccessor accessor;
+
+	UsageBasedFeeCalculator subject;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+		var parties = new AccountID[numTransfers];
+		for (int i = 0; i < numTransfers; i++) {
+			parties[i] = accountId(i);
+		}
+		accessor = SignedTxnAccessor.uncheckedFrom(
+				signed(cryptoTransfer(accountId(0), parties), numSigs, random));
+		payerKey = new JEd25519Key(randomBytes(random, 32));
+
+		var properties = new BootstrapProperties();
+		var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(properties), properties);
+		List<TxnResourceUsageEstimator> transferEstimators =
+				List.of(new CryptoTransferResourceUsage(dynamicProperties));
+		subject = new UsageBasedFeeCalculator(
+				new FixedExchange(),
+				new FixedPrices(),
+				Collections.emptyList(),
+				function -> transferEstimators);
+	}
+
+	@Benchmark
+	public FeeObject computeFee() {
+		return subject.computeFee(accessor, payerKey, null);
+	}
+
+	private static class FixedExchange implements HbarCentExchange {
+		@Override
+		public ExchangeRate activeRate() {
+			return RATE;
+		}
+
+		@Override
+		public ExchangeRateSet activeRates() {
+			return ExchangeRateSet.newBuilder().setCurrentRate(RATE).setNextRate(RATE).build();
+		}
+
+		@Override
+		public ExchangeRate rate(Timestamp at) {
+			return RATE;
+		}
+	}
+
+	private static class FixedPrices implements UsagePricesProvider {
+		@Override
+		public void loadPriceSchedules() {
+			/* No-op */
+		}
+
+		@Override
+		public FeeData activePrices() {
+			return PRICES;
+		}
+
+		@Override
+		public FeeData pricesGiven(HederaFunctionality function, Timestamp at) {
+			return PRICES;
+		}
+	}
+}
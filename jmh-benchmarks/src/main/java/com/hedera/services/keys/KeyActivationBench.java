@@ -0,0 +1,129 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_SIG;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
+
+/**
+ * Measures {@link HederaKeyActivation#pkToSigMapFrom(List)} and
+ * {@link HederaKeyActivation#isActive(JKey, Function, BiPredicate)} over
+ * synthetic key trees that alternate between key lists and 1-of-N threshold
+ * keys, with every leaf an ed25519 key.
+ *
+ * A simple key is treated as active if the signature list has a signature for
+ * it, so the benchmark measures traversal and lookup rather than crypto; the
+ * {@code fractionSigned} parameter controls how often that is the case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyActivationBench {
+	private static final BiPredicate<JKey, TransactionSignature> IF_SIG_IS_PRESENT =
+			(ignoredKey, sig) -> sig != INVALID_SIG;
+
+	@Param({ "2", "4" })
+	int depth;
+
+	@Param({ "4", "8" })
+	int fanOut;
+
+	@Param({ "0.5", "1.0" })
+	double fractionSigned;
+
+	JKey key;
+	List<TransactionSignature> sigs;
+	Function<byte[], TransactionSignature> sigsFn;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+		sigs = new ArrayList<>();
+		key = keyTree(depth, random);
+		sigsFn = HederaKeyActivation.pkToSigMapFrom(sigs);
+	}
+
+	@Benchmark
+	public Function<byte[], TransactionSignature> indexSigs() {
+		return HederaKeyActivation.pkToSigMapFrom(sigs);
+	}
+
+	@Benchmark
+	public boolean evaluateActivation() {
+		return HederaKeyActivation.isActive(key, sigsFn, IF_SIG_IS_PRESENT);
+	}
+
+	@Benchmark
+	public boolean indexSigsAndEvaluateActivation() {
+		return HederaKeyActivation.isActive(key, HederaKeyActivation.pkToSigMapFrom(sigs), IF_SIG_IS_PRESENT);
+	}
+
+	private JKey keyTree(int levels, SplittableRandom random) {
+		if (levels == 0) {
+			var pubKey = randomBytes(random, 32);
+			if (random.nextDouble() < fractionSigned) {
+				sigs.add(createEd25519(pubKey, randomBytes(random, 64), randomBytes(random, 32)));
+			}
+			return new JEd25519Key(pubKey);
+		}
+		List<JKey> children = new ArrayList<>();
+		for (int i = 0; i < fanOut; i++) {
+			children.add(keyTree(levels - 1, random));
+		}
+		var list = new JKeyList(children);
+		return (levels % 2 == 0) ? new JThresholdKey(list, 1) : list;
+	}
+
+	private static byte[] randomBytes(SplittableRandom random, int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) random.nextInt(256);
+		}
+		return bytes;
+	}
+}
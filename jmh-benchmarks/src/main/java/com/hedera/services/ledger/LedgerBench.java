@@ -0,0 +1,143 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.bench.SyntheticState;
+import com.hedera.services.ledger.accounts.FCMapBackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.bench.SyntheticState.DEFAULT_SEED;
+import static com.hedera.services.bench.SyntheticState.INITIAL_BALANCE;
+import static com.hedera.services.bench.SyntheticTxns.cryptoTransfer;
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+import static com.hedera.services.ledger.ids.ExceptionalEntityIdSource.NOOP_ID_SOURCE;
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+import static com.hedera.services.records.NoopRecordsHistorian.NOOP_RECORDS_HISTORIAN;
+import static com.hedera.services.state.expiry.NoopExpiringCreations.NOOP_EXPIRING_CREATIONS;
+import static com.hedera.services.store.tokens.ExceptionalTokenStore.NOOP_TOKEN_STORE;
+
+/**
+ * Measures {@link HederaLedger#doAtomicTransfers(CryptoTransferTransactionBody)} and
+ * {@link TransactionalLedger#commit()} over the accounts of a {@link SyntheticState},
+ * wired together as in {@code ServicesContext} (but with no-op records, ids, and tokens).
+ *
+ * The benchmarks cycle through a fixed set of transfers between random accounts, so
+ * they touch the whole state; each transfer moves a single tinybar, so no balance ever
+ * runs out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class LedgerBench {
+	private static final int NUM_TXNS = 1 << 12;
+
+	@Param({ "100000", "1000000" })
+	int numAccounts;
+
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	CryptoTransferTransactionBody[] transfers;
+	int nextTransfer = 0;
+
+	HederaLedger ledger;
+	TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
+
+	@Setup
+	public void setup() {
+		var state = SyntheticState.withAccounts(numAccounts);
+
+		var random = new SplittableRandom(DEFAULT_SEED);
+		transfers = new CryptoTransferTransactionBody[NUM_TXNS];
+		for (int i = 0; i < NUM_TXNS; i++) {
+			var parties = new AccountID[numTransfers];
+			for (int j = 0; j < numTransfers; j++) {
+				parties[j] = state.randomAccount(random);
+			}
+			transfers[i] = cryptoTransfer(state.randomAccount(random), parties).getCryptoTransfer();
+		}
+
+		accountsLedger = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				new FCMapBackingAccounts(state::accounts),
+				new ChangeSummaryManager<>());
+		accountsLedger.setKeyComparator(ACCOUNT_ID_COMPARATOR);
+		ledger = new HederaLedger(
+				NOOP_TOKEN_STORE,
+				NOOP_ID_SOURCE,
+				NOOP_EXPIRING_CREATIONS,
+				NOOP_RECORDS_HISTORIAN,
+				accountsLedger);
+	}
+
+	@Benchmark
+	public ResponseCodeEnum doAtomicTransfers() {
+		ledger.begin();
+		var outcome = ledger.doAtomicTransfers(nextTransfer());
+		ledger.rollback();
+		return outcome;
+	}
+
+	@Benchmark
+	public ResponseCodeEnum doAtomicTransfersAndCommit() {
+		ledger.begin();
+		var outcome = ledger.doAtomicTransfers(nextTransfer());
+		ledger.commit();
+		return outcome;
+	}
+
+	@Benchmark
+	public void commitBalanceChanges() {
+		var transfer = nextTransfer();
+		accountsLedger.begin();
+		for (var adjustment : transfer.getTransfers().getAccountAmountsList()) {
+			accountsLedger.set(adjustment.getAccountID(), BALANCE, INITIAL_BALANCE);
+		}
+		accountsLedger.commit();
+	}
+
+	private CryptoTransferTransactionBody nextTransfer() {
+		return transfers[nextTransfer++ & (NUM_TXNS - 1)];
+	}
+}
@@ -0,0 +1,133 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link AccountNumIndex} to the {@code HashSet<AccountID>} it replaced in
+ * {@link FCMapBackingAccounts}, for both existence checks and a full rebuild.
+ *
+ * The memory footprint of each structure is (an upper bound of) the bytes allocated per
+ * rebuild, so run with {@code -prof gc} and compare the {@code gc.alloc.rate.norm} of
+ * {@code rebuildIndex} and {@code rebuildHashSet}; for example,
+ * <pre>
+ * java -jar jmh-benchmarks/target/benchmarks.jar AccountNumIndexBench -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class AccountNumIndexBench {
+	private static final int NUM_PROBES = 1 << 16;
+
+	@Param({ "10000000" })
+	int numAccounts;
+
+	/* Accounts share the entity number space with files, tokens, topics, etc. */
+	@Param({ "0.8" })
+	double density;
+
+	long[] nums;
+	AccountID[] probes;
+	int nextProbe = 0;
+
+	AccountNumIndex index;
+	Set<AccountID> hashSet;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+		nums = new long[numAccounts];
+		for (long i = 0, num = 1; i < numAccounts; num++) {
+			if (random.nextDouble() < density) {
+				nums[(int) i++] = num;
+			}
+		}
+		long maxNum = nums[numAccounts - 1];
+		probes = new AccountID[NUM_PROBES];
+		for (int i = 0; i < NUM_PROBES; i++) {
+			probes[i] = idWith(1 + random.nextLong(maxNum + 1));
+		}
+
+		index = rebuildIndex();
+		hashSet = rebuildHashSet();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public AccountNumIndex rebuildIndex() {
+		var rebuilt = new AccountNumIndex();
+		for (long num : nums) {
+			rebuilt.add(0, 0, num);
+		}
+		return rebuilt;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public Set<AccountID> rebuildHashSet() {
+		var rebuilt = new HashSet<AccountID>();
+		for (long num : nums) {
+			rebuilt.add(idWith(num));
+		}
+		return rebuilt;
+	}
+
+	@Benchmark
+	public boolean indexContains() {
+		return index.contains(nextProbe());
+	}
+
+	@Benchmark
+	public boolean hashSetContains() {
+		return hashSet.contains(nextProbe());
+	}
+
+	private AccountID nextProbe() {
+		return probes[nextProbe++ & (NUM_PROBES - 1)];
+	}
+
+	private static AccountID idWith(long num) {
+		return AccountID.newBuilder().setAccountNum(num).build();
+	}
+}
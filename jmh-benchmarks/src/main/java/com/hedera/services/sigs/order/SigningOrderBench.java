@@ -0,0 +1,135 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.bench.SyntheticState;
+import com.hedera.services.config.AccountNumbers;
+import com.hedera.services.config.EntityNumbers;
+import com.hedera.services.config.FileNumbers;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.legacy.crypto.SignatureStatus;
+import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
+import com.hedera.services.sigs.metadata.lookups.DefaultFCMapAccountLookup;
+import com.hedera.services.sigs.metadata.lookups.DefaultFCMapContractLookup;
+import com.hedera.services.sigs.metadata.lookups.DefaultFCMapTopicLookup;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.bench.SyntheticState.DEFAULT_SEED;
+import static com.hedera.services.bench.SyntheticTxns.cryptoTransfer;
+import static com.hedera.services.sigs.HederaToPlatformSigOps.PRE_HANDLE_SUMMARY_FACTORY;
+import static com.hedera.services.sigs.metadata.lookups.SafeLookupResult.failure;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_FILE;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_SCHEDULE;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_TOKEN;
+
+/**
+ * Measures {@link HederaSigningOrder#keysForPayer(TransactionBody, SigningOrderResultFactory)} and
+ * {@link HederaSigningOrder#keysForOtherParties(TransactionBody, SigningOrderResultFactory)} for
+ * {@code CryptoTransfer}s between random accounts in a {@link SyntheticState}, looking up
+ * signing metadata directly in the accounts {@link com.swirlds.fcmap.FCMap} as in
+ * {@code expandSignatures}.
+ *
+ * The benchmarks cycle through a fixed set of transfers, so lookups are spread over
+ * the whole state rather than repeatedly hitting the same (cached) accounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class SigningOrderBench {
+	private static final int NUM_TXNS = 1 << 12;
+
+	@Param({ "100000", "1000000" })
+	int numAccounts;
+
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "0.5" })
+	double fractionReceiverSigRequired;
+
+	TransactionBody[] txns;
+	int nextTxn = 0;
+
+	HederaSigningOrder subject;
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(numAccounts, 0, 0, fractionReceiverSigRequired, DEFAULT_SEED);
+
+		var random = new SplittableRandom(DEFAULT_SEED);
+		txns = new TransactionBody[NUM_TXNS];
+		for (int i = 0; i < NUM_TXNS; i++) {
+			var parties = new AccountID[numTransfers];
+			for (int j = 0; j < numTransfers; j++) {
+				parties[j] = state.randomAccount(random);
+			}
+			txns[i] = cryptoTransfer(state.randomAccount(random), parties);
+		}
+
+		var properties = new BootstrapProperties();
+		var hederaNums = new HederaNumbers(properties);
+		var entityNums = new EntityNumbers(
+				new FileNumbers(hederaNums, properties),
+				hederaNums,
+				new AccountNumbers(properties));
+		var lookups = new DelegatingSigMetadataLookup(
+				id -> failure(MISSING_FILE),
+				new DefaultFCMapAccountLookup(state::accounts),
+				new DefaultFCMapContractLookup(state::accounts),
+				new DefaultFCMapTopicLookup(state::topics),
+				id -> failure(MISSING_TOKEN),
+				id -> failure(MISSING_SCHEDULE));
+		subject = new HederaSigningOrder(entityNums, lookups, txn -> false, (txn, function) -> false);
+	}
+
+	@Benchmark
+	public SigningOrderResult<SignatureStatus> keysForPayer() {
+		return subject.keysForPayer(nextTxn(), PRE_HANDLE_SUMMARY_FACTORY);
+	}
+
+	@Benchmark
+	public SigningOrderResult<SignatureStatus> keysForOtherParties() {
+		return subject.keysForOtherParties(nextTxn(), PRE_HANDLE_SUMMARY_FACTORY);
+	}
+
+	private TransactionBody nextTxn() {
+		return txns[nextTxn++ & (NUM_TXNS - 1)];
+	}
+}
@@ -0,0 +1,110 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.bench.SyntheticState;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.swirlds.common.AddressBook;
+import com.swirlds.fcmap.FCMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import static com.hedera.services.bench.SyntheticState.DEFAULT_SEED;
+
+/**
+ * Measures {@link SignedStateBalancesExporter#summarized(ServicesState)} over a
+ * {@link SyntheticState} whose accounts are each associated to a few tokens, which
+ * is the in-memory part of every balances export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx8g" })
+public class BalancesSummaryBench {
+	private static final int NUM_TOKENS = 100;
+
+	@Param({ "100000", "1000000" })
+	int numAccounts;
+
+	@Param({ "0", "3" })
+	int tokensPerAccount;
+
+	ServicesState signedState;
+	SignedStateBalancesExporter subject;
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(numAccounts, NUM_TOKENS, tokensPerAccount, 0.0, DEFAULT_SEED);
+		var addressBook = new AddressBook();
+		signedState = new ServicesState() {
+			@Override
+			public FCMap<MerkleEntityId, MerkleAccount> accounts() {
+				return state.accounts();
+			}
+
+			@Override
+			public FCMap<MerkleEntityId, MerkleToken> tokens() {
+				return state.tokens();
+			}
+
+			@Override
+			public FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations() {
+				return state.tokenAssociations();
+			}
+
+			@Override
+			public AddressBook addressBook() {
+				return addressBook;
+			}
+		};
+
+		var properties = new BootstrapProperties();
+		var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(properties), properties);
+		subject = new SignedStateBalancesExporter(properties, UnaryOperator.identity(), dynamicProperties);
+	}
+
+	@Benchmark
+	public SignedStateBalancesExporter.BalancesSummary summarized() {
+		return subject.summarized(signedState);
+	}
+}
@@ -0,0 +1,121 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+
+/**
+ * Compares {@link TopicRunningHash#next(byte[], AccountID, TopicID, Instant, long, byte[])}
+ * with the {@link ObjectOutputStream}-based computation it replaced, for
+ * messages of a few representative sizes; and measures the complete
+ * {@link MerkleTopic#updateRunningHashAndSequenceNumber(AccountID, byte[], TopicID, Instant)}
+ * done when handling a {@code ConsensusSubmitMessage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicRunningHashBench {
+	@Param({ "100", "1024", "4096" })
+	int messageBytes;
+
+	byte[] runningHash;
+	byte[] message;
+	AccountID payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+	TopicID topicId = TopicID.newBuilder().setTopicNum(1_234L).build();
+	Instant consensusTime = Instant.ofEpochSecond(1_600_000_000L, 123_456_789);
+	long sequenceNumber;
+	MerkleTopic topic;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+		runningHash = randomBytes(random, RUNNING_HASH_BYTE_ARRAY_SIZE);
+		message = randomBytes(random, messageBytes);
+		topic = new MerkleTopic();
+		topic.setRunningHash(runningHash);
+	}
+
+	@Benchmark
+	public byte[] streamedPreimage() {
+		return runningHash = TopicRunningHash.next(runningHash, payer, topicId, consensusTime, ++sequenceNumber, message);
+	}
+
+	@Benchmark
+	public byte[] updateTopic() throws IOException {
+		topic.updateRunningHashAndSequenceNumber(payer, message, topicId, consensusTime);
+		return topic.getRunningHash();
+	}
+
+	@Benchmark
+	public byte[] objectStreamPreimage() throws IOException {
+		var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(runningHash);
+			out.writeLong(RUNNING_HASH_VERSION);
+			out.writeLong(payer.getShardNum());
+			out.writeLong(payer.getRealmNum());
+			out.writeLong(payer.getAccountNum());
+			out.writeLong(topicId.getShardNum());
+			out.writeLong(topicId.getRealmNum());
+			out.writeLong(topicId.getTopicNum());
+			out.writeLong(consensusTime.getEpochSecond());
+			out.writeInt(consensusTime.getNano());
+			out.writeLong(++sequenceNumber);
+			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
+			out.flush();
+			return runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
+		}
+	}
+
+	private static byte[] randomBytes(SplittableRandom random, int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) random.nextInt(256);
+		}
+		return bytes;
+	}
+}
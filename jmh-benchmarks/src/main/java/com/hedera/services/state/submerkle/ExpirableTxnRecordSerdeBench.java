@@ -0,0 +1,132 @@
+package com.hedera.services.state.submerkle;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.bench.SyntheticState.accountId;
+import static com.hedera.services.bench.SyntheticState.tokenId;
+import static com.hedera.services.bench.SyntheticTxns.randomBytes;
+
+/**
+ * Measures serializing and deserializing an {@link ExpirableTxnRecord} (as done for
+ * every payer record in a saved or reconnected state), for records with a few
+ * representative numbers of hbar and token adjustments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpirableTxnRecordSerdeBench {
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "0", "3" })
+	int numTokens;
+
+	ExpirableTxnRecord record;
+	byte[] serializedRecord;
+	ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+	@Setup
+	public void setup() throws ConstructableRegistryException, IOException {
+		ConstructableRegistry.registerConstructables("com.hedera.services.state.submerkle");
+
+		var random = new SplittableRandom(1_234L);
+		var grpc = TransactionRecord.newBuilder()
+				.setReceipt(TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS))
+				.setTransactionHash(ByteString.copyFrom(randomBytes(random, 48)))
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(accountId(0))
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_600_000_000L)))
+				.setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_600_000_001L).setNanos(123))
+				.setMemo("Synthetic record")
+				.setTransactionFee(83_333L)
+				.setTransferList(adjustmentsOf(numTransfers));
+		for (int i = 0; i < numTokens; i++) {
+			grpc.addTokenTransferLists(TokenTransferList.newBuilder()
+					.setToken(tokenId(i))
+					.addAllTransfers(adjustmentsOf(2).getAccountAmountsList()));
+		}
+		record = ExpirableTxnRecord.fromGprc(grpc.build());
+		record.setExpiry(1_600_000_181L);
+
+		serializedRecord = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		baos.reset();
+		var out = new SerializableDataOutputStream(baos);
+		record.serialize(out);
+		out.flush();
+		return baos.toByteArray();
+	}
+
+	@Benchmark
+	public ExpirableTxnRecord deserialize() throws IOException {
+		var in = new SerializableDataInputStream(new ByteArrayInputStream(serializedRecord));
+		var deserialized = new ExpirableTxnRecord();
+		deserialized.deserialize(in, ExpirableTxnRecord.MERKLE_VERSION);
+		return deserialized;
+	}
+
+	private static TransferList adjustmentsOf(int n) {
+		var adjustments = TransferList.newBuilder();
+		for (int i = 0; i < n; i++) {
+			adjustments.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(accountId(i))
+					.setAmount((i % 2 == 0) ? -1_000L : +1_000L));
+		}
+		return adjustments.build();
+	}
+}
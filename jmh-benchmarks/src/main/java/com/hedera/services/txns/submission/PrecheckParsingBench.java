@@ -0,0 +1,150 @@
+package com.hedera.services.txns.submission;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.legacy.utils.TransactionValidationUtils;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-submission parsing and hashing work done by the precheck of a
+ * {@code CryptoTransfer}, before and after a single {@link SignedTxnAccessor} was
+ * threaded through all the precheck stages.
+ *
+ * The "before" benchmark replays the work the submission flow used to do: build
+ * one accessor in {@link TxnHandlerSubmissionFlow}, re-serialize the transaction
+ * for the size check, then build a second accessor for the remaining prechecks
+ * and a third one for signature verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrecheckParsingBench {
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "1", "10" })
+	int numSigs;
+
+	Transaction signedTxn;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+
+		var transfers = TransferList.newBuilder();
+		for (int i = 0; i < numTransfers; i++) {
+			long amount = (i % 2 == 0) ? -1L : +1L;
+			transfers.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(AccountID.newBuilder().setAccountNum(1_001L + i))
+					.setAmount(amount));
+		}
+		var body = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(AccountID.newBuilder().setAccountNum(2L))
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_567L)))
+				.setNodeAccountID(AccountID.newBuilder().setAccountNum(3L))
+				.setTransactionFee(100_000_000L)
+				.setTransactionValidDuration(Duration.newBuilder().setSeconds(120L))
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transfers))
+				.build();
+
+		var sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < numSigs; i++) {
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(randomBytes(random, 32)))
+					.setEd25519(ByteString.copyFrom(randomBytes(random, 64))));
+		}
+
+		signedTxn = Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(body.toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+	}
+
+	@Benchmark
+	public void parsePerStage(Blackhole bh) throws InvalidProtocolBufferException {
+		var submissionAccessor = new SignedTxnAccessor(signedTxn);
+		bh.consume(submissionAccessor.getFunction());
+
+		bh.consume(TransactionValidationUtils.validateTxSize(signedTxn));
+		bh.consume(TransactionValidationUtils.validateTxDepth(signedTxn));
+		var precheckAccessor = new SignedTxnAccessor(signedTxn);
+		bh.consume(precheckAccessor.getTxn());
+
+		var verificationAccessor = new SignedTxnAccessor(signedTxn);
+		bh.consume(verificationAccessor.getHash());
+	}
+
+	@Benchmark
+	public void parseOnce(Blackhole bh) throws InvalidProtocolBufferException {
+		var accessor = new SignedTxnAccessor(signedTxn);
+		bh.consume(accessor.getFunction());
+
+		bh.consume(TransactionValidationUtils.validateTxSize(accessor.getSignedTxnBytes().length));
+		bh.consume(TransactionValidationUtils.validateTxDepth(accessor.getSignedTxn()));
+		bh.consume(accessor.getTxn());
+
+		bh.consume(accessor.getHash());
+	}
+
+	private static byte[] randomBytes(SplittableRandom random, int n) {
+		var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) random.nextInt(256);
+		}
+		return bytes;
+	}
+}
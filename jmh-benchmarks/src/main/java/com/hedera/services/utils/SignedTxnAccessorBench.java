@@ -0,0 +1,84 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services JMH Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.bench.SyntheticState.accountId;
+import static com.hedera.services.bench.SyntheticTxns.cryptoTransfer;
+import static com.hedera.services.bench.SyntheticTxns.signed;
+
+/**
+ * Measures constructing a {@link SignedTxnAccessor} from the raw bytes of a
+ * signed {@code CryptoTransfer}, both alone and followed by the hash of the
+ * transaction that every consensus txn needs for its record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignedTxnAccessorBench {
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "1", "10" })
+	int numSigs;
+
+	byte[] signedTxnBytes;
+
+	@Setup
+	public void setup() {
+		var random = new SplittableRandom(1_234L);
+		var parties = new AccountID[numTransfers];
+		for (int i = 0; i < numTransfers; i++) {
+			parties[i] = accountId(i);
+		}
+		signedTxnBytes = signed(cryptoTransfer(accountId(0), parties), numSigs, random).toByteArray();
+	}
+
+	@Benchmark
+	public SignedTxnAccessor construct() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(signedTxnBytes);
+	}
+
+	@Benchmark
+	public ByteString constructAndHash() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(signedTxnBytes).getHash();
+	}
+}